@@ -3,15 +3,24 @@ package co.com.crediya.solicitudes;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import co.com.crediya.solicitudes.importacion.ImportacionSolicitudes;
 
 @SpringBootApplication(scanBasePackages = {
     "co.com.crediya.solicitudes.config",
     "co.com.crediya.solicitudes.r2dbc",
-    "co.com.crediya.solicitudes.api"
+    "co.com.crediya.solicitudes.api",
+    "co.com.crediya.solicitudes.mantenimiento",
+    "co.com.crediya.solicitudes.importacion"
 })
 @ConfigurationPropertiesScan
 public class MainApplication {
     public static void main(String[] args) {
-        SpringApplication.run(MainApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(MainApplication.class, args);
+        // La importación se ejecuta una vez: al terminar, la aplicación sale con su código de resultado
+        if (context.getEnvironment().matchesProfiles(ImportacionSolicitudes.PERFIL)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
@@ -0,0 +1,26 @@
+package co.com.crediya.solicitudes.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerEstadisticasUseCase;
+
+/**
+ * Propiedades de la instantánea de estadísticas de solicitudes.
+ *
+ * @param vigencia antigüedad a partir de la cual una consulta refresca la instantánea en segundo plano
+ * @param refresco intervalo del refresco programado de la instantánea
+ */
+@ConfigurationProperties(prefix = "estadisticas")
+public record EstadisticasProperties(
+        Duration vigencia,
+        Duration refresco) {
+
+    public static final Duration REFRESCO_POR_DEFECTO = Duration.ofSeconds(60);
+
+    public EstadisticasProperties {
+        vigencia = vigencia != null ? vigencia : ObtenerEstadisticasUseCase.VIGENCIA_POR_DEFECTO;
+        refresco = refresco != null ? refresco : REFRESCO_POR_DEFECTO;
+    }
+}
@@ -4,11 +4,30 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.GeneradorUuidV7;
+import co.com.crediya.solicitudes.model.solicitud.gateways.ImportacionSolicitudesRepository;
 import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
 import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.r2dbc.adapters.EstadosRepositoryAdapter;
+import co.com.crediya.solicitudes.r2dbc.adapters.TipoPrestamoRepositoryAdapter;
+import co.com.crediya.solicitudes.r2dbc.cache.EstadosCacheRepository;
+import co.com.crediya.solicitudes.r2dbc.cache.TipoPrestamoCacheRepository;
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+import co.com.crediya.solicitudes.usecase.simulacion.SimularCuotasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ActualizarSolicitudUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.CambiarEstadoLoteUseCase;
 import co.com.crediya.solicitudes.usecase.solicitud.CrearSolicitudUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ExportarSolicitudesUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ImportarSolicitudesUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerEstadisticasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerSolicitudesPaginadasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerTablaAmortizacionUseCase;
 
 @Configuration
 @ComponentScan(basePackages = "co.com.crediya.solicitudes.usecase",
@@ -18,10 +37,106 @@ import co.com.crediya.solicitudes.usecase.solicitud.CrearSolicitudUseCase;
         useDefaultFilters = false)
 public class UseCasesConfig {
     
+    /**
+     * Gateway de tipos de préstamo con caché en memoria sobre el adaptador R2DBC.
+     * Al ser primario, es el que reciben los casos de uso.
+     */
+    @Bean
+    @Primary
+    public TipoPrestamoCacheRepository tipoPrestamoCacheRepository(TipoPrestamoRepositoryAdapter tipoPrestamoRepositoryAdapter,
+                                                                  CatalogoCacheProperties catalogoCacheProperties) {
+        return new TipoPrestamoCacheRepository(tipoPrestamoRepositoryAdapter, catalogoCacheProperties);
+    }
+    
+    /**
+     * Gateway de estados con caché en memoria sobre el adaptador R2DBC.
+     * Al ser primario, es el que reciben los casos de uso.
+     */
+    @Bean
+    @Primary
+    public EstadosCacheRepository estadosCacheRepository(EstadosRepositoryAdapter estadosRepositoryAdapter,
+                                                        CatalogoCacheProperties catalogoCacheProperties) {
+        return new EstadosCacheRepository(estadosRepositoryAdapter, catalogoCacheProperties);
+    }
+    
+    /**
+     * Generador de identificadores de solicitudes. Los UUID versión 7 crecen con el tiempo,
+     * así que las inserciones no se dispersan por el índice de la llave primaria.
+     */
+    @Bean
+    public GeneradorUuidV7 generadorUuidV7() {
+        return GeneradorUuidV7.instancia();
+    }
+    
     @Bean
     public CrearSolicitudUseCase crearSolicitudUseCase(SolicitudRepository solicitudRepository,
                                                       TipoPrestamoRepository tipoPrestamoRepository,
-                                                      EstadosRepository estadosRepository) {
-        return new CrearSolicitudUseCase(solicitudRepository, tipoPrestamoRepository, estadosRepository);
+                                                      EstadosRepository estadosRepository,
+                                                      GeneradorUuidV7 generadorUuidV7) {
+        return new CrearSolicitudUseCase(solicitudRepository, tipoPrestamoRepository, estadosRepository,
+                generadorUuidV7);
+    }
+    
+    @Bean
+    public ObtenerSolicitudesPaginadasUseCase obtenerSolicitudesPaginadasUseCase(SolicitudRepository solicitudRepository) {
+        return new ObtenerSolicitudesPaginadasUseCase(solicitudRepository);
+    }
+    
+    @Bean
+    public ActualizarSolicitudUseCase actualizarSolicitudUseCase(SolicitudRepository solicitudRepository,
+                                                                EstadosRepository estadosRepository) {
+        return new ActualizarSolicitudUseCase(solicitudRepository, estadosRepository);
+    }
+    
+    @Bean
+    public CambiarEstadoLoteUseCase cambiarEstadoLoteUseCase(SolicitudRepository solicitudRepository,
+                                                            EstadosRepository estadosRepository) {
+        return new CambiarEstadoLoteUseCase(solicitudRepository, estadosRepository);
+    }
+    
+    @Bean
+    public ObtenerTablaAmortizacionUseCase obtenerTablaAmortizacionUseCase(SolicitudRepository solicitudRepository,
+                                                                          TipoPrestamoRepository tipoPrestamoRepository) {
+        return new ObtenerTablaAmortizacionUseCase(solicitudRepository, tipoPrestamoRepository);
+    }
+    
+    @Bean
+    public ExportarSolicitudesUseCase exportarSolicitudesUseCase(SolicitudRepository solicitudRepository) {
+        return new ExportarSolicitudesUseCase(solicitudRepository);
+    }
+    
+    @Bean
+    public ImportarSolicitudesUseCase importarSolicitudesUseCase(ImportacionSolicitudesRepository importacionSolicitudesRepository,
+                                                                EstadosRepository estadosRepository,
+                                                                TipoPrestamoRepository tipoPrestamoRepository,
+                                                                GeneradorUuidV7 generadorUuidV7) {
+        return new ImportarSolicitudesUseCase(importacionSolicitudesRepository, estadosRepository,
+                tipoPrestamoRepository, generadorUuidV7);
+    }
+    
+    /**
+     * Estadísticas de solicitudes servidas desde una instantánea en memoria que se refresca
+     * en segundo plano al superar estadisticas.vigencia.
+     */
+    @Bean
+    public ObtenerEstadisticasUseCase obtenerEstadisticasUseCase(SolicitudRepository solicitudRepository,
+                                                                EstadisticasProperties estadisticasProperties) {
+        return new ObtenerEstadisticasUseCase(solicitudRepository, estadisticasProperties.vigencia());
+    }
+    
+    /**
+     * Scheduler acotado, un hilo por núcleo, para calcular las grillas grandes de simulación
+     * fuera del event loop sin competir con los temporizadores de Schedulers.parallel().
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler simulacionScheduler() {
+        return Schedulers.newParallel("simulacion", Runtime.getRuntime().availableProcessors(), true);
+    }
+    
+    @Bean
+    public SimularCuotasUseCase simularCuotasUseCase(TipoPrestamoRepository tipoPrestamoRepository,
+                                                    Scheduler simulacionScheduler) {
+        return new SimularCuotasUseCase(tipoPrestamoRepository, simulacionScheduler,
+                Runtime.getRuntime().availableProcessors());
     }
 }
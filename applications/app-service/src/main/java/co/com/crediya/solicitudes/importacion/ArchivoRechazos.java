@@ -0,0 +1,84 @@
+package co.com.crediya.solicitudes.importacion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import co.com.crediya.solicitudes.model.solicitud.RechazoImportacion;
+
+/**
+ * Archivo CSV con las filas rechazadas de una importación: el número de línea en el archivo de
+ * origen, el motivo del rechazo y la línea original, para corregirlas y volver a importarlas.
+ */
+final class ArchivoRechazos implements Closeable {
+
+    static final String CABECERA = "linea,motivo,registro\n";
+
+    private final FileChannel canal;
+    private long rechazos;
+
+    private ArchivoRechazos(FileChannel canal) {
+        this.canal = canal;
+    }
+
+    /**
+     * Crea el archivo, o lo vacía si ya existe, y escribe la cabecera.
+     */
+    static ArchivoRechazos crear(Path ruta) throws IOException {
+        FileChannel canal = FileChannel.open(ruta,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ArchivoRechazos archivo = new ArchivoRechazos(canal);
+        try {
+            archivo.escribir(CABECERA);
+        } catch (IOException e) {
+            archivo.close();
+            throw e;
+        }
+        return archivo;
+    }
+
+    /**
+     * Agrega las filas rechazadas de un lote.
+     */
+    void escribir(List<RechazoImportacion> lote) throws IOException {
+        if (lote.isEmpty()) {
+            return;
+        }
+        StringBuilder texto = new StringBuilder();
+        for (RechazoImportacion rechazo : lote) {
+            texto.append(rechazo.numero()).append(',')
+                    .append(entreComillas(rechazo.motivo())).append(',')
+                    .append(entreComillas(rechazo.linea())).append('\n');
+        }
+        escribir(texto);
+        rechazos += lote.size();
+    }
+
+    /**
+     * Número de filas rechazadas escritas.
+     */
+    long rechazos() {
+        return rechazos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private void escribir(CharSequence texto) throws IOException {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(texto.toString());
+        while (bytes.hasRemaining()) {
+            canal.write(bytes);
+        }
+    }
+
+    private static String entreComillas(String valor) {
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
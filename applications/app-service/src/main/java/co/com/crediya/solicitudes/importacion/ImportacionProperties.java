@@ -0,0 +1,34 @@
+package co.com.crediya.solicitudes.importacion;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import co.com.crediya.solicitudes.usecase.solicitud.ImportarSolicitudesUseCase;
+
+/**
+ * Propiedades de la importación de solicitudes históricas (perfil importacion).
+ *
+ * @param archivo archivo CSV a importar
+ * @param archivoRechazos archivo CSV donde se escriben las filas rechazadas; por defecto, el
+ *        nombre del archivo a importar terminado en .rechazos.csv
+ * @param tamanoLote número de filas por lote; cada lote se guarda con un único COPY
+ */
+@ConfigurationProperties(prefix = "importacion")
+public record ImportacionProperties(
+        Path archivo,
+        Path archivoRechazos,
+        Integer tamanoLote) {
+
+    public static final String SUFIJO_RECHAZOS = ".rechazos.csv";
+
+    public ImportacionProperties {
+        if (archivoRechazos == null && archivo != null) {
+            archivoRechazos = archivo.resolveSibling(archivo.getFileName() + SUFIJO_RECHAZOS);
+        }
+        tamanoLote = tamanoLote != null ? tamanoLote : ImportarSolicitudesUseCase.TAMANO_LOTE_POR_DEFECTO;
+        if (tamanoLote < 1) {
+            throw new IllegalArgumentException("El tamaño de lote de la importación debe ser al menos 1");
+        }
+    }
+}
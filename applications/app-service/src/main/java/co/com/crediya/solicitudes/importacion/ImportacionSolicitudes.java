@@ -0,0 +1,143 @@
+package co.com.crediya.solicitudes.importacion;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.solicitudes.model.solicitud.LoteImportacion;
+import co.com.crediya.solicitudes.usecase.solicitud.ImportarSolicitudesUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importación de solicitudes históricas desde un archivo CSV, ejecutada como un modo de única
+ * vez de la aplicación con el perfil importacion.
+ *
+ * Lee importacion.archivo, lo importa por lotes de importacion.tamano-lote filas y termina:
+ * - Escribe las filas rechazadas, con su motivo, en importacion.archivo-rechazos
+ * - Registra el avance de cada lote (filas cargadas, rechazadas y filas por segundo) y lo
+ *   exporta en Micrometer como solicitudes.importacion.filas por resultado y
+ *   solicitudes.importacion.lote
+ * - El código de salida es 0 si se cargaron todas las filas, 2 si hubo filas rechazadas y 1 si
+ *   la importación no pudo completarse
+ *
+ * Los lotes se consumen de a uno en el hilo principal: el archivo de rechazos se escribe sin
+ * ocupar los hilos del driver y la lectura del archivo avanza al ritmo de la carga.
+ */
+@Slf4j
+@Component
+@Profile(ImportacionSolicitudes.PERFIL)
+public class ImportacionSolicitudes implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String PERFIL = "importacion";
+
+    static final String METRICA_FILAS = "solicitudes.importacion.filas";
+    static final String METRICA_LOTE = "solicitudes.importacion.lote";
+    static final int CODIGO_CON_RECHAZOS = 2;
+
+    private final ImportarSolicitudesUseCase importarSolicitudesUseCase;
+    private final ImportacionProperties properties;
+    private final LectorCsvSolicitudes lector = new LectorCsvSolicitudes();
+    private final Counter cargadas;
+    private final Counter rechazadas;
+    private final Timer duracionLote;
+    private int codigoSalida;
+
+    public ImportacionSolicitudes(ImportarSolicitudesUseCase importarSolicitudesUseCase,
+                                  ImportacionProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.importarSolicitudesUseCase = importarSolicitudesUseCase;
+        this.properties = properties;
+        this.cargadas = Counter.builder(METRICA_FILAS)
+                .description("Filas del archivo de importación procesadas")
+                .tag("resultado", "cargada")
+                .register(meterRegistry);
+        this.rechazadas = Counter.builder(METRICA_FILAS)
+                .description("Filas del archivo de importación procesadas")
+                .tag("resultado", "rechazada")
+                .register(meterRegistry);
+        this.duracionLote = Timer.builder(METRICA_LOTE)
+                .description("Tiempo de validación y carga de cada lote de la importación")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Resumen resumen = importar();
+        codigoSalida = resumen.rechazadas() > 0 ? CODIGO_CON_RECHAZOS : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return codigoSalida;
+    }
+
+    /**
+     * Importa el archivo configurado.
+     *
+     * @return número de filas cargadas y rechazadas
+     * @throws IllegalStateException si no se configuró el archivo a importar
+     * @throws IOException si no se puede escribir el archivo de rechazos
+     */
+    Resumen importar() throws IOException {
+        Path archivo = properties.archivo();
+        if (archivo == null) {
+            throw new IllegalStateException("Debe indicar el archivo a importar en importacion.archivo");
+        }
+
+        log.info("Importación de solicitudes: archivo={} tamanoLote={} rechazos={}",
+                archivo, properties.tamanoLote(), properties.archivoRechazos());
+        long inicio = System.nanoTime();
+        long finLoteAnterior = inicio;
+        long filas = 0;
+        long totalCargadas = 0;
+        // Cerrar el Stream cancela la importación si la escritura de rechazos falla a mitad de camino
+        try (ArchivoRechazos archivoRechazos = ArchivoRechazos.crear(properties.archivoRechazos());
+             Stream<LoteImportacion> lotes = importarSolicitudesUseCase
+                     .importar(lector.leer(archivo), properties.tamanoLote())
+                     .toStream(1)) {
+            for (LoteImportacion lote : (Iterable<LoteImportacion>) lotes::iterator) {
+                archivoRechazos.escribir(lote.rechazos());
+
+                long ahora = System.nanoTime();
+                duracionLote.record(ahora - finLoteAnterior, TimeUnit.NANOSECONDS);
+                finLoteAnterior = ahora;
+                cargadas.increment(lote.cargadas());
+                rechazadas.increment(lote.rechazos().size());
+                filas += lote.filas();
+                totalCargadas += lote.cargadas();
+                log.info("Importación de solicitudes: lote {} - {} filas, {} cargadas, {} rechazadas ({} filas/s)",
+                        lote.numero(), filas, totalCargadas, archivoRechazos.rechazos(),
+                        filasPorSegundo(filas, ahora - inicio));
+            }
+
+            long duracion = System.nanoTime() - inicio;
+            log.info("Importación de solicitudes terminada en {} s: {} filas, {} cargadas, {} rechazadas ({} filas/s)",
+                    TimeUnit.NANOSECONDS.toSeconds(duracion), filas, totalCargadas, archivoRechazos.rechazos(),
+                    filasPorSegundo(filas, duracion));
+            return new Resumen(totalCargadas, archivoRechazos.rechazos());
+        }
+    }
+
+    private static long filasPorSegundo(long filas, long nanos) {
+        return nanos > 0 ? filas * TimeUnit.SECONDS.toNanos(1) / nanos : filas;
+    }
+
+    /**
+     * Resultado de una importación.
+     *
+     * @param cargadas número de solicitudes guardadas
+     * @param rechazadas número de filas escritas en el archivo de rechazos
+     */
+    record Resumen(long cargadas, long rechazadas) {
+    }
+}
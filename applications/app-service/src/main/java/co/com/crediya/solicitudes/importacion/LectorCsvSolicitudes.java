@@ -0,0 +1,100 @@
+package co.com.crediya.solicitudes.importacion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import co.com.crediya.solicitudes.model.solicitud.FilaImportacion;
+import co.com.crediya.solicitudes.usecase.solicitud.ImportarSolicitudesUseCase;
+import reactor.core.publisher.Flux;
+
+/**
+ * Lector de archivos CSV de solicitudes históricas.
+ *
+ * Lee el archivo por bloques con un AsynchronousFileChannel y lo divide en líneas a medida que
+ * se piden filas, por lo que la memoria no depende del tamaño del archivo. El archivo debe estar
+ * en UTF-8, con la cabecera de {@link ImportarSolicitudesUseCase#COLUMNAS} en la primera línea
+ * y una solicitud por línea; los campos pueden ir entre comillas dobles (RFC 4180), pero no
+ * pueden contener saltos de línea. Las líneas en blanco se omiten.
+ */
+public class LectorCsvSolicitudes {
+
+    static final int TAMANO_BLOQUE = 64 * 1024;
+
+    private static final String BOM = "\uFEFF";
+
+    private final StringDecoder decoder = StringDecoder.textPlainOnly();
+
+    /**
+     * Lee las filas del archivo.
+     *
+     * @param archivo archivo CSV a leer
+     * @return Flux con las filas, sin la cabecera, numeradas según su línea en el archivo
+     * @throws IllegalArgumentException si la cabecera no coincide con las columnas esperadas
+     */
+    public Flux<FilaImportacion> leer(Path archivo) {
+        Flux<DataBuffer> bloques = DataBufferUtils.read(archivo, DefaultDataBufferFactory.sharedInstance, TAMANO_BLOQUE);
+        return decoder.decode(bloques, ResolvableType.forClass(String.class), null, null)
+                .switchOnFirst((primera, lineas) -> {
+                    if (!primera.hasValue()) {
+                        return lineas.thenMany(Flux.<FilaImportacion>empty());
+                    }
+                    List<String> cabecera = dividir(primera.get()).stream()
+                            .map(columna -> columna.replace(BOM, "").trim().toLowerCase(Locale.ROOT))
+                            .toList();
+                    if (!cabecera.equals(ImportarSolicitudesUseCase.COLUMNAS)) {
+                        return Flux.error(new IllegalArgumentException("La cabecera del archivo debe ser "
+                                + String.join(",", ImportarSolicitudesUseCase.COLUMNAS) + " y es " + primera.get()));
+                    }
+
+                    AtomicLong numero = new AtomicLong(1);
+                    return lineas.skip(1)
+                            .handle((linea, sink) -> {
+                                long numeroLinea = numero.incrementAndGet();
+                                if (!linea.isBlank()) {
+                                    sink.next(new FilaImportacion(numeroLinea, linea, dividir(linea)));
+                                }
+                            });
+                });
+    }
+
+    /**
+     * Divide una línea en campos separados por comas. Un campo entre comillas dobles puede
+     * contener comas, y dos comillas dobles seguidas representan una comilla.
+     */
+    static List<String> dividir(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char caracter = linea.charAt(i);
+            if (entreComillas) {
+                if (caracter != '"') {
+                    campo.append(caracter);
+                } else if (i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreComillas = false;
+                }
+            } else if (caracter == '"') {
+                entreComillas = true;
+            } else if (caracter == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(caracter);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
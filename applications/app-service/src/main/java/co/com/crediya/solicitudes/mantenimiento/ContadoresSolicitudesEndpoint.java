@@ -0,0 +1,31 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.solicitudes.r2dbc.contadores.SolicitudContadoresRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoint de actuator para reparar bajo demanda los contadores de solicitudes.
+ *
+ * POST /actuator/contadores recalcula solicitud_contadores desde las solicitudes y responde
+ * cuántas combinaciones estaban desfasadas; con los triggers activos la respuesta esperada es 0.
+ */
+@Component
+@Endpoint(id = "contadores")
+@RequiredArgsConstructor
+public class ContadoresSolicitudesEndpoint {
+
+    private final SolicitudContadoresRepository contadores;
+
+    @WriteOperation
+    public Mono<Map<String, Long>> recalcular() {
+        return contadores.recalcular()
+                .map(desfasados -> Map.of("desfasados", desfasados));
+    }
+}
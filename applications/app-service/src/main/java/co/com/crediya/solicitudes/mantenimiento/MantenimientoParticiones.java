@@ -0,0 +1,84 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import java.time.Clock;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.solicitudes.r2dbc.particiones.SolicitudParticionesRepository;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mantenimiento programado de las particiones mensuales de solicitudes.
+ *
+ * Se ejecuta al iniciar la aplicación y luego según mantenimiento.particiones.cron:
+ * - Crea la partición del mes actual y las de los meses siguientes configurados
+ * - Si hay retención configurada, archiva las particiones de los meses anteriores a ella
+ *
+ * Un fallo se registra y no detiene la aplicación; la siguiente ejecución lo reintenta, y
+ * crear o archivar una partición que ya está en su estado final no tiene efecto.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@ConditionalOnProperty(prefix = "mantenimiento.particiones", name = "habilitado", havingValue = "true", matchIfMissing = true)
+public class MantenimientoParticiones {
+
+    private final SolicitudParticionesRepository particiones;
+    private final MantenimientoParticionesProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public MantenimientoParticiones(SolicitudParticionesRepository particiones,
+                                    MantenimientoParticionesProperties properties) {
+        this(particiones, properties, Clock.systemDefaultZone());
+    }
+
+    MantenimientoParticiones(SolicitudParticionesRepository particiones,
+                             MantenimientoParticionesProperties properties,
+                             Clock clock) {
+        this.particiones = particiones;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alIniciar() {
+        mantener().subscribe();
+    }
+
+    /**
+     * Ejecuta una pasada de mantenimiento.
+     *
+     * @return Mono que completa al terminar; los errores se registran y no se propagan
+     */
+    @Scheduled(cron = "${mantenimiento.particiones.cron:" + MantenimientoParticionesProperties.CRON_POR_DEFECTO + "}")
+    public Mono<Void> mantener() {
+        YearMonth mesActual = YearMonth.now(clock);
+
+        return particiones.crearParticiones(mesActual, properties.mesesAdelante())
+                .count()
+                .zipWhen(creadas -> archivar(mesActual).count())
+                .doOnNext(resultado -> log.info("Mantenimiento de particiones de solicitudes: {} creadas, {} archivadas",
+                        resultado.getT1(), resultado.getT2()))
+                .doOnError(error -> log.error("Error en el mantenimiento de particiones de solicitudes: {}",
+                        error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private Flux<String> archivar(YearMonth mesActual) {
+        if (!properties.archivaParticiones()) {
+            return Flux.empty();
+        }
+        return particiones.archivarParticionesAnteriores(mesActual.minusMonths(properties.mesesRetencion()));
+    }
+}
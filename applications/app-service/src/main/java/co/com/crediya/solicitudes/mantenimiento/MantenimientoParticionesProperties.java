@@ -0,0 +1,41 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades del mantenimiento de las particiones mensuales de solicitudes.
+ *
+ * @param habilitado true para ejecutar el mantenimiento al iniciar y según la expresión cron
+ * @param cron expresión cron de la ejecución periódica
+ * @param mesesAdelante número de meses siguientes al actual con partición creada por adelantado
+ * @param mesesRetencion número de meses anteriores al actual que se conservan en la tabla;
+ *        0 para no archivar particiones
+ */
+@ConfigurationProperties(prefix = "mantenimiento.particiones")
+public record MantenimientoParticionesProperties(
+        Boolean habilitado,
+        String cron,
+        Integer mesesAdelante,
+        Integer mesesRetencion) {
+
+    public static final String CRON_POR_DEFECTO = "0 0 3 * * *";
+    public static final int MESES_ADELANTE_POR_DEFECTO = 3;
+    public static final int MESES_RETENCION_POR_DEFECTO = 0;
+
+    public MantenimientoParticionesProperties {
+        habilitado = habilitado == null || habilitado;
+        cron = cron != null ? cron : CRON_POR_DEFECTO;
+        mesesAdelante = mesesAdelante != null ? mesesAdelante : MESES_ADELANTE_POR_DEFECTO;
+        mesesRetencion = mesesRetencion != null ? mesesRetencion : MESES_RETENCION_POR_DEFECTO;
+        if (mesesAdelante < 1) {
+            throw new IllegalArgumentException("Los meses adelante deben ser al menos 1");
+        }
+        if (mesesRetencion < 0) {
+            throw new IllegalArgumentException("Los meses de retención no pueden ser negativos");
+        }
+    }
+
+    public boolean archivaParticiones() {
+        return mesesRetencion > 0;
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerEstadisticasUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Refresco programado de la instantánea de estadísticas de solicitudes.
+ *
+ * Calcula la instantánea al iniciar la aplicación, para que la primera consulta no espere a la
+ * base de datos, y la recalcula cada estadisticas.refresco. Entre refrescos, una consulta que
+ * encuentra la instantánea vencida la refresca en segundo plano.
+ */
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class RefrescoEstadisticas {
+
+    private final ObtenerEstadisticasUseCase obtenerEstadisticasUseCase;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alIniciar() {
+        refrescar().subscribe();
+    }
+
+    /**
+     * Recalcula la instantánea de estadísticas.
+     *
+     * @return Mono que completa al terminar; los errores se registran y no se propagan
+     */
+    @Scheduled(fixedDelayString = "${estadisticas.refresco:60s}", initialDelayString = "${estadisticas.refresco:60s}")
+    public Mono<Void> refrescar() {
+        return obtenerEstadisticasUseCase.refrescar()
+                .doOnNext(estadisticas -> log.debug("Estadísticas de solicitudes refrescadas: {} activas",
+                        estadisticas.total()))
+                .doOnError(error -> log.warn("Error al refrescar las estadísticas de solicitudes: {}",
+                        error.getMessage()))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+}
@@ -0,0 +1,60 @@
+-- Esquema inicial de CrediYa Solicitudes.
+-- Las columnas coinciden con los modelos de datos del adaptador R2DBC
+-- (EstadosData, TipoPrestamoData y SolicitudData).
+
+CREATE TABLE IF NOT EXISTS estados (
+    id_estado UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    nombre VARCHAR(50) NOT NULL UNIQUE,
+    descripcion TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    activo BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+CREATE TABLE IF NOT EXISTS tipos_prestamo (
+    id_tipo_prestamo UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    nombre VARCHAR(100) NOT NULL UNIQUE,
+    monto_minimo DECIMAL(15,2) NOT NULL,
+    monto_maximo DECIMAL(15,2) NOT NULL,
+    tasa_interes_anual DECIMAL(5,2) NOT NULL,
+    validacion_automatica BOOLEAN NOT NULL DEFAULT TRUE,
+    version BIGINT NOT NULL DEFAULT 0,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    activo BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT chk_monto_minimo_positivo CHECK (monto_minimo > 0),
+    CONSTRAINT chk_monto_maximo_mayor_minimo CHECK (monto_maximo > monto_minimo),
+    CONSTRAINT chk_tasa_interes_positiva CHECK (tasa_interes_anual > 0)
+);
+
+CREATE TABLE IF NOT EXISTS solicitudes (
+    id_solicitud UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    monto_solicitado DECIMAL(15,2) NOT NULL,
+    plazo_meses INTEGER NOT NULL,
+    email_solicitante VARCHAR(254) NOT NULL,
+    id_estado UUID NOT NULL,
+    id_tipo_prestamo UUID NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    activo BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT fk_solicitud_estado FOREIGN KEY (id_estado) REFERENCES estados(id_estado),
+    CONSTRAINT fk_solicitud_tipo_prestamo FOREIGN KEY (id_tipo_prestamo) REFERENCES tipos_prestamo(id_tipo_prestamo),
+    CONSTRAINT chk_monto_positivo CHECK (monto_solicitado > 0),
+    CONSTRAINT chk_plazo_positivo CHECK (plazo_meses > 0)
+);
+
+INSERT INTO estados (nombre, descripcion) VALUES
+    ('Pendiente de revisión', 'Solicitud pendiente de revisión por asesor'),
+    ('Revisión manual', 'Solicitud en proceso de revisión manual'),
+    ('Aprobada', 'Solicitud aprobada'),
+    ('Rechazada', 'Solicitud rechazada')
+ON CONFLICT (nombre) DO NOTHING;
+
+INSERT INTO tipos_prestamo (nombre, monto_minimo, monto_maximo, tasa_interes_anual, validacion_automatica) VALUES
+    ('Préstamo Personal', 1000000.00, 10000000.00, 15.50, TRUE),
+    ('Préstamo Vehículo', 5000000.00, 50000000.00, 12.80, TRUE),
+    ('Préstamo Vivienda', 20000000.00, 200000000.00, 10.20, FALSE),
+    ('Microcrédito', 500000.00, 2000000.00, 18.00, TRUE)
+ON CONFLICT (nombre) DO NOTHING;
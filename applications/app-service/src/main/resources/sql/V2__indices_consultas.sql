@@ -0,0 +1,38 @@
+-- Índices guiados por las consultas de SolicitudReactiveRepository, SolicitudCriteriosQuery
+-- y SolicitudOrdenQuery. Todas las lecturas filtran por activo = true, por lo que los índices
+-- son parciales: no indexan las solicitudes dadas de baja y el planificador los usa
+-- solo cuando la consulta incluye ese mismo predicado.
+--
+-- Se crean con CONCURRENTLY para no bloquear escrituras sobre una tabla ya poblada;
+-- Flyway ejecuta este script fuera de transacción.
+
+-- findByEmail y findByEmailAndEstado: LOWER(email_solicitante) = LOWER(:email) ORDER BY fecha_creacion DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitudes_email_lower_activas
+    ON solicitudes (LOWER(email_solicitante), fecha_creacion DESC)
+    WHERE activo = true;
+
+-- existsByEmail (comparación exacta) y listado ordenado por email
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitudes_email_activas
+    ON solicitudes (email_solicitante, id_solicitud)
+    WHERE activo = true;
+
+-- findByEstado y consultas por nombre de estado. Cubre countByIdEstado y las estadísticas
+-- por estado (COUNT(*) con activo = true): se resuelven con un index-only scan sin leer la tabla.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitudes_estado_fecha_activas
+    ON solicitudes (id_estado, fecha_creacion DESC)
+    WHERE activo = true;
+
+-- findByTipoPrestamo. Cubre countByIdTipoPrestamo y las estadísticas por tipo de préstamo.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitudes_tipo_fecha_activas
+    ON solicitudes (id_tipo_prestamo, fecha_creacion DESC)
+    WHERE activo = true;
+
+-- Rangos de fechas, listados recientes, paginación por cursor y orden por fecha de creación
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitudes_fecha_activas
+    ON solicitudes (fecha_creacion DESC, id_solicitud DESC)
+    WHERE activo = true;
+
+-- Rangos de monto y orden por monto
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_solicitudes_monto_activas
+    ON solicitudes (monto_solicitado, id_solicitud)
+    WHERE activo = true;
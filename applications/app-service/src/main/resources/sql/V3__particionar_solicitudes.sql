@@ -0,0 +1,114 @@
+-- Particionamiento mensual de solicitudes por rango de fecha_creacion.
+--
+-- Las consultas por rango de fechas, las de seguimiento y los listados recientes solo leen
+-- las particiones de los meses que cubre su predicado (partition pruning), y los meses
+-- antiguos se pueden separar de la tabla sin un DELETE masivo.
+--
+-- La clave primaria de una tabla particionada debe incluir la columna de partición, por lo
+-- que pasa a ser (id_solicitud, fecha_creacion). Las búsquedas por id_solicitud siguen usando
+-- el índice de la clave primaria, uno por partición.
+--
+-- Esta clave primaria acepta el mismo id_solicitud con otra fecha_creacion, en otra partición:
+-- la unicidad del id la garantiza la tabla solicitud_ids de V5__identificadores_solicitudes.sql,
+-- y ON CONFLICT (id_solicitud) no es aplicable. No hay partición DEFAULT: así el
+-- planificador recorre las particiones en orden para ORDER BY fecha_creacion ... LIMIT y se
+-- pueden separar particiones con DETACH PARTITION CONCURRENTLY. Las particiones de los meses
+-- siguientes las crea por adelantado el componente de mantenimiento de la aplicación con
+-- crear_particion_solicitudes.
+--
+-- La migración copia las solicitudes existentes a la nueva tabla dentro de su transacción y
+-- bloquea la tabla durante la copia; debe ejecutarse en una ventana de mantenimiento.
+
+-- Crea la partición del mes que contiene la fecha indicada, si no existe.
+-- La partición se crea como tabla independiente y luego se adjunta: ATTACH PARTITION solo
+-- toma un bloqueo SHARE UPDATE EXCLUSIVE sobre solicitudes, que no bloquea lecturas ni
+-- escrituras, mientras que CREATE TABLE ... PARTITION OF tomaría uno exclusivo.
+-- Retorna el nombre de la partición creada, o NULL si ya existía.
+CREATE OR REPLACE FUNCTION crear_particion_solicitudes(mes DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    desde DATE := date_trunc('month', mes)::date;
+    hasta DATE := (date_trunc('month', mes) + INTERVAL '1 month')::date;
+    particion TEXT := 'solicitudes_' || to_char(date_trunc('month', mes), 'YYYY_MM');
+BEGIN
+    IF to_regclass(particion) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE solicitudes INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', particion);
+    EXECUTE format('ALTER TABLE solicitudes ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   particion, desde, hasta);
+    RETURN particion;
+END;
+$$;
+
+-- Las particiones separadas por el mantenimiento se conservan en este esquema
+CREATE SCHEMA IF NOT EXISTS archivo_solicitudes;
+
+ALTER TABLE solicitudes RENAME TO solicitudes_sin_particionar;
+ALTER TABLE solicitudes_sin_particionar RENAME CONSTRAINT solicitudes_pkey TO solicitudes_sin_particionar_pkey;
+
+CREATE TABLE solicitudes (
+    id_solicitud UUID NOT NULL DEFAULT gen_random_uuid(),
+    monto_solicitado DECIMAL(15,2) NOT NULL,
+    plazo_meses INTEGER NOT NULL,
+    email_solicitante VARCHAR(254) NOT NULL,
+    id_estado UUID NOT NULL,
+    id_tipo_prestamo UUID NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    fecha_creacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    fecha_actualizacion TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    activo BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT solicitudes_pkey PRIMARY KEY (id_solicitud, fecha_creacion),
+    CONSTRAINT fk_solicitud_estado FOREIGN KEY (id_estado) REFERENCES estados(id_estado),
+    CONSTRAINT fk_solicitud_tipo_prestamo FOREIGN KEY (id_tipo_prestamo) REFERENCES tipos_prestamo(id_tipo_prestamo),
+    CONSTRAINT chk_monto_positivo CHECK (monto_solicitado > 0),
+    CONSTRAINT chk_plazo_positivo CHECK (plazo_meses > 0)
+) PARTITION BY RANGE (fecha_creacion);
+
+-- Una partición por cada mes con solicitudes y por los tres meses siguientes al actual
+SELECT crear_particion_solicitudes(mes::date)
+FROM generate_series(
+    (SELECT date_trunc('month', LEAST(COALESCE(MIN(fecha_creacion), LOCALTIMESTAMP), LOCALTIMESTAMP))
+     FROM solicitudes_sin_particionar),
+    (SELECT date_trunc('month', GREATEST(COALESCE(MAX(fecha_creacion), LOCALTIMESTAMP), LOCALTIMESTAMP))
+     FROM solicitudes_sin_particionar) + INTERVAL '3 months',
+    INTERVAL '1 month') AS mes;
+
+INSERT INTO solicitudes (id_solicitud, monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                         id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo)
+SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, id_estado,
+       id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
+FROM solicitudes_sin_particionar;
+
+DROP TABLE solicitudes_sin_particionar;
+
+-- Índices de V2__indices_consultas.sql sobre la tabla particionada. Se declaran en la tabla
+-- padre y PostgreSQL crea uno por partición, también en las que se adjunten más adelante.
+-- CONCURRENTLY no admite tablas particionadas; la migración ya bloquea la tabla durante la copia.
+CREATE INDEX idx_solicitudes_email_lower_activas
+    ON solicitudes (LOWER(email_solicitante), fecha_creacion DESC)
+    WHERE activo = true;
+
+CREATE INDEX idx_solicitudes_email_activas
+    ON solicitudes (email_solicitante, id_solicitud)
+    WHERE activo = true;
+
+CREATE INDEX idx_solicitudes_estado_fecha_activas
+    ON solicitudes (id_estado, fecha_creacion DESC)
+    WHERE activo = true;
+
+CREATE INDEX idx_solicitudes_tipo_fecha_activas
+    ON solicitudes (id_tipo_prestamo, fecha_creacion DESC)
+    WHERE activo = true;
+
+CREATE INDEX idx_solicitudes_fecha_activas
+    ON solicitudes (fecha_creacion DESC, id_solicitud DESC)
+    WHERE activo = true;
+
+CREATE INDEX idx_solicitudes_monto_activas
+    ON solicitudes (monto_solicitado, id_solicitud)
+    WHERE activo = true;
+
+ANALYZE solicitudes;
@@ -0,0 +1,171 @@
+-- Contadores de solicitudes mantenidos de forma incremental.
+--
+-- count, countByEstado, countByTipoPrestamo y las estadísticas por estado y por tipo de
+-- préstamo leen solicitud_contadores, una tabla de pocas filas, en lugar de contar las
+-- solicitudes en cada consulta. Los contadores se actualizan con triggers por sentencia sobre
+-- solicitudes, por lo que cubren cualquier escritura: inserciones individuales o en lote,
+-- cambios de estado, bajas lógicas, borrados y cargas con COPY.
+--
+-- Cada combinación de estado, tipo de préstamo y activo se reparte en 16 ranuras según el
+-- identificador de la solicitud: las inserciones concurrentes de una misma combinación
+-- actualizan filas distintas y no esperan unas por otras. Las consultas suman las ranuras.
+
+CREATE TABLE IF NOT EXISTS solicitud_contadores (
+    id_estado UUID NOT NULL,
+    id_tipo_prestamo UUID NOT NULL,
+    activo BOOLEAN NOT NULL,
+    ranura SMALLINT NOT NULL,
+    cantidad BIGINT NOT NULL,
+    CONSTRAINT solicitud_contadores_pkey PRIMARY KEY (id_estado, id_tipo_prestamo, activo, ranura)
+);
+
+-- Ranura del contador de una solicitud: el último byte de su identificador, módulo 16
+CREATE OR REPLACE FUNCTION ranura_contador_solicitud(id_solicitud UUID)
+RETURNS SMALLINT
+LANGUAGE sql
+IMMUTABLE
+AS $$
+    SELECT (get_byte(uuid_send(id_solicitud), 15) % 16)::smallint
+$$;
+
+-- Suma a los contadores las filas insertadas y resta las eliminadas por la sentencia.
+-- En una actualización resta la versión anterior y suma la nueva de cada fila; las
+-- combinaciones cuyo saldo es cero (por ejemplo, si solo cambió el monto) no se escriben.
+-- Las filas se actualizan en orden de clave para que dos sentencias concurrentes no se
+-- bloqueen mutuamente.
+CREATE OR REPLACE FUNCTION actualizar_contadores_solicitudes()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO solicitud_contadores AS contador (id_estado, id_tipo_prestamo, activo, ranura, cantidad)
+        SELECT id_estado, id_tipo_prestamo, activo, ranura_contador_solicitud(id_solicitud), COUNT(*)
+        FROM nuevas
+        GROUP BY 1, 2, 3, 4
+        ORDER BY 1, 2, 3, 4
+        ON CONFLICT (id_estado, id_tipo_prestamo, activo, ranura)
+        DO UPDATE SET cantidad = contador.cantidad + EXCLUDED.cantidad;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO solicitud_contadores AS contador (id_estado, id_tipo_prestamo, activo, ranura, cantidad)
+        SELECT id_estado, id_tipo_prestamo, activo, ranura_contador_solicitud(id_solicitud), -COUNT(*)
+        FROM anteriores
+        GROUP BY 1, 2, 3, 4
+        ORDER BY 1, 2, 3, 4
+        ON CONFLICT (id_estado, id_tipo_prestamo, activo, ranura)
+        DO UPDATE SET cantidad = contador.cantidad + EXCLUDED.cantidad;
+    ELSE
+        INSERT INTO solicitud_contadores AS contador (id_estado, id_tipo_prestamo, activo, ranura, cantidad)
+        SELECT id_estado, id_tipo_prestamo, activo, ranura, SUM(delta)
+        FROM (
+            SELECT id_estado, id_tipo_prestamo, activo, ranura_contador_solicitud(id_solicitud) AS ranura, 1 AS delta
+            FROM nuevas
+            UNION ALL
+            SELECT id_estado, id_tipo_prestamo, activo, ranura_contador_solicitud(id_solicitud), -1
+            FROM anteriores
+        ) cambios
+        GROUP BY 1, 2, 3, 4
+        HAVING SUM(delta) <> 0
+        ORDER BY 1, 2, 3, 4
+        ON CONFLICT (id_estado, id_tipo_prestamo, activo, ranura)
+        DO UPDATE SET cantidad = contador.cantidad + EXCLUDED.cantidad;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION reiniciar_contadores_solicitudes()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    DELETE FROM solicitud_contadores;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_contadores_solicitudes_insert
+    AFTER INSERT ON solicitudes
+    REFERENCING NEW TABLE AS nuevas
+    FOR EACH STATEMENT EXECUTE FUNCTION actualizar_contadores_solicitudes();
+
+CREATE TRIGGER trg_contadores_solicitudes_update
+    AFTER UPDATE ON solicitudes
+    REFERENCING OLD TABLE AS anteriores NEW TABLE AS nuevas
+    FOR EACH STATEMENT EXECUTE FUNCTION actualizar_contadores_solicitudes();
+
+CREATE TRIGGER trg_contadores_solicitudes_delete
+    AFTER DELETE ON solicitudes
+    REFERENCING OLD TABLE AS anteriores
+    FOR EACH STATEMENT EXECUTE FUNCTION actualizar_contadores_solicitudes();
+
+CREATE TRIGGER trg_contadores_solicitudes_truncate
+    AFTER TRUNCATE ON solicitudes
+    FOR EACH STATEMENT EXECUTE FUNCTION reiniciar_contadores_solicitudes();
+
+-- Recalcula los contadores desde las solicitudes y retorna cuántas combinaciones estaban
+-- desfasadas. Bloquea solicitud_contadores en modo EXCLUSIVE mientras cuenta: las lecturas de
+-- contadores continúan, y las escrituras sobre solicitudes esperan en su trigger hasta que
+-- termine el recálculo, de modo que ninguna queda contada dos veces ni se pierde.
+CREATE OR REPLACE FUNCTION recalcular_contadores_solicitudes()
+RETURNS BIGINT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    desfasados BIGINT;
+BEGIN
+    LOCK TABLE solicitud_contadores IN EXCLUSIVE MODE;
+
+    CREATE TEMPORARY TABLE recuento_solicitudes ON COMMIT DROP AS
+    SELECT id_estado, id_tipo_prestamo, activo, ranura_contador_solicitud(id_solicitud) AS ranura,
+           COUNT(*) AS cantidad
+    FROM solicitudes
+    GROUP BY 1, 2, 3, 4;
+
+    SELECT COUNT(*) INTO desfasados
+    FROM recuento_solicitudes recuento
+    FULL JOIN (SELECT * FROM solicitud_contadores WHERE cantidad <> 0) contador
+        USING (id_estado, id_tipo_prestamo, activo, ranura)
+    WHERE recuento.cantidad IS DISTINCT FROM contador.cantidad;
+
+    DELETE FROM solicitud_contadores;
+    INSERT INTO solicitud_contadores (id_estado, id_tipo_prestamo, activo, ranura, cantidad)
+    SELECT id_estado, id_tipo_prestamo, activo, ranura, cantidad
+    FROM recuento_solicitudes;
+
+    DROP TABLE recuento_solicitudes;
+    RETURN desfasados;
+END;
+$$;
+
+-- Resta de los contadores las solicitudes de una partición ya separada de solicitudes
+-- (DETACH PARTITION no ejecuta los triggers de borrado).
+CREATE OR REPLACE FUNCTION descontar_particion_contadores(particion TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    EXECUTE format(
+        'INSERT INTO solicitud_contadores AS contador (id_estado, id_tipo_prestamo, activo, ranura, cantidad) '
+        || 'SELECT id_estado, id_tipo_prestamo, activo, ranura_contador_solicitud(id_solicitud), -COUNT(*) '
+        || 'FROM %I GROUP BY 1, 2, 3, 4 ORDER BY 1, 2, 3, 4 '
+        || 'ON CONFLICT (id_estado, id_tipo_prestamo, activo, ranura) '
+        || 'DO UPDATE SET cantidad = contador.cantidad + EXCLUDED.cantidad',
+        particion);
+END;
+$$;
+
+-- Descuenta de los contadores una partición ya separada de solicitudes y la mueve al esquema
+-- archivo_solicitudes en la misma transacción: una partición separada que sigue en el esquema
+-- de solicitudes todavía no se descontó, y una que ya está en el archivo ya se descontó.
+CREATE OR REPLACE FUNCTION archivar_particion_solicitudes(particion TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM descontar_particion_contadores(particion);
+    EXECUTE format('ALTER TABLE %I SET SCHEMA archivo_solicitudes', particion);
+END;
+$$;
+
+SELECT recalcular_contadores_solicitudes();
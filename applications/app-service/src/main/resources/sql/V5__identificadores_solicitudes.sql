@@ -0,0 +1,103 @@
+-- Unicidad de id_solicitud y búsqueda de la partición de una solicitud por su identificador.
+--
+-- La clave primaria de solicitudes es (id_solicitud, fecha_creacion), por lo que PostgreSQL
+-- no impide por sí sola que un mismo id_solicitud se repita con otra fecha_creacion, en otra
+-- partición. solicitud_ids es una tabla sin particionar con una fila por solicitud: su clave
+-- primaria sobre id_solicitud rechaza el id repetido (SQLSTATE 23505) en la misma sentencia
+-- que inserta la solicitud.
+--
+-- Además guarda la fecha_creacion de cada solicitud: las sentencias por identificador la
+-- consultan en solicitud_ids y la comparan con la columna de partición, de modo que solo leen
+-- o modifican la partición que contiene la solicitud en lugar de buscar el id en todas.
+--
+-- id_solicitud y fecha_creacion no cambian después de insertar la solicitud; una actualización
+-- que intente cambiarlas se rechaza para que solicitud_ids no quede desfasada.
+
+CREATE TABLE IF NOT EXISTS solicitud_ids (
+    id_solicitud UUID NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL,
+    CONSTRAINT solicitud_ids_pkey PRIMARY KEY (id_solicitud)
+);
+
+INSERT INTO solicitud_ids (id_solicitud, fecha_creacion)
+SELECT id_solicitud, fecha_creacion
+FROM solicitudes;
+
+-- Registra los identificadores de las filas insertadas y elimina los de las filas borradas
+-- por la sentencia.
+CREATE OR REPLACE FUNCTION registrar_ids_solicitudes()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO solicitud_ids (id_solicitud, fecha_creacion)
+        SELECT id_solicitud, fecha_creacion
+        FROM nuevas;
+    ELSE
+        DELETE FROM solicitud_ids ids
+        USING anteriores
+        WHERE ids.id_solicitud = anteriores.id_solicitud;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION reiniciar_ids_solicitudes()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    TRUNCATE solicitud_ids;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION rechazar_cambio_identificador_solicitud()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    RAISE EXCEPTION 'El identificador y la fecha de creación de la solicitud % no se pueden modificar',
+        OLD.id_solicitud
+        USING ERRCODE = 'integrity_constraint_violation';
+END;
+$$;
+
+CREATE TRIGGER trg_ids_solicitudes_insert
+    AFTER INSERT ON solicitudes
+    REFERENCING NEW TABLE AS nuevas
+    FOR EACH STATEMENT EXECUTE FUNCTION registrar_ids_solicitudes();
+
+CREATE TRIGGER trg_ids_solicitudes_delete
+    AFTER DELETE ON solicitudes
+    REFERENCING OLD TABLE AS anteriores
+    FOR EACH STATEMENT EXECUTE FUNCTION registrar_ids_solicitudes();
+
+CREATE TRIGGER trg_ids_solicitudes_truncate
+    AFTER TRUNCATE ON solicitudes
+    FOR EACH STATEMENT EXECUTE FUNCTION reiniciar_ids_solicitudes();
+
+CREATE TRIGGER trg_ids_solicitudes_inmutables
+    BEFORE UPDATE OF id_solicitud, fecha_creacion ON solicitudes
+    FOR EACH ROW
+    WHEN (OLD.id_solicitud IS DISTINCT FROM NEW.id_solicitud
+          OR OLD.fecha_creacion IS DISTINCT FROM NEW.fecha_creacion)
+    EXECUTE FUNCTION rechazar_cambio_identificador_solicitud();
+
+-- Además de descontar la partición de los contadores, libera los identificadores de sus
+-- solicitudes: una vez archivadas ya no están en solicitudes.
+CREATE OR REPLACE FUNCTION archivar_particion_solicitudes(particion TEXT)
+RETURNS VOID
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM descontar_particion_contadores(particion);
+    EXECUTE format(
+        'DELETE FROM solicitud_ids ids USING %I archivada WHERE ids.id_solicitud = archivada.id_solicitud',
+        particion);
+    EXECUTE format('ALTER TABLE %I SET SCHEMA archivo_solicitudes', particion);
+END;
+$$;
+
+ANALYZE solicitud_ids;
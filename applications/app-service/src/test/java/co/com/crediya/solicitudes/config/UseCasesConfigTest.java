@@ -5,6 +5,16 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.gateways.ImportacionSolicitudesRepository;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.r2dbc.adapters.EstadosRepositoryAdapter;
+import co.com.crediya.solicitudes.r2dbc.adapters.TipoPrestamoRepositoryAdapter;
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+
+import static org.mockito.Mockito.mock;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class UseCasesConfigTest {
@@ -34,6 +44,46 @@ public class UseCasesConfigTest {
         public MyUseCase myUseCase() {
             return new MyUseCase();
         }
+
+        @Bean
+        public SolicitudRepository solicitudRepository() {
+            return mock(SolicitudRepository.class);
+        }
+
+        @Bean
+        public ImportacionSolicitudesRepository importacionSolicitudesRepository() {
+            return mock(ImportacionSolicitudesRepository.class);
+        }
+
+        @Bean
+        public TipoPrestamoRepository tipoPrestamoRepository() {
+            return mock(TipoPrestamoRepository.class);
+        }
+
+        @Bean
+        public EstadosRepository estadosRepository() {
+            return mock(EstadosRepository.class);
+        }
+
+        @Bean
+        public TipoPrestamoRepositoryAdapter tipoPrestamoRepositoryAdapter() {
+            return mock(TipoPrestamoRepositoryAdapter.class);
+        }
+
+        @Bean
+        public EstadosRepositoryAdapter estadosRepositoryAdapter() {
+            return mock(EstadosRepositoryAdapter.class);
+        }
+
+        @Bean
+        public CatalogoCacheProperties catalogoCacheProperties() {
+            return new CatalogoCacheProperties(null, null);
+        }
+
+        @Bean
+        public EstadisticasProperties estadisticasProperties() {
+            return new EstadisticasProperties(null, null);
+        }
     }
 
     static class MyUseCase {
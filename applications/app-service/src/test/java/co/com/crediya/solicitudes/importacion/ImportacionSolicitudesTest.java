@@ -0,0 +1,146 @@
+package co.com.crediya.solicitudes.importacion;
+
+import co.com.crediya.solicitudes.model.solicitud.FilaImportacion;
+import co.com.crediya.solicitudes.model.solicitud.LoteImportacion;
+import co.com.crediya.solicitudes.model.solicitud.RechazoImportacion;
+import co.com.crediya.solicitudes.usecase.solicitud.ImportarSolicitudesUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportacionSolicitudes Tests")
+class ImportacionSolicitudesTest {
+
+    @Mock
+    private ImportarSolicitudesUseCase importarSolicitudesUseCase;
+
+    @TempDir
+    private Path directorio;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Path archivo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        archivo = Files.writeString(directorio.resolve("legado.csv"),
+            "monto_solicitado,plazo_meses,email_solicitante,estado,tipo_prestamo,fecha_creacion\n");
+    }
+
+    @Test
+    @DisplayName("Debería escribir los rechazos, registrar las métricas y salir con código 2 si hubo rechazos")
+    void shouldWriteRejectionsAndReportMetrics() throws IOException {
+        // Given
+        ImportacionSolicitudes importacion = importacion(new ImportacionProperties(archivo, null, 2));
+        when(importarSolicitudesUseCase.importar(any(), eq(2))).thenReturn(Flux.just(
+            new LoteImportacion(1, 2, List.of()),
+            new LoteImportacion(2, 1, List.of(
+                new RechazoImportacion(5, "abc,12,\"a@crediya.com\"", "Formato de monto inválido: abc")))));
+
+        // When
+        importacion.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(importacion.getExitCode()).isEqualTo(ImportacionSolicitudes.CODIGO_CON_RECHAZOS);
+        assertThat(Files.readString(directorio.resolve("legado.csv" + ImportacionProperties.SUFIJO_RECHAZOS)))
+            .isEqualTo(ArchivoRechazos.CABECERA
+                + "5,\"Formato de monto inválido: abc\",\"abc,12,\"\"a@crediya.com\"\"\"\n");
+        assertThat(meterRegistry.get(ImportacionSolicitudes.METRICA_FILAS).tag("resultado", "cargada")
+            .counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(ImportacionSolicitudes.METRICA_FILAS).tag("resultado", "rechazada")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ImportacionSolicitudes.METRICA_LOTE).timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debería salir con código 0 si se cargaron todas las filas")
+    void shouldExitWithZeroWithoutRejections() throws IOException {
+        // Given
+        Path rechazos = directorio.resolve("rechazos.csv");
+        ImportacionSolicitudes importacion = importacion(new ImportacionProperties(archivo, rechazos, null));
+        when(importarSolicitudesUseCase.importar(any(), eq(ImportarSolicitudesUseCase.TAMANO_LOTE_POR_DEFECTO)))
+            .thenReturn(Flux.just(new LoteImportacion(1, 10, List.of())));
+
+        // When
+        ImportacionSolicitudes.Resumen resumen = importacion.importar();
+
+        // Then
+        assertThat(resumen).isEqualTo(new ImportacionSolicitudes.Resumen(10, 0));
+        assertThat(importacion.getExitCode()).isZero();
+        assertThat(Files.readString(rechazos)).isEqualTo(ArchivoRechazos.CABECERA);
+    }
+
+    @Test
+    @DisplayName("Debería detener la importación si falla la carga")
+    void shouldFailWhenImportFails() {
+        // Given
+        ImportacionSolicitudes importacion = importacion(new ImportacionProperties(archivo, null, 2));
+        when(importarSolicitudesUseCase.importar(any(), eq(2)))
+            .thenReturn(Flux.error(new IllegalStateException("Sin conexión")));
+
+        // When & Then
+        assertThatThrownBy(importacion::importar)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Sin conexión");
+    }
+
+    @Test
+    @DisplayName("Debería exigir el archivo a importar")
+    void shouldRequireFile() {
+        // Given
+        ImportacionSolicitudes importacion = importacion(new ImportacionProperties(null, null, null));
+
+        // When & Then
+        assertThatThrownBy(importacion::importar)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("importacion.archivo");
+    }
+
+    @Test
+    @DisplayName("Debería pasar al caso de uso las filas leídas del archivo")
+    void shouldPassFileRowsToUseCase() throws IOException {
+        // Given
+        Files.writeString(archivo, "1000000,12,a@crediya.com,Aprobada,Préstamo Personal,2019-03-15\n",
+            StandardOpenOption.APPEND);
+        ImportacionSolicitudes importacion = importacion(new ImportacionProperties(archivo, null, 2));
+        when(importarSolicitudesUseCase.importar(any(), eq(2))).thenAnswer(invocation ->
+            invocation.<Flux<FilaImportacion>>getArgument(0)
+                .map(fila -> new LoteImportacion(1, fila.numero() == 2 ? 1 : 0, List.of())));
+
+        // When & Then
+        assertThat(importacion.importar()).isEqualTo(new ImportacionSolicitudes.Resumen(1, 0));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un tamaño de lote no positivo")
+    void shouldRejectInvalidBatchSize() {
+        // When & Then
+        assertThatThrownBy(() -> new ImportacionProperties(archivo, null, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ImportacionSolicitudes importacion(ImportacionProperties properties) {
+        return new ImportacionSolicitudes(importarSolicitudesUseCase, properties, meterRegistry);
+    }
+}
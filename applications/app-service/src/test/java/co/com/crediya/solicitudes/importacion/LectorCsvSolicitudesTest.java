@@ -0,0 +1,100 @@
+package co.com.crediya.solicitudes.importacion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LectorCsvSolicitudes Tests")
+class LectorCsvSolicitudesTest {
+
+    private static final String CABECERA =
+        "monto_solicitado,plazo_meses,email_solicitante,estado,tipo_prestamo,fecha_creacion";
+
+    private final LectorCsvSolicitudes lector = new LectorCsvSolicitudes();
+
+    @TempDir
+    private Path directorio;
+
+    @Test
+    @DisplayName("Debería leer las filas numeradas por línea omitiendo la cabecera y las líneas en blanco")
+    void shouldReadRowsNumberedByLine() throws IOException {
+        // Given
+        Path archivo = archivo("\uFEFF" + CABECERA + "\r\n"
+            + "1000000,12,a@crediya.com,Aprobada,Préstamo Personal,2019-03-15\r\n"
+            + "\r\n"
+            + "2000000,24,\"b,c\"\"d\"\"@crediya.com\",Aprobada,Préstamo Personal,2019-04-01");
+
+        // When & Then
+        StepVerifier.create(lector.leer(archivo))
+            .assertNext(fila -> {
+                assertThat(fila.numero()).isEqualTo(2);
+                assertThat(fila.linea()).isEqualTo("1000000,12,a@crediya.com,Aprobada,Préstamo Personal,2019-03-15");
+                assertThat(fila.campos())
+                    .containsExactly("1000000", "12", "a@crediya.com", "Aprobada", "Préstamo Personal", "2019-03-15");
+            })
+            .assertNext(fila -> {
+                assertThat(fila.numero()).isEqualTo(4);
+                assertThat(fila.campos().get(2)).isEqualTo("b,c\"d\"@crediya.com");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un archivo cuya cabecera no coincide con las columnas esperadas")
+    void shouldRejectUnexpectedHeader() throws IOException {
+        // Given
+        Path archivo = archivo("monto,plazo\n1000000,12\n");
+
+        // When & Then
+        StepVerifier.create(lector.leer(archivo))
+            .expectErrorSatisfies(error -> assertThat(error)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("La cabecera del archivo debe ser " + CABECERA))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Debería leer bajo demanda un archivo más grande que el bloque de lectura")
+    void shouldReadLargeFileOnDemand() throws IOException {
+        // Given
+        int filas = 20_000;
+        Path archivo = directorio.resolve("grande.csv");
+        try (Writer escritor = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            escritor.write(CABECERA + "\n");
+            for (int i = 0; i < filas; i++) {
+                escritor.write("1000000,12,cliente" + i + "@crediya.com,Aprobada,Préstamo Personal,2019-03-15\n");
+            }
+        }
+        assertThat(Files.size(archivo)).isGreaterThan(LectorCsvSolicitudes.TAMANO_BLOQUE * 10L);
+
+        // When & Then
+        StepVerifier.create(lector.leer(archivo), 1)
+            .assertNext(fila -> assertThat(fila.campos().get(2)).isEqualTo("cliente0@crediya.com"))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount(filas - 2)
+            .assertNext(fila -> assertThat(fila.numero()).isEqualTo(filas + 1))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería dividir los campos entre comillas según RFC 4180")
+    void shouldSplitQuotedFields() {
+        // When & Then
+        assertThat(LectorCsvSolicitudes.dividir("a,\"b,c\",\"d\"\"e\",,"))
+            .containsExactly("a", "b,c", "d\"e", "", "");
+        assertThat(LectorCsvSolicitudes.dividir("")).containsExactly("");
+    }
+
+    private Path archivo(String contenido) throws IOException {
+        return Files.writeString(directorio.resolve("solicitudes.csv"), contenido, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import co.com.crediya.solicitudes.r2dbc.contadores.SolicitudContadoresRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContadoresSolicitudesEndpoint Tests")
+class ContadoresSolicitudesEndpointTest {
+
+    @Mock
+    private SolicitudContadoresRepository contadores;
+
+    @InjectMocks
+    private ContadoresSolicitudesEndpoint endpoint;
+
+    @Test
+    @DisplayName("Debería responder cuántos contadores estaban desfasados")
+    void shouldReportOutOfSyncCounters() {
+        // Given
+        when(contadores.recalcular()).thenReturn(Mono.just(2L));
+
+        // When & Then
+        StepVerifier.create(endpoint.recalcular())
+            .expectNext(Map.of("desfasados", 2L))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería propagar el error del recálculo")
+    void shouldPropagateRecalculationError() {
+        // Given
+        when(contadores.recalcular()).thenReturn(Mono.error(new IllegalStateException("Sin conexión")));
+
+        // When & Then
+        StepVerifier.create(endpoint.recalcular())
+            .expectError(IllegalStateException.class)
+            .verify();
+    }
+}
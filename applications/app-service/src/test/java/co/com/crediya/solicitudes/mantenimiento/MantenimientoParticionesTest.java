@@ -0,0 +1,93 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import co.com.crediya.solicitudes.r2dbc.particiones.SolicitudParticionesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MantenimientoParticiones Tests")
+class MantenimientoParticionesTest {
+
+    private static final Clock OCTUBRE_2026 = Clock.fixed(Instant.parse("2026-10-17T03:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private SolicitudParticionesRepository particiones;
+
+    @Test
+    @DisplayName("Debería crear las particiones desde el mes actual y archivar las anteriores a la retención")
+    void shouldCreateAheadAndArchiveBeyondRetention() {
+        // Given
+        MantenimientoParticiones mantenimiento = mantenimiento(new MantenimientoParticionesProperties(true, null, 3, 24));
+        when(particiones.crearParticiones(YearMonth.of(2026, 10), 3)).thenReturn(Flux.just("solicitudes_2027_01"));
+        when(particiones.archivarParticionesAnteriores(YearMonth.of(2024, 10)))
+            .thenReturn(Flux.just("solicitudes_2024_08", "solicitudes_2024_09"));
+
+        // When & Then
+        StepVerifier.create(mantenimiento.mantener())
+            .verifyComplete();
+
+        verify(particiones).crearParticiones(YearMonth.of(2026, 10), 3);
+        verify(particiones).archivarParticionesAnteriores(YearMonth.of(2024, 10));
+    }
+
+    @Test
+    @DisplayName("Debería conservar todas las particiones cuando no hay retención configurada")
+    void shouldNotArchiveWithoutRetention() {
+        // Given
+        MantenimientoParticiones mantenimiento = mantenimiento(new MantenimientoParticionesProperties(true, null, null, null));
+        when(particiones.crearParticiones(YearMonth.of(2026, 10), MantenimientoParticionesProperties.MESES_ADELANTE_POR_DEFECTO))
+            .thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(mantenimiento.mantener())
+            .verifyComplete();
+
+        verify(particiones, never()).archivarParticionesAnteriores(any());
+    }
+
+    @Test
+    @DisplayName("Debería registrar el error sin propagarlo para reintentar en la siguiente ejecución")
+    void shouldSwallowErrorsUntilNextRun() {
+        // Given
+        MantenimientoParticiones mantenimiento = mantenimiento(new MantenimientoParticionesProperties(true, null, 3, 24));
+        when(particiones.crearParticiones(any(), anyInt()))
+            .thenReturn(Flux.error(new IllegalStateException("Sin conexión")));
+
+        // When & Then
+        StepVerifier.create(mantenimiento.mantener())
+            .verifyComplete();
+
+        verify(particiones, never()).archivarParticionesAnteriores(any());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una configuración sin meses adelante o con retención negativa")
+    void shouldRejectInvalidProperties() {
+        // When & Then
+        assertThatThrownBy(() -> new MantenimientoParticionesProperties(true, null, 0, 24))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MantenimientoParticionesProperties(true, null, 3, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MantenimientoParticiones mantenimiento(MantenimientoParticionesProperties properties) {
+        return new MantenimientoParticiones(particiones, properties, OCTUBRE_2026);
+    }
+}
@@ -0,0 +1,55 @@
+package co.com.crediya.solicitudes.mantenimiento;
+
+import co.com.crediya.solicitudes.model.solicitud.EstadisticasSolicitudes;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerEstadisticasUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefrescoEstadisticas Tests")
+class RefrescoEstadisticasTest {
+
+    @Mock
+    private ObtenerEstadisticasUseCase obtenerEstadisticasUseCase;
+
+    @InjectMocks
+    private RefrescoEstadisticas refresco;
+
+    @Test
+    @DisplayName("Debería refrescar la instantánea de estadísticas")
+    void shouldRefreshSnapshot() {
+        // Given
+        when(obtenerEstadisticasUseCase.refrescar())
+            .thenReturn(Mono.just(new EstadisticasSolicitudes(List.of(), List.of(), Instant.now())));
+
+        // When & Then
+        StepVerifier.create(refresco.refrescar())
+            .verifyComplete();
+
+        verify(obtenerEstadisticasUseCase).refrescar();
+    }
+
+    @Test
+    @DisplayName("Debería registrar el error sin propagarlo para reintentar en la siguiente ejecución")
+    void shouldSwallowErrorsUntilNextRun() {
+        // Given
+        when(obtenerEstadisticasUseCase.refrescar())
+            .thenReturn(Mono.error(new IllegalStateException("Sin conexión")));
+
+        // When & Then
+        StepVerifier.create(refresco.refrescar())
+            .verifyComplete();
+    }
+}
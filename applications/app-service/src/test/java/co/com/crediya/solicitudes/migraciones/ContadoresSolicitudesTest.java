@@ -0,0 +1,243 @@
+package co.com.crediya.solicitudes.migraciones;
+
+import co.com.crediya.solicitudes.r2dbc.particiones.SolicitudParticionesRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que los triggers de V4__contadores_solicitudes.sql mantengan solicitud_contadores
+ * igual al conteo real de solicitudes ante cada tipo de escritura, y que el recálculo y el
+ * descuento de particiones archivadas los reparen, también cuando el archivo de una partición
+ * quedó interrumpido.
+ *
+ * Requiere Docker; sin Docker el test se omite.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Contadores de solicitudes Tests")
+class ContadoresSolicitudesTest {
+
+    /**
+     * Combinaciones cuyo contador no coincide con el conteo real de solicitudes.
+     */
+    private static final String DESFASE_SQL = """
+        SELECT COUNT(*)
+        FROM (SELECT id_estado, id_tipo_prestamo, activo, COUNT(*) AS cantidad
+              FROM solicitudes GROUP BY 1, 2, 3) real
+        FULL JOIN (SELECT id_estado, id_tipo_prestamo, activo, SUM(cantidad) AS cantidad
+                   FROM solicitud_contadores GROUP BY 1, 2, 3 HAVING SUM(cantidad) <> 0) contador
+            USING (id_estado, id_tipo_prestamo, activo)
+        WHERE real.cantidad IS DISTINCT FROM contador.cantidad
+        """;
+
+    private static final String TOTAL_CONTADORES_SQL = "SELECT COALESCE(SUM(cantidad), 0) FROM solicitud_contadores";
+
+    /**
+     * Inserta solicitudes repartidas entre todos los estados y tipos de préstamo, con una de
+     * cada diez dada de baja.
+     */
+    private static final String SEMBRAR_SOLICITUDES_SQL = """
+        INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                 id_tipo_prestamo, fecha_creacion, activo)
+        SELECT 1000000 + i, 12, 'cliente' || i || '@crediya.com',
+               (SELECT id_estado FROM estados ORDER BY nombre OFFSET mod(i, 4) LIMIT 1),
+               (SELECT id_tipo_prestamo FROM tipos_prestamo ORDER BY nombre OFFSET mod(i / 4, 4) LIMIT 1),
+               LOCALTIMESTAMP - make_interval(mins => i),
+               mod(i, 10) <> 0
+        FROM generate_series(1, %d) AS i
+        """;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrar() {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:sql")
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+    }
+
+    @BeforeEach
+    void sembrar() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            statement.execute("TRUNCATE solicitudes");
+            statement.execute(SEMBRAR_SOLICITUDES_SQL.formatted(1000));
+        }
+    }
+
+    @Test
+    @DisplayName("Debería contar las solicitudes insertadas una a una y en lote")
+    void shouldCountInsertedSolicitudes() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When
+            statement.execute(SEMBRAR_SOLICITUDES_SQL.formatted(1));
+
+            // Then
+            assertThat(numero(statement, TOTAL_CONTADORES_SQL)).isEqualTo(1001);
+            assertThat(numero(statement, DESFASE_SQL)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería mover el conteo al cambiar el estado o dar de baja una solicitud")
+    void shouldMoveCountOnStateChangeAndSoftDelete() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When
+            statement.execute("""
+                UPDATE solicitudes SET id_estado = (SELECT id_estado FROM estados WHERE nombre = 'Aprobada')
+                WHERE plazo_meses = 12 AND monto_solicitado < 1000300
+                """);
+            statement.execute("UPDATE solicitudes SET activo = false WHERE monto_solicitado BETWEEN 1000500 AND 1000600");
+            statement.execute("UPDATE solicitudes SET monto_solicitado = monto_solicitado + 1");
+
+            // Then
+            assertThat(numero(statement, TOTAL_CONTADORES_SQL)).isEqualTo(1000);
+            assertThat(numero(statement, DESFASE_SQL)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería descontar las solicitudes borradas y reiniciar los contadores al truncar")
+    void shouldDiscountDeletedAndResetOnTruncate() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When
+            statement.execute("DELETE FROM solicitudes WHERE monto_solicitado < 1000250");
+
+            // Then
+            assertThat(numero(statement, TOTAL_CONTADORES_SQL)).isEqualTo(751);
+            assertThat(numero(statement, DESFASE_SQL)).isZero();
+
+            // When
+            statement.execute("TRUNCATE solicitudes");
+
+            // Then
+            assertThat(numero(statement, "SELECT COUNT(*) FROM solicitud_contadores")).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería recalcular los contadores desfasados e informar cuántos eran")
+    void shouldRecalculateOutOfSyncCounters() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // Given
+            statement.execute("ALTER TABLE solicitudes DISABLE TRIGGER trg_contadores_solicitudes_delete");
+            try {
+                statement.execute("DELETE FROM solicitudes WHERE monto_solicitado < 1000004");
+            } finally {
+                statement.execute("ALTER TABLE solicitudes ENABLE TRIGGER trg_contadores_solicitudes_delete");
+            }
+            assertThat(numero(statement, DESFASE_SQL)).isPositive();
+
+            // When & Then
+            assertThat(numero(statement, "SELECT recalcular_contadores_solicitudes()")).isPositive();
+            assertThat(numero(statement, DESFASE_SQL)).isZero();
+            assertThat(numero(statement, "SELECT recalcular_contadores_solicitudes()")).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería descontar las solicitudes de una partición separada")
+    void shouldDiscountDetachedPartition() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // Given
+            statement.execute("SELECT crear_particion_solicitudes(DATE '2025-01-01')");
+            statement.execute("""
+                INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                         id_tipo_prestamo, fecha_creacion)
+                SELECT 1000000, 12, 'cliente@crediya.com', id_estado, id_tipo_prestamo, TIMESTAMP '2025-01-15'
+                FROM estados, tipos_prestamo
+                """);
+
+            try {
+                // When
+                statement.execute("ALTER TABLE solicitudes DETACH PARTITION solicitudes_2025_01");
+                statement.execute("SELECT descontar_particion_contadores('solicitudes_2025_01')");
+
+                // Then
+                assertThat(numero(statement, TOTAL_CONTADORES_SQL)).isEqualTo(1000);
+                assertThat(numero(statement, DESFASE_SQL)).isZero();
+            } finally {
+                statement.execute("DROP TABLE solicitudes_2025_01");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debería completar el archivo de una partición separada por una ejecución interrumpida")
+    void shouldFinishInterruptedArchive() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // Given
+            statement.execute("SELECT crear_particion_solicitudes(DATE '2025-01-01')");
+            statement.execute("""
+                INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                         id_tipo_prestamo, fecha_creacion)
+                SELECT 1000000, 12, 'cliente@crediya.com', id_estado, id_tipo_prestamo, TIMESTAMP '2025-01-15'
+                FROM estados, tipos_prestamo
+                """);
+            // El proceso terminó después de separar la partición y antes de descontarla
+            statement.execute("ALTER TABLE solicitudes DETACH PARTITION solicitudes_2025_01");
+            assertThat(numero(statement, DESFASE_SQL)).isPositive();
+
+            try {
+                // When
+                List<String> archivadas = particiones().archivarParticionesAnteriores(YearMonth.of(2025, 2))
+                    .collectList()
+                    .block(Duration.ofSeconds(30));
+
+                // Then
+                assertThat(archivadas).containsExactly("solicitudes_2025_01");
+                assertThat(numero(statement, TOTAL_CONTADORES_SQL)).isEqualTo(1000);
+                assertThat(numero(statement, DESFASE_SQL)).isZero();
+                assertThat(numero(statement,
+                    "SELECT COUNT(*) FROM archivo_solicitudes.solicitudes_2025_01")).isEqualTo(16);
+            } finally {
+                statement.execute("DROP TABLE IF EXISTS solicitudes_2025_01");
+                statement.execute("DROP TABLE IF EXISTS archivo_solicitudes.solicitudes_2025_01");
+            }
+        }
+    }
+
+    private static SolicitudParticionesRepository particiones() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+            ConnectionFactoryOptions.parse(POSTGRES.getJdbcUrl().replaceFirst("^jdbc:", "r2dbc:")).mutate()
+                .option(ConnectionFactoryOptions.USER, POSTGRES.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, POSTGRES.getPassword())
+                .build());
+        return new SolicitudParticionesRepository(new R2dbcEntityTemplate(connectionFactory));
+    }
+
+    private static long numero(Statement statement, String consulta) throws SQLException {
+        try (ResultSet resultado = statement.executeQuery(consulta)) {
+            assertThat(resultado.next()).isTrue();
+            return resultado.getLong(1);
+        }
+    }
+
+    private static Connection conexion() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
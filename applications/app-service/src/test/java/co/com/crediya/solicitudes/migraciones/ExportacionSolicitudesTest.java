@@ -0,0 +1,169 @@
+package co.com.crediya.solicitudes.migraciones;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.r2dbc.adapters.SolicitudRepositoryAdapter;
+import co.com.crediya.solicitudes.r2dbc.config.SolicitudExportacionProperties;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que SolicitudRepositoryAdapter.exportar lea las solicitudes por tramos con un
+ * cursor del servidor: mientras el consumidor no pide más filas, PostgreSQL deja el portal
+ * suspendido esperando al cliente (wait_event ClientRead) en lugar de bloquearse enviando el
+ * resultado completo (ClientWrite), y el cliente solo recibe las filas pedidas.
+ *
+ * Requiere Docker; sin Docker el test se omite.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Exportación de solicitudes Tests")
+class ExportacionSolicitudesTest {
+
+    private static final int SOLICITUDES = 50_000;
+
+    private static final int FILAS_POR_LECTURA = 100;
+
+    /**
+     * Una solicitud por segundo hacia atrás desde ahora, con una de cada diez dada de baja.
+     */
+    private static final String SEMBRAR_SOLICITUDES_SQL = """
+        INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                 id_tipo_prestamo, fecha_creacion, activo)
+        SELECT 1000000 + i, 12, 'cliente' || i || '@crediya.com',
+               (SELECT id_estado FROM estados ORDER BY nombre OFFSET mod(i, 4) LIMIT 1),
+               (SELECT id_tipo_prestamo FROM tipos_prestamo ORDER BY nombre OFFSET mod(i, 3) LIMIT 1),
+               LOCALTIMESTAMP - make_interval(secs => i),
+               mod(i, 10) <> 0
+        FROM generate_series(1, %d) AS i
+        """;
+
+    private static final String ESTADO_EXPORTACION_SQL = """
+        SELECT state, wait_event
+        FROM pg_stat_activity
+        WHERE query LIKE '%ORDER BY fecha_creacion, id_solicitud%'
+        AND pid <> pg_backend_pid()
+        """;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static SolicitudRepositoryAdapter adapter;
+
+    @BeforeAll
+    static void migrarYSembrar() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:sql")
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // Las solicitudes sembradas pueden caer en el mes anterior si el test corre a inicio de mes
+            statement.execute("SELECT crear_particion_solicitudes((LOCALTIMESTAMP - INTERVAL '1 day')::date)");
+            statement.execute(SEMBRAR_SOLICITUDES_SQL.formatted(SOLICITUDES));
+        }
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+            ConnectionFactoryOptions.parse(POSTGRES.getJdbcUrl().replaceFirst("^jdbc:", "r2dbc:")).mutate()
+                .option(ConnectionFactoryOptions.USER, POSTGRES.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, POSTGRES.getPassword())
+                .build());
+        adapter = new SolicitudRepositoryAdapter(null, new R2dbcEntityTemplate(connectionFactory), null,
+            new SolicitudExportacionProperties(FILAS_POR_LECTURA));
+    }
+
+    @Test
+    @DisplayName("Debería exportar todas las solicitudes activas")
+    void shouldExportAllActiveSolicitudes() {
+        // When
+        Long exportadas = adapter.exportar().count().block(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(exportadas).isEqualTo(SOLICITUDES - SOLICITUDES / 10);
+    }
+
+    @Test
+    @DisplayName("Debería dejar el cursor suspendido en el servidor mientras el consumidor no pide más filas")
+    void shouldSuspendServerCursorUntilConsumerRequestsMore() throws Exception {
+        // Given
+        ConsumidorPausado consumidor = new ConsumidorPausado(10);
+
+        // When
+        adapter.exportar().subscribe(consumidor);
+        assertThat(consumidor.primerasRecibidas.await(30, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(500);
+
+        // Then
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement();
+             ResultSet estado = statement.executeQuery(ESTADO_EXPORTACION_SQL)) {
+            assertThat(estado.next()).isTrue();
+            assertThat(estado.getString("state")).isEqualTo("active");
+            assertThat(estado.getString("wait_event")).isEqualTo("ClientRead");
+        }
+        assertThat(consumidor.recibidas.get()).isEqualTo(10);
+
+        consumidor.requestUnbounded();
+        assertThat(consumidor.completada.await(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(consumidor.recibidas.get()).isEqualTo(SOLICITUDES - SOLICITUDES / 10);
+    }
+
+    private static Connection conexion() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    /**
+     * Consumidor que pide solo las primeras filas y luego espera a que el test reanude la demanda.
+     */
+    private static final class ConsumidorPausado extends BaseSubscriber<Solicitud> {
+
+        private final int primeras;
+        private final AtomicLong recibidas = new AtomicLong();
+        private final CountDownLatch primerasRecibidas = new CountDownLatch(1);
+        private final CountDownLatch completada = new CountDownLatch(1);
+
+        ConsumidorPausado(int primeras) {
+            this.primeras = primeras;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            request(primeras);
+        }
+
+        @Override
+        protected void hookOnNext(Solicitud solicitud) {
+            if (recibidas.incrementAndGet() == primeras) {
+                primerasRecibidas.countDown();
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completada.countDown();
+        }
+    }
+}
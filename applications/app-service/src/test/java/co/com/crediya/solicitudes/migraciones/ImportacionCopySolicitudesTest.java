@@ -0,0 +1,147 @@
+package co.com.crediya.solicitudes.migraciones;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudHistorica;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.r2dbc.adapters.ImportacionSolicitudesRepositoryAdapter;
+import co.com.crediya.solicitudes.r2dbc.particiones.SolicitudParticionesRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que ImportacionSolicitudesRepositoryAdapter cargue lotes de solicitudes históricas
+ * con COPY a través del pool de conexiones: crea las particiones de meses pasados que faltan,
+ * conserva la fecha de creación, mantiene los contadores de solicitud_contadores y no guarda
+ * nada de un lote cuyos datos rechaza PostgreSQL.
+ *
+ * Requiere Docker; sin Docker el test se omite.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Importación de solicitudes con COPY Tests")
+class ImportacionCopySolicitudesTest {
+
+    private static final int SOLICITUDES_POR_MES = 5_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static ImportacionSolicitudesRepositoryAdapter adapter;
+    private static EstadoId aprobada;
+    private static TipoPrestamoId personal;
+
+    @BeforeAll
+    static void migrar() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:sql")
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            aprobada = new EstadoId(UUID.fromString(texto(statement,
+                "SELECT id_estado FROM estados WHERE nombre = 'Aprobada'")));
+            personal = new TipoPrestamoId(UUID.fromString(texto(statement,
+                "SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Préstamo Personal'")));
+        }
+
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+            ConnectionFactoryOptions.parse(POSTGRES.getJdbcUrl().replaceFirst("^jdbc:", "r2dbc:pool:")).mutate()
+                .option(ConnectionFactoryOptions.USER, POSTGRES.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, POSTGRES.getPassword())
+                .build());
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        adapter = new ImportacionSolicitudesRepositoryAdapter(template, new SolicitudParticionesRepository(template));
+    }
+
+    @Test
+    @DisplayName("Debería cargar con COPY las solicitudes de meses pasados sin partición")
+    void shouldCopyHistoricalSolicitudesIntoNewPartitions() throws SQLException {
+        // Given
+        List<SolicitudHistorica> lote = new ArrayList<>();
+        for (int i = 0; i < SOLICITUDES_POR_MES * 2; i++) {
+            LocalDateTime fechaCreacion = LocalDateTime.of(2015, 5 + i % 2, 1, 0, 0).plusMinutes(i);
+            lote.add(historica("1000000.5", "cliente" + i + "\\legado@crediya.com", fechaCreacion));
+        }
+
+        // When
+        Long cargadas = adapter.cargar(lote).block(Duration.ofMinutes(1));
+
+        // Then
+        assertThat(cargadas).isEqualTo(SOLICITUDES_POR_MES * 2);
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            assertThat(texto(statement, "SELECT count(*) FROM solicitudes_2015_05")).isEqualTo("5000");
+            assertThat(texto(statement, "SELECT count(*) FROM solicitudes_2015_06")).isEqualTo("5000");
+            assertThat(texto(statement, """
+                SELECT monto_solicitado || ' ' || email_solicitante || ' ' || fecha_creacion || ' '
+                       || fecha_actualizacion || ' ' || version || ' ' || activo
+                FROM solicitudes WHERE email_solicitante LIKE 'cliente1\\\\%'
+                """)).isEqualTo("1000000.50 cliente1\\legado@crediya.com 2015-06-01 00:01:00 2015-06-01 00:01:00 0 true");
+            assertThat(texto(statement, "SELECT recalcular_contadores_solicitudes()")).isEqualTo("0");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar como IllegalArgumentException un lote con datos inválidos sin guardar nada")
+    void shouldRejectWholeBatchWithInvalidData() throws SQLException {
+        // Given
+        List<SolicitudHistorica> lote = List.of(
+            historica("2000000", "valida@crediya.com", LocalDateTime.of(2016, 1, 10, 8, 0)),
+            historica("100000000000000", "desbordada@crediya.com", LocalDateTime.of(2016, 1, 10, 9, 0)));
+
+        // When & Then
+        assertThatThrownBy(() -> adapter.cargar(lote).block(Duration.ofMinutes(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("numeric field overflow");
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            assertThat(texto(statement, "SELECT count(*) FROM solicitudes_2016_01")).isEqualTo("0");
+        }
+    }
+
+    private static SolicitudHistorica historica(String monto, String email, LocalDateTime fechaCreacion) {
+        Solicitud solicitud = Solicitud.create(SolicitudId.random(), Monto.of(new BigDecimal(monto)), Plazo.of(36),
+            Email.of(email), aprobada, personal);
+        return new SolicitudHistorica(solicitud, fechaCreacion);
+    }
+
+    private static String texto(Statement statement, String consulta) throws SQLException {
+        try (ResultSet resultado = statement.executeQuery(consulta)) {
+            assertThat(resultado.next()).isTrue();
+            return resultado.getString(1);
+        }
+    }
+
+    private static Connection conexion() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,404 @@
+package co.com.crediya.solicitudes.migraciones;
+
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudOrdenQuery;
+import co.com.crediya.solicitudes.r2dbc.repository.SolicitudReactiveRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que las consultas de SolicitudReactiveRepository filtradas por fecha_creacion solo
+ * lean las particiones mensuales que cubre su predicado, y que las sentencias por identificador
+ * solo lean o modifiquen la partición de la solicitud, tomada de solicitud_ids.
+ *
+ * Aplica las migraciones con Flyway sobre un PostgreSQL en contenedor y siembra solicitudes de
+ * enero a junio de 2025, una partición por mes. Cada consulta se prepara con sus parámetros
+ * como $1, $2... y se explica con plan_cache_mode = force_generic_plan: el plan genérico no
+ * conoce los valores, por lo que solo descarta particiones si el predicado admite la poda
+ * durante la ejecución, el caso más exigente para las sentencias preparadas del driver.
+ *
+ * Requiere Docker; sin Docker el test se omite.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Particionamiento de solicitudes Tests")
+class ParticionamientoSolicitudesTest {
+
+    private static final Pattern PARAMETRO = Pattern.compile("(?<!:):(\\w+)");
+
+    private static final Pattern PARTICION_EN_PLAN = Pattern.compile(" on (solicitudes_\\d{4}_\\d{2}) ");
+
+    private static final Pattern PARTICION_LEIDA = Pattern.compile(" on (solicitudes_\\d{4}_\\d{2}) \\w+ \\(actual");
+
+    private static final String CREAR_PARTICIONES_SQL = """
+        SELECT crear_particion_solicitudes(mes::date)
+        FROM generate_series(DATE '2025-01-01', DATE '2025-06-01', INTERVAL '1 month') AS mes
+        """;
+
+    /**
+     * Una solicitud cada 4 minutos entre el 1 de enero y el 30 de junio de 2025.
+     */
+    private static final String SEMBRAR_SOLICITUDES_SQL = """
+        INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                 id_tipo_prestamo, fecha_creacion, fecha_actualizacion, activo)
+        SELECT 500000 + mod(i * 7919, 199500000),
+               6 + mod(i, 54),
+               'cliente' || mod(i, 5000) || '@crediya.com',
+               (SELECT id_estado FROM estados WHERE nombre = 'Aprobada'),
+               (SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Préstamo Personal'),
+               TIMESTAMP '2025-01-01' + make_interval(mins => i * 4),
+               TIMESTAMP '2025-01-01' + make_interval(mins => i * 4),
+               true
+        FROM generate_series(0, 65100) AS i
+        """;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrarYSembrar() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:sql")
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            statement.execute(CREAR_PARTICIONES_SQL);
+            statement.execute(SEMBRAR_SOLICITUDES_SQL);
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería leer solo las particiones de los meses del rango de fechas")
+    void shouldPruneDateRangeToCoveredMonths() throws SQLException {
+        // When
+        String plan = explainGenerico("FIND_BY_RANGO_FECHAS_SQL", Map.of(
+            "fechaInicio", "TIMESTAMP '2025-03-05 00:00'",
+            "fechaFin", "TIMESTAMP '2025-04-20 23:59'"));
+
+        // Then
+        assertThat(particiones(plan))
+            .as("Plan:%n%s", plan)
+            .containsExactly("solicitudes_2025_03", "solicitudes_2025_04");
+    }
+
+    @Test
+    @DisplayName("Debería leer solo las particiones anteriores al límite de seguimiento")
+    void shouldPruneFollowUpToMonthsBeforeLimit() throws SQLException {
+        // Given
+        long diasLimite = ChronoUnit.DAYS.between(LocalDate.of(2025, 3, 15), LocalDate.now());
+
+        // When
+        String plan = explainGenerico("FIND_REQUIEREN_SEGUIMIENTO_SQL", Map.of("diasLimite", String.valueOf(diasLimite)));
+
+        // Then
+        assertThat(particiones(plan))
+            .as("Plan:%n%s", plan)
+            .containsExactly("solicitudes_2025_01", "solicitudes_2025_02", "solicitudes_2025_03");
+    }
+
+    @Test
+    @DisplayName("Debería leer solo las particiones anteriores al cursor de la página")
+    void shouldPruneCursorPageToMonthsBeforeCursor() throws SQLException {
+        // When
+        String plan = explainGenerico("FIND_PAGINA_DESDE_CURSOR_SQL", Map.of(
+            "fechaCreacion", "TIMESTAMP '2025-02-10 12:00'",
+            "idSolicitud", "'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid",
+            "limite", "20"));
+
+        // Then
+        assertThat(particiones(plan))
+            .as("Plan:%n%s", plan)
+            .containsExactly("solicitudes_2025_01", "solicitudes_2025_02");
+    }
+
+    @Test
+    @DisplayName("Debería recorrer las particiones en orden y detenerse en la más reciente con datos")
+    void shouldStopAtNewestPartitionForMostRecent() throws SQLException {
+        // When
+        String plan = explainAnalyze(enlazar(consulta("FIND_MAS_RECIENTES_SQL"), Map.of("limite", "20")));
+
+        // Then
+        assertThat(plan)
+            .as("Plan:%n%s", plan)
+            .doesNotContain("Merge Append")
+            .doesNotContain("Sort")
+            .containsPattern("on solicitudes_2025_06 \\w+ \\(actual");
+        for (String particion : List.of("solicitudes_2025_01", "solicitudes_2025_02", "solicitudes_2025_03",
+                "solicitudes_2025_04", "solicitudes_2025_05")) {
+            assertThat(plan)
+                .as("Plan:%n%s", plan)
+                .containsPattern("on " + particion + " \\w+ \\(never executed\\)");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería leer solo la partición de la solicitud en las consultas por identificador")
+    void shouldReadOnlySolicitudPartitionById() throws SQLException {
+        // Given
+        String id = solicitudDe("2025-03-10 00:00");
+        Map<String, String> valores = Map.of("idSolicitud", id, "despuesDe", id);
+
+        // When
+        Map<String, String> planes = new LinkedHashMap<>();
+        planes.put("FIND_BY_ID_SQL", explainAnalyzeGenerico(consulta("FIND_BY_ID_SQL"), valores));
+        planes.put("EXISTS_ACTIVA_BY_ID_SQL", explainAnalyzeGenerico(consulta("EXISTS_ACTIVA_BY_ID_SQL"), valores));
+        planes.put("valorDeOrden", explainAnalyzeGenerico(
+            SolicitudOrdenQuery.valorDeOrden("monto", UUID.randomUUID()).sql(), valores));
+
+        // Then
+        planes.forEach((nombre, plan) -> assertThat(particionesLeidas(plan))
+            .as("%s:%n%s", nombre, plan)
+            .containsExactly("solicitudes_2025_03"));
+    }
+
+    @Test
+    @DisplayName("Debería modificar solo la partición de cada solicitud en las sentencias por identificador")
+    void shouldWriteOnlySolicitudPartitionById() throws SQLException {
+        // Given
+        String marzo = solicitudDe("2025-03-10 00:00");
+        String mayo = solicitudDe("2025-05-10 00:00");
+        String aprobada = uuid("SELECT id_estado FROM estados WHERE nombre = 'Aprobada'");
+        String tipo = uuid("SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Préstamo Personal'");
+
+        // When
+        String actualizar = explainAnalyzeGenerico(consulta("UPDATE_CON_VERSION_SQL"), Map.of(
+            "idSolicitud", marzo,
+            "montoSolicitado", "1500000",
+            "plazoMeses", "12",
+            "emailSolicitante", "'cliente@crediya.com'",
+            "idEstado", aprobada,
+            "idTipoPrestamo", tipo,
+            "versionEsperada", "0"));
+        String desactivar = explainAnalyzeGenerico(consulta("DESACTIVAR_SQL"), Map.of("idSolicitud", marzo));
+        String cambiarEstado = explainAnalyzeGenerico(consulta("CAMBIAR_ESTADO_EN_LOTE_SQL"), Map.of(
+            "idsSolicitudes", "ARRAY[" + marzo + ", " + mayo + "]",
+            "estadoOrigen", aprobada,
+            "estadoDestino", aprobada));
+
+        // Then
+        assertThat(particionesLeidas(actualizar)).as("Plan:%n%s", actualizar).containsExactly("solicitudes_2025_03");
+        assertThat(particionesLeidas(desactivar)).as("Plan:%n%s", desactivar).containsExactly("solicitudes_2025_03");
+        assertThat(particionesLeidas(cambiarEstado))
+            .as("Plan:%n%s", cambiarEstado)
+            .containsExactly("solicitudes_2025_03", "solicitudes_2025_05");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un identificador repetido aunque la solicitud sea de otro mes")
+    void shouldRejectDuplicateIdInAnotherPartition() throws SQLException {
+        // Given
+        String id = solicitudDe("2025-03-10 00:00");
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When & Then
+            assertThatThrownBy(() -> statement.execute("""
+                INSERT INTO solicitudes (id_solicitud, monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                         id_tipo_prestamo, fecha_creacion)
+                SELECT %s, 1000000, 12, 'cliente@crediya.com', id_estado, id_tipo_prestamo, TIMESTAMP '2025-05-10'
+                FROM estados, tipos_prestamo LIMIT 1
+                """.formatted(id)))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("solicitud_ids_pkey")
+                .extracting(error -> ((SQLException) error).getSQLState())
+                .isEqualTo("23505");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar cambiar la fecha de creación de una solicitud")
+    void shouldRejectChangingCreationDate() throws SQLException {
+        // Given
+        String id = solicitudDe("2025-03-10 00:00");
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When & Then
+            assertThatThrownBy(() -> statement.execute(
+                "UPDATE solicitudes SET fecha_creacion = TIMESTAMP '2025-05-10' WHERE id_solicitud = " + id))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("no se pueden modificar");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería crear la partición de un mes una sola vez")
+    void shouldCreateMonthPartitionOnce() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When & Then
+            assertThat(texto(statement, "SELECT crear_particion_solicitudes(DATE '2030-12-15')"))
+                .isEqualTo("solicitudes_2030_12");
+            assertThat(texto(statement, "SELECT crear_particion_solicitudes(DATE '2030-12-01')")).isNull();
+            assertThat(texto(statement, """
+                SELECT pg_get_expr(c.relpartbound, c.oid)
+                FROM pg_class c WHERE c.relname = 'solicitudes_2030_12'
+                """)).isEqualTo("FOR VALUES FROM ('2030-12-01 00:00:00') TO ('2031-01-01 00:00:00')");
+        }
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una solicitud de un mes sin partición")
+    void shouldRejectInsertWithoutPartition() throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            // When & Then
+            assertThatThrownBy(() -> statement.execute("""
+                INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                         id_tipo_prestamo, fecha_creacion)
+                SELECT 1000000, 12, 'cliente@crediya.com', id_estado, id_tipo_prestamo, TIMESTAMP '2020-01-01'
+                FROM estados, tipos_prestamo LIMIT 1
+                """))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("no partition of relation \"solicitudes\" found for row");
+        }
+    }
+
+    /**
+     * Prepara la consulta con parámetros posicionales y explica su plan genérico.
+     */
+    private static String explainGenerico(String nombre, Map<String, String> valores) throws SQLException {
+        return explainPreparada(consulta(nombre), valores, "EXPLAIN");
+    }
+
+    /**
+     * Ejecuta el plan genérico de la sentencia con EXPLAIN ANALYZE: muestra las particiones que
+     * se descartaron durante la ejecución, con un valor que el plan no conocía. La transacción
+     * se revierte, por lo que las sentencias de modificación no alteran las solicitudes sembradas.
+     */
+    private static String explainAnalyzeGenerico(String sql, Map<String, String> valores) throws SQLException {
+        return explainPreparada(sql, valores, "EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF)");
+    }
+
+    private static String explainPreparada(String sql, Map<String, String> valores, String explain) throws SQLException {
+        Matcher parametro = PARAMETRO.matcher(sql);
+        Map<String, Integer> posiciones = new LinkedHashMap<>();
+        StringBuilder preparada = new StringBuilder();
+        while (parametro.find()) {
+            int posicion = posiciones.computeIfAbsent(parametro.group(1), p -> posiciones.size() + 1);
+            parametro.appendReplacement(preparada, "\\$" + posicion);
+        }
+        parametro.appendTail(preparada);
+
+        List<String> argumentos = new ArrayList<>();
+        for (String nombreParametro : posiciones.keySet()) {
+            String valor = valores.get(nombreParametro);
+            assertThat(valor).as("Sin valor para el parámetro :%s", nombreParametro).isNotNull();
+            argumentos.add(valor);
+        }
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            conexion.setAutoCommit(false);
+            try {
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE consulta AS " + preparada);
+                return plan(statement, explain + " EXECUTE consulta(" + String.join(", ", argumentos) + ")");
+            } finally {
+                conexion.rollback();
+            }
+        }
+    }
+
+    private static String explainAnalyze(String sql) throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            return plan(statement, "EXPLAIN (ANALYZE, COSTS OFF, TIMING OFF) " + sql);
+        }
+    }
+
+    private static String plan(Statement statement, String explain) throws SQLException {
+        StringBuilder texto = new StringBuilder();
+        try (ResultSet plan = statement.executeQuery(explain)) {
+            while (plan.next()) {
+                texto.append(plan.getString(1)).append('\n');
+            }
+        }
+        return texto.toString();
+    }
+
+    private static String enlazar(String sql, Map<String, String> valores) {
+        Matcher parametro = PARAMETRO.matcher(sql);
+        StringBuilder enlazada = new StringBuilder();
+        while (parametro.find()) {
+            parametro.appendReplacement(enlazada, Matcher.quoteReplacement(valores.get(parametro.group(1))));
+        }
+        return parametro.appendTail(enlazada).toString();
+    }
+
+    private static Set<String> particiones(String plan) {
+        Set<String> particiones = new TreeSet<>();
+        Matcher particion = PARTICION_EN_PLAN.matcher(plan);
+        while (particion.find()) {
+            particiones.add(particion.group(1));
+        }
+        return particiones;
+    }
+
+    /**
+     * Particiones que el plan ejecutado llegó a leer; las descartadas aparecen como never executed.
+     */
+    private static Set<String> particionesLeidas(String plan) {
+        Set<String> particiones = new TreeSet<>();
+        Matcher particion = PARTICION_LEIDA.matcher(plan);
+        while (particion.find()) {
+            particiones.add(particion.group(1));
+        }
+        return particiones;
+    }
+
+    /**
+     * Identificador, como literal uuid, de la solicitud sembrada en la fecha indicada.
+     */
+    private static String solicitudDe(String fechaCreacion) throws SQLException {
+        return uuid("SELECT id_solicitud FROM solicitudes WHERE fecha_creacion = TIMESTAMP '" + fechaCreacion + "'");
+    }
+
+    private static String uuid(String consulta) throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            return "'" + texto(statement, consulta) + "'::uuid";
+        }
+    }
+
+    private static String texto(Statement statement, String consulta) throws SQLException {
+        try (ResultSet resultado = statement.executeQuery(consulta)) {
+            assertThat(resultado.next()).isTrue();
+            return resultado.getString(1);
+        }
+    }
+
+    private static String consulta(String nombre) {
+        try {
+            Field campo = SolicitudReactiveRepository.class.getDeclaredField(nombre);
+            return (String) campo.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se puede leer la consulta " + nombre, e);
+        }
+    }
+
+    private static Connection conexion() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
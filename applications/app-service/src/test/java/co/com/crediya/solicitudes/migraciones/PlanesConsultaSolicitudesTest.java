@@ -0,0 +1,257 @@
+package co.com.crediya.solicitudes.migraciones;
+
+import co.com.crediya.solicitudes.r2dbc.repository.SolicitudReactiveRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que las migraciones de classpath:sql den a cada consulta de SolicitudReactiveRepository
+ * un plan sin recorrido secuencial sobre las particiones de solicitudes que tienen datos.
+ *
+ * Aplica las migraciones con Flyway sobre un PostgreSQL en contenedor, siembra un volumen de
+ * solicitudes representativo, actualiza las estadísticas del planificador y ejecuta EXPLAIN para
+ * cada constante *_SQL del repositorio. Los parámetros con nombre se reemplazan por literales
+ * selectivos de los datos sembrados. Las tablas de catálogo (estados, tipos_prestamo) tienen
+ * pocas filas y se recorren secuencialmente por diseño, por eso solo se revisa la tabla de
+ * solicitudes. Tampoco se revisan las particiones vacías de los meses creados por adelantado:
+ * el planificador las recorre secuencialmente porque no contienen páginas. Los conteos y las
+ * estadísticas deben resolverse además desde solicitud_contadores, sin leer solicitudes.
+ *
+ * Requiere Docker; sin Docker el test se omite.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Planes de consulta de solicitudes Tests")
+class PlanesConsultaSolicitudesTest {
+
+    private static final int SOLICITUDES_SEMBRADAS = 200_000;
+
+    private static final Pattern PARAMETRO = Pattern.compile("(?<!:):(\\w+)");
+
+    /**
+     * Consultas cuyo plan se revisa con el recorrido secuencial desactivado, para exigir que exista
+     * un índice capaz de resolverlas aunque el planificador no lo elija con los datos sembrados:
+     * - Aprobadas y rechazadas leen la mayor parte de las solicitudes activas, y para ellas el
+     *   recorrido secuencial es el plan correcto
+     * - Las consultas por nombre de estado resuelven el estado durante la ejecución, por lo que el
+     *   planificador estima la selectividad media de un estado y no la real de las pendientes
+     */
+    private static final Set<String> CON_RECORRIDO_SECUENCIAL_DESACTIVADO = Set.of(
+        "FIND_PENDIENTES_REVISION_SQL",
+        "FIND_APROBADAS_SQL",
+        "FIND_RECHAZADAS_SQL");
+
+    /**
+     * Crea las particiones mensuales que cubren las fechas de las solicitudes sembradas; las
+     * migraciones solo crean la del mes actual y las siguientes.
+     */
+    private static final String CREAR_PARTICIONES_SQL = """
+        SELECT crear_particion_solicitudes(mes::date)
+        FROM generate_series(date_trunc('month', LOCALTIMESTAMP - make_interval(mins => %d)),
+                             LOCALTIMESTAMP, INTERVAL '1 month') AS mes
+        """.formatted(SOLICITUDES_SEMBRADAS);
+
+    /**
+     * Siembra solicitudes con una distribución parecida a la de producción: pocas pendientes o en
+     * revisión frente a la mayoría ya resueltas, tipos de préstamo desbalanceados, unos 50.000
+     * solicitantes y un 5% de solicitudes dadas de baja.
+     */
+    private static final String SEMBRAR_SOLICITUDES_SQL = """
+        INSERT INTO solicitudes (monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                                 id_tipo_prestamo, fecha_creacion, fecha_actualizacion, activo)
+        SELECT 500000 + mod(i * 7919, 199500000),
+               6 + mod(i, 54),
+               'cliente' || mod(i, 50000) || '@crediya.com',
+               CASE WHEN mod(i, 100) < 2 THEN (SELECT id_estado FROM estados WHERE nombre = 'Pendiente de revisión')
+                    WHEN mod(i, 100) < 3 THEN (SELECT id_estado FROM estados WHERE nombre = 'Revisión manual')
+                    WHEN mod(i, 100) < 60 THEN (SELECT id_estado FROM estados WHERE nombre = 'Aprobada')
+                    ELSE (SELECT id_estado FROM estados WHERE nombre = 'Rechazada') END,
+               CASE WHEN mod(i / 7, 100) < 5 THEN (SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Microcrédito')
+                    WHEN mod(i / 7, 100) < 20 THEN (SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Préstamo Vivienda')
+                    WHEN mod(i / 7, 100) < 50 THEN (SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Préstamo Vehículo')
+                    ELSE (SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Préstamo Personal') END,
+               LOCALTIMESTAMP - make_interval(mins => i),
+               LOCALTIMESTAMP - make_interval(mins => i),
+               mod(i, 20) <> 0
+        FROM generate_series(1, %d) AS i
+        """.formatted(SOLICITUDES_SEMBRADAS);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Map<String, String> valores;
+
+    private static List<String> particionesConDatos;
+
+    @BeforeAll
+    static void migrarYSembrar() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:sql")
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            statement.execute(CREAR_PARTICIONES_SQL);
+            statement.execute(SEMBRAR_SOLICITUDES_SQL);
+            statement.execute("VACUUM ANALYZE");
+            valores = valoresDeParametros(statement);
+            particionesConDatos = particionesConDatos(statement);
+        }
+    }
+
+    static Stream<Arguments> consultas() {
+        return Arrays.stream(SolicitudReactiveRepository.class.getDeclaredFields())
+            .filter(campo -> Modifier.isStatic(campo.getModifiers()))
+            .filter(campo -> campo.getType() == String.class && campo.getName().endsWith("_SQL"))
+            .map(campo -> Arguments.of(campo.getName(), valor(campo)));
+    }
+
+    static Stream<Arguments> conteos() {
+        return consultas()
+            .filter(consulta -> {
+                String nombre = (String) consulta.get()[0];
+                return nombre.startsWith("COUNT_") || nombre.startsWith("FIND_ESTADISTICAS_");
+            });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("consultas")
+    @DisplayName("Debería resolver la consulta sin recorrido secuencial sobre solicitudes")
+    void shouldNotPlanSequentialScanOnSolicitudes(String nombre, String sql) throws SQLException {
+        // When
+        String plan = explain(enlazar(sql), CON_RECORRIDO_SECUENCIAL_DESACTIVADO.contains(nombre));
+
+        // Then
+        assertThat(particionesConDatos).allSatisfy(particion -> assertThat(plan)
+            .as("Plan de %s:%n%s", nombre, plan)
+            .doesNotContain("Seq Scan on " + particion + " "));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("conteos")
+    @DisplayName("Debería contar las solicitudes desde los contadores sin leer la tabla")
+    void shouldCountFromCounters(String nombre, String sql) throws SQLException {
+        // When
+        String plan = explain(enlazar(sql), false);
+
+        // Then
+        assertThat(plan)
+            .as("Plan de %s:%n%s", nombre, plan)
+            .contains(" on solicitud_contadores ")
+            .doesNotContainPattern(" on solicitudes(_\\d{4}_\\d{2})? ");
+    }
+
+    private static String explain(String sql, boolean sinRecorridoSecuencial) throws SQLException {
+        try (Connection conexion = conexion(); Statement statement = conexion.createStatement()) {
+            statement.execute("SET enable_seqscan = " + !sinRecorridoSecuencial);
+            StringBuilder texto = new StringBuilder();
+            try (ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+                while (plan.next()) {
+                    texto.append(plan.getString(1)).append('\n');
+                }
+            }
+            return texto.toString();
+        }
+    }
+
+    /**
+     * Reemplaza cada parámetro con nombre por un literal de los datos sembrados.
+     */
+    private static String enlazar(String sql) {
+        Matcher parametro = PARAMETRO.matcher(sql);
+        StringBuilder enlazada = new StringBuilder();
+        while (parametro.find()) {
+            String literal = valores.get(parametro.group(1));
+            assertThat(literal).as("Sin valor de ejemplo para el parámetro :%s", parametro.group(1)).isNotNull();
+            parametro.appendReplacement(enlazada, Matcher.quoteReplacement(literal));
+        }
+        return parametro.appendTail(enlazada).toString();
+    }
+
+    private static Map<String, String> valoresDeParametros(Statement statement) throws SQLException {
+        String estado = uuid(statement, "SELECT id_estado FROM estados WHERE nombre = 'Pendiente de revisión'");
+        String otroEstado = uuid(statement, "SELECT id_estado FROM estados WHERE nombre = 'Aprobada'");
+        String tipoPrestamo = uuid(statement, "SELECT id_tipo_prestamo FROM tipos_prestamo WHERE nombre = 'Microcrédito'");
+        String solicitud = uuid(statement,
+            "SELECT id_solicitud FROM solicitudes WHERE activo = true ORDER BY fecha_creacion DESC OFFSET 1000 LIMIT 1");
+
+        Map<String, String> valores = new HashMap<>();
+        valores.put("email", "'cliente42@crediya.com'");
+        valores.put("emailSolicitante", "'cliente42@crediya.com'");
+        valores.put("idEstado", estado);
+        valores.put("estadoOrigen", estado);
+        valores.put("estadoDestino", otroEstado);
+        valores.put("idTipoPrestamo", tipoPrestamo);
+        valores.put("idSolicitud", solicitud);
+        valores.put("idsSolicitudes", "ARRAY[" + solicitud + "]");
+        valores.put("montoMinimo", "1000000");
+        valores.put("montoMaximo", "1100000");
+        valores.put("montoSolicitado", "1000000");
+        valores.put("plazoMeses", "12");
+        valores.put("versionEsperada", "0");
+        valores.put("fechaInicio", "LOCALTIMESTAMP - INTERVAL '2 days'");
+        valores.put("fechaFin", "LOCALTIMESTAMP - INTERVAL '1 day'");
+        valores.put("fechaCreacion", "LOCALTIMESTAMP - INTERVAL '1 day'");
+        valores.put("limite", "20");
+        valores.put("diasLimite", "120");
+        return valores;
+    }
+
+    private static List<String> particionesConDatos(Statement statement) throws SQLException {
+        List<String> particiones = new ArrayList<>();
+        try (ResultSet resultado = statement.executeQuery(
+                "SELECT DISTINCT tableoid::regclass::text FROM solicitudes ORDER BY 1")) {
+            while (resultado.next()) {
+                particiones.add(resultado.getString(1));
+            }
+        }
+        assertThat(particiones).as("Particiones con solicitudes sembradas").hasSizeGreaterThan(1);
+        return particiones;
+    }
+
+    private static String uuid(Statement statement, String consulta) throws SQLException {
+        try (ResultSet resultado = statement.executeQuery(consulta)) {
+            assertThat(resultado.next()).as("Sin resultado para: %s", consulta).isTrue();
+            return "'" + resultado.getString(1) + "'::uuid";
+        }
+    }
+
+    private static String valor(Field campo) {
+        try {
+            return (String) campo.get(null);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("No se puede leer la consulta " + campo.getName(), e);
+        }
+    }
+
+    private static Connection conexion() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,78 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import co.com.crediya.solicitudes.usecase.solicitud.CrearSolicitudUseCase;
+
+/**
+ * Mide CrearSolicitudUseCase.crearSolicitud de extremo a extremo con gateways en memoria:
+ * consultas del catálogo, validaciones, generación del ID y construcción de la solicitud.
+ *
+ * Los gateways responden de forma síncrona, por lo que el resultado refleja el costo
+ * propio del caso de uso y del pipeline reactivo, sin latencia de base de datos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrearSolicitudUseCaseBenchmark {
+
+    private CrearSolicitudUseCase useCase;
+    private Monto monto;
+    private Plazo plazo;
+    private Email email;
+    private TipoPrestamoId idTipoPrestamo;
+
+    @Setup
+    public void setUp() {
+        TipoPrestamo tipoPrestamo = TipoPrestamo.crear(
+                TipoPrestamoId.random(),
+                Nombre.of("Préstamo Personal"),
+                Monto.of(new BigDecimal("1000000")),
+                Monto.of(new BigDecimal("50000000")),
+                TasaInteres.of(new BigDecimal("15.5")),
+                true);
+        Estados estadoInicial = Estados.create(
+                EstadoId.random(),
+                "Pendiente de revisión",
+                "Solicitud pendiente de revisión por asesor");
+
+        useCase = new CrearSolicitudUseCase(
+                RepositoriosEnMemoria.solicitudes(),
+                RepositoriosEnMemoria.tiposPrestamo(tipoPrestamo),
+                RepositoriosEnMemoria.estados(estadoInicial));
+        monto = Monto.of(new BigDecimal("5000000.00"));
+        plazo = Plazo.of(24);
+        email = Email.of("cliente@crediya.com");
+        idTipoPrestamo = tipoPrestamo.id();
+    }
+
+    @Benchmark
+    public Solicitud crearSolicitud() {
+        return useCase.crearSolicitud(monto, plazo, email, idTipoPrestamo).block();
+    }
+}
@@ -0,0 +1,60 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+
+/**
+ * Mide TipoPrestamo.calcularCuotaMensual a lo largo de los plazos admitidos (1 a 120 meses).
+ * Todos estos plazos usan los factores precalculados de TablaAnualidades, por lo que el costo
+ * debería ser casi constante: una multiplicación y un redondeo a centavos, sin BigDecimal.pow.
+ * La tabla de la tasa se crea en la primera llamada y queda compartida durante la medición.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CuotaMensualBenchmark {
+
+    @Param({"1", "6", "12", "24", "36", "60", "84", "120"})
+    private int plazoMeses;
+
+    private TipoPrestamo tipoPrestamo;
+    private Monto monto;
+
+    @Setup
+    public void setUp() {
+        tipoPrestamo = TipoPrestamo.crear(
+                TipoPrestamoId.random(),
+                Nombre.of("Préstamo Personal"),
+                Monto.of(new BigDecimal("1000000")),
+                Monto.of(new BigDecimal("50000000")),
+                TasaInteres.of(new BigDecimal("15.5")),
+                true);
+        monto = Monto.of(new BigDecimal("12500000.00"));
+    }
+
+    @Benchmark
+    public Monto calcularCuotaMensual() {
+        return tipoPrestamo.calcularCuotaMensual(monto, plazoMeses);
+    }
+}
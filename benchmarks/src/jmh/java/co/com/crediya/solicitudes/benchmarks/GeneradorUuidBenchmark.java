@@ -0,0 +1,57 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.model.solicitud.GeneradorUuidV7;
+
+/**
+ * Compara la generación de identificadores de solicitudes con GeneradorUuidV7
+ * frente a UUID.randomUUID(), con un hilo y con todos los núcleos disponibles.
+ *
+ * Con varios hilos se observa la contención de UUID.randomUUID() sobre su
+ * SecureRandom compartido, que GeneradorUuidV7 evita con entropía por hilo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneradorUuidBenchmark {
+
+    private final GeneradorUuidV7 generadorUuidV7 = GeneradorUuidV7.instancia();
+
+    @Benchmark
+    public UUID uuidV7() {
+        return generadorUuidV7.get();
+    }
+
+    @Benchmark
+    public UUID uuidAleatorio() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID uuidV7Concurrente() {
+        return generadorUuidV7.get();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID uuidAleatorioConcurrente() {
+        return UUID.randomUUID();
+    }
+}
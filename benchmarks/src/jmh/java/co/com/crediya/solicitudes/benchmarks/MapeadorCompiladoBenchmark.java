@@ -0,0 +1,69 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivecommons.utils.ObjectMapper;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import co.com.crediya.solicitudes.r2dbc.helper.MapeadorCompilado;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+
+/**
+ * Mide la conversión al modelo de datos que ReactiveAdapterOperations ejecuta en cada save y
+ * findByExample: la copia por reflexión del ObjectMapper de reactive-commons frente al
+ * MapeadorCompilado del mismo par de tipos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeadorCompiladoBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MapeadorCompilado<SolicitudData, SolicitudData> mapeadorCompilado;
+    private SolicitudData solicitudData;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapperImp();
+        mapeadorCompilado = MapeadorCompilado.de(SolicitudData.class, SolicitudData.class);
+        LocalDateTime ahora = LocalDateTime.now();
+        solicitudData = SolicitudData.builder()
+                .idSolicitud(UUID.randomUUID())
+                .montoSolicitado(new BigDecimal("5000000.00"))
+                .plazoMeses(24)
+                .emailSolicitante("cliente@crediya.com")
+                .idEstado(UUID.randomUUID())
+                .idTipoPrestamo(UUID.randomUUID())
+                .version(3L)
+                .fechaCreacion(ahora)
+                .fechaActualizacion(ahora)
+                .activo(true)
+                .build();
+    }
+
+    @Benchmark
+    public SolicitudData objectMapper() {
+        return objectMapper.map(solicitudData, SolicitudData.class);
+    }
+
+    @Benchmark
+    public SolicitudData compilado() {
+        return mapeadorCompilado.apply(solicitudData);
+    }
+}
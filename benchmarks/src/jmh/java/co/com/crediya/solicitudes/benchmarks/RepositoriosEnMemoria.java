@@ -0,0 +1,64 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gateways en memoria para medir los casos de uso sin base de datos.
+ *
+ * Solo implementan las operaciones que usan los casos de uso medidos; el resto
+ * lanza UnsupportedOperationException para que un benchmark no mida por error
+ * una operación vacía.
+ */
+final class RepositoriosEnMemoria {
+
+    private RepositoriosEnMemoria() {
+    }
+
+    /**
+     * Repositorio de solicitudes que devuelve la misma solicitud al guardarla.
+     */
+    static SolicitudRepository solicitudes() {
+        return crear(SolicitudRepository.class, Map.of(
+                "save", argumentos -> Mono.just((Solicitud) argumentos[0])));
+    }
+
+    /**
+     * Repositorio de tipos de préstamo que siempre encuentra el tipo indicado.
+     */
+    static TipoPrestamoRepository tiposPrestamo(TipoPrestamo tipoPrestamo) {
+        Mono<TipoPrestamo> encontrado = Mono.just(tipoPrestamo);
+        return crear(TipoPrestamoRepository.class, Map.of(
+                "findById", argumentos -> encontrado));
+    }
+
+    /**
+     * Repositorio de estados que siempre encuentra el estado indicado.
+     */
+    static EstadosRepository estados(Estados estado) {
+        Mono<Estados> encontrado = Mono.just(estado);
+        return crear(EstadosRepository.class, Map.of(
+                "findByNombre", argumentos -> encontrado));
+    }
+
+    private static <T> T crear(Class<T> gateway, Map<String, Function<Object[], Object>> operaciones) {
+        return gateway.cast(Proxy.newProxyInstance(gateway.getClassLoader(), new Class<?>[] {gateway},
+                (proxy, metodo, argumentos) -> {
+                    Function<Object[], Object> operacion = operaciones.get(metodo.getName());
+                    if (operacion == null) {
+                        throw new UnsupportedOperationException(
+                                gateway.getSimpleName() + "." + metodo.getName() + " no está disponible en memoria");
+                    }
+                    return operacion.apply(argumentos);
+                }));
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.model.tipoprestamo.SimulacionCuotas;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import co.com.crediya.solicitudes.usecase.simulacion.SimularCuotasUseCase;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Mide SimularCuotasUseCase.simular con la grilla máxima (500 montos x 120 plazos)
+ * variando el número de hilos del Scheduler de simulación.
+ *
+ * Con paralelismo 1 la grilla se calcula bloque a bloque en un solo hilo; el throughput
+ * debería crecer con el paralelismo hasta el número de núcleos disponibles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulacionCuotasBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    private int paralelismo;
+
+    private Scheduler scheduler;
+    private SimularCuotasUseCase useCase;
+    private TipoPrestamoId idTipoPrestamo;
+    private List<Monto> montos;
+    private List<Plazo> plazos;
+
+    @Setup
+    public void setUp() {
+        TipoPrestamo tipoPrestamo = TipoPrestamo.crear(
+                TipoPrestamoId.random(),
+                Nombre.of("Préstamo Personal"),
+                Monto.of(new BigDecimal("1000000")),
+                Monto.of(new BigDecimal("50000000")),
+                TasaInteres.of(new BigDecimal("15.5")),
+                true);
+        scheduler = Schedulers.newParallel("simulacion-benchmark", paralelismo, true);
+        useCase = new SimularCuotasUseCase(RepositoriosEnMemoria.tiposPrestamo(tipoPrestamo), scheduler, paralelismo);
+        idTipoPrestamo = tipoPrestamo.id();
+        montos = IntStream.range(0, SimularCuotasUseCase.MAXIMO_MONTOS)
+                .mapToObj(i -> Monto.of(BigDecimal.valueOf(1_000_000L + i * 97_531L)))
+                .toList();
+        plazos = IntStream.rangeClosed(1, SimularCuotasUseCase.MAXIMO_PLAZOS)
+                .mapToObj(Plazo::of)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    public SimulacionCuotas simularGrillaMaxima() {
+        return useCase.simular(idTipoPrestamo, montos, plazos).block();
+    }
+}
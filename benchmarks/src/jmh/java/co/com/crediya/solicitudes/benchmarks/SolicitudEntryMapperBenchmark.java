@@ -0,0 +1,71 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.api.dto.CrearSolicitudRequest;
+import co.com.crediya.solicitudes.api.dto.SolicitudResponse;
+import co.com.crediya.solicitudes.api.mapper.SolicitudEntryMapper;
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+
+/**
+ * Mide la conversión entre los DTO del API y el dominio que se ejecuta en cada request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolicitudEntryMapperBenchmark {
+
+    private final SolicitudEntryMapper mapper = new SolicitudEntryMapper();
+
+    private CrearSolicitudRequest request;
+    private Solicitud solicitud;
+
+    @Setup
+    public void setUp() {
+        request = CrearSolicitudRequest.builder()
+                .montoSolicitado(new BigDecimal("5000000.00"))
+                .plazoMeses(24)
+                .emailSolicitante("cliente@crediya.com")
+                .idTipoPrestamo(UUID.randomUUID())
+                .build();
+        solicitud = Solicitud.create(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("5000000.00")),
+                Plazo.of(24),
+                Email.of("cliente@crediya.com"),
+                EstadoId.random(),
+                TipoPrestamoId.random());
+    }
+
+    @Benchmark
+    public SolicitudEntryMapper.SolicitudCreationData toDomain() {
+        return mapper.toDomain(request);
+    }
+
+    @Benchmark
+    public SolicitudResponse toResponse() {
+        return mapper.toResponse(solicitud);
+    }
+}
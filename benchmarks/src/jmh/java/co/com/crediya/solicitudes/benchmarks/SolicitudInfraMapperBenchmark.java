@@ -0,0 +1,64 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudInfraMapper;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+
+/**
+ * Mide la conversión entre la entidad Solicitud y el modelo de persistencia SolicitudData,
+ * que se ejecuta por cada fila escrita o leída por el adaptador R2DBC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolicitudInfraMapperBenchmark {
+
+    private Solicitud solicitud;
+    private SolicitudData solicitudData;
+
+    @Setup
+    public void setUp() {
+        solicitud = Solicitud.from(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("5000000.00")),
+                Plazo.of(24),
+                Email.of("cliente@crediya.com"),
+                EstadoId.random(),
+                TipoPrestamoId.random(),
+                3L);
+        solicitudData = SolicitudInfraMapper.toData(solicitud);
+    }
+
+    @Benchmark
+    public SolicitudData toData() {
+        return SolicitudInfraMapper.toData(solicitud);
+    }
+
+    @Benchmark
+    public Solicitud toDomain() {
+        return SolicitudInfraMapper.toDomain(solicitudData);
+    }
+}
@@ -0,0 +1,140 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudInfraMapper;
+import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudRowMapper;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import io.r2dbc.spi.ColumnMetadata;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Type;
+
+/**
+ * Mide la lectura de una fila de la tabla solicitudes: el mapeo de Spring Data a SolicitudData
+ * seguido de SolicitudInfraMapper.toDomain, frente a la lectura directa con SolicitudRowMapper.
+ *
+ * La fila está en memoria, de modo que solo se mide la conversión; con -prof gc se compara
+ * la memoria asignada por fila.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolicitudRowMapperBenchmark {
+
+    private static final List<String> COLUMNAS = List.of(
+            "id_solicitud", "monto_solicitado", "plazo_meses", "email_solicitante",
+            "id_estado", "id_tipo_prestamo", "version", "fecha_creacion", "fecha_actualizacion", "activo");
+
+    private R2dbcConverter converter;
+    private Row fila;
+
+    @Setup
+    public void setUp() {
+        converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+        LocalDateTime ahora = LocalDateTime.now();
+        fila = new FilaEnMemoria(UUID.randomUUID(), new BigDecimal("5000000.00"), 24, "cliente@crediya.com",
+                UUID.randomUUID(), UUID.randomUUID(), 3L, ahora, ahora, true);
+    }
+
+    @Benchmark
+    public Solicitud conSolicitudData() {
+        return SolicitudInfraMapper.toDomain(converter.read(SolicitudData.class, fila, fila.getMetadata()));
+    }
+
+    @Benchmark
+    public Solicitud directo() {
+        return SolicitudRowMapper.toDomain(fila, fila.getMetadata());
+    }
+
+    /**
+     * Fila con los valores ya decodificados, como la entrega el driver de PostgreSQL.
+     */
+    private static final class FilaEnMemoria implements Row, RowMetadata {
+
+        private final Object[] valores;
+        private final List<ColumnMetadata> columnas;
+        private final Map<String, Integer> posiciones;
+
+        FilaEnMemoria(Object... valores) {
+            this.valores = valores;
+            this.columnas = COLUMNAS.stream().map(Columna::new).map(ColumnMetadata.class::cast).toList();
+            this.posiciones = new HashMap<>();
+            for (int i = 0; i < COLUMNAS.size(); i++) {
+                posiciones.put(COLUMNAS.get(i), i);
+            }
+        }
+
+        @Override
+        public RowMetadata getMetadata() {
+            return this;
+        }
+
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return type.cast(valores[index]);
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            return get(posiciones.get(name), type);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(int index) {
+            return columnas.get(index);
+        }
+
+        @Override
+        public ColumnMetadata getColumnMetadata(String name) {
+            return columnas.get(posiciones.get(name));
+        }
+
+        @Override
+        public List<? extends ColumnMetadata> getColumnMetadatas() {
+            return columnas;
+        }
+
+        @Override
+        public boolean contains(String name) {
+            return posiciones.containsKey(name);
+        }
+    }
+
+    private record Columna(String nombre) implements ColumnMetadata {
+
+        @Override
+        public String getName() {
+            return nombre;
+        }
+
+        @Override
+        public Type getType() {
+            throw new UnsupportedOperationException("El tipo de la columna no se usa en el benchmark");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.api.dto.CrearSolicitudRequest;
+import co.com.crediya.solicitudes.api.mapper.SolicitudEntryMapper;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+
+/**
+ * Mide el throughput de rechazo de peticiones de creación inválidas.
+ *
+ * Compara la validación con los constructores que lanzan IllegalArgumentException,
+ * que se detiene en el primer error y paga la captura del stack trace, con
+ * SolicitudEntryMapper.validar, que reporta todos los campos sin lanzar excepciones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacionSolicitudBenchmark {
+
+    private final SolicitudEntryMapper mapper = new SolicitudEntryMapper();
+
+    private CrearSolicitudRequest invalida;
+    private CrearSolicitudRequest valida;
+
+    @Setup
+    public void setUp() {
+        invalida = CrearSolicitudRequest.builder()
+                .montoSolicitado(new BigDecimal("-10"))
+                .plazoMeses(0)
+                .emailSolicitante("correo-invalido")
+                .idTipoPrestamo(UUID.randomUUID())
+                .build();
+        valida = CrearSolicitudRequest.builder()
+                .montoSolicitado(new BigDecimal("5000000.00"))
+                .plazoMeses(24)
+                .emailSolicitante("cliente@crediya.com")
+                .idTipoPrestamo(UUID.randomUUID())
+                .build();
+    }
+
+    @Benchmark
+    public Object rechazoConExcepciones() {
+        try {
+            return new SolicitudEntryMapper.SolicitudCreationData(
+                    Monto.of(invalida.montoSolicitado()),
+                    Plazo.of(invalida.plazoMeses()),
+                    Email.of(invalida.emailSolicitante()),
+                    new TipoPrestamoId(invalida.idTipoPrestamo()));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public SolicitudEntryMapper.ValidacionSolicitud rechazoSinExcepciones() {
+        return mapper.validar(invalida);
+    }
+
+    @Benchmark
+    public SolicitudEntryMapper.ValidacionSolicitud aceptacion() {
+        return mapper.validar(valida);
+    }
+}
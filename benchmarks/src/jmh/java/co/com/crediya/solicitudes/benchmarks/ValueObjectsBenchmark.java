@@ -0,0 +1,58 @@
+package co.com.crediya.solicitudes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+
+/**
+ * Mide la construcción (con validación) de los value objects que se crean
+ * en cada solicitud recibida, y la validación de rango del monto.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectsBenchmark {
+
+    private String email = "cliente.frecuente@crediya.com.co";
+    private String nombre = "Préstamo de Libre Inversión";
+    private BigDecimal monto = new BigDecimal("5000000.00");
+    private Monto montoSolicitado = Monto.of("5000000.00");
+    private Monto montoMinimo = Monto.of("1000000");
+    private Monto montoMaximo = Monto.of("50000000");
+
+    @Benchmark
+    public Email email() {
+        return Email.of(email);
+    }
+
+    @Benchmark
+    public Nombre nombre() {
+        return Nombre.of(nombre);
+    }
+
+    @Benchmark
+    public Monto monto() {
+        return Monto.of(monto);
+    }
+
+    @Benchmark
+    public boolean montoEnRango() {
+        return montoSolicitado.estaEnRango(montoMinimo, montoMaximo);
+    }
+}
@@ -0,0 +1,36 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+/**
+ * Excepción de dominio que indica un conflicto de concurrencia optimista.
+ * Se produce cuando la solicitud fue modificada por otra operación después de ser leída,
+ * de modo que la versión esperada ya no coincide con la versión persistida
+ * (o la solicitud dejó de existir).
+ *
+ * Extiende IllegalStateException para mantener el contrato de los gateways.
+ */
+public class ConflictoConcurrenciaException extends IllegalStateException {
+
+    private final transient SolicitudId idSolicitud;
+    private final long versionEsperada;
+
+    /**
+     * Crea la excepción para una solicitud y versión esperada.
+     *
+     * @param idSolicitud identificador de la solicitud en conflicto
+     * @param versionEsperada versión con la que se intentó actualizar
+     */
+    public ConflictoConcurrenciaException(SolicitudId idSolicitud, long versionEsperada) {
+        super(String.format("La solicitud con ID %s fue modificada por otra operación o no existe (versión esperada: %d)",
+                idSolicitud.value(), versionEsperada));
+        this.idSolicitud = idSolicitud;
+        this.versionEsperada = versionEsperada;
+    }
+
+    public SolicitudId idSolicitud() {
+        return idSolicitud;
+    }
+
+    public long versionEsperada() {
+        return versionEsperada;
+    }
+}
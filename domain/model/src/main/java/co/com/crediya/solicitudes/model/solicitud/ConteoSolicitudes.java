@@ -0,0 +1,20 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+/**
+ * Número de solicitudes activas de una categoría (un estado o un tipo de préstamo).
+ * Value Object inmutable.
+ *
+ * @param nombre nombre del estado o del tipo de préstamo
+ * @param cantidad número de solicitudes activas
+ */
+public record ConteoSolicitudes(String nombre, long cantidad) {
+
+    public ConteoSolicitudes {
+        if (nombre == null || nombre.isBlank()) {
+            throw new IllegalArgumentException("El nombre de la categoría no puede ser nulo ni vacío");
+        }
+        if (cantidad < 0) {
+            throw new IllegalArgumentException("La cantidad de solicitudes no puede ser negativa");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor de paginación por clave (keyset) para el listado de solicitudes.
+ * Value Object inmutable que representa la posición de la última solicitud entregada
+ * según el orden (fecha de creación descendente, identificador descendente).
+ *
+ * Se expone al cliente como un token opaco codificado en Base64 URL-safe.
+ */
+public record CursorSolicitud(LocalDateTime fechaCreacion, SolicitudId idSolicitud) {
+
+    private static final char SEPARADOR = '|';
+
+    public CursorSolicitud {
+        if (fechaCreacion == null) {
+            throw new IllegalArgumentException("La fecha de creación del cursor no puede ser nula");
+        }
+        if (idSolicitud == null) {
+            throw new IllegalArgumentException("El identificador de solicitud del cursor no puede ser nulo");
+        }
+    }
+
+    /**
+     * Codifica el cursor como token opaco.
+     *
+     * @return token Base64 URL-safe sin relleno
+     */
+    public String codificar() {
+        String plano = fechaCreacion.toString() + SEPARADOR + idSolicitud.value();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(plano.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un token opaco generado por {@link #codificar()}.
+     *
+     * @param token token recibido del cliente
+     * @return cursor decodificado
+     * @throws IllegalArgumentException si el token es nulo, vacío o no tiene un formato válido
+     */
+    public static CursorSolicitud decodificar(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("El cursor de paginación no puede ser nulo o vacío");
+        }
+        try {
+            String plano = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = plano.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor de paginación inválido: " + token);
+            }
+            return new CursorSolicitud(
+                    LocalDateTime.parse(plano.substring(0, separador)),
+                    new SolicitudId(UUID.fromString(plano.substring(separador + 1))));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + token);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Estadísticas de las solicitudes activas calculadas en un instante.
+ * Value Object inmutable.
+ *
+ * @param porEstado número de solicitudes por estado, de mayor a menor
+ * @param porTipoPrestamo número de solicitudes por tipo de préstamo, de mayor a menor
+ * @param calculadasEn instante en que se consultaron los conteos
+ */
+public record EstadisticasSolicitudes(List<ConteoSolicitudes> porEstado,
+                                      List<ConteoSolicitudes> porTipoPrestamo,
+                                      Instant calculadasEn) {
+
+    public EstadisticasSolicitudes {
+        if (porEstado == null || porTipoPrestamo == null) {
+            throw new IllegalArgumentException("Los conteos de solicitudes no pueden ser nulos");
+        }
+        if (calculadasEn == null) {
+            throw new IllegalArgumentException("El instante de cálculo no puede ser nulo");
+        }
+        porEstado = List.copyOf(porEstado);
+        porTipoPrestamo = List.copyOf(porTipoPrestamo);
+    }
+
+    /**
+     * Total de solicitudes activas.
+     *
+     * @return suma de los conteos por estado
+     */
+    public long total() {
+        return porEstado.stream().mapToLong(ConteoSolicitudes::cantidad).sum();
+    }
+}
@@ -0,0 +1,24 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.util.List;
+
+/**
+ * Fila de un archivo de importación de solicitudes históricas, aún sin validar.
+ * Value Object inmutable.
+ *
+ * @param numero número de línea en el archivo de origen
+ * @param linea texto original de la línea, para reportarla si se rechaza
+ * @param campos valores de las columnas en el orden del archivo
+ */
+public record FilaImportacion(long numero, String linea, List<String> campos) {
+
+    public FilaImportacion {
+        if (numero < 1) {
+            throw new IllegalArgumentException("El número de línea debe ser positivo");
+        }
+        if (linea == null || campos == null) {
+            throw new IllegalArgumentException("La línea y sus campos no pueden ser nulos");
+        }
+        campos = List.copyOf(campos);
+    }
+}
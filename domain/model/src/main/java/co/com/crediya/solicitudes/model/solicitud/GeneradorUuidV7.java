@@ -0,0 +1,119 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Generador de UUID versión 7 (RFC 9562) para los identificadores de solicitudes.
+ *
+ * Cada UUID se compone de:
+ * - 48 bits con el timestamp Unix en milisegundos
+ * - 12 bits de contador para ordenar los UUID generados en el mismo milisegundo
+ * - 62 bits aleatorios
+ *
+ * Los UUID generados por una instancia son estrictamente crecientes, por lo que las
+ * inserciones en el índice de la llave primaria se hacen siempre al final del B-tree.
+ * Si se agotan los 4096 valores del contador en un milisegundo, o si el reloj retrocede,
+ * el timestamp avanza de forma artificial para conservar el orden.
+ *
+ * El generador no usa bloqueos: el timestamp y el contador se reservan con una operación
+ * CAS, y cada hilo toma la parte aleatoria de su propio buffer de entropía, evitando la
+ * contención sobre un SecureRandom compartido.
+ */
+public final class GeneradorUuidV7 implements Supplier<UUID> {
+
+    private static final GeneradorUuidV7 INSTANCIA = new GeneradorUuidV7(System::currentTimeMillis);
+
+    private static final int BITS_CONTADOR = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long MASCARA_CONTADOR = 0x0FFFL;
+    private static final long VARIANTE = 0x8000000000000000L;
+    private static final long MASCARA_ALEATORIA = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier reloj;
+    private final AtomicLong ultimo = new AtomicLong();
+
+    /**
+     * Constructor que permite reemplazar el reloj (usado en testing).
+     *
+     * @param reloj proveedor del tiempo actual en milisegundos
+     */
+    GeneradorUuidV7(LongSupplier reloj) {
+        this.reloj = reloj;
+    }
+
+    /**
+     * Obtiene el generador compartido de la aplicación.
+     *
+     * @return instancia única del generador
+     */
+    public static GeneradorUuidV7 instancia() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Genera un nuevo UUID versión 7.
+     *
+     * @return UUID ordenado por tiempo de creación
+     */
+    @Override
+    public UUID get() {
+        long candidato = reloj.getAsLong() << BITS_CONTADOR;
+        long marca = ultimo.accumulateAndGet(candidato, (anterior, actual) -> Math.max(anterior + 1, actual));
+
+        long timestamp = marca >>> BITS_CONTADOR;
+        long contador = marca & MASCARA_CONTADOR;
+        long mostSignificantBits = (timestamp << 16) | VERSION | contador;
+        long leastSignificantBits = VARIANTE | (Entropia.actual().siguiente() & MASCARA_ALEATORIA);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Obtiene el timestamp en milisegundos de un UUID versión 7.
+     *
+     * @param uuid UUID versión 7
+     * @return timestamp Unix en milisegundos
+     * @throws IllegalArgumentException si el UUID no es versión 7
+     */
+    public static long timestamp(UUID uuid) {
+        if (uuid == null || uuid.version() != 7) {
+            throw new IllegalArgumentException("Se requiere un UUID versión 7");
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * Buffer de bytes aleatorios de un hilo. Se recarga desde su propio SecureRandom
+     * en bloques, de modo que cada UUID no implica una llamada al proveedor criptográfico.
+     */
+    private static final class Entropia {
+
+        private static final int TAMANO_BUFFER = 64 * Long.BYTES;
+        private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+        private static final ThreadLocal<Entropia> POR_HILO = ThreadLocal.withInitial(Entropia::new);
+
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] buffer = new byte[TAMANO_BUFFER];
+        private int posicion = TAMANO_BUFFER;
+
+        static Entropia actual() {
+            return POR_HILO.get();
+        }
+
+        long siguiente() {
+            if (posicion == TAMANO_BUFFER) {
+                random.nextBytes(buffer);
+                posicion = 0;
+            }
+            long valor = (long) LONGS.get(buffer, posicion);
+            posicion += Long.BYTES;
+            return valor;
+        }
+    }
+}
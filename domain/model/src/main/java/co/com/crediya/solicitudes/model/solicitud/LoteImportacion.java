@@ -0,0 +1,33 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.util.List;
+
+/**
+ * Resultado de importar un lote de filas de un archivo de solicitudes históricas.
+ * Value Object inmutable.
+ *
+ * @param numero número del lote, empezando en 1
+ * @param cargadas número de solicitudes del lote guardadas
+ * @param rechazos filas del lote que no se cargaron, con su motivo
+ */
+public record LoteImportacion(long numero, long cargadas, List<RechazoImportacion> rechazos) {
+
+    public LoteImportacion {
+        if (cargadas < 0) {
+            throw new IllegalArgumentException("El número de solicitudes cargadas no puede ser negativo");
+        }
+        if (rechazos == null) {
+            throw new IllegalArgumentException("La lista de rechazos no puede ser nula");
+        }
+        rechazos = List.copyOf(rechazos);
+    }
+
+    /**
+     * Número de filas del lote, cargadas y rechazadas.
+     *
+     * @return filas procesadas en el lote
+     */
+    public long filas() {
+        return cargadas + rechazos.size();
+    }
+}
@@ -0,0 +1,29 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.util.List;
+
+/**
+ * Página de solicitudes obtenida mediante paginación por clave (keyset).
+ * Value Object inmutable con las solicitudes de la página y el cursor para la siguiente.
+ *
+ * @param solicitudes solicitudes de la página en orden (fecha de creación descendente)
+ * @param siguienteCursor cursor para solicitar la siguiente página, null si es la última
+ */
+public record PaginaSolicitudes(List<Solicitud> solicitudes, CursorSolicitud siguienteCursor) {
+
+    public PaginaSolicitudes {
+        if (solicitudes == null) {
+            throw new IllegalArgumentException("La lista de solicitudes no puede ser nula");
+        }
+        solicitudes = List.copyOf(solicitudes);
+    }
+
+    /**
+     * Indica si existe una página siguiente.
+     *
+     * @return true si hay más solicitudes después de esta página
+     */
+    public boolean tieneSiguiente() {
+        return siguienteCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+/**
+ * Fila de un archivo de importación que no se cargó.
+ * Value Object inmutable.
+ *
+ * @param numero número de línea en el archivo de origen
+ * @param linea texto original de la línea
+ * @param motivo errores de validación o de carga que impidieron importarla
+ */
+public record RechazoImportacion(long numero, String linea, String motivo) {
+
+    public RechazoImportacion {
+        if (linea == null) {
+            throw new IllegalArgumentException("La línea rechazada no puede ser nula");
+        }
+        if (motivo == null || motivo.isBlank()) {
+            throw new IllegalArgumentException("El motivo del rechazo no puede ser nulo ni vacío");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+/**
+ * Resultado del cambio de estado de una solicitud dentro de una transición en lote.
+ * Value Object inmutable que indica si la solicitud cambió de estado o si hubo conflicto
+ * (la solicitud no existe, está inactiva o ya no se encontraba en el estado de origen).
+ *
+ * @param idSolicitud identificador de la solicitud
+ * @param exitoso true si la solicitud cambió de estado
+ * @param nuevaVersion versión de la solicitud después del cambio, null si hubo conflicto
+ */
+public record ResultadoCambioEstado(SolicitudId idSolicitud, boolean exitoso, Long nuevaVersion) {
+
+    public ResultadoCambioEstado {
+        if (idSolicitud == null) {
+            throw new IllegalArgumentException("El identificador de solicitud no puede ser nulo");
+        }
+        if (exitoso && nuevaVersion == null) {
+            throw new IllegalArgumentException("Un cambio de estado exitoso debe incluir la nueva versión");
+        }
+    }
+
+    /**
+     * Crea un resultado exitoso.
+     *
+     * @param idSolicitud identificador de la solicitud
+     * @param nuevaVersion versión resultante
+     * @return resultado exitoso
+     */
+    public static ResultadoCambioEstado exitoso(SolicitudId idSolicitud, long nuevaVersion) {
+        return new ResultadoCambioEstado(idSolicitud, true, nuevaVersion);
+    }
+
+    /**
+     * Crea un resultado en conflicto.
+     *
+     * @param idSolicitud identificador de la solicitud
+     * @return resultado en conflicto
+     */
+    public static ResultadoCambioEstado conflicto(SolicitudId idSolicitud) {
+        return new ResultadoCambioEstado(idSolicitud, false, null);
+    }
+}
@@ -118,6 +118,18 @@ public final class Solicitud {
         this.version = newVersion;
     }
     
+    /**
+     * Crea una copia de la solicitud con un nuevo estado, conservando la versión actual
+     * como versión esperada para el control de concurrencia optimista.
+     * 
+     * @param nuevoEstado identificador del nuevo estado
+     * @return nueva instancia de Solicitud con el estado indicado
+     * @throws IllegalStateException si el nuevo estado es nulo
+     */
+    public Solicitud conEstado(EstadoId nuevoEstado) {
+        return new Solicitud(id, monto, plazo, email, nuevoEstado, idTipoPrestamo, version);
+    }
+    
     // Getters intencionales (no exponer estado mutable)
     
     public SolicitudId id() {
@@ -0,0 +1,22 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.time.LocalDateTime;
+
+/**
+ * Solicitud migrada desde un sistema anterior junto con su fecha de creación original.
+ * Value Object inmutable usado en la importación masiva de solicitudes históricas.
+ *
+ * @param solicitud solicitud validada con los value objects del dominio
+ * @param fechaCreacion fecha en que la solicitud se creó en el sistema de origen
+ */
+public record SolicitudHistorica(Solicitud solicitud, LocalDateTime fechaCreacion) {
+
+    public SolicitudHistorica {
+        if (solicitud == null) {
+            throw new IllegalArgumentException("La solicitud no puede ser nula");
+        }
+        if (fechaCreacion == null) {
+            throw new IllegalArgumentException("La fecha de creación no puede ser nula");
+        }
+    }
+}
@@ -26,12 +26,13 @@ public record SolicitudId(UUID value) {
     }
     
     /**
-     * Crea un nuevo SolicitudId con un UUID aleatorio.
+     * Crea un nuevo SolicitudId con un UUID versión 7 (ordenado por tiempo).
      * 
      * @return nueva instancia de SolicitudId
+     * @see GeneradorUuidV7
      */
     public static SolicitudId random() {
-        return new SolicitudId(UUID.randomUUID());
+        return newId(GeneradorUuidV7.instancia());
     }
     
     /**
@@ -0,0 +1,25 @@
+package co.com.crediya.solicitudes.model.solicitud.gateways;
+
+import java.util.List;
+
+import co.com.crediya.solicitudes.model.solicitud.SolicitudHistorica;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gateway para la carga masiva de solicitudes históricas.
+ *
+ * A diferencia de SolicitudRepository, no devuelve las solicitudes persistidas: está pensado
+ * para migrar millones de solicitudes, donde importa el volumen por operación y no cada fila.
+ */
+public interface ImportacionSolicitudesRepository {
+
+    /**
+     * Guarda un lote de solicitudes históricas conservando su fecha de creación original.
+     * El lote se guarda completo o no se guarda.
+     *
+     * @param lote solicitudes validadas a guardar
+     * @return Mono con el número de solicitudes guardadas
+     * @throws IllegalArgumentException si el lote es nulo
+     */
+    Mono<Long> cargar(List<SolicitudHistorica> lote);
+}
@@ -1,8 +1,15 @@
 package co.com.crediya.solicitudes.model.solicitud.gateways;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.ConflictoConcurrenciaException;
+import co.com.crediya.solicitudes.model.solicitud.ConteoSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.CursorSolicitud;
+import co.com.crediya.solicitudes.model.solicitud.PaginaSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
 import co.com.crediya.solicitudes.model.solicitud.Solicitud;
 import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
 import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
@@ -33,17 +40,46 @@ public interface SolicitudRepository {
      */
     Mono<Solicitud> save(Solicitud solicitud);
     
+    /**
+     * Guarda un lote de nuevas solicitudes.
+     * La implementación puede escribir un lote grande en varios tramos: cada tramo se guarda
+     * completo o no se guarda, y un tramo rechazado detiene los siguientes.
+     * 
+     * @param solicitudes solicitudes a persistir
+     * @return Flux con las solicitudes guardadas
+     * @throws IllegalArgumentException si la lista es null o la base de datos rechaza los datos de
+     *                                  alguna solicitud del tramo
+     */
+    Flux<Solicitud> saveAll(List<Solicitud> solicitudes);
+    
     /**
      * Actualiza una solicitud existente en la base de datos.
-     * Utiliza control de concurrencia optimista basado en versión.
+     * Utiliza control de concurrencia optimista basado en versión: la versión de la
+     * solicitud recibida se toma como versión esperada y la verificación se realiza
+     * en la misma operación de escritura.
      * 
      * @param solicitud entidad Solicitud a actualizar
      * @return Mono con la solicitud actualizada con nueva versión
      * @throws IllegalArgumentException si la solicitud es null
-     * @throws IllegalStateException si la versión no coincide (concurrencia)
+     * @throws ConflictoConcurrenciaException si la versión no coincide o la solicitud no existe
      */
     Mono<Solicitud> update(Solicitud solicitud);
     
+    /**
+     * Cambia de estado un conjunto de solicitudes en una sola operación.
+     * Solo cambian las solicitudes activas que se encuentran en el estado de origen;
+     * cada una incrementa su versión.
+     * 
+     * @param idsSolicitudes identificadores de las solicitudes a cambiar
+     * @param estadoOrigen estado en el que deben encontrarse las solicitudes
+     * @param estadoDestino nuevo estado de las solicitudes
+     * @return Flux con un resultado exitoso (y su nueva versión) por cada solicitud que cambió de estado
+     * @throws IllegalArgumentException si los identificadores o los estados son null
+     */
+    Flux<ResultadoCambioEstado> cambiarEstadoEnLote(Set<SolicitudId> idsSolicitudes, 
+                                                   EstadoId estadoOrigen, 
+                                                   EstadoId estadoDestino);
+    
     /**
      * Busca una solicitud por su identificador único.
      * 
@@ -128,6 +164,17 @@ public interface SolicitudRepository {
      */
     Flux<Solicitud> findAll();
     
+    /**
+     * Recorre todas las solicitudes activas para exportarlas, ordenadas por fecha de creación
+     * ascendente e identificador.
+     * 
+     * Las filas se leen por tramos a medida que el suscriptor las solicita, de modo que la
+     * memoria usada no depende del número de solicitudes exportadas.
+     * 
+     * @return Flux con las solicitudes activas
+     */
+    Flux<Solicitud> exportar();
+    
     /**
      * Obtiene todas las solicitudes ordenadas por un criterio específico.
      * 
@@ -138,6 +185,21 @@ public interface SolicitudRepository {
      */
     Flux<Solicitud> findAllOrderedBy(String ordenCriterio, boolean ascendente);
     
+    /**
+     * Obtiene un tramo de las solicitudes ordenadas por un criterio específico, mediante
+     * paginación por clave (keyset). El identificador de la solicitud desempata el orden y
+     * "estado" ordena por el nombre del estado.
+     * 
+     * @param ordenCriterio criterio de ordenamiento ("fechaCreacion", "monto", "email", "estado")
+     * @param ascendente true para orden ascendente, false para descendente
+     * @param despuesDe última solicitud del tramo anterior, null para el primer tramo
+     * @param limite máximo de solicitudes del tramo
+     * @return Flux con las solicitudes del tramo, en orden
+     * @throws IllegalArgumentException si el criterio de orden o el límite son inválidos, o si
+     *                                  la solicitud despuesDe no existe
+     */
+    Flux<Solicitud> findAllOrderedBy(String ordenCriterio, boolean ascendente, SolicitudId despuesDe, int limite);
+    
     /**
      * Obtiene solicitudes con paginación.
      * 
@@ -147,7 +209,19 @@ public interface SolicitudRepository {
      * @throws IllegalArgumentException si la página o tamaño son inválidos
      */
     Flux<Solicitud> findAllPaginated(int pagina, int tamanoPagina);
-    
+
+    /**
+     * Obtiene una página de solicitudes mediante paginación por clave (keyset).
+     * Ordena por fecha de creación descendente e identificador descendente, de modo que
+     * el costo de cualquier página es el mismo que el de la primera.
+     *
+     * @param cursor posición de la última solicitud de la página anterior, null para la primera página
+     * @param tamanoPagina tamaño de la página
+     * @return Mono con la página de solicitudes y el cursor para la siguiente
+     * @throws IllegalArgumentException si el tamaño de página es inválido
+     */
+    Mono<PaginaSolicitudes> findPagina(CursorSolicitud cursor, int tamanoPagina);
+
     /**
      * Verifica si existe una solicitud con el identificador especificado.
      * 
@@ -240,18 +314,18 @@ public interface SolicitudRepository {
     Flux<Solicitud> findByEmailAndEstado(Email email, EstadoId idEstado);
     
     /**
-     * Obtiene estadísticas de solicitudes por estado.
+     * Obtiene estadísticas de solicitudes activas por estado.
      * 
-     * @return Flux con pares de estado y conteo de solicitudes
+     * @return Flux con el conteo de solicitudes de cada estado, de mayor a menor
      */
-    Flux<Object[]> findEstadisticasPorEstado();
+    Flux<ConteoSolicitudes> findEstadisticasPorEstado();
     
     /**
-     * Obtiene estadísticas de solicitudes por tipo de préstamo.
+     * Obtiene estadísticas de solicitudes activas por tipo de préstamo.
      * 
-     * @return Flux con pares de tipo de préstamo y conteo de solicitudes
+     * @return Flux con el conteo de solicitudes de cada tipo de préstamo, de mayor a menor
      */
-    Flux<Object[]> findEstadisticasPorTipoPrestamo();
+    Flux<ConteoSolicitudes> findEstadisticasPorTipoPrestamo();
     
     /**
      * Busca solicitudes que requieren seguimiento (pendientes por más de X días).
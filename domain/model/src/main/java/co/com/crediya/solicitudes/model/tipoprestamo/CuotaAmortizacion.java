@@ -0,0 +1,15 @@
+package co.com.crediya.solicitudes.model.tipoprestamo;
+
+import java.math.BigDecimal;
+
+/**
+ * Fila de una tabla de amortización: el pago de un mes y su efecto sobre el saldo.
+ *
+ * @param numero número de la cuota, desde 1
+ * @param cuota valor pagado en el mes
+ * @param interes parte de la cuota que corresponde a intereses
+ * @param capital parte de la cuota que amortiza el capital
+ * @param saldo capital pendiente después del pago
+ */
+public record CuotaAmortizacion(int numero, BigDecimal cuota, BigDecimal interes, BigDecimal capital, BigDecimal saldo) {
+}
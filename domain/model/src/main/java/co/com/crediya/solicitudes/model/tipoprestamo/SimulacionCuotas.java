@@ -0,0 +1,34 @@
+package co.com.crediya.solicitudes.model.tipoprestamo;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+
+/**
+ * Resultado de simular las cuotas mensuales de un tipo de préstamo para una grilla de montos y plazos.
+ *
+ * La fila i de la matriz corresponde al monto i y la columna j al plazo j, de modo que
+ * cuotas().get(i).get(j) es la cuota mensual de montos().get(i) a plazos().get(j) meses.
+ *
+ * @param idTipoPrestamo tipo de préstamo cuya tasa se usó en la simulación
+ * @param montos montos simulados, en el orden recibido
+ * @param plazos plazos simulados, en el orden recibido
+ * @param cuotas matriz de cuotas mensuales con dos decimales, una fila por monto
+ */
+public record SimulacionCuotas(TipoPrestamoId idTipoPrestamo, List<Monto> montos, List<Plazo> plazos,
+                               List<List<BigDecimal>> cuotas) {
+
+    public SimulacionCuotas {
+        if (idTipoPrestamo == null || montos == null || plazos == null || cuotas == null) {
+            throw new IllegalArgumentException("El tipo de préstamo, los montos, los plazos y las cuotas son requeridos");
+        }
+        if (cuotas.size() != montos.size()) {
+            throw new IllegalArgumentException("La matriz de cuotas debe tener una fila por monto");
+        }
+        montos = List.copyOf(montos);
+        plazos = List.copyOf(plazos);
+        cuotas = List.copyOf(cuotas);
+    }
+}
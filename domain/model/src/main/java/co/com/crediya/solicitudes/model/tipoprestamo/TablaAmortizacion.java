@@ -0,0 +1,82 @@
+package co.com.crediya.solicitudes.model.tipoprestamo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+
+/**
+ * Servicio de dominio que genera la tabla de amortización (sistema francés, cuota fija)
+ * de un préstamo.
+ *
+ * Las cuotas se generan bajo demanda a partir del saldo anterior: cada fila calcula el
+ * interés del mes sobre el saldo, la parte de capital y el nuevo saldo, con trabajo y
+ * memoria constantes por fila. La tabla completa nunca se construye en memoria.
+ *
+ * Usa la misma cuota y tasa mensual que {@link TipoPrestamo#calcularCuotaMensual}. Los
+ * valores se redondean a centavos en cada fila y la última cuota se ajusta para que el
+ * saldo final sea exactamente cero.
+ */
+public final class TablaAmortizacion {
+
+    private TablaAmortizacion() {
+    }
+
+    /**
+     * Genera las cuotas de un préstamo en orden, desde la cuota 1 hasta la última.
+     *
+     * @param tasaInteres tasa de interés anual del tipo de préstamo
+     * @param monto monto del préstamo
+     * @param plazo plazo del préstamo
+     * @return Stream secuencial y perezoso con una cuota por mes
+     * @throws IllegalArgumentException si algún parámetro es nulo
+     */
+    public static Stream<CuotaAmortizacion> generar(TasaInteres tasaInteres, Monto monto, Plazo plazo) {
+        if (tasaInteres == null || monto == null || plazo == null) {
+            throw new IllegalArgumentException("La tasa de interés, el monto y el plazo son requeridos");
+        }
+        return StreamSupport.stream(new Cuotas(TablaAnualidades.para(tasaInteres), monto.valor(), plazo.meses()), false);
+    }
+
+    /**
+     * Spliterator que calcula cada cuota a partir del saldo de la anterior.
+     */
+    private static final class Cuotas extends Spliterators.AbstractSpliterator<CuotaAmortizacion> {
+
+        private final BigDecimal tasaMensual;
+        private final BigDecimal cuota;
+        private final int plazoMeses;
+        private BigDecimal saldo;
+        private int numero;
+
+        Cuotas(TablaAnualidades anualidades, BigDecimal principal, int plazoMeses) {
+            super(plazoMeses, Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.tasaMensual = anualidades.tasaMensual();
+            this.cuota = anualidades.cuota(principal, plazoMeses);
+            this.plazoMeses = plazoMeses;
+            this.saldo = principal.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CuotaAmortizacion> accion) {
+            if (numero == plazoMeses) {
+                return false;
+            }
+            numero++;
+
+            BigDecimal interes = saldo.multiply(tasaMensual).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal capital = numero == plazoMeses ? saldo : cuota.subtract(interes);
+            saldo = saldo.subtract(capital);
+
+            accion.accept(new CuotaAmortizacion(numero, interes.add(capital), interes, capital, saldo));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package co.com.crediya.solicitudes.model.tipoprestamo;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+
+/**
+ * Factores de anualidad precalculados para una tasa de interés.
+ *
+ * Para cada plazo n entre 1 y el plazo máximo se guarda el factor
+ * r * (1 + r)^n / ((1 + r)^n - 1), donde r es la tasa mensual. Así la cuota mensual
+ * de un monto se obtiene con una multiplicación y un redondeo a centavos, en lugar de
+ * elevar (1 + r)^n con precisión ilimitada en cada cálculo.
+ *
+ * El factor se guarda como r + r / ((1 + r)^n - 1): r es exacto y solo el segundo
+ * término se calcula con 34 dígitos significativos. Con tasas altas y plazos largos
+ * ese término es muy pequeño pero decide el redondeo cuando monto * r cae justo en
+ * medio centavo, por lo que no puede perderse al redondear el factor completo.
+ *
+ * Las tablas se comparten por tasa de interés. Como las tasas provienen del catálogo
+ * de tipos de préstamo, se guardan como máximo {@value #MAXIMO_TASAS} tasas distintas;
+ * por encima de ese límite la tabla se calcula sin guardarla.
+ */
+public final class TablaAnualidades {
+
+    static final int MAXIMO_TASAS = 256;
+
+    private static final MathContext PRECISION = MathContext.DECIMAL128;
+    private static final Map<TasaInteres, TablaAnualidades> TABLAS = new ConcurrentHashMap<>();
+
+    private final BigDecimal tasaMensual;
+    private final BigDecimal[] factores;
+
+    private TablaAnualidades(TasaInteres tasaInteres) {
+        this.tasaMensual = tasaInteres.aTasaMensual();
+        BigDecimal unoMasTasa = BigDecimal.ONE.add(tasaMensual);
+
+        this.factores = new BigDecimal[Plazo.MAXIMO_MESES + 1];
+        BigDecimal unoMasTasaElevado = BigDecimal.ONE;
+        for (int plazo = 1; plazo <= Plazo.MAXIMO_MESES; plazo++) {
+            unoMasTasaElevado = unoMasTasaElevado.multiply(unoMasTasa, PRECISION);
+            BigDecimal ajuste = tasaMensual.divide(unoMasTasaElevado.subtract(BigDecimal.ONE), PRECISION);
+            factores[plazo] = tasaMensual.add(ajuste);
+        }
+    }
+
+    /**
+     * Obtiene la tabla de factores de una tasa de interés, calculándola la primera vez.
+     *
+     * @param tasaInteres tasa de interés anual
+     * @return tabla de factores para la tasa
+     */
+    public static TablaAnualidades para(TasaInteres tasaInteres) {
+        if (tasaInteres == null) {
+            throw new IllegalArgumentException("La tasa de interés no puede ser nula");
+        }
+        TablaAnualidades tabla = TABLAS.get(tasaInteres);
+        if (tabla != null) {
+            return tabla;
+        }
+        if (TABLAS.size() >= MAXIMO_TASAS) {
+            return new TablaAnualidades(tasaInteres);
+        }
+        return TABLAS.computeIfAbsent(tasaInteres, TablaAnualidades::new);
+    }
+
+    /**
+     * Calcula la cuota mensual de un monto, redondeada a centavos.
+     *
+     * @param principal monto del préstamo
+     * @param plazoMeses plazo en meses, entre 1 y el plazo máximo
+     * @return cuota mensual con dos decimales
+     * @throws IllegalArgumentException si el plazo está fuera del rango precalculado
+     */
+    public BigDecimal cuota(BigDecimal principal, int plazoMeses) {
+        return principal.multiply(factor(plazoMeses)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Obtiene el factor de anualidad de un plazo.
+     *
+     * @param plazoMeses plazo en meses, entre 1 y el plazo máximo
+     * @return factor r * (1 + r)^n / ((1 + r)^n - 1), expresado como r + r / ((1 + r)^n - 1)
+     * @throws IllegalArgumentException si el plazo está fuera del rango precalculado
+     */
+    public BigDecimal factor(int plazoMeses) {
+        if (!cubre(plazoMeses)) {
+            throw new IllegalArgumentException("El plazo debe estar entre 1 y " + Plazo.MAXIMO_MESES + " meses");
+        }
+        return factores[plazoMeses];
+    }
+
+    /**
+     * Obtiene la tasa mensual r con la que se calcularon los factores.
+     */
+    public BigDecimal tasaMensual() {
+        return tasaMensual;
+    }
+
+    /**
+     * Verifica si la tabla tiene el factor precalculado de un plazo.
+     */
+    public static boolean cubre(int plazoMeses) {
+        return plazoMeses >= 1 && plazoMeses <= Plazo.MAXIMO_MESES;
+    }
+}
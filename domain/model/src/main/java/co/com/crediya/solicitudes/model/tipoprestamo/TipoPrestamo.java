@@ -1,9 +1,12 @@
 package co.com.crediya.solicitudes.model.tipoprestamo;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
 
 import co.com.crediya.solicitudes.model.valueobjects.Monto;
 import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
 import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
 
 /**
@@ -65,6 +68,7 @@ public final class TipoPrestamo {
     
     /**
      * Calcula la cuota mensual para un monto y plazo dados.
+     * Para los plazos entre 1 y 120 meses usa los factores precalculados de {@link TablaAnualidades}.
      */
     public Monto calcularCuotaMensual(Monto monto, int plazoMeses) {
         if (!montoValido(monto)) {
@@ -73,6 +77,9 @@ public final class TipoPrestamo {
         if (plazoMeses <= 0) {
             throw new IllegalArgumentException("El plazo debe ser mayor a 0 meses");
         }
+        if (TablaAnualidades.cubre(plazoMeses)) {
+            return Monto.of(TablaAnualidades.para(tasaInteres).cuota(monto.valor(), plazoMeses));
+        }
         
         // Fórmula de cuota mensual: P * (r * (1 + r)^n) / ((1 + r)^n - 1)
         // Donde: P = principal, r = tasa mensual, n = número de meses
@@ -89,6 +96,30 @@ public final class TipoPrestamo {
         return Monto.of(cuota);
     }
     
+    /**
+     * Calcula las cuotas mensuales de un monto para varios plazos, en el orden de los plazos.
+     * Valida el monto una sola vez y toma todos los factores de la misma {@link TablaAnualidades}.
+     */
+    public List<BigDecimal> calcularCuotasMensuales(Monto monto, List<Plazo> plazos) {
+        if (!montoValido(monto)) {
+            throw new IllegalArgumentException("El monto no está dentro del rango permitido para este tipo de préstamo");
+        }
+        TablaAnualidades tabla = TablaAnualidades.para(tasaInteres);
+        BigDecimal[] cuotas = new BigDecimal[plazos.size()];
+        for (int i = 0; i < cuotas.length; i++) {
+            cuotas[i] = tabla.cuota(monto.valor(), plazos.get(i).meses());
+        }
+        return List.of(cuotas);
+    }
+    
+    /**
+     * Genera la tabla de amortización de un monto y plazo con la tasa de este tipo de préstamo.
+     * No valida el rango de montos, para poder consultar la tabla de solicitudes ya creadas.
+     */
+    public Stream<CuotaAmortizacion> tablaAmortizacion(Monto monto, Plazo plazo) {
+        return TablaAmortizacion.generar(tasaInteres, monto, plazo);
+    }
+    
     /**
      * Verifica si este tipo de préstamo requiere validación automática.
      */
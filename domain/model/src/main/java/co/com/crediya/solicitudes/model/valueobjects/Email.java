@@ -1,53 +1,142 @@
 package co.com.crediya.solicitudes.model.valueobjects;
 
-import java.util.regex.Pattern;
-
 /**
  * Value Object que representa una dirección de correo electrónico.
  * Inmutable y auto-validado.
+ *
+ * El formato se valida recorriendo el texto una sola vez: exactamente un '@' con al menos
+ * un carácter antes, y después del '@' un '.' con al menos un carácter a cada lado. Es el
+ * mismo criterio de la expresión ^[^@]+@[^@]+\.[^@]+$, sin compilarla ni retroceder. La
+ * posición del '@' se guarda para obtener el dominio y la parte local sin volver a buscarla.
  */
-public record Email(String value) {
-    
-    private static final Pattern EMAIL_REGEX = Pattern.compile("^[^@]+@[^@]+\\.[^@]+$");
-    
-    public Email {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("El email no puede ser nulo o vacío");
-        }
-        if (!EMAIL_REGEX.matcher(value).matches()) {
-            throw new IllegalArgumentException("Formato de email inválido: " + value);
-        }
-        if (value.length() > 254) {
-            throw new IllegalArgumentException("El email no puede tener más de 254 caracteres");
+public final class Email {
+
+    private static final int LONGITUD_MAXIMA = 254;
+    private static final int FORMATO_INVALIDO = -1;
+
+    private final String value;
+    private final int arroba;
+
+    public Email(String value) {
+        String error = validar(value);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
+        this.value = value;
+        this.arroba = value.indexOf('@');
+    }
+
+    private Email(String value, int arroba) {
+        this.value = value;
+        this.arroba = arroba;
     }
-    
+
     /**
      * Crea un email con el valor especificado.
      */
     public static Email of(String value) {
         return new Email(value);
     }
-    
+
+    /**
+     * Valida un email sin lanzar excepciones.
+     */
+    public static Validacion<Email> parse(String value) {
+        String error = validar(value);
+        return error == null ? Validacion.valida(new Email(value, value.indexOf('@'))) : Validacion.invalida(error);
+    }
+
+    /**
+     * Reconstruye un email leído de la base de datos sin volver a validar su formato.
+     * Solo debe usarse con valores que se validaron al persistirse.
+     */
+    public static Email reconstruir(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("El email no puede ser nulo o vacío");
+        }
+        return new Email(value, value.indexOf('@'));
+    }
+
+    /**
+     * Obtiene el mensaje de error de un email inválido, o null si es válido.
+     */
+    private static String validar(String value) {
+        if (value == null || value.isBlank()) {
+            return "El email no puede ser nulo o vacío";
+        }
+        if (posicionArroba(value) == FORMATO_INVALIDO) {
+            return "Formato de email inválido: " + value;
+        }
+        if (value.length() > LONGITUD_MAXIMA) {
+            return "El email no puede tener más de 254 caracteres";
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la posición del único '@' de un email con formato válido, o
+     * {@link #FORMATO_INVALIDO} si el formato no es válido.
+     */
+    private static int posicionArroba(String value) {
+        int longitud = value.length();
+        int arroba = FORMATO_INVALIDO;
+        boolean punto = false;
+        for (int i = 0; i < longitud; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (arroba != FORMATO_INVALIDO) {
+                    return FORMATO_INVALIDO;
+                }
+                arroba = i;
+            } else if (c == '.' && arroba != FORMATO_INVALIDO && i > arroba + 1 && i < longitud - 1) {
+                punto = true;
+            }
+        }
+        return arroba > 0 && punto ? arroba : FORMATO_INVALIDO;
+    }
+
+    public String value() {
+        return value;
+    }
+
     /**
      * Obtiene el dominio del email.
      */
     public String domain() {
-        return value.substring(value.indexOf('@') + 1);
+        return value.substring(arroba + 1);
     }
-    
+
     /**
      * Obtiene la parte local del email (antes del @).
      */
     public String localPart() {
-        return value.substring(0, value.indexOf('@'));
+        return value.substring(0, arroba);
     }
-    
+
     /**
      * Verifica si el email pertenece a un dominio específico.
      */
     public boolean belongsToDomain(String domain) {
-        return this.domain().equalsIgnoreCase(domain);
+        return domain != null
+            && value.length() - arroba - 1 == domain.length()
+            && value.regionMatches(true, arroba + 1, domain, 0, domain.length());
     }
-}
 
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        return otro instanceof Email email && value.equals(email.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Email[value=" + value + "]";
+    }
+}
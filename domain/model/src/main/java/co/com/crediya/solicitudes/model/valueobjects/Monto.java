@@ -6,28 +6,47 @@ import java.math.RoundingMode;
 /**
  * Value Object que representa un monto monetario.
  * Inmutable y auto-validado.
+ *
+ * Además del BigDecimal, guarda el monto en centavos como long cuando cabe en 18 dígitos,
+ * de modo que las comparaciones y validaciones de rango son comparaciones de enteros sin
+ * asignar memoria. Solo los montos que exceden ese tamaño se comparan con BigDecimal.
  */
-public record Monto(BigDecimal valor) {
-    
-    public Monto {
-        if (valor == null) {
-            throw new IllegalArgumentException("El valor del monto no puede ser nulo");
-        }
-        if (valor.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("El monto no puede ser negativo");
-        }
-        if (valor.scale() > 2) {
-            throw new IllegalArgumentException("El monto no puede tener más de 2 decimales");
+public final class Monto {
+
+    private static final int ESCALA = 2;
+    private static final int PRECISION_MAXIMA_CENTAVOS = 18;
+
+    /**
+     * Valor de {@link #centavos} para los montos que no caben en un long.
+     * No se confunde con un monto válido porque los montos no pueden ser negativos.
+     */
+    private static final long DESBORDADO = -1L;
+
+    private final BigDecimal valor;
+    private final long centavos;
+
+    public Monto(BigDecimal valor) {
+        String error = validar(valor);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
+        this.valor = valor;
+        this.centavos = aCentavos(valor);
+    }
+
+    private Monto(BigDecimal valor, long centavos) {
+        this.valor = valor;
+        this.centavos = centavos;
     }
-    
+
     /**
-     * Crea un monto con el valor especificado.
+     * Crea un monto con el valor especificado, redondeado a 2 decimales.
+     * Los valores que ya tienen 2 decimales, como los leídos de la base de datos, se usan tal cual.
      */
     public static Monto of(BigDecimal valor) {
-        return new Monto(valor.setScale(2, RoundingMode.HALF_UP));
+        return new Monto(valor.scale() == ESCALA ? valor : valor.setScale(ESCALA, RoundingMode.HALF_UP));
     }
-    
+
     /**
      * Crea un monto con el valor especificado como String.
      */
@@ -38,40 +57,130 @@ public record Monto(BigDecimal valor) {
             throw new IllegalArgumentException("Formato de monto inválido");
         }
     }
-    
+
+    /**
+     * Valida un monto sin lanzar excepciones. Como {@link #of(BigDecimal)}, redondea a 2 decimales.
+     */
+    public static Validacion<Monto> parse(BigDecimal valor) {
+        BigDecimal redondeado = valor == null || valor.scale() == ESCALA
+                ? valor
+                : valor.setScale(ESCALA, RoundingMode.HALF_UP);
+        String error = validar(redondeado);
+        return error == null
+                ? Validacion.valida(new Monto(redondeado, aCentavos(redondeado)))
+                : Validacion.invalida(error);
+    }
+
+    /**
+     * Reconstruye un monto leído de la base de datos sin volver a validarlo.
+     * Solo debe usarse con valores que se validaron al persistirse.
+     */
+    public static Monto reconstruir(BigDecimal valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor del monto no puede ser nulo");
+        }
+        BigDecimal escalado = valor.scale() == ESCALA ? valor : valor.setScale(ESCALA, RoundingMode.HALF_UP);
+        return new Monto(escalado, aCentavos(escalado));
+    }
+
+    /**
+     * Crea un monto a partir de su valor en centavos, sin redondeo ni conversión de escala.
+     */
+    public static Monto ofCentavos(long centavos) {
+        if (centavos < 0) {
+            throw new IllegalArgumentException("El monto no puede ser negativo");
+        }
+        return new Monto(BigDecimal.valueOf(centavos, ESCALA), centavos);
+    }
+
     /**
      * Crea un monto cero.
      */
     public static Monto cero() {
-        return new Monto(BigDecimal.ZERO);
+        return new Monto(BigDecimal.ZERO, 0L);
+    }
+
+    public BigDecimal valor() {
+        return valor;
     }
-    
+
     /**
      * Verifica si el monto es mayor que otro.
      */
     public boolean esMayorQue(Monto otro) {
-        return this.valor.compareTo(otro.valor) > 0;
+        return comparar(otro) > 0;
     }
-    
+
     /**
      * Verifica si el monto es menor que otro.
      */
     public boolean esMenorQue(Monto otro) {
-        return this.valor.compareTo(otro.valor) < 0;
+        return comparar(otro) < 0;
     }
-    
+
     /**
      * Verifica si el monto es igual a otro.
      */
     public boolean esIgualA(Monto otro) {
-        return this.valor.compareTo(otro.valor) == 0;
+        return comparar(otro) == 0;
     }
-    
+
     /**
      * Verifica si el monto está en el rango especificado (inclusive).
      */
     public boolean estaEnRango(Monto minimo, Monto maximo) {
-        return this.valor.compareTo(minimo.valor) >= 0 && 
-               this.valor.compareTo(maximo.valor) <= 0;
+        return comparar(minimo) >= 0 && comparar(maximo) <= 0;
+    }
+
+    private int comparar(Monto otro) {
+        if (centavos != DESBORDADO && otro.centavos != DESBORDADO) {
+            return Long.compare(centavos, otro.centavos);
+        }
+        return valor.compareTo(otro.valor);
+    }
+
+    /**
+     * Obtiene el mensaje de error de un valor inválido, o null si es válido.
+     */
+    private static String validar(BigDecimal valor) {
+        if (valor == null) {
+            return "El valor del monto no puede ser nulo";
+        }
+        if (valor.signum() < 0) {
+            return "El monto no puede ser negativo";
+        }
+        if (valor.scale() > ESCALA) {
+            return "El monto no puede tener más de 2 decimales";
+        }
+        return null;
+    }
+
+    /**
+     * Convierte un valor no negativo con escala de 0 a 2 a centavos, o {@link #DESBORDADO}
+     * si tiene más de 18 dígitos o una escala negativa (por ejemplo 1E+3).
+     */
+    private static long aCentavos(BigDecimal valor) {
+        if (valor.scale() < 0 || valor.precision() - valor.scale() + ESCALA > PRECISION_MAXIMA_CENTAVOS) {
+            return DESBORDADO;
+        }
+        return valor.movePointRight(ESCALA).longValueExact();
+    }
+
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        return otro instanceof Monto monto && valor.equals(monto.valor);
+    }
+
+    @Override
+    public int hashCode() {
+        return valor.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Monto[valor=" + valor + "]";
     }
 }
@@ -3,19 +3,30 @@ package co.com.crediya.solicitudes.model.valueobjects;
 /**
  * Value Object que representa un nombre.
  * Inmutable y auto-validado.
+ *
+ * Los caracteres se validan con una tabla de búsqueda en lugar de una expresión regular:
+ * letras sin tilde, vocales con tilde, eñe y los mismos espacios que acepta \s en una
+ * expresión regular (espacio, tabulaciones, saltos de línea, avance de página y retorno).
  */
-public record Nombre(String valor) {
+public final class Nombre {
     
-    public Nombre {
-        if (valor == null || valor.isBlank()) {
-            throw new IllegalArgumentException("El nombre no puede ser nulo o vacío");
-        }
-        if (valor.length() > 100) {
-            throw new IllegalArgumentException("El nombre no puede tener más de 100 caracteres");
-        }
-        if (!valor.matches("^[a-zA-ZáéíóúÁÉÍÓÚñÑ\\s]+$")) {
-            throw new IllegalArgumentException("El nombre solo puede contener letras y espacios");
+    private static final int LONGITUD_MAXIMA = 100;
+    private static final boolean[] CARACTERES_PERMITIDOS = caracteresPermitidos();
+    
+    private final String valor;
+    
+    public Nombre(String valor) {
+        this(valor, true);
+    }
+    
+    private Nombre(String valor, boolean validar) {
+        if (validar) {
+            String error = validar(valor);
+            if (error != null) {
+                throw new IllegalArgumentException(error);
+            }
         }
+        this.valor = valor;
     }
     
     /**
@@ -25,6 +36,49 @@ public record Nombre(String valor) {
         return new Nombre(valor);
     }
     
+    /**
+     * Valida un nombre sin lanzar excepciones.
+     */
+    public static Validacion<Nombre> parse(String valor) {
+        String error = validar(valor);
+        return error == null ? Validacion.valida(new Nombre(valor, false)) : Validacion.invalida(error);
+    }
+    
+    /**
+     * Obtiene el mensaje de error de un nombre inválido, o null si es válido.
+     */
+    private static String validar(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return "El nombre no puede ser nulo o vacío";
+        }
+        if (valor.length() > LONGITUD_MAXIMA) {
+            return "El nombre no puede tener más de 100 caracteres";
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c >= CARACTERES_PERMITIDOS.length || !CARACTERES_PERMITIDOS[c]) {
+                return "El nombre solo puede contener letras y espacios";
+            }
+        }
+        return null;
+    }
+    
+    private static boolean[] caracteresPermitidos() {
+        boolean[] permitidos = new boolean[256];
+        for (char c = 'a'; c <= 'z'; c++) {
+            permitidos[c] = true;
+            permitidos[Character.toUpperCase(c)] = true;
+        }
+        for (char c : "áéíóúÁÉÍÓÚñÑ \t\n\013\f\r".toCharArray()) {
+            permitidos[c] = true;
+        }
+        return permitidos;
+    }
+    
+    public String valor() {
+        return valor;
+    }
+    
     /**
      * Obtiene el nombre en mayúsculas.
      */
@@ -55,4 +109,22 @@ public record Nombre(String valor) {
     public boolean contiene(String texto) {
         return valor.toLowerCase().contains(texto.toLowerCase());
     }
+    
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        return otro instanceof Nombre nombre && valor.equals(nombre.valor);
+    }
+    
+    @Override
+    public int hashCode() {
+        return valor.hashCode();
+    }
+    
+    @Override
+    public String toString() {
+        return "Nombre[valor=" + valor + "]";
+    }
 }
@@ -7,17 +7,12 @@ package co.com.crediya.solicitudes.model.valueobjects;
 public record Plazo(Integer meses) {
     
     private static final int MINIMO_MESES = 1;
-    private static final int MAXIMO_MESES = 120; // 10 años
+    public static final int MAXIMO_MESES = 120; // 10 años
     
     public Plazo {
-        if (meses == null) {
-            throw new IllegalArgumentException("El plazo no puede ser nulo");
-        }
-        if (meses < MINIMO_MESES) {
-            throw new IllegalArgumentException("El plazo debe ser al menos " + MINIMO_MESES + " mes");
-        }
-        if (meses > MAXIMO_MESES) {
-            throw new IllegalArgumentException("El plazo no puede exceder " + MAXIMO_MESES + " meses");
+        String error = validar(meses);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
     }
     
@@ -28,6 +23,30 @@ public record Plazo(Integer meses) {
         return new Plazo(meses);
     }
     
+    /**
+     * Valida un plazo sin lanzar excepciones.
+     */
+    public static Validacion<Plazo> parse(Integer meses) {
+        String error = validar(meses);
+        return error == null ? Validacion.valida(new Plazo(meses)) : Validacion.invalida(error);
+    }
+    
+    /**
+     * Obtiene el mensaje de error de un plazo inválido, o null si es válido.
+     */
+    private static String validar(Integer meses) {
+        if (meses == null) {
+            return "El plazo no puede ser nulo";
+        }
+        if (meses < MINIMO_MESES) {
+            return "El plazo debe ser al menos " + MINIMO_MESES + " mes";
+        }
+        if (meses > MAXIMO_MESES) {
+            return "El plazo no puede exceder " + MAXIMO_MESES + " meses";
+        }
+        return null;
+    }
+    
     /**
      * Crea un plazo desde un string.
      */
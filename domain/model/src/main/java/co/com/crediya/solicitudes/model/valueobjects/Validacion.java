@@ -0,0 +1,95 @@
+package co.com.crediya.solicitudes.model.valueobjects;
+
+import java.util.function.Function;
+
+/**
+ * Resultado de validar un valor de entrada sin lanzar excepciones.
+ *
+ * Los métodos parse de los value objects devuelven este tipo para que los puntos de entrada
+ * puedan rechazar datos inválidos sin el costo de crear una excepción (y capturar su stack
+ * trace) por cada campo, y reportar todos los errores de una petición a la vez. Los
+ * constructores y métodos of siguen lanzando IllegalArgumentException para el uso interno.
+ *
+ * @param <T> tipo del valor validado
+ */
+public final class Validacion<T> {
+
+    private final T valor;
+    private final String error;
+
+    private Validacion(T valor, String error) {
+        this.valor = valor;
+        this.error = error;
+    }
+
+    /**
+     * Crea una validación exitosa con el valor especificado.
+     */
+    public static <T> Validacion<T> valida(T valor) {
+        return new Validacion<>(valor, null);
+    }
+
+    /**
+     * Crea una validación fallida con el mensaje de error especificado.
+     */
+    public static <T> Validacion<T> invalida(String error) {
+        if (error == null) {
+            throw new IllegalArgumentException("El mensaje de error es requerido");
+        }
+        return new Validacion<>(null, error);
+    }
+
+    /**
+     * Verifica si el valor es válido.
+     */
+    public boolean esValida() {
+        return error == null;
+    }
+
+    /**
+     * Obtiene el valor validado.
+     *
+     * @throws IllegalStateException si la validación falló
+     */
+    public T valor() {
+        if (error != null) {
+            throw new IllegalStateException("No se puede obtener el valor de una validación fallida: " + error);
+        }
+        return valor;
+    }
+
+    /**
+     * Obtiene el mensaje de error, null si la validación fue exitosa.
+     */
+    public String error() {
+        return error;
+    }
+
+    /**
+     * Transforma el valor si la validación fue exitosa; si falló, conserva el error.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Validacion<R> map(Function<? super T, ? extends R> transformacion) {
+        if (error != null) {
+            return (Validacion<R>) this;
+        }
+        return valida(transformacion.apply(valor));
+    }
+
+    /**
+     * Obtiene el valor validado o lanza la excepción de los constructores de los value objects.
+     *
+     * @throws IllegalArgumentException con el mensaje de error si la validación falló
+     */
+    public T orElseThrow() {
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+        return valor;
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "Validacion[valor=" + valor + "]" : "Validacion[error=" + error + "]";
+    }
+}
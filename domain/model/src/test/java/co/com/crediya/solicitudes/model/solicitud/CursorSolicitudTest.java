@@ -0,0 +1,89 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Cursor de paginación CursorSolicitud")
+class CursorSolicitudTest {
+
+    @Test
+    @DisplayName("Debería codificar y decodificar el cursor sin pérdida")
+    void deberiaCodificarYDecodificarSinPerdida() {
+        // Given
+        CursorSolicitud cursor = new CursorSolicitud(
+            LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000),
+            new SolicitudId(UUID.fromString("550e8400-e29b-41d4-a716-446655440000")));
+
+        // When
+        CursorSolicitud decodificado = CursorSolicitud.decodificar(cursor.codificar());
+
+        // Then
+        assertThat(decodificado).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Debería generar un token seguro para URL")
+    void deberiaGenerarTokenSeguroParaUrl() {
+        // Given
+        CursorSolicitud cursor = new CursorSolicitud(LocalDateTime.now(), SolicitudId.random());
+
+        // When
+        String token = cursor.codificar();
+
+        // Then
+        assertThat(token).matches("^[A-Za-z0-9_-]+$");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    @DisplayName("Debería rechazar tokens nulos o vacíos")
+    void deberiaRechazarTokensNulosOVacios(String token) {
+        // When & Then
+        assertThatThrownBy(() -> CursorSolicitud.decodificar(token))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El cursor de paginación no puede ser nulo o vacío");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tokens con formato inválido")
+    void deberiaRechazarTokensConFormatoInvalido() {
+        // Given
+        String sinSeparador = Base64.getUrlEncoder().encodeToString("sin-separador".getBytes(StandardCharsets.UTF_8));
+        String fechaInvalida = Base64.getUrlEncoder()
+            .encodeToString(("no-es-fecha|" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThatThrownBy(() -> CursorSolicitud.decodificar("%%%"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Cursor de paginación inválido");
+        assertThatThrownBy(() -> CursorSolicitud.decodificar(sinSeparador))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Cursor de paginación inválido");
+        assertThatThrownBy(() -> CursorSolicitud.decodificar(fechaInvalida))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Cursor de paginación inválido");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar componentes nulos")
+    void deberiaRechazarComponentesNulos() {
+        // When & Then
+        assertThatThrownBy(() -> new CursorSolicitud(null, SolicitudId.random()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("La fecha de creación del cursor no puede ser nula");
+        assertThatThrownBy(() -> new CursorSolicitud(LocalDateTime.now(), null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El identificador de solicitud del cursor no puede ser nulo");
+    }
+}
@@ -0,0 +1,65 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Estadísticas de solicitudes EstadisticasSolicitudes")
+class EstadisticasSolicitudesTest {
+
+    private static final Instant INSTANTE = Instant.parse("2026-10-17T12:00:00Z");
+
+    @Test
+    @DisplayName("Debería calcular el total como la suma de los conteos por estado")
+    void deberiaCalcularTotalPorEstado() {
+        // Given
+        EstadisticasSolicitudes estadisticas = new EstadisticasSolicitudes(
+            List.of(new ConteoSolicitudes("Aprobada", 7), new ConteoSolicitudes("Rechazada", 3)),
+            List.of(new ConteoSolicitudes("Microcrédito", 10)),
+            INSTANTE);
+
+        // When & Then
+        assertThat(estadisticas.total()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Debería copiar los conteos para no exponer listas modificables")
+    void deberiaCopiarLosConteos() {
+        // Given
+        List<ConteoSolicitudes> porEstado = new ArrayList<>(List.of(new ConteoSolicitudes("Aprobada", 7)));
+        EstadisticasSolicitudes estadisticas = new EstadisticasSolicitudes(porEstado, List.of(), INSTANTE);
+
+        // When
+        porEstado.add(new ConteoSolicitudes("Rechazada", 3));
+
+        // Then
+        assertThat(estadisticas.porEstado()).hasSize(1);
+        assertThatThrownBy(() -> estadisticas.porEstado().add(new ConteoSolicitudes("Rechazada", 3)))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar conteos o instante nulos")
+    void deberiaRechazarValoresNulos() {
+        // When & Then
+        assertThatThrownBy(() -> new EstadisticasSolicitudes(null, List.of(), INSTANTE))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EstadisticasSolicitudes(List.of(), List.of(), null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un conteo sin nombre o con cantidad negativa")
+    void deberiaRechazarConteosInvalidos() {
+        // When & Then
+        assertThatThrownBy(() -> new ConteoSolicitudes(" ", 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConteoSolicitudes("Aprobada", -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Generador GeneradorUuidV7")
+class GeneradorUuidV7Test {
+
+    private static final long AHORA = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+
+    @Test
+    @DisplayName("Debería generar UUID versión 7 con variante RFC 9562 y el timestamp actual")
+    void deberiaGenerarUuidVersion7() {
+        // Given
+        GeneradorUuidV7 generador = new GeneradorUuidV7(() -> AHORA);
+
+        // When
+        UUID uuid = generador.get();
+
+        // Then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(GeneradorUuidV7.timestamp(uuid)).isEqualTo(AHORA);
+    }
+
+    @Test
+    @DisplayName("Debería generar UUID crecientes dentro del mismo milisegundo")
+    void deberiaSerMonotonoEnElMismoMilisegundo() {
+        // Given
+        GeneradorUuidV7 generador = new GeneradorUuidV7(() -> AHORA);
+
+        // When
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            uuids.add(generador.get());
+        }
+
+        // Then
+        assertThat(uuids).isSortedAccordingTo(GeneradorUuidV7Test::compararSinSigno);
+        assertThat(Set.copyOf(uuids)).hasSize(1000);
+        assertThat(uuids).allMatch(uuid -> GeneradorUuidV7.timestamp(uuid) == AHORA);
+    }
+
+    @Test
+    @DisplayName("Debería avanzar el timestamp al agotar el contador del milisegundo")
+    void deberiaAvanzarTimestampAlAgotarContador() {
+        // Given
+        GeneradorUuidV7 generador = new GeneradorUuidV7(() -> AHORA);
+
+        // When
+        UUID ultimo = null;
+        for (int i = 0; i <= 4096; i++) {
+            ultimo = generador.get();
+        }
+
+        // Then
+        assertThat(GeneradorUuidV7.timestamp(ultimo)).isEqualTo(AHORA + 1);
+    }
+
+    @Test
+    @DisplayName("Debería conservar el orden cuando el reloj retrocede")
+    void deberiaConservarOrdenSiElRelojRetrocede() {
+        // Given
+        AtomicLong reloj = new AtomicLong(AHORA);
+        GeneradorUuidV7 generador = new GeneradorUuidV7(reloj::get);
+        UUID antes = generador.get();
+
+        // When
+        reloj.set(AHORA - 5_000);
+        UUID despues = generador.get();
+
+        // Then
+        assertThat(compararSinSigno(despues, antes)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Debería generar UUID únicos desde varios hilos")
+    void deberiaGenerarUnicosConcurrentemente() throws Exception {
+        // Given
+        GeneradorUuidV7 generador = new GeneradorUuidV7(System::currentTimeMillis);
+        Set<UUID> generados = ConcurrentHashMap.newKeySet();
+        int hilos = 8;
+        int porHilo = 10_000;
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int i = 0; i < hilos; i++) {
+                tareas.add(executor.submit(() -> {
+                    for (int j = 0; j < porHilo; j++) {
+                        generados.add(generador.get());
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(generados).hasSize(hilos * porHilo);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar obtener el timestamp de un UUID que no es versión 7")
+    void deberiaRechazarTimestampDeOtraVersion() {
+        // When & Then
+        assertThatThrownBy(() -> GeneradorUuidV7.timestamp(UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Se requiere un UUID versión 7");
+    }
+
+    /**
+     * Compara como lo hace PostgreSQL con el tipo uuid: byte a byte, sin signo.
+     * UUID.compareTo compara con signo y no sirve para verificar el orden del índice.
+     */
+    private static int compararSinSigno(UUID a, UUID b) {
+        int mayor = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return mayor != 0 ? mayor : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
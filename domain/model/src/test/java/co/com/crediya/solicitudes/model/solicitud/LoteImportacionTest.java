@@ -0,0 +1,70 @@
+package co.com.crediya.solicitudes.model.solicitud;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+
+@DisplayName("Importación de solicitudes históricas LoteImportacion")
+class LoteImportacionTest {
+
+    private static final RechazoImportacion RECHAZO = new RechazoImportacion(3, "x,x", "Formato de monto inválido: x");
+
+    @Test
+    @DisplayName("Debería contar como filas del lote las cargadas y las rechazadas")
+    void deberiaContarFilasDelLote() {
+        // Given
+        LoteImportacion lote = new LoteImportacion(1, 9, List.of(RECHAZO));
+
+        // When & Then
+        assertThat(lote.filas()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Debería copiar los rechazos y los campos para no exponer listas modificables")
+    void deberiaCopiarLasListas() {
+        // Given
+        List<RechazoImportacion> rechazos = new ArrayList<>(List.of(RECHAZO));
+        List<String> campos = new ArrayList<>(List.of("x", "x"));
+        LoteImportacion lote = new LoteImportacion(1, 0, rechazos);
+        FilaImportacion fila = new FilaImportacion(3, "x,x", campos);
+
+        // When
+        rechazos.clear();
+        campos.clear();
+
+        // Then
+        assertThat(lote.rechazos()).containsExactly(RECHAZO);
+        assertThat(fila.campos()).containsExactly("x", "x");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar valores nulos, negativos o vacíos")
+    void deberiaRechazarValoresInvalidos() {
+        // Given
+        Solicitud solicitud = Solicitud.create(SolicitudId.random(), Monto.of(BigDecimal.valueOf(5000000)),
+            Plazo.of(24), Email.of("cliente@example.com"), EstadoId.random(), TipoPrestamoId.random());
+
+        // When & Then
+        assertThatThrownBy(() -> new LoteImportacion(1, -1, List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoteImportacion(1, 0, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RechazoImportacion(3, "x,x", " "))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FilaImportacion(0, "x,x", List.of("x", "x")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SolicitudHistorica(solicitud, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -100,6 +100,42 @@ class SolicitudTest {
             .hasMessage("La nueva versión debe ser mayor que la actual");
     }
     
+    @Test
+    @DisplayName("Debería crear una copia con nuevo estado conservando la versión")
+    void deberiaCambiarEstadoConservandoVersion() {
+        // Given
+        Solicitud solicitud = Solicitud.from(
+            ID_VALIDO, MONTO_VALIDO, PLAZO_VALIDO, EMAIL_VALIDO, 
+            ESTADO_VALIDO, TIPO_PRESTAMO_VALIDO, 3L
+        );
+        EstadoId nuevoEstado = EstadoId.random();
+        
+        // When
+        Solicitud actualizada = solicitud.conEstado(nuevoEstado);
+        
+        // Then
+        assertThat(actualizada).isNotSameAs(solicitud);
+        assertThat(actualizada.idEstado()).isEqualTo(nuevoEstado);
+        assertThat(actualizada.version()).isEqualTo(3L);
+        assertThat(actualizada.id()).isEqualTo(ID_VALIDO);
+        assertThat(solicitud.idEstado()).isEqualTo(ESTADO_VALIDO);
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar cambiar a un estado nulo")
+    void deberiaRechazarCambioAEstadoNulo() {
+        // Given
+        Solicitud solicitud = Solicitud.create(
+            ID_VALIDO, MONTO_VALIDO, PLAZO_VALIDO, EMAIL_VALIDO, 
+            ESTADO_VALIDO, TIPO_PRESTAMO_VALIDO
+        );
+        
+        // When & Then
+        assertThatThrownBy(() -> solicitud.conEstado(null))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("El identificador de estado no puede ser nulo");
+    }
+    
     @Test
     @DisplayName("Debería rechazar crear solicitud con ID nulo")
     void deberiaRechazarIdNulo() {
@@ -0,0 +1,87 @@
+package co.com.crediya.solicitudes.model.tipoprestamo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+
+@DisplayName("TablaAmortizacion")
+class TablaAmortizacionTest {
+    
+    private static final TasaInteres TASA = TasaInteres.of("1.8");
+    private static final Monto MONTO = Monto.of("12345678.91");
+    
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 12, 24, 60, 120})
+    @DisplayName("debería amortizar todo el capital y terminar con saldo cero")
+    void deberiaAmortizarTodoElCapital(int meses) {
+        // When
+        List<CuotaAmortizacion> cuotas = TablaAmortizacion.generar(TASA, MONTO, Plazo.of(meses)).toList();
+        
+        // Then
+        assertThat(cuotas).hasSize(meses);
+        assertThat(cuotas).extracting(CuotaAmortizacion::numero)
+            .containsExactlyElementsOf(IntStream.rangeClosed(1, meses).boxed().toList());
+        assertThat(cuotas.stream().map(CuotaAmortizacion::capital).reduce(BigDecimal.ZERO, BigDecimal::add))
+            .isEqualByComparingTo(MONTO.valor());
+        assertThat(cuotas.get(meses - 1).saldo()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+    
+    @Test
+    @DisplayName("debería calcular cada fila a partir del saldo anterior con la cuota de calcularCuotaMensual")
+    void deberiaCalcularCadaFilaDesdeElSaldoAnterior() {
+        // Given
+        TipoPrestamo tipoPrestamo = TipoPrestamo.crear(TipoPrestamoId.random(), Nombre.of("Préstamo Personal"),
+            Monto.of("1000000"), Monto.of("50000000"), TASA, true);
+        BigDecimal cuotaFija = tipoPrestamo.calcularCuotaMensual(MONTO, 36).valor();
+        BigDecimal tasaMensual = TASA.aTasaMensual();
+        
+        // When
+        List<CuotaAmortizacion> cuotas = tipoPrestamo.tablaAmortizacion(MONTO, Plazo.of(36)).toList();
+        
+        // Then
+        BigDecimal saldoAnterior = MONTO.valor();
+        for (CuotaAmortizacion cuota : cuotas) {
+            BigDecimal interesEsperado = saldoAnterior.multiply(tasaMensual).setScale(2, RoundingMode.HALF_UP);
+            assertThat(cuota.interes()).isEqualTo(interesEsperado);
+            assertThat(cuota.interes().add(cuota.capital())).isEqualTo(cuota.cuota());
+            assertThat(cuota.saldo()).isEqualTo(saldoAnterior.subtract(cuota.capital()));
+            if (cuota.numero() < 36) {
+                assertThat(cuota.cuota()).isEqualTo(cuotaFija);
+            }
+            saldoAnterior = cuota.saldo();
+        }
+    }
+    
+    @Test
+    @DisplayName("debería calcular las cuotas bajo demanda")
+    void deberiaCalcularBajoDemanda() {
+        // When
+        List<CuotaAmortizacion> primeras = TablaAmortizacion.generar(TASA, MONTO, Plazo.of(120)).limit(3).toList();
+        
+        // Then
+        assertThat(primeras).extracting(CuotaAmortizacion::numero).containsExactly(1, 2, 3);
+        assertThat(TablaAmortizacion.generar(TASA, MONTO, Plazo.of(120)).spliterator().getExactSizeIfKnown())
+            .isEqualTo(120);
+    }
+    
+    @Test
+    @DisplayName("debería rechazar parámetros nulos")
+    void deberiaRechazarParametrosNulos() {
+        assertThatThrownBy(() -> TablaAmortizacion.generar(TASA, null, Plazo.of(12)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("La tasa de interés, el monto y el plazo son requeridos");
+    }
+}
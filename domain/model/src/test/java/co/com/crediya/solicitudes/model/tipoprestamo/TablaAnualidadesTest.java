@@ -0,0 +1,113 @@
+package co.com.crediya.solicitudes.model.tipoprestamo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+
+@DisplayName("TablaAnualidades")
+class TablaAnualidadesTest {
+
+    private static final int TASAS_ALEATORIAS = 200;
+    private static final int MONTOS_POR_TASA = 4;
+
+    @Test
+    @DisplayName("debería coincidir al centavo con la fórmula exacta para tasas, montos y plazos aleatorios")
+    void deberiaCoincidirConFormulaExacta() {
+        // Given: semilla fija para que una falla sea reproducible
+        Random random = new Random(20250301L);
+
+        for (int i = 0; i < TASAS_ALEATORIAS; i++) {
+            // Tasas entre 0.01% y 100.00%, con dos decimales como TasaInteres.of
+            TasaInteres tasa = TasaInteres.of(BigDecimal.valueOf(1 + random.nextInt(10_000), 2));
+            TablaAnualidades tabla = TablaAnualidades.para(tasa);
+
+            for (int j = 0; j < MONTOS_POR_TASA; j++) {
+                // Montos entre $1.00 y $10.000.000.000,00
+                BigDecimal principal = BigDecimal.valueOf(100 + (long) (random.nextDouble() * 1_000_000_000_000L), 2);
+
+                for (int plazo = 1; plazo <= Plazo.MAXIMO_MESES; plazo++) {
+                    // When
+                    BigDecimal cuota = tabla.cuota(principal, plazo);
+
+                    // Then
+                    assertThat(cuota)
+                        .as("tasa=%s principal=%s plazo=%d", tasa.valor(), principal, plazo)
+                        .isEqualTo(cuotaExacta(tasa, principal, plazo));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("debería calcular en TipoPrestamo la misma cuota que la fórmula exacta")
+    void deberiaCalcularCuotaDeTipoPrestamoConLaTabla() {
+        // Given
+        TasaInteres tasa = TasaInteres.of("15.5");
+        TipoPrestamo tipoPrestamo = TipoPrestamo.crear(TipoPrestamoId.random(), Nombre.of("Préstamo Personal"),
+            Monto.of("1000000"), Monto.of("50000000"), tasa, true);
+        Monto monto = Monto.of("12345678.91");
+
+        for (int plazo = 1; plazo <= Plazo.MAXIMO_MESES + 12; plazo++) {
+            // When
+            Monto cuota = tipoPrestamo.calcularCuotaMensual(monto, plazo);
+
+            // Then
+            assertThat(cuota.valor()).isEqualTo(cuotaExacta(tasa, monto.valor(), plazo));
+        }
+    }
+
+    @Test
+    @DisplayName("debería compartir la tabla entre tasas iguales")
+    void deberiaCompartirTablaPorTasa() {
+        // When
+        TablaAnualidades primera = TablaAnualidades.para(TasaInteres.of("18.25"));
+        TablaAnualidades segunda = TablaAnualidades.para(TasaInteres.of("18.25"));
+
+        // Then
+        assertThat(primera).isSameAs(segunda);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 121})
+    @DisplayName("debería rechazar plazos fuera del rango precalculado")
+    void deberiaRechazarPlazoFueraDeRango(int plazo) {
+        // Given
+        TablaAnualidades tabla = TablaAnualidades.para(TasaInteres.of("15.5"));
+
+        // When & Then
+        assertThatThrownBy(() -> tabla.factor(plazo))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El plazo debe estar entre 1 y 120 meses");
+    }
+
+    @Test
+    @DisplayName("debería rechazar tasa nula")
+    void deberiaRechazarTasaNula() {
+        assertThatThrownBy(() -> TablaAnualidades.para(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("La tasa de interés no puede ser nula");
+    }
+
+    /**
+     * Fórmula original de TipoPrestamo.calcularCuotaMensual, con (1 + r)^n en precisión ilimitada.
+     */
+    private static BigDecimal cuotaExacta(TasaInteres tasa, BigDecimal principal, int plazoMeses) {
+        BigDecimal tasaMensual = tasa.aTasaMensual();
+        BigDecimal unoMasTasaElevado = BigDecimal.ONE.add(tasaMensual).pow(plazoMeses);
+        BigDecimal numerador = principal.multiply(tasaMensual).multiply(unoMasTasaElevado);
+        BigDecimal denominador = unoMasTasaElevado.subtract(BigDecimal.ONE);
+        return numerador.divide(denominador, 2, RoundingMode.HALF_UP);
+    }
+}
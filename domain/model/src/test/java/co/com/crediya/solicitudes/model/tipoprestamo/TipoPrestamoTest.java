@@ -1,6 +1,7 @@
 package co.com.crediya.solicitudes.model.tipoprestamo;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -12,6 +13,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import co.com.crediya.solicitudes.model.valueobjects.Monto;
 import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
 import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
 
 @DisplayName("TipoPrestamo")
@@ -121,6 +123,38 @@ class TipoPrestamoTest {
          .hasMessageContaining("El monto no está dentro del rango permitido");
     }
     
+    @Test
+    @DisplayName("debería calcular las cuotas de varios plazos igual que calcularCuotaMensual")
+    void deberiaCalcularCuotasMensualesDeVariosPlazos() {
+        // Given
+        TipoPrestamo tipoPrestamo = TipoPrestamo.crear(id, nombre, montoMinimo, montoMaximo, tasaInteres, true);
+        Monto monto = Monto.of("10000000");
+        List<Plazo> plazos = List.of(Plazo.of(120), Plazo.of(1), Plazo.of(24));
+        
+        // When
+        List<BigDecimal> cuotas = tipoPrestamo.calcularCuotasMensuales(monto, plazos);
+        
+        // Then
+        assertThat(cuotas).containsExactly(
+            tipoPrestamo.calcularCuotaMensual(monto, 120).valor(),
+            tipoPrestamo.calcularCuotaMensual(monto, 1).valor(),
+            tipoPrestamo.calcularCuotaMensual(monto, 24).valor());
+    }
+    
+    @Test
+    @DisplayName("debería rechazar cálculo de cuotas de varios plazos con monto inválido")
+    void deberiaRechazarCalculoCuotasMensualesConMontoInvalido() {
+        // Given
+        TipoPrestamo tipoPrestamo = TipoPrestamo.crear(id, nombre, montoMinimo, montoMaximo, tasaInteres, true);
+        Monto montoInvalido = Monto.of("60000000");
+        
+        // When & Then
+        assertThatThrownBy(() -> 
+            tipoPrestamo.calcularCuotasMensuales(montoInvalido, List.of(Plazo.of(24)))
+        ).isInstanceOf(IllegalArgumentException.class)
+         .hasMessageContaining("El monto no está dentro del rango permitido");
+    }
+    
     @ParameterizedTest
     @ValueSource(ints = {0, -1, -12})
     @DisplayName("debería rechazar plazo inválido")
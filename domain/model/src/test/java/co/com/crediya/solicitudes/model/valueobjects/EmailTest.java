@@ -1,5 +1,8 @@
 package co.com.crediya.solicitudes.model.valueobjects;
 
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +12,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 @DisplayName("Value Object Email")
 class EmailTest {
+
+    private static final int CASOS_ALEATORIOS = 200_000;
+    private static final Pattern EMAIL_REGEX_ORIGINAL = Pattern.compile("^[^@]+@[^@]+\\.[^@]+$");
+    private static final String ALFABETO = "aZ09@@..-_+ \t\n\r\u00A0\u2028ñé";
     
     @ParameterizedTest
     @ValueSource(strings = {
@@ -93,6 +100,114 @@ class EmailTest {
         assertThat(email.belongsToDomain("otro.com")).isFalse();
         assertThat(email.belongsToDomain("EXAMPLE.COM")).isTrue(); // Case insensitive
     }
-
+    
+    @Test
+    @DisplayName("Debería validar un email con parse sin lanzar excepciones")
+    void deberiaValidarEmailConParse() {
+        // When
+        Validacion<Email> valido = Email.parse("usuario@example.com");
+        Validacion<Email> invalido = Email.parse("correo-invalido");
+        Validacion<Email> nulo = Email.parse(null);
+        
+        // Then
+        assertThat(valido.esValida()).isTrue();
+        assertThat(valido.valor()).isEqualTo(Email.of("usuario@example.com"));
+        assertThat(invalido.esValida()).isFalse();
+        assertThat(invalido.error()).isEqualTo("Formato de email inválido: correo-invalido");
+        assertThat(nulo.error()).isEqualTo("El email no puede ser nulo o vacío");
+    }
+    
+    @Test
+    @DisplayName("Debería reconstruir un email persistido con su dominio y parte local")
+    void deberiaReconstruirEmailPersistido() {
+        // When
+        Email email = Email.reconstruir("cliente@crediya.com");
+        
+        // Then
+        assertThat(email).isEqualTo(Email.of("cliente@crediya.com"));
+        assertThat(email.localPart()).isEqualTo("cliente");
+        assertThat(email.domain()).isEqualTo("crediya.com");
+        assertThatThrownBy(() -> Email.reconstruir(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El email no puede ser nulo o vacío");
+    }
+    
+    @Test
+    @DisplayName("Debería aceptar y rechazar exactamente los mismos emails que la expresión regular original")
+    void deberiaCoincidirConExpresionRegularOriginal() {
+        // Given: semilla fija para que una diferencia sea reproducible
+        Random random = new Random(20250316L);
+        
+        for (int i = 0; i < CASOS_ALEATORIOS; i++) {
+            String candidato = i % 2 == 0 ? textoAleatorio(random) : emailMutado(random);
+            
+            // When
+            Validacion<Email> validacion = Email.parse(candidato);
+            
+            // Then
+            assertThat(validacion.esValida())
+                .as("email %s", candidato)
+                .isEqualTo(esValidoSegunExpresionRegular(candidato));
+            if (validacion.esValida()) {
+                assertThat(validacion.valor().localPart()).isEqualTo(candidato.substring(0, candidato.indexOf('@')));
+                assertThat(validacion.valor().domain()).isEqualTo(candidato.substring(candidato.indexOf('@') + 1));
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Debería comparar el dominio sin distinguir mayúsculas")
+    void deberiaCompararDominioSinDistinguirMayusculas() {
+        // Given
+        Email email = Email.of("usuario@CrediYa.com");
+        
+        // When & Then
+        assertThat(email.belongsToDomain("crediya.COM")).isTrue();
+        assertThat(email.belongsToDomain("crediya.co")).isFalse();
+        assertThat(email.belongsToDomain("mail.crediya.com")).isFalse();
+        assertThat(email.belongsToDomain(null)).isFalse();
+    }
+    
+    /**
+     * Validación original de Email: no vacío, expresión regular y longitud máxima.
+     */
+    private static boolean esValidoSegunExpresionRegular(String valor) {
+        return valor != null && !valor.isBlank() && EMAIL_REGEX_ORIGINAL.matcher(valor).matches() && valor.length() <= 254;
+    }
+    
+    private static String textoAleatorio(Random random) {
+        int longitud = random.nextInt(12);
+        StringBuilder texto = new StringBuilder(longitud);
+        for (int i = 0; i < longitud; i++) {
+            texto.append(caracterAleatorio(random));
+        }
+        return texto.toString();
+    }
+    
+    /**
+     * Genera un email casi válido y le aplica cambios aleatorios, para ejercitar los límites
+     * del formato (posición del '.', '@' repetidos, partes vacías y longitud máxima).
+     */
+    private static String emailMutado(Random random) {
+        StringBuilder email = new StringBuilder()
+            .append("a".repeat(random.nextInt(3) == 0 ? random.nextInt(260) : random.nextInt(3)))
+            .append('@')
+            .append("b".repeat(random.nextInt(3)))
+            .append('.')
+            .append("c".repeat(random.nextInt(3)));
+        int cambios = random.nextInt(3);
+        for (int i = 0; i < cambios && email.length() > 0; i++) {
+            int posicion = random.nextInt(email.length());
+            switch (random.nextInt(3)) {
+                case 0 -> email.insert(posicion, caracterAleatorio(random));
+                case 1 -> email.deleteCharAt(posicion);
+                default -> email.setCharAt(posicion, caracterAleatorio(random));
+            }
+        }
+        return email.toString();
+    }
+    
+    private static char caracterAleatorio(Random random) {
+        return ALFABETO.charAt(random.nextInt(ALFABETO.length()));
+    }
 }
-
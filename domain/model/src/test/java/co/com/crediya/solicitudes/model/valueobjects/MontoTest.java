@@ -116,4 +116,91 @@ class MontoTest {
         // Then
         assertThat(monto.valor()).isEqualTo(new BigDecimal("1000.57"));
     }
+    
+    @Test
+    @DisplayName("debería crear monto desde centavos")
+    void deberiaCrearMontoDesdeCentavos() {
+        // When
+        Monto monto = Monto.ofCentavos(100000050L);
+        
+        // Then
+        assertThat(monto.valor()).isEqualTo(new BigDecimal("1000000.50"));
+        assertThat(monto).isEqualTo(Monto.of("1000000.50"));
+        assertThat(monto.esIgualA(Monto.of("1000000.5"))).isTrue();
+    }
+    
+    @Test
+    @DisplayName("debería rechazar centavos negativos")
+    void deberiaRechazarCentavosNegativos() {
+        // When & Then
+        assertThatThrownBy(() -> Monto.ofCentavos(-1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("El monto no puede ser negativo");
+    }
+    
+    @Test
+    @DisplayName("debería comparar montos con distinta escala")
+    void deberiaCompararMontosConDistintaEscala() {
+        // Given
+        Monto sinDecimales = new Monto(new BigDecimal("1000"));
+        Monto unDecimal = new Monto(new BigDecimal("999.9"));
+        Monto dosDecimales = new Monto(new BigDecimal("1000.00"));
+        
+        // When & Then
+        assertThat(sinDecimales.esIgualA(dosDecimales)).isTrue();
+        assertThat(unDecimal.esMenorQue(sinDecimales)).isTrue();
+        assertThat(Monto.cero().esMenorQue(unDecimal)).isTrue();
+        assertThat(dosDecimales.estaEnRango(unDecimal, sinDecimales)).isTrue();
+    }
+    
+    @Test
+    @DisplayName("debería comparar con BigDecimal los montos que no caben en centavos de tipo long")
+    void deberiaCompararMontosQueExcedenLong() {
+        // Given: 10^17 y más exceden los 18 dígitos en centavos
+        Monto limite = Monto.of("9999999999999999.99");
+        Monto grande = Monto.of("100000000000000000.00");
+        Monto mayor = Monto.of("100000000000000000.01");
+        Monto notacionCientifica = new Monto(new BigDecimal("1E+3"));
+        
+        // When & Then
+        assertThat(limite.esMenorQue(grande)).isTrue();
+        assertThat(grande.esMenorQue(mayor)).isTrue();
+        assertThat(mayor.esMayorQue(limite)).isTrue();
+        assertThat(grande.estaEnRango(limite, mayor)).isTrue();
+        assertThat(limite.estaEnRango(grande, mayor)).isFalse();
+        assertThat(notacionCientifica.esIgualA(Monto.of("1000"))).isTrue();
+        assertThat(notacionCientifica.estaEnRango(Monto.of("999.99"), Monto.of("1000.01"))).isTrue();
+    }
+    
+    @Test
+    @DisplayName("debería validar un monto con parse sin lanzar excepciones")
+    void deberiaValidarMontoConParse() {
+        // When
+        Validacion<Monto> valido = Monto.parse(new BigDecimal("1000.567"));
+        Validacion<Monto> negativo = Monto.parse(new BigDecimal("-1"));
+        Validacion<Monto> nulo = Monto.parse(null);
+        
+        // Then
+        assertThat(valido.valor()).isEqualTo(Monto.of("1000.57"));
+        assertThat(valido.valor().esIgualA(Monto.ofCentavos(100057L))).isTrue();
+        assertThat(negativo.error()).isEqualTo("El monto no puede ser negativo");
+        assertThat(nulo.error()).isEqualTo("El valor del monto no puede ser nulo");
+    }
+    
+    @Test
+    @DisplayName("debería reconstruir un monto persistido conservando sus centavos")
+    void deberiaReconstruirMontoPersistido() {
+        // When
+        Monto reconstruido = Monto.reconstruir(new BigDecimal("5000000.00"));
+        Monto sinDecimales = Monto.reconstruir(new BigDecimal("1500"));
+        
+        // Then
+        assertThat(reconstruido).isEqualTo(Monto.of("5000000.00"));
+        assertThat(reconstruido.esIgualA(Monto.ofCentavos(500000000L))).isTrue();
+        assertThat(sinDecimales.valor()).isEqualByComparingTo("1500.00");
+        assertThat(sinDecimales.valor().scale()).isEqualTo(2);
+        assertThatThrownBy(() -> Monto.reconstruir(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El valor del monto no puede ser nulo");
+    }
 }
@@ -1,5 +1,7 @@
 package co.com.crediya.solicitudes.model.valueobjects;
 
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +11,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 @DisplayName("Nombre")
 class NombreTest {
+
+    private static final int CASOS_ALEATORIOS = 200_000;
+    private static final String ALFABETO = "aZmáéíóúÁÉÍÓÚñÑàüÇÿ×0 \t\n\r\f\013\u001C\u00A0\u2003-'.\uD83D\uDE00";
     
     @Test
     @DisplayName("debería crear nombre válido")
@@ -164,4 +169,57 @@ class NombreTest {
         // Then
         assertThat(nombre.valor()).isEqualTo("Préstamo   Personal   Vehicular");
     }
+    
+    @Test
+    @DisplayName("debería validar un nombre con parse sin lanzar excepciones")
+    void deberiaValidarNombreConParse() {
+        // When & Then
+        assertThat(Nombre.parse("Préstamo Personal").valor()).isEqualTo(Nombre.of("Préstamo Personal"));
+        assertThat(Nombre.parse("Préstamo 123").error()).isEqualTo("El nombre solo puede contener letras y espacios");
+        assertThat(Nombre.parse(" ").error()).isEqualTo("El nombre no puede ser nulo o vacío");
+    }
+    
+    @Test
+    @DisplayName("debería aceptar y rechazar exactamente los mismos nombres que la expresión regular original")
+    void deberiaCoincidirConExpresionRegularOriginal() {
+        // Given: semilla fija para que una diferencia sea reproducible
+        Random random = new Random(20250316L);
+        
+        for (int i = 0; i < CASOS_ALEATORIOS; i++) {
+            String candidato = nombreAleatorio(random);
+            
+            // When
+            boolean valido = Nombre.parse(candidato).esValida();
+            
+            // Then
+            assertThat(valido)
+                .as("nombre %s", candidato.codePoints().mapToObj(Integer::toHexString).toList())
+                .isEqualTo(esValidoSegunExpresionRegular(candidato));
+        }
+        for (char c = 0; c < 0x3000; c++) {
+            String candidato = "Ana" + c;
+            assertThat(Nombre.parse(candidato).esValida())
+                .as("carácter U+%04X", (int) c)
+                .isEqualTo(esValidoSegunExpresionRegular(candidato));
+        }
+    }
+    
+    /**
+     * Validación original de Nombre: no vacío, longitud máxima y expresión regular.
+     */
+    private static boolean esValidoSegunExpresionRegular(String valor) {
+        return valor != null && !valor.isBlank() && valor.length() <= 100
+            && valor.matches("^[a-zA-ZáéíóúÁÉÍÓÚñÑ\\s]+$");
+    }
+    
+    private static String nombreAleatorio(Random random) {
+        int longitud = random.nextInt(4) == 0 ? 95 + random.nextInt(10) : random.nextInt(8);
+        StringBuilder nombre = new StringBuilder(longitud);
+        for (int i = 0; i < longitud; i++) {
+            nombre.append(random.nextInt(4) == 0
+                ? ALFABETO.charAt(random.nextInt(ALFABETO.length()))
+                : ALFABETO.charAt(random.nextInt(13)));
+        }
+        return nombre.toString();
+    }
 }
@@ -122,5 +122,14 @@ class PlazoTest {
         assertThat(plazoMinimo.estaEnRangoValido()).isTrue();
         assertThat(plazoMaximo.estaEnRangoValido()).isTrue();
     }
+    
+    @Test
+    @DisplayName("Debería validar un plazo con parse sin lanzar excepciones")
+    void deberiaValidarPlazoConParse() {
+        // When & Then
+        assertThat(Plazo.parse(24).valor()).isEqualTo(Plazo.of(24));
+        assertThat(Plazo.parse(0).error()).isEqualTo("El plazo debe ser al menos 1 mes");
+        assertThat(Plazo.parse(121).error()).isEqualTo("El plazo no puede exceder 120 meses");
+        assertThat(Plazo.parse(null).error()).isEqualTo("El plazo no puede ser nulo");
+    }
 }
-
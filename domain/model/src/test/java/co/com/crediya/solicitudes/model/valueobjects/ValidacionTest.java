@@ -0,0 +1,61 @@
+package co.com.crediya.solicitudes.model.valueobjects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Validacion")
+class ValidacionTest {
+    
+    @Test
+    @DisplayName("debería exponer el valor de una validación exitosa")
+    void deberiaExponerValorDeValidacionExitosa() {
+        // When
+        Validacion<String> validacion = Validacion.valida("valor");
+        
+        // Then
+        assertThat(validacion.esValida()).isTrue();
+        assertThat(validacion.valor()).isEqualTo("valor");
+        assertThat(validacion.error()).isNull();
+        assertThat(validacion.orElseThrow()).isEqualTo("valor");
+    }
+    
+    @Test
+    @DisplayName("debería conservar el error de una validación fallida")
+    void deberiaConservarErrorDeValidacionFallida() {
+        // When
+        Validacion<String> validacion = Validacion.invalida("El valor es inválido");
+        
+        // Then
+        assertThat(validacion.esValida()).isFalse();
+        assertThat(validacion.error()).isEqualTo("El valor es inválido");
+        assertThatThrownBy(validacion::valor)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("El valor es inválido");
+        assertThatThrownBy(validacion::orElseThrow)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El valor es inválido");
+    }
+    
+    @Test
+    @DisplayName("debería transformar solo las validaciones exitosas")
+    void deberiaTransformarSoloValidacionesExitosas() {
+        // When
+        Validacion<Integer> exitosa = Validacion.valida("abc").map(String::length);
+        Validacion<Integer> fallida = Validacion.<String>invalida("Error").map(String::length);
+        
+        // Then
+        assertThat(exitosa.valor()).isEqualTo(3);
+        assertThat(fallida.error()).isEqualTo("Error");
+    }
+    
+    @Test
+    @DisplayName("debería rechazar una validación fallida sin mensaje")
+    void deberiaRechazarValidacionFallidaSinMensaje() {
+        // When & Then
+        assertThatThrownBy(() -> Validacion.invalida(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El mensaje de error es requerido");
+    }
+}
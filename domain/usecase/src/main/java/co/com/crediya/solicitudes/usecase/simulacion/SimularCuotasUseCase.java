@@ -0,0 +1,148 @@
+package co.com.crediya.solicitudes.usecase.simulacion;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import co.com.crediya.solicitudes.model.tipoprestamo.SimulacionCuotas;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Caso de uso para simular las cuotas mensuales de un tipo de préstamo sobre una grilla
+ * de montos y plazos.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - El tipo de préstamo debe existir
+ * - Todos los montos deben estar dentro del rango permitido para el tipo de préstamo
+ * - La grilla tiene como máximo {@value #MAXIMO_MONTOS} montos y {@value #MAXIMO_PLAZOS} plazos
+ * - Cada cuota es la misma que calcula TipoPrestamo.calcularCuotaMensual
+ *
+ * Las grillas pequeñas se calculan en el hilo que se suscribe. Las grandes se dividen en
+ * bloques de filas que se calculan en paralelo sobre un Scheduler acotado, fuera del event
+ * loop, y se vuelven a unir en el orden de los montos.
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
+public class SimularCuotasUseCase {
+
+    public static final int MAXIMO_MONTOS = 500;
+    public static final int MAXIMO_PLAZOS = Plazo.MAXIMO_MESES;
+
+    /**
+     * Número aproximado de cuotas que calcula cada tarea. Por debajo de este tamaño la grilla
+     * se calcula sin cambiar de hilo, porque el costo de despachar la tarea supera al del cálculo.
+     */
+    static final int CUOTAS_POR_BLOQUE = 1024;
+
+    private final TipoPrestamoRepository tipoPrestamoRepository;
+    private final Scheduler scheduler;
+    private final int paralelismo;
+
+    /**
+     * Constructor del caso de uso que calcula las grillas grandes en Schedulers.parallel().
+     *
+     * @param tipoPrestamoRepository repositorio de tipos de préstamo
+     */
+    public SimularCuotasUseCase(TipoPrestamoRepository tipoPrestamoRepository) {
+        this(tipoPrestamoRepository, Schedulers.parallel(), Schedulers.DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param tipoPrestamoRepository repositorio de tipos de préstamo
+     * @param scheduler Scheduler acotado en el que se calculan los bloques de las grillas grandes
+     * @param paralelismo número máximo de bloques que se calculan al mismo tiempo
+     */
+    public SimularCuotasUseCase(TipoPrestamoRepository tipoPrestamoRepository, Scheduler scheduler, int paralelismo) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1");
+        }
+        this.tipoPrestamoRepository = tipoPrestamoRepository;
+        this.scheduler = scheduler;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Simula las cuotas mensuales de cada combinación de monto y plazo.
+     *
+     * @param idTipoPrestamo identificador del tipo de préstamo
+     * @param montos montos a simular
+     * @param plazos plazos a simular
+     * @return Mono con la matriz de cuotas, una fila por monto y una columna por plazo
+     * @throws IllegalArgumentException si faltan datos, la grilla excede el tamaño máximo
+     *         o algún monto está fuera del rango del tipo de préstamo
+     * @throws IllegalStateException si el tipo de préstamo no existe
+     */
+    public Mono<SimulacionCuotas> simular(TipoPrestamoId idTipoPrestamo, List<Monto> montos, List<Plazo> plazos) {
+        if (idTipoPrestamo == null) {
+            return Mono.error(new IllegalArgumentException("El ID del tipo de préstamo es requerido"));
+        }
+        if (montos == null || montos.isEmpty() || plazos == null || plazos.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("Se requiere al menos un monto y un plazo para simular"));
+        }
+        if (montos.size() > MAXIMO_MONTOS || plazos.size() > MAXIMO_PLAZOS) {
+            return Mono.error(new IllegalArgumentException(String.format(
+                    "La simulación admite como máximo %d montos y %d plazos", MAXIMO_MONTOS, MAXIMO_PLAZOS)));
+        }
+        return tipoPrestamoRepository.findById(idTipoPrestamo)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "El tipo de préstamo con ID " + idTipoPrestamo.value() + " no existe")))
+                .flatMap(tipoPrestamo -> validarMontos(tipoPrestamo, montos))
+                .flatMap(tipoPrestamo -> calcularGrilla(tipoPrestamo, montos, plazos))
+                .map(cuotas -> new SimulacionCuotas(idTipoPrestamo, montos, plazos, cuotas));
+    }
+
+    /**
+     * Valida que todos los montos estén dentro del rango del tipo de préstamo antes de
+     * repartir el cálculo, para que el error no dependa del bloque que termine primero.
+     */
+    private Mono<TipoPrestamo> validarMontos(TipoPrestamo tipoPrestamo, List<Monto> montos) {
+        for (Monto monto : montos) {
+            if (monto == null) {
+                return Mono.error(new IllegalArgumentException("Los montos a simular no pueden ser nulos"));
+            }
+            if (!tipoPrestamo.montoValido(monto)) {
+                return Mono.error(new IllegalArgumentException(
+                        String.format("El monto $%,.2f no está dentro del rango permitido para el tipo de préstamo '%s' (%s)",
+                                monto.valor(),
+                                tipoPrestamo.nombre().valor(),
+                                tipoPrestamo.obtenerRangoMontos())));
+            }
+        }
+        return Mono.just(tipoPrestamo);
+    }
+
+    private Mono<List<List<BigDecimal>>> calcularGrilla(TipoPrestamo tipoPrestamo, List<Monto> montos, List<Plazo> plazos) {
+        int filasPorBloque = Math.max(1, CUOTAS_POR_BLOQUE / plazos.size());
+        if (montos.size() <= filasPorBloque) {
+            return Mono.fromCallable(() -> calcularFilas(tipoPrestamo, montos, plazos));
+        }
+        int bloques = (montos.size() + filasPorBloque - 1) / filasPorBloque;
+        return Flux.range(0, bloques)
+                .flatMapSequential(bloque -> {
+                    int desde = bloque * filasPorBloque;
+                    int hasta = Math.min(desde + filasPorBloque, montos.size());
+                    return Mono.fromCallable(() -> calcularFilas(tipoPrestamo, montos.subList(desde, hasta), plazos))
+                            .subscribeOn(scheduler);
+                }, paralelismo, 1)
+                .flatMapIterable(filas -> filas)
+                .collectList();
+    }
+
+    private static List<List<BigDecimal>> calcularFilas(TipoPrestamo tipoPrestamo, List<Monto> montos, List<Plazo> plazos) {
+        return montos.stream()
+                .map(monto -> tipoPrestamo.calcularCuotasMensuales(monto, plazos))
+                .toList();
+    }
+}
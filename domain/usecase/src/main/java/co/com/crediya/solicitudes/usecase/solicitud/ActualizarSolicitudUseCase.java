@@ -1,4 +1,92 @@
 package co.com.crediya.solicitudes.usecase.solicitud;
 
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para actualizar una solicitud de préstamo existente.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - Usa control de concurrencia optimista: la versión de la solicitud recibida es la versión esperada
+ * - La verificación de versión y la escritura se resuelven en una sola operación del repositorio
+ * - Valida que el nuevo estado exista antes de cambiar el estado de la solicitud
+ * - Propaga un conflicto de concurrencia si la solicitud fue modificada por otra operación
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Mantiene la pureza del dominio
+ * - Maneja errores de negocio de forma explícita
+ */
 public class ActualizarSolicitudUseCase {
+
+    private final SolicitudRepository solicitudRepository;
+    private final EstadosRepository estadosRepository;
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     * @param estadosRepository repositorio de estados
+     */
+    public ActualizarSolicitudUseCase(SolicitudRepository solicitudRepository,
+                                      EstadosRepository estadosRepository) {
+        this.solicitudRepository = solicitudRepository;
+        this.estadosRepository = estadosRepository;
+    }
+
+    /**
+     * Actualiza una solicitud existente.
+     *
+     * @param solicitud solicitud con los nuevos valores y la versión leída previamente
+     * @return Mono con la solicitud actualizada y su nueva versión
+     * @throws IllegalArgumentException si la solicitud es nula
+     * @throws co.com.crediya.solicitudes.model.solicitud.ConflictoConcurrenciaException
+     *         si la versión no coincide con la persistida
+     */
+    public Mono<Solicitud> actualizarSolicitud(Solicitud solicitud) {
+        if (solicitud == null) {
+            return Mono.error(new IllegalArgumentException("La solicitud a actualizar no puede ser nula"));
+        }
+        return solicitudRepository.update(solicitud);
+    }
+
+    /**
+     * Cambia el estado de una solicitud existente.
+     *
+     * @param solicitud solicitud leída previamente (su versión es la versión esperada)
+     * @param nuevoEstado identificador del nuevo estado
+     * @return Mono con la solicitud en su nuevo estado y su nueva versión
+     * @throws IllegalArgumentException si la solicitud o el estado son nulos
+     * @throws IllegalStateException si el estado no existe
+     * @throws co.com.crediya.solicitudes.model.solicitud.ConflictoConcurrenciaException
+     *         si la versión no coincide con la persistida
+     */
+    public Mono<Solicitud> cambiarEstado(Solicitud solicitud, EstadoId nuevoEstado) {
+        if (solicitud == null) {
+            return Mono.error(new IllegalArgumentException("La solicitud a actualizar no puede ser nula"));
+        }
+        if (nuevoEstado == null) {
+            return Mono.error(new IllegalArgumentException("El nuevo estado no puede ser nulo"));
+        }
+        return validarEstado(nuevoEstado)
+                .then(Mono.defer(() -> solicitudRepository.update(solicitud.conEstado(nuevoEstado))));
+    }
+
+    /**
+     * Valida que el estado exista en el sistema.
+     *
+     * @param idEstado identificador del estado
+     * @return Mono vacío si el estado existe
+     * @throws IllegalStateException si el estado no existe
+     */
+    private Mono<Void> validarEstado(EstadoId idEstado) {
+        return estadosRepository.findById(idEstado)
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                        "El estado con ID " + idEstado.value() + " no existe")))
+                .then();
+    }
 }
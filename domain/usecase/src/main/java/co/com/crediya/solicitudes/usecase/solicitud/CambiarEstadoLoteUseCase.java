@@ -0,0 +1,119 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para cambiar de estado un lote de solicitudes de préstamo.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - Los asesores aprueban o rechazan solicitudes en lotes
+ * - Solo cambian las solicitudes que se encuentran en el estado de origen indicado
+ * - El estado de destino debe existir y ser distinto del estado de origen
+ * - El tamaño del lote está limitado a un máximo permitido
+ * - Reporta por cada solicitud si el cambio fue exitoso o si hubo conflicto
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
+public class CambiarEstadoLoteUseCase {
+
+    public static final int TAMANO_LOTE_MAXIMO = 1000;
+
+    private final SolicitudRepository solicitudRepository;
+    private final EstadosRepository estadosRepository;
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     * @param estadosRepository repositorio de estados
+     */
+    public CambiarEstadoLoteUseCase(SolicitudRepository solicitudRepository,
+                                    EstadosRepository estadosRepository) {
+        this.solicitudRepository = solicitudRepository;
+        this.estadosRepository = estadosRepository;
+    }
+
+    /**
+     * Cambia de estado un lote de solicitudes.
+     *
+     * @param idsSolicitudes identificadores de las solicitudes (los duplicados se ignoran)
+     * @param estadoOrigen estado en el que deben encontrarse las solicitudes
+     * @param estadoDestino nuevo estado de las solicitudes
+     * @return Flux con un resultado por solicitud, en el orden recibido
+     * @throws IllegalArgumentException si los datos de entrada son inválidos
+     * @throws IllegalStateException si el estado de destino no existe
+     */
+    public Flux<ResultadoCambioEstado> cambiarEstado(Collection<SolicitudId> idsSolicitudes,
+                                                     EstadoId estadoOrigen,
+                                                     EstadoId estadoDestino) {
+        return Mono.fromCallable(() -> validarLote(idsSolicitudes, estadoOrigen, estadoDestino))
+                .flatMapMany(ids -> validarEstadoDestino(estadoDestino)
+                        .thenMany(Flux.defer(() -> solicitudRepository.cambiarEstadoEnLote(ids, estadoOrigen, estadoDestino)))
+                        .collectMap(ResultadoCambioEstado::idSolicitud, ResultadoCambioEstado::nuevaVersion)
+                        .flatMapMany(actualizadas -> Flux.fromIterable(ids)
+                                .map(id -> toResultado(id, actualizadas))));
+    }
+
+    /**
+     * Valida los datos del lote y elimina identificadores duplicados conservando el orden.
+     *
+     * @return conjunto ordenado de identificadores
+     * @throws IllegalArgumentException si los datos de entrada son inválidos
+     */
+    private Set<SolicitudId> validarLote(Collection<SolicitudId> idsSolicitudes,
+                                         EstadoId estadoOrigen,
+                                         EstadoId estadoDestino) {
+        if (idsSolicitudes == null || idsSolicitudes.isEmpty()) {
+            throw new IllegalArgumentException("El lote debe contener al menos una solicitud");
+        }
+        if (idsSolicitudes.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("El lote no puede contener identificadores nulos");
+        }
+        if (estadoOrigen == null || estadoDestino == null) {
+            throw new IllegalArgumentException("Los estados de origen y destino no pueden ser nulos");
+        }
+        if (estadoOrigen.equals(estadoDestino)) {
+            throw new IllegalArgumentException("El estado de destino debe ser distinto del estado de origen");
+        }
+        Set<SolicitudId> ids = new LinkedHashSet<>(idsSolicitudes);
+        if (ids.size() > TAMANO_LOTE_MAXIMO) {
+            throw new IllegalArgumentException(
+                    "El lote no puede superar " + TAMANO_LOTE_MAXIMO + " solicitudes");
+        }
+        return ids;
+    }
+
+    /**
+     * Valida que el estado de destino exista en el sistema.
+     *
+     * @throws IllegalStateException si el estado no existe
+     */
+    private Mono<Void> validarEstadoDestino(EstadoId estadoDestino) {
+        return estadosRepository.findById(estadoDestino)
+                .switchIfEmpty(Mono.error(new IllegalStateException(
+                        "El estado con ID " + estadoDestino.value() + " no existe")))
+                .then();
+    }
+
+    private static ResultadoCambioEstado toResultado(SolicitudId id, Map<SolicitudId, Long> actualizadas) {
+        Long nuevaVersion = actualizadas.get(id);
+        return nuevaVersion != null
+                ? ResultadoCambioEstado.exitoso(id, nuevaVersion)
+                : ResultadoCambioEstado.conflicto(id);
+    }
+}
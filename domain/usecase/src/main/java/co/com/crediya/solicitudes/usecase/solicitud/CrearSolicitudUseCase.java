@@ -1,10 +1,13 @@
 package co.com.crediya.solicitudes.usecase.solicitud;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 
 import co.com.crediya.solicitudes.model.estados.Estados;
 import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.GeneradorUuidV7;
 import co.com.crediya.solicitudes.model.solicitud.Solicitud;
 import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
 import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
@@ -14,6 +17,7 @@ import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoReposi
 import co.com.crediya.solicitudes.model.valueobjects.Email;
 import co.com.crediya.solicitudes.model.valueobjects.Monto;
 import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -25,6 +29,10 @@ import reactor.core.publisher.Mono;
  * - Valida que el monto esté dentro del rango permitido para el tipo de préstamo
  * - Genera un identificador único para la solicitud
  * - Persiste la solicitud en la base de datos
+ * - Permite preparar solicitudes de una carga masiva y guardarlas por lotes
+ * 
+ * Las consultas del tipo de préstamo y del estado inicial son independientes y se
+ * ejecutan en paralelo; los errores se reportan en el mismo orden de validación.
  * 
  * Sigue los principios de Arquitectura Hexagonal:
  * - Orquesta la lógica de negocio sin depender de detalles técnicos
@@ -34,6 +42,10 @@ import reactor.core.publisher.Mono;
  */
 public class CrearSolicitudUseCase {
     
+    public static final int TAMANO_LOTE_INSERCION = 100;
+    
+    private static final String ESTADO_INICIAL = "Pendiente de revisión";
+    
     private final SolicitudRepository solicitudRepository;
     private final TipoPrestamoRepository tipoPrestamoRepository;
     private final EstadosRepository estadosRepository;
@@ -58,13 +70,13 @@ public class CrearSolicitudUseCase {
     }
     
     /**
-     * Constructor por defecto que usa UUID.randomUUID() como generador.
+     * Constructor por defecto que usa UUID versión 7 (ordenados por tiempo) como generador.
      * Usado principalmente para testing y configuración automática.
      */
     public CrearSolicitudUseCase(SolicitudRepository solicitudRepository,
                                 TipoPrestamoRepository tipoPrestamoRepository,
                                 EstadosRepository estadosRepository) {
-        this(solicitudRepository, tipoPrestamoRepository, estadosRepository, UUID::randomUUID);
+        this(solicitudRepository, tipoPrestamoRepository, estadosRepository, GeneradorUuidV7.instancia());
     }
     
     /**
@@ -83,26 +95,95 @@ public class CrearSolicitudUseCase {
                                          Email emailSolicitante, 
                                          TipoPrestamoId idTipoPrestamo) {
         
-        return validarTipoPrestamo(idTipoPrestamo)
-                .flatMap(tipoPrestamo -> validarMontoParaTipoPrestamo(montoSolicitado, tipoPrestamo))
-                .flatMap(tipoPrestamo -> obtenerEstadoInicial()
-                        .flatMap(estadoInicial -> crearYGuardarSolicitud(
-                                montoSolicitado, 
-                                plazoMeses, 
-                                emailSolicitante, 
-                                tipoPrestamo, 
-                                estadoInicial)));
+        return prepararSolicitud(montoSolicitado, plazoMeses, emailSolicitante, idTipoPrestamo)
+                .flatMap(solicitudRepository::save);
+    }
+    
+    /**
+     * Valida los datos y construye una nueva solicitud sin persistirla.
+     * Permite validar cada solicitud de una carga masiva antes de guardarlas por lotes.
+     * 
+     * @param montoSolicitado monto del préstamo solicitado
+     * @param plazoMeses plazo en meses del préstamo
+     * @param emailSolicitante email del solicitante
+     * @param idTipoPrestamo identificador del tipo de préstamo
+     * @return Mono con la solicitud lista para guardar
+     * @throws IllegalArgumentException si los datos de entrada son inválidos
+     * @throws IllegalStateException si el tipo de préstamo no existe o el estado inicial no está disponible
+     */
+    public Mono<Solicitud> prepararSolicitud(Monto montoSolicitado, 
+                                            Plazo plazoMeses, 
+                                            Email emailSolicitante, 
+                                            TipoPrestamoId idTipoPrestamo) {
+        
+        return Mono.zip(buscarTipoPrestamo(idTipoPrestamo), buscarEstadoInicial())
+                .flatMap(consultas -> validarTipoPrestamo(idTipoPrestamo, consultas.getT1())
+                        .flatMap(tipoPrestamo -> validarMontoParaTipoPrestamo(montoSolicitado, tipoPrestamo))
+                        .flatMap(tipoPrestamo -> validarEstadoInicial(consultas.getT2())
+                                .map(estadoInicial -> construirSolicitud(
+                                        montoSolicitado, 
+                                        plazoMeses, 
+                                        emailSolicitante, 
+                                        tipoPrestamo, 
+                                        estadoInicial))));
+    }
+    
+    /**
+     * Guarda en una sola operación un lote de solicitudes previamente preparadas.
+     * 
+     * @param solicitudes solicitudes obtenidas con {@link #prepararSolicitud}
+     * @return Flux con las solicitudes guardadas
+     * @throws IllegalArgumentException si el lote es nulo o supera el tamaño máximo
+     */
+    public Flux<Solicitud> guardarSolicitudes(List<Solicitud> solicitudes) {
+        if (solicitudes == null) {
+            return Flux.error(new IllegalArgumentException("El lote de solicitudes no puede ser nulo"));
+        }
+        if (solicitudes.size() > TAMANO_LOTE_INSERCION) {
+            return Flux.error(new IllegalArgumentException(
+                    "El lote de solicitudes no puede superar " + TAMANO_LOTE_INSERCION + " elementos"));
+        }
+        if (solicitudes.isEmpty()) {
+            return Flux.empty();
+        }
+        return solicitudRepository.saveAll(solicitudes);
+    }
+    
+    /**
+     * Consulta el tipo de préstamo.
+     * Se ejecuta en paralelo con la consulta del estado inicial, ya que son independientes.
+     * 
+     * @param idTipoPrestamo identificador del tipo de préstamo
+     * @return Mono con el tipo de préstamo, o Optional vacío si no existe
+     */
+    private Mono<Optional<TipoPrestamo>> buscarTipoPrestamo(TipoPrestamoId idTipoPrestamo) {
+        return tipoPrestamoRepository.findById(idTipoPrestamo)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+    
+    /**
+     * Consulta el estado inicial "Pendiente de revisión".
+     * Se ejecuta en paralelo con la consulta del tipo de préstamo, ya que son independientes.
+     * 
+     * @return Mono con el estado inicial, o Optional vacío si no está disponible
+     */
+    private Mono<Optional<Estados>> buscarEstadoInicial() {
+        return estadosRepository.findByNombre(ESTADO_INICIAL)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
     }
     
     /**
      * Valida que el tipo de préstamo exista en el sistema.
      * 
      * @param idTipoPrestamo identificador del tipo de préstamo
+     * @param tipoPrestamo resultado de la consulta del tipo de préstamo
      * @return Mono con el tipo de préstamo si existe
      * @throws IllegalStateException si el tipo de préstamo no existe
      */
-    private Mono<TipoPrestamo> validarTipoPrestamo(TipoPrestamoId idTipoPrestamo) {
-        return tipoPrestamoRepository.findById(idTipoPrestamo)
+    private Mono<TipoPrestamo> validarTipoPrestamo(TipoPrestamoId idTipoPrestamo, Optional<TipoPrestamo> tipoPrestamo) {
+        return Mono.justOrEmpty(tipoPrestamo)
                 .switchIfEmpty(Mono.error(new IllegalStateException(
                         "El tipo de préstamo con ID " + idTipoPrestamo.value() + " no existe")));
     }
@@ -127,38 +208,39 @@ public class CrearSolicitudUseCase {
     }
     
     /**
-     * Obtiene el estado inicial "Pendiente de revisión" para la nueva solicitud.
+     * Valida que el estado inicial "Pendiente de revisión" esté disponible.
      * 
+     * @param estadoInicial resultado de la consulta del estado inicial
      * @return Mono con el estado inicial
      * @throws IllegalStateException si el estado inicial no está disponible
      */
-    private Mono<Estados> obtenerEstadoInicial() {
-        return estadosRepository.findByNombre("Pendiente de revisión")
+    private Mono<Estados> validarEstadoInicial(Optional<Estados> estadoInicial) {
+        return Mono.justOrEmpty(estadoInicial)
                 .switchIfEmpty(Mono.error(new IllegalStateException(
-                        "El estado inicial 'Pendiente de revisión' no está disponible en el sistema")));
+                        "El estado inicial '" + ESTADO_INICIAL + "' no está disponible en el sistema")));
     }
     
     /**
-     * Crea y guarda la solicitud en la base de datos.
+     * Construye la nueva solicitud con un identificador único y el estado inicial.
      * 
      * @param montoSolicitado monto del préstamo
      * @param plazoMeses plazo en meses
      * @param emailSolicitante email del solicitante
      * @param tipoPrestamo tipo de préstamo
      * @param estadoInicial estado inicial
-     * @return Mono con la solicitud guardada
+     * @return la solicitud lista para guardar
      */
-    private Mono<Solicitud> crearYGuardarSolicitud(Monto montoSolicitado, 
-                                                   Plazo plazoMeses, 
-                                                   Email emailSolicitante, 
-                                                   TipoPrestamo tipoPrestamo, 
-                                                   Estados estadoInicial) {
+    private Solicitud construirSolicitud(Monto montoSolicitado, 
+                                         Plazo plazoMeses, 
+                                         Email emailSolicitante, 
+                                         TipoPrestamo tipoPrestamo, 
+                                         Estados estadoInicial) {
         
         // Generar identificador único para la solicitud
         SolicitudId solicitudId = SolicitudId.newId(uuidGenerator);
         
         // Crear la entidad Solicitud
-        Solicitud solicitud = Solicitud.create(
+        return Solicitud.create(
                 solicitudId,
                 montoSolicitado,
                 plazoMeses,
@@ -166,8 +248,5 @@ public class CrearSolicitudUseCase {
                 estadoInicial.idEstado(),
                 tipoPrestamo.id()
         );
-        
-        // Guardar en la base de datos
-        return solicitudRepository.save(solicitud);
     }
 }
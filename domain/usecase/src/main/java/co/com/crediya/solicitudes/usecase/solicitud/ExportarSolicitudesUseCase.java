@@ -0,0 +1,40 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caso de uso para exportar todas las solicitudes de préstamo activas.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - Exporta las solicitudes activas en orden de fecha de creación ascendente
+ * - Entrega las solicitudes a medida que el consumidor las pide, sin reunirlas en memoria
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
+public class ExportarSolicitudesUseCase {
+
+    private final SolicitudRepository solicitudRepository;
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     */
+    public ExportarSolicitudesUseCase(SolicitudRepository solicitudRepository) {
+        this.solicitudRepository = solicitudRepository;
+    }
+
+    /**
+     * Exporta las solicitudes activas.
+     *
+     * @return Flux con las solicitudes; respeta la demanda del suscriptor hasta la base de datos
+     */
+    public Flux<Solicitud> exportar() {
+        return solicitudRepository.exportar();
+    }
+}
@@ -0,0 +1,315 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.FilaImportacion;
+import co.com.crediya.solicitudes.model.solicitud.LoteImportacion;
+import co.com.crediya.solicitudes.model.solicitud.RechazoImportacion;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudHistorica;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.ImportacionSolicitudesRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.Validacion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para importar solicitudes históricas migradas desde un sistema anterior.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - Cada fila se valida con los value objects del dominio; se reportan todos sus errores a la vez
+ * - El estado y el tipo de préstamo se indican por nombre y deben existir en los catálogos
+ * - La solicitud conserva su fecha de creación original y recibe un identificador nuevo
+ * - No se aplican los rangos de monto vigentes del tipo de préstamo: la solicitud ya existió
+ * - Las filas válidas se guardan por lotes; las inválidas se reportan sin detener la importación
+ *
+ * Los montos y emails que no caben en las columnas de solicitudes (DECIMAL(15,2) y 254
+ * caracteres) se rechazan al validar la fila, antes de enviarla al repositorio.
+ *
+ * Si el repositorio rechaza un lote por sus datos (IllegalArgumentException), el lote se divide
+ * en mitades hasta aislar las filas que fallan, de modo que una fila no impide cargar las demás.
+ * Tras {@link #PROFUNDIDAD_MAXIMA_DIVISION} divisiones, las filas restantes de una parte que
+ * sigue fallando se rechazan juntas en lugar de seguir dividiendo. Cualquier otro error (por
+ * ejemplo, sin conexión) detiene la importación.
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
+public class ImportarSolicitudesUseCase {
+
+    public static final int TAMANO_LOTE_POR_DEFECTO = 5000;
+
+    /**
+     * Veces que se divide a la mitad un lote rechazado; acota las cargas de un lote a 2^9 - 1.
+     */
+    static final int PROFUNDIDAD_MAXIMA_DIVISION = 8;
+
+    /**
+     * Mayor monto que admite la columna monto_solicitado, DECIMAL(15,2).
+     */
+    static final BigDecimal MONTO_MAXIMO = new BigDecimal("9999999999999.99");
+
+    /**
+     * Columnas de cada fila, en orden.
+     */
+    public static final List<String> COLUMNAS = List.of(
+            "monto_solicitado", "plazo_meses", "email_solicitante", "estado", "tipo_prestamo", "fecha_creacion");
+
+    private final ImportacionSolicitudesRepository importacionRepository;
+    private final EstadosRepository estadosRepository;
+    private final TipoPrestamoRepository tipoPrestamoRepository;
+    private final Supplier<UUID> uuidGenerator;
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param importacionRepository repositorio de carga masiva de solicitudes
+     * @param estadosRepository repositorio de estados
+     * @param tipoPrestamoRepository repositorio de tipos de préstamo
+     * @param uuidGenerator generador de UUIDs
+     */
+    public ImportarSolicitudesUseCase(ImportacionSolicitudesRepository importacionRepository,
+                                      EstadosRepository estadosRepository,
+                                      TipoPrestamoRepository tipoPrestamoRepository,
+                                      Supplier<UUID> uuidGenerator) {
+        this.importacionRepository = importacionRepository;
+        this.estadosRepository = estadosRepository;
+        this.tipoPrestamoRepository = tipoPrestamoRepository;
+        this.uuidGenerator = uuidGenerator;
+    }
+
+    /**
+     * Importa las filas recibidas por lotes.
+     *
+     * Las filas se leen a medida que se guardan los lotes: los lotes se guardan de a uno y solo
+     * se mantienen en memoria unos pocos, sin importar el tamaño del archivo.
+     *
+     * @param filas filas del archivo de origen, sin la cabecera
+     * @param tamanoLote número de filas por lote
+     * @return Flux con el resultado de cada lote, en orden
+     * @throws IllegalArgumentException si las filas son nulas o el tamaño de lote no es positivo
+     */
+    public Flux<LoteImportacion> importar(Flux<FilaImportacion> filas, int tamanoLote) {
+        if (filas == null) {
+            return Flux.error(new IllegalArgumentException("Las filas a importar no pueden ser nulas"));
+        }
+        if (tamanoLote < 1) {
+            return Flux.error(new IllegalArgumentException("El tamaño de lote debe ser al menos 1"));
+        }
+
+        return Mono.zip(
+                        estadosRepository.findAll().collectMap(estado -> normalizar(estado.nombre()), Estados::idEstado),
+                        tipoPrestamoRepository.findAll().collectMap(
+                                tipo -> normalizar(tipo.nombre().valor()), TipoPrestamo::id))
+                .flatMapMany(catalogos -> {
+                    AtomicLong numeroLote = new AtomicLong();
+                    return filas.buffer(tamanoLote)
+                            .concatMap(lote -> importarLote(numeroLote.incrementAndGet(), lote,
+                                    catalogos.getT1(), catalogos.getT2()), 1);
+                });
+    }
+
+    private Mono<LoteImportacion> importarLote(long numero, List<FilaImportacion> lote,
+                                               Map<String, EstadoId> estados,
+                                               Map<String, TipoPrestamoId> tipos) {
+        List<FilaValida> validas = new ArrayList<>(lote.size());
+        List<RechazoImportacion> rechazos = new ArrayList<>();
+        for (FilaImportacion fila : lote) {
+            List<String> errores = new ArrayList<>();
+            SolicitudHistorica solicitud = validar(fila, estados, tipos, errores);
+            if (errores.isEmpty()) {
+                validas.add(new FilaValida(fila, solicitud));
+            } else {
+                rechazos.add(new RechazoImportacion(fila.numero(), fila.linea(), String.join("; ", errores)));
+            }
+        }
+
+        return cargar(validas)
+                .map(carga -> {
+                    rechazos.addAll(carga.rechazos());
+                    return new LoteImportacion(numero, carga.cargadas(), rechazos);
+                });
+    }
+
+    /**
+     * Guarda las filas válidas; si el repositorio rechaza sus datos, divide el lote en mitades.
+     */
+    private Mono<Carga> cargar(List<FilaValida> validas) {
+        if (validas.isEmpty()) {
+            return Mono.just(new Carga(0, List.of()));
+        }
+        return intentar(validas)
+                .flatMap(intento -> intento.error() == null
+                        ? Mono.just(intento.carga())
+                        : dividir(validas, intento.error(), 1));
+    }
+
+    /**
+     * Guarda por separado las dos mitades de un lote rechazado y sigue dividiendo las que fallan
+     * hasta aislar sus filas. Al llegar a {@link #PROFUNDIDAD_MAXIMA_DIVISION} deja de dividir y
+     * rechaza de una vez las filas restantes.
+     */
+    private Mono<Carga> dividir(List<FilaValida> validas, IllegalArgumentException error, int profundidad) {
+        if (validas.size() == 1 || profundidad > PROFUNDIDAD_MAXIMA_DIVISION) {
+            return Mono.just(rechazar(validas, error));
+        }
+
+        int mitad = validas.size() / 2;
+        List<FilaValida> primera = validas.subList(0, mitad);
+        List<FilaValida> segunda = validas.subList(mitad, validas.size());
+        return intentar(primera)
+                .zipWith(Mono.defer(() -> intentar(segunda)))
+                .flatMap(intentos -> continuar(primera, intentos.getT1(), profundidad)
+                        .zipWith(Mono.defer(() -> continuar(segunda, intentos.getT2(), profundidad)), Carga::sumar));
+    }
+
+    private Mono<Carga> continuar(List<FilaValida> validas, Intento intento, int profundidad) {
+        return intento.error() == null
+                ? Mono.just(intento.carga())
+                : dividir(validas, intento.error(), profundidad + 1);
+    }
+
+    /**
+     * Guarda las filas en una sola carga; un rechazo de sus datos se devuelve como intento fallido.
+     */
+    private Mono<Intento> intentar(List<FilaValida> validas) {
+        List<SolicitudHistorica> solicitudes = validas.stream().map(FilaValida::solicitud).toList();
+        return Mono.defer(() -> importacionRepository.cargar(solicitudes))
+                .map(cargadas -> new Intento(new Carga(cargadas, List.of()), null))
+                .onErrorResume(IllegalArgumentException.class, error -> Mono.just(new Intento(null, error)));
+    }
+
+    private static Carga rechazar(List<FilaValida> validas, IllegalArgumentException error) {
+        String motivo = "No se pudo cargar: " + error.getMessage();
+        List<RechazoImportacion> rechazos = new ArrayList<>(validas.size());
+        for (FilaValida valida : validas) {
+            rechazos.add(new RechazoImportacion(valida.fila().numero(), valida.fila().linea(), motivo));
+        }
+        return new Carga(0, rechazos);
+    }
+
+    /**
+     * Valida una fila y construye la solicitud histórica.
+     *
+     * @param errores lista donde se agregan los errores de la fila
+     * @return la solicitud si la fila es válida, null si se agregaron errores
+     */
+    private SolicitudHistorica validar(FilaImportacion fila,
+                                       Map<String, EstadoId> estados,
+                                       Map<String, TipoPrestamoId> tipos,
+                                       List<String> errores) {
+        List<String> campos = fila.campos();
+        if (campos.size() != COLUMNAS.size()) {
+            errores.add("Se esperaban " + COLUMNAS.size() + " columnas y se encontraron " + campos.size());
+            return null;
+        }
+
+        Validacion<Monto> monto = parseMonto(campos.get(0));
+        Validacion<Plazo> plazo = parsePlazo(campos.get(1));
+        Validacion<Email> email = Email.parse(campos.get(2).trim());
+        Validacion<EstadoId> estado = buscar(estados, campos.get(3), "El estado ");
+        Validacion<TipoPrestamoId> tipo = buscar(tipos, campos.get(4), "El tipo de préstamo ");
+        Validacion<LocalDateTime> fechaCreacion = parseFecha(campos.get(5));
+        for (Validacion<?> validacion : List.of(monto, plazo, email, estado, tipo, fechaCreacion)) {
+            if (!validacion.esValida()) {
+                errores.add(validacion.error());
+            }
+        }
+        if (!errores.isEmpty()) {
+            return null;
+        }
+
+        Solicitud solicitud = Solicitud.create(SolicitudId.newId(uuidGenerator), monto.valor(), plazo.valor(),
+                email.valor(), estado.valor(), tipo.valor());
+        return new SolicitudHistorica(solicitud, fechaCreacion.valor());
+    }
+
+    private static Validacion<Monto> parseMonto(String texto) {
+        Validacion<BigDecimal> valor = parse(texto, BigDecimal::new, "Formato de monto inválido: ");
+        if (!valor.esValida()) {
+            return Validacion.invalida(valor.error());
+        }
+        Validacion<Monto> monto = Monto.parse(valor.valor());
+        if (monto.esValida() && monto.valor().valor().compareTo(MONTO_MAXIMO) > 0) {
+            return Validacion.invalida("El monto no puede superar " + MONTO_MAXIMO.toPlainString());
+        }
+        return monto;
+    }
+
+    private static Validacion<Plazo> parsePlazo(String texto) {
+        Validacion<Integer> meses = parse(texto, Integer::valueOf, "Formato de plazo inválido: ");
+        return meses.esValida() ? Plazo.parse(meses.valor()) : Validacion.invalida(meses.error());
+    }
+
+    /**
+     * Interpreta la fecha de creación como fecha y hora ISO (2024-03-15T10:30:00) o como
+     * fecha ISO (2024-03-15), en cuyo caso se toma el inicio del día.
+     */
+    private static Validacion<LocalDateTime> parseFecha(String texto) {
+        String fecha = texto.trim();
+        if (fecha.isEmpty()) {
+            return Validacion.invalida("La fecha de creación no puede ser nula o vacía");
+        }
+        try {
+            return Validacion.valida(fecha.length() == 10
+                    ? LocalDate.parse(fecha).atStartOfDay()
+                    : LocalDateTime.parse(fecha));
+        } catch (DateTimeParseException e) {
+            return Validacion.invalida("Formato de fecha de creación inválido: " + texto);
+        }
+    }
+
+    private static <T> Validacion<T> parse(String texto, Function<String, T> conversion, String error) {
+        try {
+            return Validacion.valida(conversion.apply(texto.trim()));
+        } catch (NumberFormatException e) {
+            return Validacion.invalida(error + texto);
+        }
+    }
+
+    private static <T> Validacion<T> buscar(Map<String, T> catalogo, String nombre, String descripcion) {
+        T id = catalogo.get(normalizar(nombre));
+        return id != null ? Validacion.valida(id) : Validacion.invalida(descripcion + nombre + " no existe");
+    }
+
+    private static String normalizar(String nombre) {
+        return nombre.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record FilaValida(FilaImportacion fila, SolicitudHistorica solicitud) {
+    }
+
+    private record Intento(Carga carga, IllegalArgumentException error) {
+    }
+
+    private record Carga(long cargadas, List<RechazoImportacion> rechazos) {
+
+        Carga sumar(Carga otra) {
+            List<RechazoImportacion> todos = new ArrayList<>(rechazos);
+            todos.addAll(otra.rechazos);
+            return new Carga(cargadas + otra.cargadas, todos);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import co.com.crediya.solicitudes.model.solicitud.EstadisticasSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para consultar las estadísticas de solicitudes por estado y por tipo de préstamo.
+ *
+ * Mantiene en memoria la última instantánea de las estadísticas (stale-while-revalidate):
+ * - Cada consulta responde de inmediato con la última instantánea, aunque esté vencida
+ * - Si la instantánea superó la vigencia, la consulta inicia un refresco en segundo plano
+ * - Solo la primera consulta, sin instantánea todavía, espera a que se calculen
+ * - Los refrescos concurrentes comparten una única consulta al repositorio
+ * - Si un refresco falla se conserva la instantánea anterior y se reintenta en la siguiente consulta
+ *
+ * El refresco también puede invocarse de forma periódica con refrescar(), para que las
+ * consultas encuentren la instantánea vigente.
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
+public class ObtenerEstadisticasUseCase {
+
+    public static final Duration VIGENCIA_POR_DEFECTO = Duration.ofSeconds(30);
+
+    private final SolicitudRepository solicitudRepository;
+    private final Duration vigencia;
+    private final Clock clock;
+    private final AtomicReference<EstadisticasSolicitudes> instantanea = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<EstadisticasSolicitudes>> refrescoEnCurso = new AtomicReference<>();
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     * @param vigencia tiempo durante el cual una instantánea se sirve sin refrescarla
+     */
+    public ObtenerEstadisticasUseCase(SolicitudRepository solicitudRepository, Duration vigencia) {
+        this(solicitudRepository, vigencia, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     * @param vigencia tiempo durante el cual una instantánea se sirve sin refrescarla
+     * @param clock reloj con el que se fecha cada instantánea
+     * @throws IllegalArgumentException si la vigencia es nula, cero o negativa
+     */
+    public ObtenerEstadisticasUseCase(SolicitudRepository solicitudRepository, Duration vigencia, Clock clock) {
+        if (vigencia == null || vigencia.isZero() || vigencia.isNegative()) {
+            throw new IllegalArgumentException("La vigencia de las estadísticas debe ser positiva");
+        }
+        this.solicitudRepository = solicitudRepository;
+        this.vigencia = vigencia;
+        this.clock = clock;
+    }
+
+    /**
+     * Obtiene las estadísticas de solicitudes.
+     *
+     * @return Mono con la última instantánea; solo espera a la base de datos si aún no hay ninguna
+     */
+    public Mono<EstadisticasSolicitudes> obtener() {
+        return Mono.defer(() -> {
+            EstadisticasSolicitudes actual = instantanea.get();
+            if (actual == null) {
+                return refrescar();
+            }
+            if (vencida(actual)) {
+                refrescar().subscribe(estadisticas -> { }, error -> { });
+            }
+            return Mono.just(actual);
+        });
+    }
+
+    /**
+     * Recalcula las estadísticas y reemplaza la instantánea. Si ya hay un refresco en curso,
+     * retorna su resultado en lugar de iniciar otro.
+     *
+     * @return Mono con la nueva instantánea
+     */
+    public Mono<EstadisticasSolicitudes> refrescar() {
+        return Mono.defer(() -> {
+            CompletableFuture<EstadisticasSolicitudes> nuevo = new CompletableFuture<>();
+            CompletableFuture<EstadisticasSolicitudes> enCurso = refrescoEnCurso.compareAndExchange(null, nuevo);
+            if (enCurso != null) {
+                return Mono.fromFuture(enCurso, true);
+            }
+
+            // El refresco continúa aunque quien lo inició cancele, para que lo aprovechen los demás
+            calcular()
+                    .doOnNext(instantanea::set)
+                    .doFinally(signal -> refrescoEnCurso.set(null))
+                    .subscribe(nuevo::complete, nuevo::completeExceptionally);
+            return Mono.fromFuture(nuevo, true);
+        });
+    }
+
+    private Mono<EstadisticasSolicitudes> calcular() {
+        return Mono.zip(
+                        solicitudRepository.findEstadisticasPorEstado().collectList(),
+                        solicitudRepository.findEstadisticasPorTipoPrestamo().collectList())
+                .map(conteos -> new EstadisticasSolicitudes(conteos.getT1(), conteos.getT2(), clock.instant()));
+    }
+
+    private boolean vencida(EstadisticasSolicitudes estadisticas) {
+        return clock.instant().isAfter(estadisticas.calculadasEn().plus(vigencia));
+    }
+}
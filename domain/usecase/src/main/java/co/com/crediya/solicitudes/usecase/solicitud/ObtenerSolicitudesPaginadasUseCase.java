@@ -1,4 +1,52 @@
 package co.com.crediya.solicitudes.usecase.solicitud;
 
+import co.com.crediya.solicitudes.model.solicitud.CursorSolicitud;
+import co.com.crediya.solicitudes.model.solicitud.PaginaSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para listar solicitudes de préstamo de forma paginada.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - Usa paginación por clave (keyset) sobre (fecha de creación, identificador)
+ * - El costo de cualquier página es equivalente al de la primera
+ * - Limita el tamaño de página a un máximo permitido
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
 public class ObtenerSolicitudesPaginadasUseCase {
+
+    public static final int TAMANO_PAGINA_POR_DEFECTO = 20;
+    public static final int TAMANO_PAGINA_MAXIMO = 100;
+
+    private final SolicitudRepository solicitudRepository;
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     */
+    public ObtenerSolicitudesPaginadasUseCase(SolicitudRepository solicitudRepository) {
+        this.solicitudRepository = solicitudRepository;
+    }
+
+    /**
+     * Obtiene una página de solicitudes.
+     *
+     * @param cursor cursor de la página anterior, null para obtener la primera página
+     * @param tamanoPagina número de solicitudes por página
+     * @return Mono con la página de solicitudes y el cursor de la siguiente
+     * @throws IllegalArgumentException si el tamaño de página está fuera del rango permitido
+     */
+    public Mono<PaginaSolicitudes> obtenerPagina(CursorSolicitud cursor, int tamanoPagina) {
+        if (tamanoPagina < 1 || tamanoPagina > TAMANO_PAGINA_MAXIMO) {
+            return Mono.error(new IllegalArgumentException(
+                    "El tamaño de página debe estar entre 1 y " + TAMANO_PAGINA_MAXIMO));
+        }
+        return solicitudRepository.findPagina(cursor, tamanoPagina);
+    }
 }
@@ -0,0 +1,66 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.CuotaAmortizacion;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso para obtener la tabla de amortización de una solicitud de préstamo.
+ *
+ * Este caso de uso implementa las siguientes reglas de negocio:
+ * - La solicitud y su tipo de préstamo deben existir
+ * - La tabla se calcula con la tasa del tipo de préstamo, el monto y el plazo de la solicitud
+ * - Las cuotas se emiten a medida que se calculan, sin construir la tabla en memoria
+ *
+ * Sigue los principios de Arquitectura Hexagonal:
+ * - Orquesta la lógica de negocio sin depender de detalles técnicos
+ * - Utiliza programación reactiva con Project Reactor
+ * - Maneja errores de negocio de forma explícita
+ */
+public class ObtenerTablaAmortizacionUseCase {
+
+    private final SolicitudRepository solicitudRepository;
+    private final TipoPrestamoRepository tipoPrestamoRepository;
+
+    /**
+     * Constructor del caso de uso.
+     *
+     * @param solicitudRepository repositorio de solicitudes
+     * @param tipoPrestamoRepository repositorio de tipos de préstamo
+     */
+    public ObtenerTablaAmortizacionUseCase(SolicitudRepository solicitudRepository,
+                                           TipoPrestamoRepository tipoPrestamoRepository) {
+        this.solicitudRepository = solicitudRepository;
+        this.tipoPrestamoRepository = tipoPrestamoRepository;
+    }
+
+    /**
+     * Obtiene la tabla de amortización de una solicitud.
+     *
+     * @param idSolicitud identificador de la solicitud
+     * @return Flux con las cuotas en orden, desde la cuota 1
+     * @throws IllegalArgumentException si el identificador es nulo
+     * @throws IllegalStateException si la solicitud o su tipo de préstamo no existen
+     */
+    public Flux<CuotaAmortizacion> obtenerTabla(SolicitudId idSolicitud) {
+        if (idSolicitud == null) {
+            return Flux.error(new IllegalArgumentException("El identificador de la solicitud es requerido"));
+        }
+        return solicitudRepository.findById(idSolicitud)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "La solicitud con ID " + idSolicitud.value() + " no existe")))
+                .flatMapMany(this::generarTabla);
+    }
+
+    private Flux<CuotaAmortizacion> generarTabla(Solicitud solicitud) {
+        return tipoPrestamoRepository.findById(solicitud.idTipoPrestamo())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "El tipo de préstamo con ID " + solicitud.idTipoPrestamo().value() + " no existe")))
+                .flatMapMany(tipoPrestamo -> Flux.fromStream(
+                        () -> tipoPrestamo.tablaAmortizacion(solicitud.monto(), solicitud.plazo())));
+    }
+}
@@ -0,0 +1,186 @@
+package co.com.crediya.solicitudes.usecase.simulacion;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso SimularCuotasUseCase.
+ *
+ * Estos tests verifican:
+ * - Cálculo de la matriz de cuotas en el orden de los montos y plazos recibidos
+ * - Reparto de las grillas grandes en el Scheduler de simulación
+ * - Validación de la grilla, de los montos y de la existencia del tipo de préstamo
+ */
+@ExtendWith(MockitoExtension.class)
+class SimularCuotasUseCaseTest {
+
+    private static final int PARALELISMO = 4;
+
+    @Mock
+    private TipoPrestamoRepository tipoPrestamoRepository;
+
+    private Scheduler scheduler;
+    private SimularCuotasUseCase useCase;
+    private TipoPrestamo tipoPrestamo;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newParallel("simulacion-test", PARALELISMO);
+        useCase = new SimularCuotasUseCase(tipoPrestamoRepository, scheduler, PARALELISMO);
+        tipoPrestamo = TipoPrestamo.crear(
+                TipoPrestamoId.random(),
+                Nombre.of("Préstamo Personal"),
+                Monto.of(new BigDecimal("1000000")),
+                Monto.of(new BigDecimal("50000000")),
+                TasaInteres.of(new BigDecimal("1.8")),
+                true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("Debería calcular una fila por monto y una columna por plazo")
+    void deberiaCalcularGrillaPequena() {
+        // Given
+        List<Monto> montos = List.of(Monto.of("5000000"), Monto.of("1000000"));
+        List<Plazo> plazos = List.of(Plazo.of(12), Plazo.of(36), Plazo.of(6));
+        when(tipoPrestamoRepository.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+
+        // When & Then
+        StepVerifier.create(useCase.simular(tipoPrestamo.id(), montos, plazos))
+                .assertNext(simulacion -> {
+                    assertThat(simulacion.idTipoPrestamo()).isEqualTo(tipoPrestamo.id());
+                    assertThat(simulacion.montos()).isEqualTo(montos);
+                    assertThat(simulacion.plazos()).isEqualTo(plazos);
+                    assertThat(simulacion.cuotas()).hasSize(2);
+                    assertThat(simulacion.cuotas().get(0)).containsExactly(
+                            tipoPrestamo.calcularCuotaMensual(montos.get(0), 12).valor(),
+                            tipoPrestamo.calcularCuotaMensual(montos.get(0), 36).valor(),
+                            tipoPrestamo.calcularCuotaMensual(montos.get(0), 6).valor());
+                    assertThat(simulacion.cuotas().get(1).get(2))
+                            .isEqualTo(tipoPrestamo.calcularCuotaMensual(montos.get(1), 6).valor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería repartir una grilla grande en el Scheduler de simulación conservando el orden")
+    void deberiaCalcularGrillaGrandeEnParalelo() {
+        // Given: 400 montos x 120 plazos, muy por encima de un bloque
+        List<Monto> montos = IntStream.range(0, 400)
+                .mapToObj(i -> Monto.of(BigDecimal.valueOf(1_000_000L + i * 100_000L)))
+                .toList();
+        List<Plazo> plazos = IntStream.rangeClosed(1, Plazo.MAXIMO_MESES).mapToObj(Plazo::of).toList();
+        Set<String> hilos = ConcurrentHashMap.newKeySet();
+        when(tipoPrestamoRepository.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+
+        // When & Then
+        StepVerifier.create(useCase.simular(tipoPrestamo.id(), montos, plazos)
+                        .doOnNext(simulacion -> hilos.add(Thread.currentThread().getName())))
+                .assertNext(simulacion -> {
+                    assertThat(simulacion.cuotas()).hasSize(400);
+                    assertThat(simulacion.cuotas()).allSatisfy(fila -> assertThat(fila).hasSize(Plazo.MAXIMO_MESES));
+                    for (int i = 0; i < montos.size(); i += 37) {
+                        assertThat(simulacion.cuotas().get(i).get(59))
+                                .as("monto %s a 60 meses", montos.get(i).valor())
+                                .isEqualTo(tipoPrestamo.calcularCuotaMensual(montos.get(i), 60).valor());
+                    }
+                })
+                .verifyComplete();
+        assertThat(hilos).allMatch(hilo -> hilo.startsWith("simulacion-test"));
+    }
+
+    @Test
+    @DisplayName("Debería fallar si algún monto está fuera del rango del tipo de préstamo")
+    void deberiaFallarConMontoFueraDeRango() {
+        // Given
+        when(tipoPrestamoRepository.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+
+        // When & Then
+        StepVerifier.create(useCase.simular(tipoPrestamo.id(),
+                        List.of(Monto.of("5000000"), Monto.of("60000000")), List.of(Plazo.of(12))))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().contains("no está dentro del rango permitido")
+                        && error.getMessage().contains("Préstamo Personal"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería fallar si el tipo de préstamo no existe")
+    void deberiaFallarSiElTipoPrestamoNoExiste() {
+        // Given
+        when(tipoPrestamoRepository.findById(tipoPrestamo.id())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.simular(tipoPrestamo.id(), List.of(Monto.of("5000000")), List.of(Plazo.of(12))))
+                .expectErrorMatches(error -> error instanceof IllegalStateException
+                        && error.getMessage().equals("El tipo de préstamo con ID " + tipoPrestamo.id().value() + " no existe"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una grilla vacía sin consultar el repositorio")
+    void deberiaRechazarGrillaVacia() {
+        // When & Then
+        StepVerifier.create(useCase.simular(tipoPrestamo.id(), List.of(), List.of(Plazo.of(12))))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().equals("Se requiere al menos un monto y un plazo para simular"))
+                .verify();
+        verifyNoInteractions(tipoPrestamoRepository);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una grilla con más montos de los permitidos")
+    void deberiaRechazarGrillaDemasiadoGrande() {
+        // Given
+        List<Monto> montos = IntStream.rangeClosed(0, SimularCuotasUseCase.MAXIMO_MONTOS)
+                .mapToObj(i -> Monto.of("5000000"))
+                .toList();
+
+        // When & Then
+        StepVerifier.create(useCase.simular(tipoPrestamo.id(), montos, List.of(Plazo.of(12))))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                        && error.getMessage().equals("La simulación admite como máximo 500 montos y 120 plazos"))
+                .verify();
+        verifyNoInteractions(tipoPrestamoRepository);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar el ID de tipo de préstamo nulo")
+    void deberiaRechazarIdNulo() {
+        // When & Then
+        StepVerifier.create(useCase.simular(null, List.of(Monto.of("5000000")), List.of(Plazo.of(12))))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(tipoPrestamoRepository);
+    }
+}
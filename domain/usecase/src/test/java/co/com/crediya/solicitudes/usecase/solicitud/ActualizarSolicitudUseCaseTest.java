@@ -0,0 +1,159 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.ConflictoConcurrenciaException;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso ActualizarSolicitudUseCase.
+ * 
+ * Estos tests verifican:
+ * - Actualización exitosa con la versión esperada
+ * - Propagación del conflicto de concurrencia
+ * - Cambio de estado validando que el estado exista
+ * - Validación de datos de entrada nulos
+ */
+@ExtendWith(MockitoExtension.class)
+class ActualizarSolicitudUseCaseTest {
+    
+    @Mock
+    private SolicitudRepository solicitudRepository;
+    
+    @Mock
+    private EstadosRepository estadosRepository;
+    
+    private ActualizarSolicitudUseCase useCase;
+    private Solicitud solicitud;
+    private EstadoId estadoAprobada;
+    
+    @BeforeEach
+    void setUp() {
+        useCase = new ActualizarSolicitudUseCase(solicitudRepository, estadosRepository);
+        solicitud = Solicitud.from(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("5000000")),
+                Plazo.of(24),
+                Email.of("cliente@test.com"),
+                EstadoId.random(),
+                TipoPrestamoId.random(),
+                2L);
+        estadoAprobada = EstadoId.random();
+    }
+    
+    @Test
+    @DisplayName("Debería actualizar la solicitud con la versión esperada")
+    void deberiaActualizarSolicitud() {
+        // Given
+        Solicitud actualizada = Solicitud.from(solicitud.id(), solicitud.monto(), solicitud.plazo(),
+                solicitud.email(), solicitud.idEstado(), solicitud.idTipoPrestamo(), 3L);
+        when(solicitudRepository.update(solicitud)).thenReturn(Mono.just(actualizada));
+        
+        // When & Then
+        StepVerifier.create(useCase.actualizarSolicitud(solicitud))
+                .assertNext(resultado -> assertThat(resultado.version()).isEqualTo(3L))
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería propagar el conflicto de concurrencia")
+    void deberiaPropagarConflictoConcurrencia() {
+        // Given
+        when(solicitudRepository.update(solicitud))
+                .thenReturn(Mono.error(new ConflictoConcurrenciaException(solicitud.id(), solicitud.version())));
+        
+        // When & Then
+        StepVerifier.create(useCase.actualizarSolicitud(solicitud))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(ConflictoConcurrenciaException.class)
+                            .isInstanceOf(IllegalStateException.class);
+                    assertThat(((ConflictoConcurrenciaException) error).versionEsperada()).isEqualTo(2L);
+                })
+                .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar una solicitud nula")
+    void deberiaRechazarSolicitudNula() {
+        // When & Then
+        StepVerifier.create(useCase.actualizarSolicitud(null))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().equals("La solicitud a actualizar no puede ser nula"))
+                .verify();
+        
+        verifyNoInteractions(solicitudRepository);
+    }
+    
+    @Test
+    @DisplayName("Debería cambiar el estado conservando la versión esperada")
+    void deberiaCambiarEstado() {
+        // Given
+        Estados aprobada = Estados.create(estadoAprobada, "Aprobada", "Solicitud aprobada");
+        when(estadosRepository.findById(estadoAprobada)).thenReturn(Mono.just(aprobada));
+        when(solicitudRepository.update(any(Solicitud.class)))
+                .thenAnswer(invocation -> {
+                    Solicitud enviada = invocation.getArgument(0);
+                    return Mono.just(Solicitud.from(enviada.id(), enviada.monto(), enviada.plazo(),
+                            enviada.email(), enviada.idEstado(), enviada.idTipoPrestamo(), enviada.version() + 1));
+                });
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(solicitud, estadoAprobada))
+                .assertNext(resultado -> {
+                    assertThat(resultado.idEstado()).isEqualTo(estadoAprobada);
+                    assertThat(resultado.version()).isEqualTo(3L);
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería fallar cuando el nuevo estado no existe")
+    void deberiaFallarCuandoEstadoNoExiste() {
+        // Given
+        when(estadosRepository.findById(estadoAprobada)).thenReturn(Mono.empty());
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(solicitud, estadoAprobada))
+                .expectErrorMatches(error -> error instanceof IllegalStateException &&
+                        error.getMessage().equals("El estado con ID " + estadoAprobada.value() + " no existe"))
+                .verify();
+        
+        verify(solicitudRepository, never()).update(any(Solicitud.class));
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un nuevo estado nulo")
+    void deberiaRechazarEstadoNulo() {
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(solicitud, null))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().equals("El nuevo estado no puede ser nulo"))
+                .verify();
+        
+        verifyNoInteractions(solicitudRepository, estadosRepository);
+    }
+}
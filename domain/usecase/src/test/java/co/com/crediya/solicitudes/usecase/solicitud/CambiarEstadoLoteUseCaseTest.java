@@ -0,0 +1,166 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso CambiarEstadoLoteUseCase.
+ * 
+ * Estos tests verifican:
+ * - Reporte por solicitud de cambios exitosos y conflictos
+ * - Eliminación de identificadores duplicados
+ * - Validación del estado de destino
+ * - Validación del lote (vacío, nulos, tamaño máximo, estados iguales)
+ */
+@ExtendWith(MockitoExtension.class)
+class CambiarEstadoLoteUseCaseTest {
+    
+    @Mock
+    private SolicitudRepository solicitudRepository;
+    
+    @Mock
+    private EstadosRepository estadosRepository;
+    
+    private CambiarEstadoLoteUseCase useCase;
+    private EstadoId pendiente;
+    private EstadoId aprobada;
+    
+    @BeforeEach
+    void setUp() {
+        useCase = new CambiarEstadoLoteUseCase(solicitudRepository, estadosRepository);
+        pendiente = EstadoId.random();
+        aprobada = EstadoId.random();
+    }
+    
+    @Test
+    @DisplayName("Debería reportar éxito o conflicto por cada solicitud en el orden recibido")
+    void deberiaReportarResultadoPorSolicitud() {
+        // Given
+        SolicitudId primera = SolicitudId.random();
+        SolicitudId segunda = SolicitudId.random();
+        SolicitudId tercera = SolicitudId.random();
+        when(estadosRepository.findById(aprobada))
+                .thenReturn(Mono.just(Estados.create(aprobada, "Aprobada", "Solicitud aprobada")));
+        when(solicitudRepository.cambiarEstadoEnLote(Set.of(primera, segunda, tercera), pendiente, aprobada))
+                .thenReturn(Flux.just(
+                        ResultadoCambioEstado.exitoso(tercera, 2L),
+                        ResultadoCambioEstado.exitoso(primera, 5L)));
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(List.of(primera, segunda, tercera), pendiente, aprobada))
+                .expectNext(ResultadoCambioEstado.exitoso(primera, 5L))
+                .expectNext(ResultadoCambioEstado.conflicto(segunda))
+                .expectNext(ResultadoCambioEstado.exitoso(tercera, 2L))
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería ignorar identificadores duplicados")
+    void deberiaIgnorarDuplicados() {
+        // Given
+        SolicitudId id = SolicitudId.random();
+        when(estadosRepository.findById(aprobada))
+                .thenReturn(Mono.just(Estados.create(aprobada, "Aprobada", "Solicitud aprobada")));
+        when(solicitudRepository.cambiarEstadoEnLote(Set.of(id), pendiente, aprobada))
+                .thenReturn(Flux.just(ResultadoCambioEstado.exitoso(id, 1L)));
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(List.of(id, id), pendiente, aprobada))
+                .expectNext(ResultadoCambioEstado.exitoso(id, 1L))
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería fallar cuando el estado de destino no existe")
+    void deberiaFallarCuandoEstadoDestinoNoExiste() {
+        // Given
+        when(estadosRepository.findById(aprobada)).thenReturn(Mono.empty());
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(List.of(SolicitudId.random()), pendiente, aprobada))
+                .expectErrorMatches(error -> error instanceof IllegalStateException &&
+                        error.getMessage().equals("El estado con ID " + aprobada.value() + " no existe"))
+                .verify();
+        
+        verify(solicitudRepository, never()).cambiarEstadoEnLote(any(), any(), eq(aprobada));
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un lote vacío")
+    void deberiaRechazarLoteVacio() {
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(List.of(), pendiente, aprobada))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().equals("El lote debe contener al menos una solicitud"))
+                .verify();
+        
+        verifyNoInteractions(solicitudRepository, estadosRepository);
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un lote con identificadores nulos")
+    void deberiaRechazarLoteConNulos() {
+        // Given
+        List<SolicitudId> ids = new ArrayList<>();
+        ids.add(SolicitudId.random());
+        ids.add(null);
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(ids, pendiente, aprobada))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar estados de origen y destino iguales")
+    void deberiaRechazarEstadosIguales() {
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(List.of(SolicitudId.random()), pendiente, pendiente))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().equals("El estado de destino debe ser distinto del estado de origen"))
+                .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar lotes que superan el tamaño máximo")
+    void deberiaRechazarLoteDemasiadoGrande() {
+        // Given
+        List<SolicitudId> ids = IntStream.rangeClosed(0, CambiarEstadoLoteUseCase.TAMANO_LOTE_MAXIMO)
+                .mapToObj(i -> SolicitudId.random())
+                .toList();
+        
+        // When & Then
+        StepVerifier.create(useCase.cambiarEstado(ids, pendiente, aprobada))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().equals("El lote no puede superar 1000 solicitudes"))
+                .verify();
+        
+        assertThat(ids).hasSize(CambiarEstadoLoteUseCase.TAMANO_LOTE_MAXIMO + 1);
+    }
+}
@@ -1,6 +1,9 @@
 package co.com.crediya.solicitudes.usecase.solicitud;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -10,7 +13,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -18,6 +25,7 @@ import co.com.crediya.solicitudes.model.estados.EstadoId;
 import co.com.crediya.solicitudes.model.estados.Estados;
 import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
 import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
 import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
 import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
 import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
@@ -27,6 +35,7 @@ import co.com.crediya.solicitudes.model.valueobjects.Monto;
 import co.com.crediya.solicitudes.model.valueobjects.Nombre;
 import co.com.crediya.solicitudes.model.valueobjects.Plazo;
 import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -40,6 +49,7 @@ import reactor.test.StepVerifier;
  * - Validación de estado inicial no disponible
  * - Manejo correcto de errores de negocio
  * - Casos límite (monto mínimo y máximo)
+ * - Consultas del tipo de préstamo y del estado inicial en paralelo
  */
 @ExtendWith(MockitoExtension.class)
 class CrearSolicitudUseCaseTest {
@@ -136,6 +146,8 @@ class CrearSolicitudUseCaseTest {
         // Given
         when(tipoPrestamoRepository.findById(idTipoPrestamo))
                 .thenReturn(Mono.empty());
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenReturn(Mono.just(estadoInicial));
         
         // When & Then
         StepVerifier.create(useCase.crearSolicitud(montoSolicitado, plazoMeses, emailSolicitante, idTipoPrestamo))
@@ -153,6 +165,8 @@ class CrearSolicitudUseCaseTest {
         
         when(tipoPrestamoRepository.findById(idTipoPrestamo))
                 .thenReturn(Mono.just(tipoPrestamo));
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenReturn(Mono.just(estadoInicial));
         
         // When & Then
         StepVerifier.create(useCase.crearSolicitud(montoFueraDeRango, plazoMeses, emailSolicitante, idTipoPrestamo))
@@ -171,6 +185,8 @@ class CrearSolicitudUseCaseTest {
         
         when(tipoPrestamoRepository.findById(idTipoPrestamo))
                 .thenReturn(Mono.just(tipoPrestamo));
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenReturn(Mono.just(estadoInicial));
         
         // When & Then
         StepVerifier.create(useCase.crearSolicitud(montoMenorAlMinimo, plazoMeses, emailSolicitante, idTipoPrestamo))
@@ -349,6 +365,8 @@ class CrearSolicitudUseCaseTest {
         
         when(tipoPrestamoRepository.findById(idTipoPrestamo))
                 .thenReturn(Mono.error(errorRepositorio));
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenReturn(Mono.just(estadoInicial));
         
         // When & Then
         StepVerifier.create(useCase.crearSolicitud(montoSolicitado, plazoMeses, emailSolicitante, idTipoPrestamo))
@@ -405,4 +423,99 @@ class CrearSolicitudUseCaseTest {
                 })
                 .verifyComplete();
     }
+    
+    @Test
+    @DisplayName("Debería reportar primero el tipo de préstamo inexistente aunque el estado inicial tampoco exista")
+    void deberiaPriorizarErrorDeTipoPrestamo() {
+        // Given
+        when(tipoPrestamoRepository.findById(idTipoPrestamo))
+                .thenReturn(Mono.empty());
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenReturn(Mono.empty());
+        
+        // When & Then
+        StepVerifier.create(useCase.crearSolicitud(montoSolicitado, plazoMeses, emailSolicitante, idTipoPrestamo))
+                .expectErrorMatches(error -> 
+                        error instanceof IllegalStateException &&
+                        error.getMessage().contains("El tipo de préstamo con ID " + TIPO_PRESTAMO_ID + " no existe"))
+                .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería consultar tipo de préstamo y estado en paralelo: latencia = max(tipo, estado) + insert")
+    void deberiaConsultarTipoYEstadoEnParalelo() {
+        // Given
+        when(tipoPrestamoRepository.findById(idTipoPrestamo))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(80)).thenReturn(tipoPrestamo));
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(100)).thenReturn(estadoInicial));
+        when(solicitudRepository.save(any(Solicitud.class)))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(50))
+                        .thenReturn(invocation.<Solicitud>getArgument(0)));
+        
+        // When & Then: en serie serían 80 + 100 + 50 = 230 ms; en paralelo, max(80, 100) + 50 = 150 ms
+        StepVerifier.withVirtualTime(() -> 
+                        useCase.crearSolicitud(montoSolicitado, plazoMeses, emailSolicitante, idTipoPrestamo))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(149))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería preparar la solicitud sin guardarla")
+    void deberiaPrepararSolicitudSinGuardarla() {
+        // Given
+        when(tipoPrestamoRepository.findById(idTipoPrestamo))
+                .thenReturn(Mono.just(tipoPrestamo));
+        when(estadosRepository.findByNombre("Pendiente de revisión"))
+                .thenReturn(Mono.just(estadoInicial));
+        
+        // When & Then
+        StepVerifier.create(useCase.prepararSolicitud(montoSolicitado, plazoMeses, emailSolicitante, idTipoPrestamo))
+                .expectNextMatches(solicitud -> 
+                        solicitud.id().value().equals(SOLICITUD_ID) &&
+                        solicitud.idEstado().equals(estadoInicial.idEstado()))
+                .verifyComplete();
+        
+        verify(solicitudRepository, never()).save(any(Solicitud.class));
+    }
+    
+    @Test
+    @DisplayName("Debería guardar un lote de solicitudes preparadas en una sola operación")
+    void deberiaGuardarLoteDeSolicitudes() {
+        // Given
+        List<Solicitud> lote = List.of(
+                Solicitud.create(SolicitudId.random(), montoSolicitado, plazoMeses, emailSolicitante,
+                        estadoInicial.idEstado(), tipoPrestamo.id()),
+                Solicitud.create(SolicitudId.random(), montoSolicitado, plazoMeses, emailSolicitante,
+                        estadoInicial.idEstado(), tipoPrestamo.id()));
+        when(solicitudRepository.saveAll(lote))
+                .thenReturn(Flux.fromIterable(lote));
+        
+        // When & Then
+        StepVerifier.create(useCase.guardarSolicitudes(lote))
+                .expectNextSequence(lote)
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar lotes que superan el tamaño máximo y no consultar con lotes vacíos")
+    void deberiaValidarTamanoDelLote() {
+        // Given
+        Solicitud solicitud = Solicitud.create(SolicitudId.random(), montoSolicitado, plazoMeses, emailSolicitante,
+                estadoInicial.idEstado(), tipoPrestamo.id());
+        List<Solicitud> demasiadas = Collections.nCopies(CrearSolicitudUseCase.TAMANO_LOTE_INSERCION + 1, solicitud);
+        
+        // When & Then
+        StepVerifier.create(useCase.guardarSolicitudes(demasiadas))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(useCase.guardarSolicitudes(List.of()))
+                .verifyComplete();
+        
+        verify(solicitudRepository, never()).saveAll(anyList());
+        verifyNoInteractions(tipoPrestamoRepository, estadosRepository);
+    }
 }
@@ -0,0 +1,82 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso ExportarSolicitudesUseCase.
+ *
+ * Estos tests verifican:
+ * - Exportación de las solicitudes que entrega el repositorio
+ * - Propagación de la demanda del consumidor hasta el repositorio
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportarSolicitudesUseCaseTest {
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    private ExportarSolicitudesUseCase useCase;
+    private Solicitud solicitud;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportarSolicitudesUseCase(solicitudRepository);
+        solicitud = Solicitud.create(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("5000000")),
+                Plazo.of(24),
+                Email.of("cliente@test.com"),
+                EstadoId.random(),
+                TipoPrestamoId.random());
+    }
+
+    @Test
+    @DisplayName("Debería exportar las solicitudes del repositorio en su orden")
+    void deberiaExportarSolicitudes() {
+        // Given
+        when(solicitudRepository.exportar()).thenReturn(Flux.just(solicitud));
+
+        // When & Then
+        StepVerifier.create(useCase.exportar())
+                .expectNext(solicitud)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería pedir al repositorio solo las solicitudes que el consumidor demanda")
+    void deberiaPropagarDemandaAlRepositorio() {
+        // Given
+        AtomicLong solicitadas = new AtomicLong();
+        when(solicitudRepository.exportar()).thenReturn(Flux.range(0, 1_000_000)
+                .doOnRequest(solicitadas::addAndGet)
+                .map(i -> solicitud));
+
+        // When & Then
+        StepVerifier.create(useCase.exportar(), 3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+        assertThat(solicitadas.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,326 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.model.solicitud.FilaImportacion;
+import co.com.crediya.solicitudes.model.solicitud.RechazoImportacion;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudHistorica;
+import co.com.crediya.solicitudes.model.solicitud.gateways.ImportacionSolicitudesRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso ImportarSolicitudesUseCase.
+ *
+ * Estos tests verifican:
+ * - Construcción de las solicitudes históricas con su fecha de creación original
+ * - Rechazo de filas inválidas con todos sus errores, sin detener la importación
+ * - Carga por lotes leyendo las filas a medida que se guardan
+ * - Aislamiento de las filas que el repositorio rechaza dividiendo el lote
+ * - Propagación de los errores que no son de datos
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportarSolicitudesUseCaseTest {
+
+    private static final UUID SOLICITUD_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final EstadoId APROBADA = EstadoId.newId(() -> UUID.fromString("123e4567-e89b-12d3-a456-426614174002"));
+    private static final String RECHAZADA = "rechazada@crediya.com";
+    private static final TipoPrestamoId PERSONAL =
+            TipoPrestamoId.newId(() -> UUID.fromString("123e4567-e89b-12d3-a456-426614174001"));
+
+    @Mock
+    private ImportacionSolicitudesRepository importacionRepository;
+
+    @Mock
+    private EstadosRepository estadosRepository;
+
+    @Mock
+    private TipoPrestamoRepository tipoPrestamoRepository;
+
+    private ImportarSolicitudesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportarSolicitudesUseCase(importacionRepository, estadosRepository, tipoPrestamoRepository,
+                () -> SOLICITUD_ID);
+        lenient().when(estadosRepository.findAll()).thenReturn(Flux.just(Estados.create(APROBADA, "Aprobada", "Aprobada")));
+        lenient().when(tipoPrestamoRepository.findAll()).thenReturn(Flux.just(TipoPrestamo.crear(PERSONAL,
+                Nombre.of("Préstamo Personal"), Monto.of(new BigDecimal("1000000")),
+                Monto.of(new BigDecimal("10000000")), TasaInteres.of(new BigDecimal("15.5")), true)));
+    }
+
+    @Test
+    @DisplayName("Debería cargar la solicitud histórica con su fecha de creación original")
+    void deberiaCargarSolicitudHistorica() {
+        // Given
+        List<List<SolicitudHistorica>> cargados = new ArrayList<>();
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation -> {
+            List<SolicitudHistorica> lote = invocation.getArgument(0);
+            cargados.add(lote);
+            return Mono.just((long) lote.size());
+        });
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.just(
+                        fila(2, "500000000,36,cliente@crediya.com, aprobada ,PRÉSTAMO PERSONAL,2019-03-15T10:30:00"),
+                        fila(3, "1500000.5,12,otro@crediya.com,Aprobada,Préstamo Personal,2019-04-01")), 10))
+                .assertNext(lote -> {
+                    assertThat(lote.numero()).isEqualTo(1);
+                    assertThat(lote.cargadas()).isEqualTo(2);
+                    assertThat(lote.rechazos()).isEmpty();
+                })
+                .verifyComplete();
+
+        SolicitudHistorica primera = cargados.get(0).get(0);
+        assertThat(primera.solicitud().id().value()).isEqualTo(SOLICITUD_ID);
+        assertThat(primera.solicitud().monto()).isEqualTo(Monto.of(new BigDecimal("500000000")));
+        assertThat(primera.solicitud().plazo().meses()).isEqualTo(36);
+        assertThat(primera.solicitud().idEstado()).isEqualTo(APROBADA);
+        assertThat(primera.solicitud().idTipoPrestamo()).isEqualTo(PERSONAL);
+        assertThat(primera.solicitud().version()).isZero();
+        assertThat(primera.fechaCreacion()).isEqualTo(LocalDateTime.of(2019, 3, 15, 10, 30));
+        assertThat(cargados.get(0).get(1).fechaCreacion()).isEqualTo(LocalDateTime.of(2019, 4, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar las filas inválidas con todos sus errores y cargar las demás")
+    void deberiaRechazarFilasInvalidas() {
+        // Given
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation ->
+                Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.just(
+                        fila(2, "abc,0,sin-arroba,Archivada,Préstamo Personal,ayer"),
+                        fila(3, "1000000,12,cliente@crediya.com,Aprobada,Préstamo Personal,2020-01-01"),
+                        fila(4, "1000000,12,cliente@crediya.com"),
+                        fila(5, "-1,12,cliente@crediya.com,Aprobada,Hipotecario,2020-01-01")), 10))
+                .assertNext(lote -> {
+                    assertThat(lote.cargadas()).isEqualTo(1);
+                    assertThat(lote.rechazos()).extracting(RechazoImportacion::numero).containsExactly(2L, 4L, 5L);
+                    assertThat(lote.rechazos().get(0).motivo())
+                            .contains("Formato de monto inválido: abc")
+                            .contains("El plazo debe ser al menos 1 mes")
+                            .contains("Formato de email inválido: sin-arroba")
+                            .contains("El estado Archivada no existe")
+                            .contains("Formato de fecha de creación inválido: ayer");
+                    assertThat(lote.rechazos().get(0).linea())
+                            .isEqualTo("abc,0,sin-arroba,Archivada,Préstamo Personal,ayer");
+                    assertThat(lote.rechazos().get(1).motivo()).isEqualTo("Se esperaban 6 columnas y se encontraron 3");
+                    assertThat(lote.rechazos().get(2).motivo())
+                            .isEqualTo("El monto no puede ser negativo; El tipo de préstamo Hipotecario no existe");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería cargar por lotes leyendo las filas a medida que se guardan")
+    void deberiaCargarPorLotesBajoDemanda() {
+        // Given
+        AtomicLong solicitadas = new AtomicLong();
+        Flux<FilaImportacion> filas = Flux.range(2, 100)
+                .map(numero -> fila(numero, "1000000,12,cliente@crediya.com,Aprobada,Préstamo Personal,2020-01-01"))
+                .doOnRequest(solicitadas::addAndGet);
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation ->
+                Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+
+        // When & Then
+        StepVerifier.create(useCase.importar(filas, 10), 1)
+                .assertNext(lote -> assertThat(lote.cargadas()).isEqualTo(10))
+                .then(() -> assertThat(solicitadas.get()).isLessThanOrEqualTo(30))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(8)
+                .assertNext(lote -> {
+                    assertThat(lote.numero()).isEqualTo(10);
+                    assertThat(lote.cargadas()).isEqualTo(10);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería dividir el lote para aislar las filas que el repositorio rechaza")
+    void deberiaAislarFilasRechazadasPorElRepositorio() {
+        // Given
+        AtomicInteger cargas = new AtomicInteger();
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation -> {
+            cargas.incrementAndGet();
+            List<SolicitudHistorica> lote = invocation.getArgument(0);
+            return contieneRechazada(lote)
+                    ? Mono.error(new IllegalArgumentException("violates check constraint"))
+                    : Mono.just((long) lote.size());
+        });
+        List<FilaImportacion> filas = new ArrayList<>();
+        for (int numero = 2; numero <= 17; numero++) {
+            String email = numero == 7 ? RECHAZADA : "cliente@crediya.com";
+            filas.add(fila(numero, "1000000,12," + email + ",Aprobada,Préstamo Personal,2020-01-01"));
+        }
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.fromIterable(filas), 16))
+                .assertNext(lote -> {
+                    assertThat(lote.cargadas()).isEqualTo(15);
+                    assertThat(lote.rechazos()).singleElement().satisfies(rechazo -> {
+                        assertThat(rechazo.numero()).isEqualTo(7);
+                        assertThat(rechazo.motivo()).isEqualTo("No se pudo cargar: violates check constraint");
+                    });
+                })
+                .verifyComplete();
+        // 1 lote completo + 2 mitades + 2 cuartos + 2 octavos + 2 filas
+        assertThat(cargas.get()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Debería cargar las demás filas aunque dos filas de mitades opuestas fallen con el mismo mensaje")
+    void deberiaAislarFilasRechazadasConElMismoMensajeEnMitadesOpuestas() {
+        // Given
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation -> {
+            List<SolicitudHistorica> lote = invocation.getArgument(0);
+            return contieneRechazada(lote)
+                    ? Mono.error(new IllegalArgumentException("violates check constraint"))
+                    : Mono.just((long) lote.size());
+        });
+        List<FilaImportacion> filas = new ArrayList<>();
+        for (int numero = 2; numero <= 101; numero++) {
+            String email = numero == 10 || numero == 90 ? RECHAZADA : "cliente@crediya.com";
+            filas.add(fila(numero, "1000000,12," + email + ",Aprobada,Préstamo Personal,2020-01-01"));
+        }
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.fromIterable(filas), 100))
+                .assertNext(lote -> {
+                    assertThat(lote.cargadas()).isEqualTo(98);
+                    assertThat(lote.rechazos()).extracting(RechazoImportacion::numero).containsExactly(10L, 90L);
+                    assertThat(lote.rechazos()).allSatisfy(rechazo -> assertThat(rechazo.motivo())
+                            .isEqualTo("No se pudo cargar: violates check constraint"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar al validar los montos y emails que no caben en sus columnas")
+    void deberiaRechazarValoresFueraDeLasColumnasAntesDeCargar() {
+        // Given
+        List<List<SolicitudHistorica>> cargados = new ArrayList<>();
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation -> {
+            List<SolicitudHistorica> lote = invocation.getArgument(0);
+            cargados.add(lote);
+            return Mono.just((long) lote.size());
+        });
+        String emailLargo = "a".repeat(243) + "@crediya.com";
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.just(
+                        fila(2, "10000000000000,12,cliente@crediya.com,Aprobada,Préstamo Personal,2020-01-01"),
+                        fila(3, "9999999999999.99,12,cliente@crediya.com,Aprobada,Préstamo Personal,2020-01-01"),
+                        fila(4, "1000000,12," + emailLargo + ",Aprobada,Préstamo Personal,2020-01-01")), 10))
+                .assertNext(lote -> {
+                    assertThat(lote.cargadas()).isEqualTo(1);
+                    assertThat(lote.rechazos()).extracting(RechazoImportacion::motivo).containsExactly(
+                            "El monto no puede superar 9999999999999.99",
+                            "El email no puede tener más de 254 caracteres");
+                })
+                .verifyComplete();
+        assertThat(cargados).singleElement().satisfies(lote -> assertThat(lote).singleElement()
+                .satisfies(solicitud -> assertThat(solicitud.solicitud().monto().valor())
+                        .isEqualByComparingTo(ImportarSolicitudesUseCase.MONTO_MAXIMO)));
+    }
+
+    @Test
+    @DisplayName("Debería dejar de dividir el lote al llegar a la profundidad máxima")
+    void deberiaAcotarLaDivisionDelLote() {
+        // Given
+        AtomicInteger cargas = new AtomicInteger();
+        when(importacionRepository.cargar(anyList())).thenAnswer(invocation ->
+                Mono.error(new IllegalArgumentException("error de datos " + cargas.incrementAndGet())));
+        List<FilaImportacion> filas = new ArrayList<>();
+        for (int numero = 2; numero <= 601; numero++) {
+            filas.add(fila(numero, "1000000,12,cliente@crediya.com,Aprobada,Préstamo Personal,2020-01-01"));
+        }
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.fromIterable(filas), 600))
+                .assertNext(lote -> {
+                    assertThat(lote.cargadas()).isZero();
+                    assertThat(lote.rechazos()).hasSize(600);
+                })
+                .verifyComplete();
+        assertThat(cargas.get()).isEqualTo((1 << (ImportarSolicitudesUseCase.PROFUNDIDAD_MAXIMA_DIVISION + 1)) - 1);
+    }
+
+    @Test
+    @DisplayName("Debería detener la importación ante un error que no es de datos")
+    void deberiaPropagarErroresQueNoSonDeDatos() {
+        // Given
+        when(importacionRepository.cargar(anyList())).thenReturn(Mono.error(new IllegalStateException("Sin conexión")));
+
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.just(
+                        fila(2, "1000000,12,cliente@crediya.com,Aprobada,Préstamo Personal,2020-01-01")), 10))
+                .expectErrorMessage("Sin conexión")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería omitir el repositorio cuando ninguna fila del lote es válida")
+    void deberiaOmitirRepositorioSinFilasValidas() {
+        // When & Then
+        StepVerifier.create(useCase.importar(Flux.just(fila(2, "x,x,x,x,x,x")), 10))
+                .assertNext(lote -> {
+                    assertThat(lote.cargadas()).isZero();
+                    assertThat(lote.filas()).isEqualTo(1);
+                })
+                .verifyComplete();
+
+        verify(importacionRepository, never()).cargar(anyList());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar filas nulas o un tamaño de lote no positivo")
+    void deberiaRechazarParametrosInvalidos() {
+        // When & Then
+        StepVerifier.create(useCase.importar(null, 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(useCase.importar(Flux.empty(), 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static boolean contieneRechazada(List<SolicitudHistorica> lote) {
+        return lote.stream().anyMatch(solicitud -> solicitud.solicitud().email().value().equals(RECHAZADA));
+    }
+
+    private static FilaImportacion fila(long numero, String linea) {
+        return new FilaImportacion(numero, linea, Arrays.asList(linea.split(",", -1)));
+    }
+}
@@ -0,0 +1,210 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.solicitud.ConteoSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.EstadisticasSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso ObtenerEstadisticasUseCase.
+ *
+ * Estos tests verifican:
+ * - Cálculo de la primera instantánea y reutilización mientras está vigente
+ * - Respuesta inmediata con la instantánea vencida y refresco en segundo plano
+ * - Una única consulta al repositorio para refrescos concurrentes
+ * - Conservación de la instantánea anterior cuando el refresco falla
+ */
+@ExtendWith(MockitoExtension.class)
+class ObtenerEstadisticasUseCaseTest {
+
+    private static final Duration VIGENCIA = Duration.ofSeconds(30);
+
+    private static final ConteoSolicitudes APROBADAS = new ConteoSolicitudes("Aprobada", 7);
+    private static final ConteoSolicitudes RECHAZADAS = new ConteoSolicitudes("Rechazada", 3);
+    private static final ConteoSolicitudes PERSONAL = new ConteoSolicitudes("Préstamo Personal", 10);
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    private RelojAjustable reloj;
+    private ObtenerEstadisticasUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        reloj = new RelojAjustable(Instant.parse("2026-10-17T12:00:00Z"));
+        useCase = new ObtenerEstadisticasUseCase(solicitudRepository, VIGENCIA, reloj);
+    }
+
+    @Test
+    @DisplayName("Debería calcular la primera instantánea y reutilizarla mientras está vigente")
+    void deberiaReutilizarInstantaneaVigente() {
+        // Given
+        when(solicitudRepository.findEstadisticasPorEstado()).thenReturn(Flux.just(APROBADAS, RECHAZADAS));
+        when(solicitudRepository.findEstadisticasPorTipoPrestamo()).thenReturn(Flux.just(PERSONAL));
+
+        // When & Then
+        StepVerifier.create(useCase.obtener())
+                .assertNext(estadisticas -> {
+                    assertThat(estadisticas.porEstado()).containsExactly(APROBADAS, RECHAZADAS);
+                    assertThat(estadisticas.porTipoPrestamo()).containsExactly(PERSONAL);
+                    assertThat(estadisticas.calculadasEn()).isEqualTo(reloj.instant());
+                })
+                .verifyComplete();
+
+        reloj.avanzar(VIGENCIA);
+        StepVerifier.create(useCase.obtener())
+                .assertNext(estadisticas -> assertThat(estadisticas.total()).isEqualTo(10))
+                .verifyComplete();
+
+        verify(solicitudRepository, times(1)).findEstadisticasPorEstado();
+        verify(solicitudRepository, times(1)).findEstadisticasPorTipoPrestamo();
+    }
+
+    @Test
+    @DisplayName("Debería responder con la instantánea vencida y refrescarla en segundo plano")
+    void deberiaServirVencidaYRefrescarEnSegundoPlano() {
+        // Given
+        Sinks.Many<ConteoSolicitudes> refresco = Sinks.many().unicast().onBackpressureBuffer();
+        when(solicitudRepository.findEstadisticasPorEstado())
+                .thenReturn(Flux.just(APROBADAS), refresco.asFlux());
+        when(solicitudRepository.findEstadisticasPorTipoPrestamo()).thenReturn(Flux.just(PERSONAL));
+        EstadisticasSolicitudes primera = useCase.obtener().block();
+        reloj.avanzar(VIGENCIA.plusSeconds(1));
+
+        // When & Then
+        StepVerifier.create(useCase.obtener())
+                .expectNext(primera)
+                .verifyComplete();
+
+        refresco.tryEmitNext(RECHAZADAS);
+        refresco.tryEmitComplete();
+
+        StepVerifier.create(useCase.obtener())
+                .assertNext(estadisticas -> {
+                    assertThat(estadisticas.porEstado()).containsExactly(RECHAZADAS);
+                    assertThat(estadisticas.calculadasEn()).isEqualTo(reloj.instant());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería compartir una única consulta entre refrescos concurrentes")
+    void deberiaCompartirRefrescosConcurrentes() {
+        // Given
+        Sinks.Many<ConteoSolicitudes> porEstado = Sinks.many().unicast().onBackpressureBuffer();
+        when(solicitudRepository.findEstadisticasPorEstado()).thenReturn(porEstado.asFlux());
+        when(solicitudRepository.findEstadisticasPorTipoPrestamo()).thenReturn(Flux.just(PERSONAL));
+
+        // When
+        StepVerifier primera = StepVerifier.create(useCase.obtener())
+                .expectNextMatches(estadisticas -> estadisticas.total() == 7)
+                .expectComplete()
+                .verifyLater();
+        StepVerifier segunda = StepVerifier.create(useCase.refrescar())
+                .expectNextMatches(estadisticas -> estadisticas.total() == 7)
+                .expectComplete()
+                .verifyLater();
+        porEstado.tryEmitNext(APROBADAS);
+        porEstado.tryEmitComplete();
+
+        // Then
+        primera.verify();
+        segunda.verify();
+        verify(solicitudRepository, times(1)).findEstadisticasPorEstado();
+    }
+
+    @Test
+    @DisplayName("Debería conservar la instantánea anterior cuando el refresco falla")
+    void deberiaConservarInstantaneaSiElRefrescoFalla() {
+        // Given
+        when(solicitudRepository.findEstadisticasPorEstado())
+                .thenReturn(Flux.just(APROBADAS), Flux.error(new IllegalStateException("Sin conexión")));
+        when(solicitudRepository.findEstadisticasPorTipoPrestamo()).thenReturn(Flux.just(PERSONAL));
+        EstadisticasSolicitudes primera = useCase.obtener().block();
+
+        // When & Then
+        StepVerifier.create(useCase.refrescar())
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(useCase.obtener())
+                .expectNext(primera)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería propagar el error si aún no hay instantánea")
+    void deberiaPropagarErrorSinInstantanea() {
+        // Given
+        when(solicitudRepository.findEstadisticasPorEstado())
+                .thenReturn(Flux.error(new IllegalStateException("Sin conexión")));
+        when(solicitudRepository.findEstadisticasPorTipoPrestamo()).thenReturn(Flux.just(PERSONAL));
+
+        // When & Then
+        StepVerifier.create(useCase.obtener())
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una vigencia nula, cero o negativa")
+    void deberiaRechazarVigenciaInvalida() {
+        // When & Then
+        assertThatThrownBy(() -> new ObtenerEstadisticasUseCase(solicitudRepository, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ObtenerEstadisticasUseCase(solicitudRepository, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ObtenerEstadisticasUseCase(solicitudRepository, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Reloj cuyo instante avanza solo cuando el test lo indica.
+     */
+    private static final class RelojAjustable extends Clock {
+
+        private Instant instante;
+
+        RelojAjustable(Instant instante) {
+            this.instante = instante;
+        }
+
+        void avanzar(Duration duracion) {
+            instante = instante.plus(duracion);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instante;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.CursorSolicitud;
+import co.com.crediya.solicitudes.model.solicitud.PaginaSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso ObtenerSolicitudesPaginadasUseCase.
+ *
+ * Estos tests verifican:
+ * - Obtención de la primera página sin cursor
+ * - Obtención de páginas siguientes a partir de un cursor
+ * - Validación del tamaño de página
+ */
+@ExtendWith(MockitoExtension.class)
+class ObtenerSolicitudesPaginadasUseCaseTest {
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    private ObtenerSolicitudesPaginadasUseCase useCase;
+    private Solicitud solicitud;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ObtenerSolicitudesPaginadasUseCase(solicitudRepository);
+        solicitud = Solicitud.create(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("5000000")),
+                Plazo.of(24),
+                Email.of("cliente@test.com"),
+                EstadoId.random(),
+                TipoPrestamoId.random());
+    }
+
+    @Test
+    @DisplayName("Debería obtener la primera página cuando no hay cursor")
+    void deberiaObtenerPrimeraPagina() {
+        // Given
+        CursorSolicitud siguiente = new CursorSolicitud(LocalDateTime.now(), solicitud.id());
+        when(solicitudRepository.findPagina(null, 1))
+                .thenReturn(Mono.just(new PaginaSolicitudes(List.of(solicitud), siguiente)));
+
+        // When & Then
+        StepVerifier.create(useCase.obtenerPagina(null, 1))
+                .assertNext(pagina -> {
+                    assertThat(pagina.solicitudes()).containsExactly(solicitud);
+                    assertThat(pagina.tieneSiguiente()).isTrue();
+                    assertThat(pagina.siguienteCursor()).isEqualTo(siguiente);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería obtener la página siguiente a partir del cursor")
+    void deberiaObtenerPaginaSiguiente() {
+        // Given
+        CursorSolicitud cursor = new CursorSolicitud(LocalDateTime.now(), SolicitudId.random());
+        when(solicitudRepository.findPagina(cursor, 20))
+                .thenReturn(Mono.just(new PaginaSolicitudes(List.of(solicitud), null)));
+
+        // When & Then
+        StepVerifier.create(useCase.obtenerPagina(cursor, 20))
+                .assertNext(pagina -> {
+                    assertThat(pagina.solicitudes()).hasSize(1);
+                    assertThat(pagina.tieneSiguiente()).isFalse();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar tamaños de página fuera del rango permitido")
+    void deberiaRechazarTamanoPaginaInvalido() {
+        // When & Then
+        StepVerifier.create(useCase.obtenerPagina(null, 0))
+                .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                        error.getMessage().equals("El tamaño de página debe estar entre 1 y 100"))
+                .verify();
+
+        StepVerifier.create(useCase.obtenerPagina(null, 101))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(solicitudRepository);
+    }
+}
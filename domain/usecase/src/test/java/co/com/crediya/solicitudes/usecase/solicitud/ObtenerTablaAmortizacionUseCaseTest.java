@@ -0,0 +1,128 @@
+package co.com.crediya.solicitudes.usecase.solicitud;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios para el caso de uso ObtenerTablaAmortizacionUseCase.
+ *
+ * Estos tests verifican:
+ * - Generación de una cuota por mes del plazo de la solicitud
+ * - Errores cuando la solicitud o su tipo de préstamo no existen
+ * - Validación del identificador de la solicitud
+ */
+@ExtendWith(MockitoExtension.class)
+class ObtenerTablaAmortizacionUseCaseTest {
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    @Mock
+    private TipoPrestamoRepository tipoPrestamoRepository;
+
+    private ObtenerTablaAmortizacionUseCase useCase;
+    private Solicitud solicitud;
+    private TipoPrestamo tipoPrestamo;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ObtenerTablaAmortizacionUseCase(solicitudRepository, tipoPrestamoRepository);
+        tipoPrestamo = TipoPrestamo.crear(
+                TipoPrestamoId.random(),
+                Nombre.of("Préstamo Personal"),
+                Monto.of(new BigDecimal("1000000")),
+                Monto.of(new BigDecimal("10000000")),
+                TasaInteres.of(new BigDecimal("1.8")),
+                true);
+        solicitud = Solicitud.create(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("5000000")),
+                Plazo.of(24),
+                Email.of("cliente@test.com"),
+                EstadoId.random(),
+                tipoPrestamo.id());
+    }
+
+    @Test
+    @DisplayName("Debería emitir una cuota por mes hasta saldar el préstamo")
+    void deberiaEmitirTablaDeAmortizacion() {
+        // Given
+        when(solicitudRepository.findById(solicitud.id())).thenReturn(Mono.just(solicitud));
+        when(tipoPrestamoRepository.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+
+        // When & Then
+        StepVerifier.create(useCase.obtenerTabla(solicitud.id()))
+                .assertNext(cuota -> {
+                    assertThat(cuota.numero()).isEqualTo(1);
+                    assertThat(cuota.cuota()).isEqualTo(tipoPrestamo.calcularCuotaMensual(solicitud.monto(), 24).valor());
+                })
+                .expectNextCount(22)
+                .assertNext(cuota -> {
+                    assertThat(cuota.numero()).isEqualTo(24);
+                    assertThat(cuota.saldo()).isEqualByComparingTo(BigDecimal.ZERO);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debería fallar cuando la solicitud no existe")
+    void deberiaFallarCuandoSolicitudNoExiste() {
+        // Given
+        when(solicitudRepository.findById(solicitud.id())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.obtenerTabla(solicitud.id()))
+                .expectErrorMatches(error -> error instanceof IllegalStateException &&
+                        error.getMessage().equals("La solicitud con ID " + solicitud.id().value() + " no existe"))
+                .verify();
+        verifyNoInteractions(tipoPrestamoRepository);
+    }
+
+    @Test
+    @DisplayName("Debería fallar cuando el tipo de préstamo de la solicitud no existe")
+    void deberiaFallarCuandoTipoPrestamoNoExiste() {
+        // Given
+        when(solicitudRepository.findById(solicitud.id())).thenReturn(Mono.just(solicitud));
+        when(tipoPrestamoRepository.findById(tipoPrestamo.id())).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.obtenerTabla(solicitud.id()))
+                .expectErrorMatches(error -> error instanceof IllegalStateException &&
+                        error.getMessage().contains("no existe"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un identificador nulo sin consultar repositorios")
+    void deberiaRechazarIdentificadorNulo() {
+        // When & Then
+        StepVerifier.create(useCase.obtenerTabla(null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(solicitudRepository, tipoPrestamoRepository);
+    }
+}
@@ -0,0 +1,156 @@
+package co.com.crediya.solicitudes.r2dbc.adapters;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudHistorica;
+import co.com.crediya.solicitudes.model.solicitud.gateways.ImportacionSolicitudesRepository;
+import co.com.crediya.solicitudes.r2dbc.helper.ErroresPostgresql;
+import co.com.crediya.solicitudes.r2dbc.particiones.SolicitudParticionesRepository;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.ReferenceCountUtil;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementación R2DBC de ImportacionSolicitudesRepository con el protocolo COPY de PostgreSQL.
+ *
+ * Cada lote se envía con una única sentencia COPY ... FROM STDIN en formato de texto, en lugar
+ * de un INSERT por solicitud: el servidor no planifica ni ejecuta una sentencia por fila y el
+ * driver no espera una respuesta por fila. Las filas se codifican en mensajes de
+ * {@link #FILAS_POR_MENSAJE} a medida que el driver los envía, sin armar el lote completo en
+ * un solo buffer; los mensajes que el driver descarta sin enviar (por ejemplo, si la conexión
+ * falla a mitad del lote) se liberan. COPY es una sola sentencia: el lote se guarda completo o
+ * no se guarda.
+ *
+ * - Antes del COPY se crean las particiones de los meses del lote que aún no tienen; la tabla
+ *   no tiene partición DEFAULT y las solicitudes históricas suelen caer en meses anteriores
+ * - Los triggers por sentencia de solicitudes se ejecutan una vez por lote y mantienen
+ *   solicitud_contadores al día (V4__contadores_solicitudes.sql)
+ * - Los errores de datos de PostgreSQL (clases 22 y 23, por ejemplo un monto que excede
+ *   DECIMAL(15,2)) se reportan como IllegalArgumentException; el resto se propaga sin cambios
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImportacionSolicitudesRepositoryAdapter implements ImportacionSolicitudesRepository {
+
+    static final String COPY_SQL = """
+        COPY solicitudes (id_solicitud, monto_solicitado, plazo_meses, email_solicitante, id_estado,
+                          id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo)
+        FROM STDIN
+        """;
+
+    static final int FILAS_POR_MENSAJE = 256;
+
+    private static final int BYTES_POR_FILA = 160;
+
+    private final R2dbcEntityTemplate template;
+    private final SolicitudParticionesRepository particiones;
+    private final Set<YearMonth> mesesConParticion = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Mono<Long> cargar(List<SolicitudHistorica> lote) {
+        if (lote == null) {
+            return Mono.error(new IllegalArgumentException("El lote de solicitudes no puede ser nulo"));
+        }
+        if (lote.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return crearParticiones(lote)
+                .then(template.getDatabaseClient().inConnection(conexion -> postgresql(conexion)
+                        .copyIn(COPY_SQL, Flux.fromIterable(lote)
+                                .buffer(FILAS_POR_MENSAJE)
+                                .map(filas -> codificar(filas, ByteBufAllocator.DEFAULT))
+                                .doOnDiscard(ByteBuf.class, ReferenceCountUtil::release))
+                        // Los operadores del driver que encolan mensajes descartan con este contexto
+                        .doOnDiscard(ByteBuf.class, ReferenceCountUtil::release)))
+                .onErrorMap(ErroresPostgresql::esErrorDeDatos,
+                        error -> new IllegalArgumentException(ErroresPostgresql.mensaje(error), error));
+    }
+
+    private Mono<Void> crearParticiones(List<SolicitudHistorica> lote) {
+        return Flux.defer(() -> {
+                    Set<YearMonth> meses = new TreeSet<>();
+                    for (SolicitudHistorica solicitud : lote) {
+                        YearMonth mes = YearMonth.from(solicitud.fechaCreacion());
+                        if (!mesesConParticion.contains(mes)) {
+                            meses.add(mes);
+                        }
+                    }
+                    return Flux.fromIterable(meses);
+                })
+                .concatMap(mes -> particiones.crearParticiones(mes, 0)
+                        .then(Mono.fromRunnable(() -> mesesConParticion.add(mes))))
+                .then();
+    }
+
+    /**
+     * Codifica las filas en el formato de texto de COPY: columnas separadas por tabulador y
+     * una línea por fila. fecha_actualizacion toma la fecha de creación.
+     */
+    static ByteBuf codificar(List<SolicitudHistorica> filas, ByteBufAllocator allocator) {
+        StringBuilder texto = new StringBuilder(filas.size() * BYTES_POR_FILA);
+        for (SolicitudHistorica historica : filas) {
+            Solicitud solicitud = historica.solicitud();
+            String fecha = historica.fechaCreacion().toString();
+            texto.append(solicitud.id().value()).append('\t')
+                    .append(solicitud.monto().valor().toPlainString()).append('\t')
+                    .append(solicitud.plazo().meses()).append('\t');
+            escapar(solicitud.email().value(), texto);
+            texto.append('\t')
+                    .append(solicitud.idEstado().value()).append('\t')
+                    .append(solicitud.idTipoPrestamo().value()).append('\t')
+                    .append(solicitud.version()).append('\t')
+                    .append(fecha).append('\t')
+                    .append(fecha).append('\t')
+                    .append('t').append('\n');
+        }
+        ByteBuf buffer = allocator.buffer(texto.length());
+        buffer.writeCharSequence(texto, StandardCharsets.UTF_8);
+        return buffer;
+    }
+
+    /**
+     * Escapa los caracteres con significado en el formato de texto de COPY.
+     */
+    static void escapar(String valor, StringBuilder texto) {
+        for (int i = 0; i < valor.length(); i++) {
+            char caracter = valor.charAt(i);
+            switch (caracter) {
+                case '\\' -> texto.append("\\\\");
+                case '\t' -> texto.append("\\t");
+                case '\n' -> texto.append("\\n");
+                case '\r' -> texto.append("\\r");
+                default -> texto.append(caracter);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la conexión del driver de PostgreSQL detrás de las envolturas del pool y de Spring.
+     */
+    static PostgresqlConnection postgresql(Connection conexion) {
+        Object actual = conexion;
+        while (!(actual instanceof PostgresqlConnection) && actual instanceof Wrapped<?> envoltura) {
+            actual = envoltura.unwrap();
+        }
+        if (actual instanceof PostgresqlConnection postgresql) {
+            return postgresql;
+        }
+        throw new IllegalStateException("La carga con COPY requiere una conexión de r2dbc-postgresql: " + conexion);
+    }
+}
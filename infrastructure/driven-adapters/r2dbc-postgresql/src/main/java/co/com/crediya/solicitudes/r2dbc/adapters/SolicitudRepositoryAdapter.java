@@ -1,20 +1,36 @@
 package co.com.crediya.solicitudes.r2dbc.adapters;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 
 import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.ConflictoConcurrenciaException;
+import co.com.crediya.solicitudes.model.solicitud.ConteoSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.CursorSolicitud;
+import co.com.crediya.solicitudes.model.solicitud.PaginaSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
 import co.com.crediya.solicitudes.model.solicitud.Solicitud;
 import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
 import co.com.crediya.solicitudes.model.solicitud.gateways.SolicitudRepository;
 import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
 import co.com.crediya.solicitudes.model.valueobjects.Email;
 import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.r2dbc.batch.SolicitudInsertBatcher;
+import co.com.crediya.solicitudes.r2dbc.config.SolicitudExportacionProperties;
+import co.com.crediya.solicitudes.r2dbc.helper.ErroresPostgresql;
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudCriteriosQuery;
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudInsercionQuery;
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudOrdenQuery;
 import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudInfraMapper;
-import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudRowMapper;
 import co.com.crediya.solicitudes.r2dbc.repository.SolicitudReactiveRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +54,9 @@ import reactor.core.publisher.Mono;
 public class SolicitudRepositoryAdapter implements SolicitudRepository {
     
     private final SolicitudReactiveRepository repository;
+    private final R2dbcEntityTemplate template;
+    private final SolicitudInsertBatcher insertBatcher;
+    private final SolicitudExportacionProperties exportacionProperties;
     
     @Override
     public Mono<Solicitud> save(Solicitud solicitud) {
@@ -45,41 +64,87 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
         
         return Mono.just(solicitud)
                 .map(SolicitudInfraMapper::toData)
-                .flatMap(repository::save)
-                .map(savedData -> {
-                    Solicitud savedSolicitud = SolicitudInfraMapper.toDomain(savedData);
-                    savedSolicitud.markPersisted(savedData.getVersion());
-                    return savedSolicitud;
-                })
+                .flatMap(insertBatcher::insertar)
+                .map(SolicitudInfraMapper::toDomain)
                 .doOnSuccess(saved -> log.debug("Solicitud guardada exitosamente con ID: {}", saved.id().value()))
                 .doOnError(error -> log.error("Error al guardar solicitud: {}", error.getMessage()));
     }
     
+    @Override
+    public Flux<Solicitud> saveAll(List<Solicitud> solicitudes) {
+        if (solicitudes == null) {
+            return Flux.error(new IllegalArgumentException("La lista de solicitudes no puede ser null"));
+        }
+        if (solicitudes.isEmpty()) {
+            return Flux.empty();
+        }
+        
+        log.debug("Guardando lote de {} solicitudes", solicitudes.size());
+        
+        // Un INSERT admite hasta MAXIMO_FILAS filas: las listas más grandes se escriben en tramos, uno tras otro
+        return Flux.fromIterable(solicitudes)
+                .map(SolicitudInfraMapper::toData)
+                .buffer(SolicitudInsercionQuery.MAXIMO_FILAS)
+                .concatMap(insertBatcher::insertarLote)
+                // Un rechazo de la base de datos por los datos de alguna fila se informa como argumento inválido
+                .onErrorMap(ErroresPostgresql::esErrorDeDatos,
+                        error -> new IllegalArgumentException(ErroresPostgresql.mensaje(error), error))
+                .map(SolicitudInfraMapper::toDomain)
+                .doOnComplete(() -> log.debug("Lote de {} solicitudes guardado exitosamente", solicitudes.size()))
+                .doOnError(error -> log.error("Error al guardar lote de solicitudes: {}", error.getMessage()));
+    }
+    
     @Override
     public Mono<Solicitud> update(Solicitud solicitud) {
-        log.debug("Actualizando solicitud con ID: {}", solicitud.id().value());
+        if (solicitud == null) {
+            return Mono.error(new IllegalArgumentException("La solicitud no puede ser null"));
+        }
         
-        return repository.findById(solicitud.id().value())
-                .switchIfEmpty(Mono.error(new IllegalStateException("Solicitud no encontrada para actualizar")))
-                .flatMap(existingData -> {
-                    SolicitudData updatedData = SolicitudInfraMapper.updateData(solicitud, existingData);
-                    return repository.save(updatedData);
-                })
-                .map(updatedData -> {
-                    Solicitud updatedSolicitud = SolicitudInfraMapper.toDomain(updatedData);
-                    updatedSolicitud.markPersisted(updatedData.getVersion());
-                    return updatedSolicitud;
-                })
-                .doOnSuccess(updated -> log.debug("Solicitud actualizada exitosamente con ID: {}", updated.id().value()))
+        log.debug("Actualizando solicitud con ID: {} y versión esperada: {}", solicitud.id().value(), solicitud.version());
+        
+        // Una sola sentencia: la verificación de versión y el incremento se resuelven en la base de datos
+        return repository.updateConVersion(
+                        solicitud.id().value(),
+                        solicitud.monto().valor(),
+                        solicitud.plazo().meses(),
+                        solicitud.email().value(),
+                        solicitud.idEstado().value(),
+                        solicitud.idTipoPrestamo().value(),
+                        solicitud.version())
+                .switchIfEmpty(Mono.error(() -> new ConflictoConcurrenciaException(solicitud.id(), solicitud.version())))
+                .map(SolicitudInfraMapper::toDomain)
+                .doOnSuccess(updated -> log.debug("Solicitud actualizada exitosamente con ID: {} y versión: {}", 
+                        updated.id().value(), updated.version()))
                 .doOnError(error -> log.error("Error al actualizar solicitud: {}", error.getMessage()));
     }
     
+    @Override
+    public Flux<ResultadoCambioEstado> cambiarEstadoEnLote(Set<SolicitudId> idsSolicitudes, 
+                                                          EstadoId estadoOrigen, 
+                                                          EstadoId estadoDestino) {
+        if (idsSolicitudes == null || estadoOrigen == null || estadoDestino == null) {
+            return Flux.error(new IllegalArgumentException("Los identificadores y los estados no pueden ser null"));
+        }
+        
+        log.debug("Cambiando estado de {} solicitudes: {} -> {}", 
+                idsSolicitudes.size(), estadoOrigen.value(), estadoDestino.value());
+        
+        UUID[] ids = idsSolicitudes.stream()
+                .map(SolicitudId::value)
+                .toArray(UUID[]::new);
+        
+        return repository.cambiarEstadoEnLote(ids, estadoOrigen.value(), estadoDestino.value())
+                .map(data -> ResultadoCambioEstado.exitoso(new SolicitudId(data.idSolicitud()), data.version()))
+                .doOnComplete(() -> log.debug("Cambio de estado en lote completado"))
+                .doOnError(error -> log.error("Error al cambiar estado en lote: {}", error.getMessage()));
+    }
+    
     @Override
     public Mono<Solicitud> findById(SolicitudId idSolicitud) {
         log.debug("Buscando solicitud por ID: {}", idSolicitud.value());
         
-        return repository.findById(idSolicitud.value())
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_ID_SQL).bind("idSolicitud", idSolicitud.value()))
+                .next()
                 .doOnSuccess(solicitud -> {
                     if (solicitud != null) {
                         log.debug("Solicitud encontrada con ID: {}", idSolicitud.value());
@@ -94,8 +159,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findByEmail(Email email) {
         log.debug("Buscando solicitudes por email: {}", email.value());
         
-        return repository.findByEmailSolicitante(email.value())
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_EMAIL_SQL).bind("email", email.value()))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes por email completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes por email: {}", error.getMessage()));
     }
@@ -104,8 +168,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findByEstado(EstadoId idEstado) {
         log.debug("Buscando solicitudes por estado: {}", idEstado.value());
         
-        return repository.findByIdEstado(idEstado.value())
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_ESTADO_SQL).bind("idEstado", idEstado.value()))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes por estado completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes por estado: {}", error.getMessage()));
     }
@@ -114,8 +177,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findByTipoPrestamo(TipoPrestamoId idTipoPrestamo) {
         log.debug("Buscando solicitudes por tipo de préstamo: {}", idTipoPrestamo.value());
         
-        return repository.findByIdTipoPrestamo(idTipoPrestamo.value())
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_TIPO_PRESTAMO_SQL).bind("idTipoPrestamo", idTipoPrestamo.value()))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes por tipo de préstamo completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes por tipo de préstamo: {}", error.getMessage()));
     }
@@ -124,8 +186,9 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findByRangoMonto(Monto montoMinimo, Monto montoMaximo) {
         log.debug("Buscando solicitudes por rango de monto: {} - {}", montoMinimo.valor(), montoMaximo.valor());
         
-        return repository.findByRangoMonto(montoMinimo.valor(), montoMaximo.valor())
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_RANGO_MONTO_SQL)
+                        .bind("montoMinimo", montoMinimo.valor())
+                        .bind("montoMaximo", montoMaximo.valor()))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes por rango de monto completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes por rango de monto: {}", error.getMessage()));
     }
@@ -134,8 +197,9 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findByRangoFechas(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
         log.debug("Buscando solicitudes por rango de fechas: {} - {}", fechaInicio, fechaFin);
         
-        return repository.findByRangoFechas(fechaInicio, fechaFin)
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_RANGO_FECHAS_SQL)
+                        .bind("fechaInicio", fechaInicio)
+                        .bind("fechaFin", fechaFin))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes por rango de fechas completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes por rango de fechas: {}", error.getMessage()));
     }
@@ -144,8 +208,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findPendientesRevision() {
         log.debug("Buscando solicitudes pendientes de revisión");
         
-        return repository.findPendientesRevision()
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_PENDIENTES_REVISION_SQL))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes pendientes de revisión completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes pendientes de revisión: {}", error.getMessage()));
     }
@@ -154,8 +217,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findAprobadas() {
         log.debug("Buscando solicitudes aprobadas");
         
-        return repository.findAprobadas()
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_APROBADAS_SQL))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes aprobadas completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes aprobadas: {}", error.getMessage()));
     }
@@ -164,8 +226,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findRechazadas() {
         log.debug("Buscando solicitudes rechazadas");
         
-        return repository.findRechazadas()
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_RECHAZADAS_SQL))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes rechazadas completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes rechazadas: {}", error.getMessage()));
     }
@@ -174,23 +235,60 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findAll() {
         log.debug("Buscando todas las solicitudes");
         
-        return repository.findAllActivos()
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_ALL_ACTIVOS_SQL))
                 .doOnComplete(() -> log.debug("Búsqueda de todas las solicitudes completada"))
                 .doOnError(error -> log.error("Error al buscar todas las solicitudes: {}", error.getMessage()));
     }
     
+    @Override
+    public Flux<Solicitud> exportar() {
+        int filasPorLectura = exportacionProperties.filasPorLectura();
+        log.debug("Exportando solicitudes en tramos de {} filas", filasPorLectura);
+        
+        // Con fetch size el driver abre un portal en el servidor y pide cada tramo solo cuando
+        // el suscriptor consumió el anterior, en lugar de recibir todo el resultado de una vez
+        return leer(sql(SolicitudReactiveRepository.EXPORTAR_SQL)
+                        .filter(statement -> statement.fetchSize(filasPorLectura)))
+                .doOnComplete(() -> log.debug("Exportación de solicitudes completada"))
+                .doOnError(error -> log.error("Error al exportar solicitudes: {}", error.getMessage()));
+    }
+    
     @Override
     public Flux<Solicitud> findAllOrderedBy(String ordenCriterio, boolean ascendente) {
         log.debug("Buscando solicitudes ordenadas por: {} ({})", ordenCriterio, ascendente ? "ASC" : "DESC");
         
-        // Implementación simplificada - en un caso real se usaría un mapper de criterios
-        return repository.findAllActivos()
-                .map(SolicitudInfraMapper::toDomain)
+        return Flux.defer(() -> leer(SolicitudOrdenQuery.of(ordenCriterio, ascendente, null, null, null)
+                        .bind(template.getDatabaseClient())))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes ordenadas completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes ordenadas: {}", error.getMessage()));
     }
     
+    @Override
+    public Flux<Solicitud> findAllOrderedBy(String ordenCriterio, boolean ascendente, SolicitudId despuesDe, int limite) {
+        log.debug("Buscando tramo de solicitudes ordenadas por: {} ({}), después de {}, límite {}",
+                ordenCriterio, ascendente ? "ASC" : "DESC", despuesDe, limite);
+        
+        return Flux.defer(() -> {
+                    if (despuesDe == null) {
+                        return leer(SolicitudOrdenQuery.of(ordenCriterio, ascendente, null, null, limite)
+                                .bind(template.getDatabaseClient()));
+                    }
+                    // El tramo continúa desde el valor actual de la última solicitud; si ya no existe,
+                    // la comparación por clave no tendría con qué comparar y el tramo saldría vacío
+                    SolicitudOrdenQuery valorDeOrden = SolicitudOrdenQuery.valorDeOrden(ordenCriterio, despuesDe.value());
+                    return valorDeOrden.bind(template.getDatabaseClient())
+                            .map((row, metadata) -> row.get(0))
+                            .one()
+                            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException(
+                                    "La solicitud " + despuesDe.value() + " desde la que continúa el listado no existe")))
+                            .flatMapMany(valor -> leer(SolicitudOrdenQuery.of(ordenCriterio, ascendente,
+                                            despuesDe.value(), valor, limite)
+                                    .bind(template.getDatabaseClient())));
+                })
+                .doOnComplete(() -> log.debug("Búsqueda de tramo de solicitudes ordenadas completada"))
+                .doOnError(error -> log.error("Error al buscar tramo de solicitudes ordenadas: {}", error.getMessage()));
+    }
+    
     @Override
     public Flux<Solicitud> findAllPaginated(int pagina, int tamanoPagina) {
         log.debug("Buscando solicitudes paginadas: página {}, tamaño {}", pagina, tamanoPagina);
@@ -202,11 +300,71 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
                 .doOnError(error -> log.error("Error al buscar solicitudes paginadas: {}", error.getMessage()));
     }
     
+    @Override
+    public Mono<PaginaSolicitudes> findPagina(CursorSolicitud cursor, int tamanoPagina) {
+        log.debug("Buscando página de solicitudes: cursor {}, tamaño {}", cursor, tamanoPagina);
+        
+        if (tamanoPagina < 1) {
+            return Mono.error(new IllegalArgumentException("El tamaño de página debe ser mayor a cero"));
+        }
+        
+        // Se consulta un registro adicional para saber si existe una página siguiente
+        int limite = tamanoPagina + 1;
+        DatabaseClient.GenericExecuteSpec consulta = cursor == null
+                ? sql(SolicitudReactiveRepository.FIND_PRIMERA_PAGINA_SQL)
+                : sql(SolicitudReactiveRepository.FIND_PAGINA_DESDE_CURSOR_SQL)
+                        .bind("fechaCreacion", cursor.fechaCreacion())
+                        .bind("idSolicitud", cursor.idSolicitud().value());
+        
+        return consulta.bind("limite", limite)
+                .map((row, metadata) -> new FilaPagina(
+                        SolicitudRowMapper.toDomain(row, metadata), SolicitudRowMapper.fechaCreacion(row)))
+                .all()
+                .collectList()
+                .map(filas -> toPagina(filas, tamanoPagina))
+                .doOnSuccess(pagina -> log.debug("Página de solicitudes obtenida: {} registros, siguiente: {}",
+                        pagina.solicitudes().size(), pagina.tieneSiguiente()))
+                .doOnError(error -> log.error("Error al buscar página de solicitudes: {}", error.getMessage()));
+    }
+    
+    private static PaginaSolicitudes toPagina(List<FilaPagina> filas, int tamanoPagina) {
+        boolean haySiguiente = filas.size() > tamanoPagina;
+        List<FilaPagina> pagina = haySiguiente ? filas.subList(0, tamanoPagina) : filas;
+        
+        CursorSolicitud siguienteCursor = null;
+        if (haySiguiente) {
+            FilaPagina ultima = pagina.get(pagina.size() - 1);
+            siguienteCursor = new CursorSolicitud(ultima.fechaCreacion(), ultima.solicitud().id());
+        }
+        
+        return new PaginaSolicitudes(pagina.stream().map(FilaPagina::solicitud).toList(), siguienteCursor);
+    }
+    
+    /**
+     * Solicitud leída junto con su fecha de creación, necesaria para construir el cursor de la página.
+     */
+    private record FilaPagina(Solicitud solicitud, LocalDateTime fechaCreacion) {
+    }
+    
+    /**
+     * Prepara una consulta de lectura sobre el cliente de base de datos.
+     */
+    private DatabaseClient.GenericExecuteSpec sql(String sql) {
+        return template.getDatabaseClient().sql(sql);
+    }
+    
+    /**
+     * Ejecuta una consulta de lectura convirtiendo cada fila directamente a la entidad del dominio.
+     */
+    private static Flux<Solicitud> leer(DatabaseClient.GenericExecuteSpec consulta) {
+        return consulta.map(SolicitudRowMapper::toDomain).all();
+    }
+    
     @Override
     public Mono<Boolean> existsById(SolicitudId idSolicitud) {
         log.debug("Verificando existencia de solicitud con ID: {}", idSolicitud.value());
         
-        return repository.existsByIdSolicitudAndActivoTrue(idSolicitud.value())
+        return repository.existsActivaById(idSolicitud.value())
                 .doOnSuccess(exists -> log.debug("Verificación de existencia completada: {}", exists))
                 .doOnError(error -> log.error("Error al verificar existencia de solicitud: {}", error.getMessage()));
     }
@@ -224,24 +382,8 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Mono<Boolean> deleteById(SolicitudId idSolicitud) {
         log.debug("Eliminando solicitud con ID: {}", idSolicitud.value());
         
-        return repository.findById(idSolicitud.value())
-                .flatMap(existingData -> {
-                    SolicitudData deletedData = SolicitudData.builder()
-                            .idSolicitud(existingData.getIdSolicitud())
-                            .montoSolicitado(existingData.getMontoSolicitado())
-                            .plazoMeses(existingData.getPlazoMeses())
-                            .emailSolicitante(existingData.getEmailSolicitante())
-                            .idEstado(existingData.getIdEstado())
-                            .idTipoPrestamo(existingData.getIdTipoPrestamo())
-                            .version(existingData.getVersion())
-                            .fechaCreacion(existingData.getFechaCreacion())
-                            .fechaActualizacion(LocalDateTime.now())
-                            .activo(false) // Soft delete
-                            .build();
-                    return repository.save(deletedData);
-                })
-                .map(savedData -> true)
-                .switchIfEmpty(Mono.just(false))
+        // Soft delete en una sola sentencia sobre la partición de la solicitud
+        return repository.desactivar(idSolicitud.value())
                 .doOnSuccess(deleted -> log.debug("Eliminación de solicitud completada: {}", deleted))
                 .doOnError(error -> log.error("Error al eliminar solicitud: {}", error.getMessage()));
     }
@@ -250,7 +392,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Mono<Long> count() {
         log.debug("Contando total de solicitudes");
         
-        return repository.count()
+        return repository.countTotal()
                 .doOnSuccess(count -> log.debug("Conteo de solicitudes completado: {}", count))
                 .doOnError(error -> log.error("Error al contar solicitudes: {}", error.getMessage()));
     }
@@ -278,14 +420,16 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
                                          Monto montoMinimo, Monto montoMaximo, LocalDateTime fechaInicio, LocalDateTime fechaFin) {
         log.debug("Buscando solicitudes con criterios múltiples");
         
-        // Implementación simplificada - en un caso real se usaría una query dinámica
-        return repository.findAllActivos()
-                .map(SolicitudInfraMapper::toDomain)
-                .filter(solicitud -> email == null || solicitud.email().equals(email))
-                .filter(solicitud -> idEstado == null || solicitud.idEstado().equals(idEstado))
-                .filter(solicitud -> idTipoPrestamo == null || solicitud.idTipoPrestamo().equals(idTipoPrestamo))
-                .filter(solicitud -> montoMinimo == null || solicitud.monto().valor().compareTo(montoMinimo.valor()) >= 0)
-                .filter(solicitud -> montoMaximo == null || solicitud.monto().valor().compareTo(montoMaximo.valor()) <= 0)
+        SolicitudCriteriosQuery query = SolicitudCriteriosQuery.of(
+                email != null ? email.value() : null,
+                idEstado != null ? idEstado.value() : null,
+                idTipoPrestamo != null ? idTipoPrestamo.value() : null,
+                montoMinimo != null ? montoMinimo.valor() : null,
+                montoMaximo != null ? montoMaximo.valor() : null,
+                fechaInicio,
+                fechaFin);
+        
+        return leer(query.bind(template.getDatabaseClient()))
                 .doOnComplete(() -> log.debug("Búsqueda con criterios múltiples completada"))
                 .doOnError(error -> log.error("Error al buscar con criterios múltiples: {}", error.getMessage()));
     }
@@ -294,8 +438,7 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findMasRecientes(int limite) {
         log.debug("Buscando {} solicitudes más recientes", limite);
         
-        return repository.findMasRecientes(limite)
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_MAS_RECIENTES_SQL).bind("limite", limite))
                 .doOnComplete(() -> log.debug("Búsqueda de solicitudes más recientes completada"))
                 .doOnError(error -> log.error("Error al buscar solicitudes más recientes: {}", error.getMessage()));
     }
@@ -304,26 +447,33 @@ public class SolicitudRepositoryAdapter implements SolicitudRepository {
     public Flux<Solicitud> findByEmailAndEstado(Email email, EstadoId idEstado) {
         log.debug("Buscando solicitudes por email y estado: {} - {}", email.value(), idEstado.value());
         
-        return repository.findByEmailSolicitanteAndIdEstado(email.value(), idEstado.value())
-                .map(SolicitudInfraMapper::toDomain)
+        return leer(sql(SolicitudReactiveRepository.FIND_BY_EMAIL_AND_ESTADO_SQL)
+                        .bind("email", email.value())
+                        .bind("idEstado", idEstado.value()))
                 .doOnComplete(() -> log.debug("Búsqueda por email y estado completada"))
                 .doOnError(error -> log.error("Error al buscar por email y estado: {}", error.getMessage()));
     }
     
     @Override
-    public Flux<Object[]> findEstadisticasPorEstado() {
+    public Flux<ConteoSolicitudes> findEstadisticasPorEstado() {
         log.debug("Buscando estadísticas por estado");
         
-        return repository.findEstadisticasPorEstado()
+        return sql(SolicitudReactiveRepository.FIND_ESTADISTICAS_POR_ESTADO_SQL)
+                .map((row, metadata) -> new ConteoSolicitudes(
+                        row.get("estado", String.class), row.get("cantidad", Long.class)))
+                .all()
                 .doOnComplete(() -> log.debug("Búsqueda de estadísticas por estado completada"))
                 .doOnError(error -> log.error("Error al buscar estadísticas por estado: {}", error.getMessage()));
     }
     
     @Override
-    public Flux<Object[]> findEstadisticasPorTipoPrestamo() {
+    public Flux<ConteoSolicitudes> findEstadisticasPorTipoPrestamo() {
         log.debug("Buscando estadísticas por tipo de préstamo");
         
-        return repository.findEstadisticasPorTipoPrestamo()
+        return sql(SolicitudReactiveRepository.FIND_ESTADISTICAS_POR_TIPO_PRESTAMO_SQL)
+                .map((row, metadata) -> new ConteoSolicitudes(
+                        row.get("tipo_prestamo", String.class), row.get("cantidad", Long.class)))
+                .all()
                 .doOnComplete(() -> log.debug("Búsqueda de estadísticas por tipo de préstamo completada"))
                 .doOnError(error -> log.error("Error al buscar estadísticas por tipo de préstamo: {}", error.getMessage()));
     }
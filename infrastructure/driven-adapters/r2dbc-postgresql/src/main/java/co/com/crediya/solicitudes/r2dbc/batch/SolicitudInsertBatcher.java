@@ -0,0 +1,206 @@
+package co.com.crediya.solicitudes.r2dbc.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+
+import co.com.crediya.solicitudes.r2dbc.config.SolicitudInsertBatchProperties;
+import co.com.crediya.solicitudes.r2dbc.helper.ErroresPostgresql;
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudInsercionQuery;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Escritor agrupado (group commit) de nuevas solicitudes.
+ *
+ * Cuando está habilitado, las inserciones concurrentes se acumulan hasta completar
+ * el tamaño máximo del lote o hasta que vence el tiempo de espera, y cada lote se
+ * persiste con un único INSERT de varias filas (una sola transacción y una sola
+ * conexión del pool). Cada llamador recibe su propia fila persistida.
+ *
+ * - Si el INSERT del lote falla por un error de datos (SQLSTATE de las clases 22 y 23), el lote
+ *   se reintenta fila por fila para que cada llamador reciba su propio resultado; cualquier otro
+ *   error falla todas las solicitudes del lote
+ * - El número de lotes insertándose al mismo tiempo está acotado
+ * - Las solicitudes en espera de un lote se guardan en una cola acotada; con la cola llena
+ *   la inserción se rechaza de inmediato con IllegalStateException
+ * - Varios hilos pueden encolar a la vez: el FluxSink de Flux.create serializa las emisiones
+ *   concurrentes sin bloquear ni esperar activamente al hilo que llama
+ * - Cancelar la suscripción no retira la solicitud de un lote ya encolado
+ * - Exporta histogramas del tamaño de lote y del tiempo de espera en Micrometer
+ *
+ * Cuando está deshabilitado (valor por defecto), cada solicitud se inserta de inmediato.
+ */
+@Slf4j
+@Component
+public class SolicitudInsertBatcher implements DisposableBean {
+
+    static final String METRICA_TAMANO_LOTE = "solicitudes.insert.batch.size";
+    static final String METRICA_ESPERA_LOTE = "solicitudes.insert.batch.linger";
+
+    private final R2dbcEntityTemplate template;
+    private final Function<List<SolicitudData>, Flux<SolicitudData>> escritorLote;
+    private final boolean habilitado;
+    private final int capacidadCola;
+    private final AtomicInteger enCola = new AtomicInteger();
+    private volatile boolean detenido;
+    private FluxSink<InsercionPendiente> pendientes;
+    private final DistributionSummary tamanoLote;
+    private final Timer esperaLote;
+
+    @Autowired
+    public SolicitudInsertBatcher(R2dbcEntityTemplate template,
+                                  SolicitudInsertBatchProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this(template, lote -> insertarLote(template, lote), properties, meterRegistry);
+    }
+
+    /**
+     * Constructor que permite reemplazar la escritura del lote (usado en testing).
+     */
+    SolicitudInsertBatcher(R2dbcEntityTemplate template,
+                           Function<List<SolicitudData>, Flux<SolicitudData>> escritorLote,
+                           SolicitudInsertBatchProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.template = template;
+        this.escritorLote = escritorLote;
+        this.habilitado = properties.habilitado();
+        this.capacidadCola = properties.capacidadCola();
+        this.tamanoLote = DistributionSummary.builder(METRICA_TAMANO_LOTE)
+                .description("Número de solicitudes por INSERT agrupado")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.esperaLote = Timer.builder(METRICA_ESPERA_LOTE)
+                .description("Tiempo que la primera solicitud del lote espera hasta su escritura")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        if (habilitado) {
+            // Flux.create invoca el consumidor al suscribirse, por lo que pendientes queda asignado
+            // antes de terminar el constructor. La cola del sink no tiene límite propio: enCola
+            // cuenta las solicitudes que aún no pasan al agrupador y acota la cola en insertar
+            Flux.<InsercionPendiente>create(sink -> this.pendientes = sink)
+                    .doOnNext(pendiente -> enCola.decrementAndGet())
+                    .bufferTimeout(properties.tamanoMaximo(), properties.espera(), true)
+                    .flatMap(this::escribir, properties.maxLotesEnVuelo())
+                    .subscribe();
+            log.info("event=solicitud.insertBatch action=start tamanoMaximo={} espera={} maxLotesEnVuelo={} capacidadCola={}",
+                properties.tamanoMaximo(), properties.espera(), properties.maxLotesEnVuelo(), properties.capacidadCola());
+        }
+    }
+
+    /**
+     * Inserta una nueva solicitud, agrupándola con otras inserciones concurrentes si está habilitado.
+     *
+     * @param solicitud fila a insertar
+     * @return Mono con la fila persistida
+     */
+    public Mono<SolicitudData> insertar(SolicitudData solicitud) {
+        if (!habilitado) {
+            return template.insert(solicitud);
+        }
+        return Mono.defer(() -> {
+            if (detenido) {
+                return Mono.error(new IllegalStateException(
+                        "El escritor de inserciones de solicitudes está detenido"));
+            }
+            if (enCola.incrementAndGet() > capacidadCola) {
+                enCola.decrementAndGet();
+                return Mono.error(new IllegalStateException(
+                        "La cola de inserciones de solicitudes está llena, intente nuevamente"));
+            }
+            Sinks.One<SolicitudData> resultado = Sinks.one();
+            pendientes.next(new InsercionPendiente(solicitud, resultado, System.nanoTime()));
+            return resultado.asMono();
+        });
+    }
+
+    /**
+     * Inserta de inmediato un lote ya formado con un único INSERT de varias filas.
+     *
+     * @param lote filas a insertar
+     * @return Flux con las filas persistidas
+     */
+    public Flux<SolicitudData> insertarLote(List<SolicitudData> lote) {
+        return Flux.defer(() -> escritorLote.apply(lote));
+    }
+
+    private Mono<Void> escribir(List<InsercionPendiente> lote) {
+        long ahora = System.nanoTime();
+        tamanoLote.record(lote.size());
+        esperaLote.record(ahora - lote.get(0).encoladaEn(), TimeUnit.NANOSECONDS);
+
+        return escribirFilas(lote)
+                .onErrorResume(error -> lote.size() > 1 && ErroresPostgresql.esErrorDeDatos(error), error -> {
+                    log.warn("event=solicitud.insertBatch status=retry tamano={} error={}", lote.size(), error.getMessage());
+                    return Flux.fromIterable(lote)
+                            .concatMap(pendiente -> escribirFilas(List.of(pendiente))
+                                    .onErrorResume(errorFila -> fallar(List.of(pendiente), errorFila)))
+                            .then();
+                })
+                .onErrorResume(error -> fallar(lote, error));
+    }
+
+    private Mono<Void> escribirFilas(List<InsercionPendiente> lote) {
+        List<SolicitudData> filas = lote.stream().map(InsercionPendiente::solicitud).toList();
+        return insertarLote(filas)
+                .collectMap(SolicitudData::getIdSolicitud)
+                .doOnNext(insertadas -> completar(lote, insertadas))
+                .then();
+    }
+
+    private static Mono<Void> fallar(List<InsercionPendiente> lote, Throwable error) {
+        log.error("event=solicitud.insertBatch status=error tamano={} error={}", lote.size(), error.getMessage());
+        lote.forEach(pendiente -> pendiente.resultado().tryEmitError(error));
+        return Mono.empty();
+    }
+
+    private static void completar(List<InsercionPendiente> lote, Map<UUID, SolicitudData> insertadas) {
+        for (InsercionPendiente pendiente : lote) {
+            UUID id = pendiente.solicitud().getIdSolicitud();
+            SolicitudData insertada = insertadas.get(id);
+            if (insertada != null) {
+                pendiente.resultado().tryEmitValue(insertada);
+            } else {
+                pendiente.resultado().tryEmitError(new IllegalStateException(
+                        "La solicitud con ID " + id + " no fue insertada"));
+            }
+        }
+    }
+
+    private static Flux<SolicitudData> insertarLote(R2dbcEntityTemplate template, List<SolicitudData> lote) {
+        return SolicitudInsercionQuery.of(lote)
+                .bind(template.getDatabaseClient())
+                .map((row, metadata) -> template.getConverter().read(SolicitudData.class, row, metadata))
+                .all();
+    }
+
+    /**
+     * Al detener la aplicación se escriben los lotes pendientes y no se aceptan nuevas inserciones.
+     */
+    @Override
+    public void destroy() {
+        if (habilitado) {
+            detenido = true;
+            pendientes.complete();
+        }
+    }
+
+    private record InsercionPendiente(SolicitudData solicitud, Sinks.One<SolicitudData> resultado, long encoladaEn) {
+    }
+}
@@ -0,0 +1,64 @@
+package co.com.crediya.solicitudes.r2dbc.cache;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caché de lectura (read-through) para datos de catálogo.
+ *
+ * - Acotada en tamaño y con tiempo de vida por entrada
+ * - Las cargas concurrentes de una misma clave comparten una única consulta
+ * - Los resultados vacíos y los errores no se almacenan
+ * - Registra aciertos y fallos para exponerlos como métricas
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del valor
+ */
+final class CatalogoCache<K, V> {
+
+    private final String nombre;
+    private final AsyncCache<K, V> cache;
+
+    CatalogoCache(String nombre, CatalogoCacheProperties properties) {
+        this.nombre = nombre;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.tamanoMaximo())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Obtiene el valor de la clave, cargándolo con el cargador si no está en caché.
+     *
+     * @param clave clave a buscar
+     * @param cargador función que consulta el valor en la fuente de datos
+     * @return Mono con el valor, Mono.empty() si la fuente no lo contiene
+     */
+    Mono<V> obtener(K clave, Function<K, Mono<V>> cargador) {
+        return Mono.fromFuture(() -> cache.get(clave, (k, executor) -> cargador.apply(k).toFuture()), true);
+    }
+
+    /**
+     * Elimina todas las entradas de la caché.
+     */
+    void invalidar() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * Registra las métricas de la caché (cache.gets, cache.size, cache.evictions, ...).
+     *
+     * @param registry registro de métricas
+     */
+    void registrarMetricas(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, nombre);
+    }
+}
@@ -0,0 +1,150 @@
+package co.com.crediya.solicitudes.r2dbc.cache;
+
+import java.util.Locale;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorador con caché en memoria para el gateway EstadosRepository.
+ *
+ * Los estados son datos de referencia que cambian pocas veces al año, por lo que
+ * las búsquedas por identificador y por nombre se resuelven en memoria:
+ * - findByNombre y findByNombreIgnoreCase comparten la caché por nombre en minúsculas
+ *   (ambas consultas son case-insensitive)
+ * - save, update y deleteById invalidan la caché al terminar
+ * - El resto de operaciones se delegan sin caché
+ * - Expone métricas de aciertos y fallos (cache.gets) en el registro de Micrometer
+ */
+@Slf4j
+public class EstadosCacheRepository implements EstadosRepository, MeterBinder {
+
+    static final String CACHE_POR_ID = "catalogo.estados.id";
+    static final String CACHE_POR_NOMBRE = "catalogo.estados.nombre";
+
+    private final EstadosRepository delegate;
+    private final CatalogoCache<EstadoId, Estados> porId;
+    private final CatalogoCache<String, Estados> porNombre;
+
+    public EstadosCacheRepository(EstadosRepository delegate, CatalogoCacheProperties properties) {
+        this.delegate = delegate;
+        this.porId = new CatalogoCache<>(CACHE_POR_ID, properties);
+        this.porNombre = new CatalogoCache<>(CACHE_POR_NOMBRE, properties);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        porId.registrarMetricas(registry);
+        porNombre.registrarMetricas(registry);
+    }
+
+    @Override
+    public Mono<Estados> save(Estados estado) {
+        return delegate.save(estado)
+                .doFinally(signal -> invalidar());
+    }
+
+    @Override
+    public Mono<Estados> update(Estados estado) {
+        return delegate.update(estado)
+                .doFinally(signal -> invalidar());
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(EstadoId idEstado) {
+        return delegate.deleteById(idEstado)
+                .doFinally(signal -> invalidar());
+    }
+
+    @Override
+    public Mono<Estados> findById(EstadoId idEstado) {
+        if (idEstado == null) {
+            return delegate.findById(null);
+        }
+        return porId.obtener(idEstado, delegate::findById);
+    }
+
+    @Override
+    public Mono<Estados> findByNombre(String nombre) {
+        if (nombre == null || nombre.isBlank()) {
+            return delegate.findByNombre(nombre);
+        }
+        return porNombre.obtener(nombre.toLowerCase(Locale.ROOT), clave -> delegate.findByNombre(nombre));
+    }
+
+    @Override
+    public Mono<Estados> findByNombreIgnoreCase(String nombre) {
+        if (nombre == null || nombre.isBlank()) {
+            return delegate.findByNombreIgnoreCase(nombre);
+        }
+        return porNombre.obtener(nombre.toLowerCase(Locale.ROOT), clave -> delegate.findByNombreIgnoreCase(nombre));
+    }
+
+    @Override
+    public Flux<Estados> findByNombreContaining(String nombreParcial) {
+        return delegate.findByNombreContaining(nombreParcial);
+    }
+
+    @Override
+    public Flux<Estados> findByDescripcionContaining(String descripcionParcial) {
+        return delegate.findByDescripcionContaining(descripcionParcial);
+    }
+
+    @Override
+    public Flux<Estados> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Estados> findAllOrderedBy(String ordenCriterio, boolean ascendente) {
+        return delegate.findAllOrderedBy(ordenCriterio, ascendente);
+    }
+
+    @Override
+    public Flux<Estados> findAllPaginated(int pagina, int tamanoPagina) {
+        return delegate.findAllPaginated(pagina, tamanoPagina);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(EstadoId idEstado) {
+        return delegate.existsById(idEstado);
+    }
+
+    @Override
+    public Mono<Boolean> existsByNombre(String nombre) {
+        return delegate.existsByNombre(nombre);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delegate.count();
+    }
+
+    @Override
+    public Flux<Estados> findByCriterios(String nombreParcial, String descripcionParcial) {
+        return delegate.findByCriterios(nombreParcial, descripcionParcial);
+    }
+
+    @Override
+    public Flux<Estados> findActivos() {
+        return delegate.findActivos();
+    }
+
+    @Override
+    public Flux<Estados> findAllOrderedByFechaCreacion(boolean ascendente) {
+        return delegate.findAllOrderedByFechaCreacion(ascendente);
+    }
+
+    private void invalidar() {
+        log.debug("event=estados.cache action=invalidate");
+        porId.invalidar();
+        porNombre.invalidar();
+    }
+}
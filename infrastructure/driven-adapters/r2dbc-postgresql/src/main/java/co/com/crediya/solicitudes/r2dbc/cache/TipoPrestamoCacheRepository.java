@@ -0,0 +1,165 @@
+package co.com.crediya.solicitudes.r2dbc.cache;
+
+import java.util.Locale;
+
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorador con caché en memoria para el gateway TipoPrestamoRepository.
+ *
+ * Los tipos de préstamo son datos de referencia que cambian pocas veces al año,
+ * por lo que las búsquedas por identificador y por nombre se resuelven en memoria:
+ * - Las búsquedas por nombre usan el nombre en minúsculas como clave (la consulta es case-insensitive)
+ * - save, update y deleteById invalidan la caché al terminar
+ * - El resto de operaciones se delegan sin caché
+ * - Expone métricas de aciertos y fallos (cache.gets) en el registro de Micrometer
+ */
+@Slf4j
+public class TipoPrestamoCacheRepository implements TipoPrestamoRepository, MeterBinder {
+
+    static final String CACHE_POR_ID = "catalogo.tipos-prestamo.id";
+    static final String CACHE_POR_NOMBRE = "catalogo.tipos-prestamo.nombre";
+
+    private final TipoPrestamoRepository delegate;
+    private final CatalogoCache<TipoPrestamoId, TipoPrestamo> porId;
+    private final CatalogoCache<String, TipoPrestamo> porNombre;
+
+    public TipoPrestamoCacheRepository(TipoPrestamoRepository delegate, CatalogoCacheProperties properties) {
+        this.delegate = delegate;
+        this.porId = new CatalogoCache<>(CACHE_POR_ID, properties);
+        this.porNombre = new CatalogoCache<>(CACHE_POR_NOMBRE, properties);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        porId.registrarMetricas(registry);
+        porNombre.registrarMetricas(registry);
+    }
+
+    @Override
+    public Mono<TipoPrestamo> save(TipoPrestamo tipoPrestamo) {
+        return delegate.save(tipoPrestamo)
+                .doFinally(signal -> invalidar());
+    }
+
+    @Override
+    public Mono<TipoPrestamo> update(TipoPrestamo tipoPrestamo) {
+        return delegate.update(tipoPrestamo)
+                .doFinally(signal -> invalidar());
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(TipoPrestamoId idTipoPrestamo) {
+        return delegate.deleteById(idTipoPrestamo)
+                .doFinally(signal -> invalidar());
+    }
+
+    @Override
+    public Mono<TipoPrestamo> findById(TipoPrestamoId idTipoPrestamo) {
+        if (idTipoPrestamo == null) {
+            return delegate.findById(null);
+        }
+        return porId.obtener(idTipoPrestamo, delegate::findById);
+    }
+
+    @Override
+    public Mono<TipoPrestamo> findByNombre(String nombre) {
+        if (nombre == null || nombre.isBlank()) {
+            return delegate.findByNombre(nombre);
+        }
+        return porNombre.obtener(nombre.toLowerCase(Locale.ROOT), clave -> delegate.findByNombre(nombre));
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findByNombreContaining(String nombreParcial) {
+        return delegate.findByNombreContaining(nombreParcial);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findByMontoPermitido(Monto monto) {
+        return delegate.findByMontoPermitido(monto);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findByValidacionAutomatica(boolean requiereValidacion) {
+        return delegate.findByValidacionAutomatica(requiereValidacion);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findByRangoTasaInteres(double tasaMinima, double tasaMaxima) {
+        return delegate.findByRangoTasaInteres(tasaMinima, tasaMaxima);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findAllOrderedBy(String ordenCriterio, boolean ascendente) {
+        return delegate.findAllOrderedBy(ordenCriterio, ascendente);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findAllPaginated(int pagina, int tamanoPagina) {
+        return delegate.findAllPaginated(pagina, tamanoPagina);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(TipoPrestamoId idTipoPrestamo) {
+        return delegate.existsById(idTipoPrestamo);
+    }
+
+    @Override
+    public Mono<Boolean> existsByNombre(String nombre) {
+        return delegate.existsByNombre(nombre);
+    }
+
+    @Override
+    public Mono<Boolean> existsByMontoPermitido(Monto monto) {
+        return delegate.existsByMontoPermitido(monto);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delegate.count();
+    }
+
+    @Override
+    public Mono<Long> countByValidacionAutomatica(boolean requiereValidacion) {
+        return delegate.countByValidacionAutomatica(requiereValidacion);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findByCriterios(String nombreParcial,
+                                             Boolean requiereValidacionAutomatica,
+                                             Monto montoMinimo,
+                                             Monto montoMaximo) {
+        return delegate.findByCriterios(nombreParcial, requiereValidacionAutomatica, montoMinimo, montoMaximo);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findMasPopulares(int limite) {
+        return delegate.findMasPopulares(limite);
+    }
+
+    @Override
+    public Flux<TipoPrestamo> findActivos() {
+        return delegate.findActivos();
+    }
+
+    private void invalidar() {
+        log.debug("event=tipoPrestamo.cache action=invalidate");
+        porId.invalidar();
+        porNombre.invalidar();
+    }
+}
@@ -0,0 +1,25 @@
+package co.com.crediya.solicitudes.r2dbc.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la caché en memoria de los catálogos (tipos de préstamo y estados).
+ *
+ * @param ttl tiempo de vida de cada entrada desde que se carga
+ * @param tamanoMaximo número máximo de entradas por caché
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.cache")
+public record CatalogoCacheProperties(
+        Duration ttl,
+        Long tamanoMaximo) {
+
+    public static final Duration TTL_POR_DEFECTO = Duration.ofMinutes(10);
+    public static final long TAMANO_MAXIMO_POR_DEFECTO = 500;
+
+    public CatalogoCacheProperties {
+        ttl = ttl != null ? ttl : TTL_POR_DEFECTO;
+        tamanoMaximo = tamanoMaximo != null ? tamanoMaximo : TAMANO_MAXIMO_POR_DEFECTO;
+    }
+}
@@ -6,9 +6,16 @@ import org.springframework.context.annotation.Configuration;
 /**
  * Configuración para habilitar las propiedades de R2DBC PostgreSQL.
  * Esta clase permite que Spring Boot lea las propiedades de configuración
- * definidas en application.yaml con el prefijo "adapters.r2dbc".
+ * definidas en application.yaml con el prefijo "adapters.r2dbc", incluida
+ * la configuración de la caché de catálogos ("adapters.r2dbc.cache"), de la
+ * inserción agrupada de solicitudes ("adapters.r2dbc.insert-batch") y de la
+ * exportación de solicitudes ("adapters.r2dbc.exportacion").
  */
 @Configuration
-@EnableConfigurationProperties(PostgresqlConnectionProperties.class)
+@EnableConfigurationProperties({
+        PostgresqlConnectionProperties.class,
+        CatalogoCacheProperties.class,
+        SolicitudInsertBatchProperties.class,
+        SolicitudExportacionProperties.class})
 public class R2dbcConfig {
 }
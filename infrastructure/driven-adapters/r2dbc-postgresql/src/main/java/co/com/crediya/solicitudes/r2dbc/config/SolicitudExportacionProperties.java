@@ -0,0 +1,23 @@
+package co.com.crediya.solicitudes.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de la exportación de solicitudes.
+ *
+ * @param filasPorLectura número de filas que el servidor envía en cada tramo del cursor
+ *                        (fetch size); acota las filas leídas por delante del consumidor
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.exportacion")
+public record SolicitudExportacionProperties(
+        Integer filasPorLectura) {
+
+    public static final int FILAS_POR_LECTURA_POR_DEFECTO = 500;
+
+    public SolicitudExportacionProperties {
+        filasPorLectura = filasPorLectura != null ? filasPorLectura : FILAS_POR_LECTURA_POR_DEFECTO;
+        if (filasPorLectura < 1) {
+            throw new IllegalArgumentException("El número de filas por lectura debe ser positivo");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.solicitudes.r2dbc.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudInsercionQuery;
+
+/**
+ * Propiedades de la escritura agrupada (group commit) de nuevas solicitudes.
+ *
+ * @param habilitado true para agrupar las inserciones concurrentes en lotes
+ * @param tamanoMaximo número máximo de solicitudes por lote
+ * @param espera tiempo máximo que una solicitud espera a que se complete su lote
+ * @param maxLotesEnVuelo número máximo de lotes insertándose al mismo tiempo
+ * @param capacidadCola número máximo de solicitudes en espera de un lote; con la cola llena
+ *                      las inserciones se rechazan
+ */
+@ConfigurationProperties(prefix = "adapters.r2dbc.insert-batch")
+public record SolicitudInsertBatchProperties(
+        Boolean habilitado,
+        Integer tamanoMaximo,
+        Duration espera,
+        Integer maxLotesEnVuelo,
+        Integer capacidadCola) {
+
+    public static final int TAMANO_MAXIMO_POR_DEFECTO = 50;
+    public static final Duration ESPERA_POR_DEFECTO = Duration.ofMillis(5);
+    public static final int MAX_LOTES_EN_VUELO_POR_DEFECTO = 4;
+    public static final int CAPACIDAD_COLA_POR_DEFECTO = 1024;
+
+    public SolicitudInsertBatchProperties {
+        habilitado = habilitado != null && habilitado;
+        tamanoMaximo = tamanoMaximo != null ? tamanoMaximo : TAMANO_MAXIMO_POR_DEFECTO;
+        espera = espera != null ? espera : ESPERA_POR_DEFECTO;
+        maxLotesEnVuelo = maxLotesEnVuelo != null ? maxLotesEnVuelo : MAX_LOTES_EN_VUELO_POR_DEFECTO;
+        capacidadCola = capacidadCola != null ? capacidadCola : CAPACIDAD_COLA_POR_DEFECTO;
+        if (tamanoMaximo < 1 || tamanoMaximo > SolicitudInsercionQuery.MAXIMO_FILAS) {
+            throw new IllegalArgumentException(
+                    "El tamaño máximo del lote debe estar entre 1 y " + SolicitudInsercionQuery.MAXIMO_FILAS);
+        }
+        if (maxLotesEnVuelo < 1) {
+            throw new IllegalArgumentException("El número máximo de lotes en vuelo debe ser positivo");
+        }
+        if (capacidadCola < 1) {
+            throw new IllegalArgumentException("La capacidad de la cola de inserciones debe ser positiva");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package co.com.crediya.solicitudes.r2dbc.contadores;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reparación de los contadores de solicitudes (V4__contadores_solicitudes.sql).
+ *
+ * Los triggers de solicitudes mantienen solicitud_contadores en cada escritura; esta clase solo
+ * se usa para recalcularlos desde las solicitudes si se sospecha un desfase, por ejemplo tras
+ * una corrección manual de datos con los triggers deshabilitados.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class SolicitudContadoresRepository {
+
+    static final String RECALCULAR_SQL = "SELECT recalcular_contadores_solicitudes() AS desfasados";
+
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * Recalcula los contadores desde las solicitudes.
+     *
+     * @return número de combinaciones de estado, tipo de préstamo y activo que estaban desfasadas
+     */
+    public Mono<Long> recalcular() {
+        return template.getDatabaseClient()
+                .sql(RECALCULAR_SQL)
+                .map((row, metadata) -> row.get("desfasados", Long.class))
+                .one()
+                .doOnNext(desfasados -> log.info("Contadores de solicitudes recalculados: {} desfasados", desfasados));
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import io.r2dbc.spi.R2dbcException;
+
+/**
+ * Clasificación de los errores de PostgreSQL por su SQLSTATE.
+ *
+ * DatabaseClient traduce las excepciones del driver a DataAccessException, por lo que el
+ * SQLSTATE se busca en la primera R2dbcException de la cadena de causas.
+ */
+public final class ErroresPostgresql {
+
+    private ErroresPostgresql() {
+    }
+
+    /**
+     * Indica si el error se debe a los datos enviados (SQLSTATE de las clases 22 y 23, por
+     * ejemplo un valor fuera de rango o una restricción violada) y no a la conexión o al servidor.
+     *
+     * @param error error recibido del driver o de DatabaseClient
+     * @return true si es un error de datos
+     */
+    public static boolean esErrorDeDatos(Throwable error) {
+        R2dbcException r2dbc = r2dbc(error);
+        return r2dbc != null && r2dbc.getSqlState() != null
+                && (r2dbc.getSqlState().startsWith("22") || r2dbc.getSqlState().startsWith("23"));
+    }
+
+    /**
+     * Mensaje del servidor de PostgreSQL, sin el texto que agrega la traducción de Spring.
+     *
+     * @param error error recibido del driver o de DatabaseClient
+     * @return mensaje de la R2dbcException de la cadena, o el del propio error si no hay una
+     */
+    public static String mensaje(Throwable error) {
+        R2dbcException r2dbc = r2dbc(error);
+        return r2dbc != null ? r2dbc.getMessage() : error.getMessage();
+    }
+
+    private static R2dbcException r2dbc(Throwable error) {
+        for (Throwable causa = error; causa != null; causa = causa.getCause()) {
+            if (causa instanceof R2dbcException r2dbc) {
+                return r2dbc;
+            }
+        }
+        return null;
+    }
+}
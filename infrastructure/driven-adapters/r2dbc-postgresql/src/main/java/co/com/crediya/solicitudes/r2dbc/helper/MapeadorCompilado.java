@@ -0,0 +1,265 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Copia de propiedades entre dos tipos, compilada una sola vez por par de tipos.
+ *
+ * Reemplaza la copia por reflexión del ObjectMapper de reactive-commons: al crear el mapeador
+ * se resuelven los getters del origen y los setters (o el constructor canónico, si el destino es
+ * un record) del destino, y se convierten en lambdas con LambdaMetafactory. Cada copia posterior
+ * solo invoca esas lambdas, sin reflexión ni búsqueda de propiedades.
+ *
+ * Las propiedades se emparejan por nombre exacto, como la estrategia estricta de ModelMapper.
+ * Para una propiedad p del destino se busca en el origen getP(), isP() o p(). Si alguna propiedad
+ * del destino no existe en el origen, el mapeador no se crea: una propiedad con otro nombre en
+ * cada tipo (por ejemplo monto y montoSolicitado) necesita una conversión escrita a mano.
+ *
+ * @param <O> tipo de origen
+ * @param <D> tipo de destino
+ */
+public final class MapeadorCompilado<O, D> implements Function<O, D> {
+
+    private static final Map<ParDeTipos, MapeadorCompilado<?, ?>> MAPEADORES = new ConcurrentHashMap<>();
+
+    private final Class<D> destino;
+    private final Function<Object, Object> copia;
+
+    private MapeadorCompilado(Class<O> origen, Class<D> destino) {
+        this.destino = destino;
+        this.copia = destino.isRecord() ? copiaARecord(origen, destino) : copiaABean(origen, destino);
+    }
+
+    /**
+     * Obtiene el mapeador de un par de tipos, compilándolo la primera vez.
+     *
+     * @param origen tipo de origen
+     * @param destino tipo de destino: un record o una clase con constructor público sin argumentos
+     * @return mapeador compartido para el par de tipos
+     * @throws IllegalArgumentException si el destino no se puede construir, una propiedad del
+     *         destino no existe en el origen o no es compatible con la del origen
+     */
+    @SuppressWarnings("unchecked")
+    public static <O, D> MapeadorCompilado<O, D> de(Class<O> origen, Class<D> destino) {
+        if (origen == null || destino == null) {
+            throw new IllegalArgumentException("Los tipos de origen y destino no pueden ser null");
+        }
+        return (MapeadorCompilado<O, D>) MAPEADORES.computeIfAbsent(new ParDeTipos(origen, destino),
+                par -> new MapeadorCompilado<>(origen, destino));
+    }
+
+    /**
+     * Copia las propiedades del objeto de origen en una nueva instancia del destino.
+     *
+     * @param objeto objeto de origen
+     * @return nueva instancia del destino
+     * @throws IllegalArgumentException si el objeto de origen es null
+     */
+    @Override
+    public D apply(O objeto) {
+        if (objeto == null) {
+            throw new IllegalArgumentException("El objeto a mapear no puede ser null");
+        }
+        return destino.cast(copia.apply(objeto));
+    }
+
+    private static Function<Object, Object> copiaABean(Class<?> origen, Class<?> destino) {
+        Supplier<Object> constructor = constructorSinArgumentos(destino);
+        List<Function<Object, Object>> lectores = new ArrayList<>();
+        List<BiConsumer<Object, Object>> escritores = new ArrayList<>();
+        List<Boolean> primitivos = new ArrayList<>();
+
+        for (Method setter : destino.getMethods()) {
+            if (!esSetter(setter)) {
+                continue;
+            }
+            String propiedad = Character.toLowerCase(setter.getName().charAt(3)) + setter.getName().substring(4);
+            Method getter = getterObligatorio(origen, destino, propiedad, setter.getParameterTypes()[0]);
+            lectores.add(lector(getter));
+            escritores.add(escritor(setter));
+            primitivos.add(setter.getParameterTypes()[0].isPrimitive());
+        }
+
+        Function<Object, Object>[] lectoresCompilados = lectores.toArray(Function[]::new);
+        BiConsumer<Object, Object>[] escritoresCompilados = escritores.toArray(BiConsumer[]::new);
+        boolean[] omitirNulos = new boolean[primitivos.size()];
+        for (int i = 0; i < omitirNulos.length; i++) {
+            omitirNulos[i] = primitivos.get(i);
+        }
+
+        return objeto -> {
+            Object copia = constructor.get();
+            for (int i = 0; i < lectoresCompilados.length; i++) {
+                Object valor = lectoresCompilados[i].apply(objeto);
+                if (valor != null || !omitirNulos[i]) {
+                    escritoresCompilados[i].accept(copia, valor);
+                }
+            }
+            return copia;
+        };
+    }
+
+    private static Function<Object, Object> copiaARecord(Class<?> origen, Class<?> destino) {
+        RecordComponent[] componentes = destino.getRecordComponents();
+        Class<?>[] tipos = new Class<?>[componentes.length];
+        @SuppressWarnings("unchecked")
+        Function<Object, Object>[] lectores = new Function[componentes.length];
+        Object[] porDefecto = new Object[componentes.length];
+
+        for (int i = 0; i < componentes.length; i++) {
+            tipos[i] = componentes[i].getType();
+            lectores[i] = lector(getterObligatorio(origen, destino, componentes[i].getName(), tipos[i]));
+            porDefecto[i] = tipos[i].isPrimitive() ? Array.get(Array.newInstance(tipos[i], 1), 0) : null;
+        }
+
+        MethodHandle constructor;
+        try {
+            Constructor<?> canonico = destino.getDeclaredConstructor(tipos);
+            constructor = lookup(destino).unreflectConstructor(canonico)
+                    .asSpreader(Object[].class, componentes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("No se puede construir el record " + destino.getName(), e);
+        }
+
+        return objeto -> {
+            Object[] valores = new Object[lectores.length];
+            for (int i = 0; i < lectores.length; i++) {
+                Object valor = lectores[i].apply(objeto);
+                valores[i] = valor != null ? valor : porDefecto[i];
+            }
+            try {
+                return (Object) constructor.invokeExact(valores);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Error al construir " + destino.getName(), e);
+            }
+        };
+    }
+
+    private static boolean esSetter(Method metodo) {
+        return metodo.getName().length() > 3
+                && metodo.getName().startsWith("set")
+                && metodo.getParameterCount() == 1
+                && !Modifier.isStatic(metodo.getModifiers());
+    }
+
+    /**
+     * Busca en el origen el getter de una propiedad del destino.
+     *
+     * @throws IllegalArgumentException si el origen no tiene la propiedad o su tipo no es compatible
+     */
+    private static Method getterObligatorio(Class<?> origen, Class<?> destino, String propiedad, Class<?> tipoDestino) {
+        Method getter = getter(origen, propiedad, tipoDestino);
+        if (getter == null) {
+            throw new IllegalArgumentException("La propiedad " + propiedad + " de " + destino.getName()
+                    + " no existe en " + origen.getName());
+        }
+        return getter;
+    }
+
+    /**
+     * Busca en el origen el getter de una propiedad: getP(), isP() o p().
+     *
+     * @return el getter, o null si el origen no tiene la propiedad
+     * @throws IllegalArgumentException si el tipo del getter no es compatible con el destino
+     */
+    private static Method getter(Class<?> origen, String propiedad, Class<?> tipoDestino) {
+        String sufijo = Character.toUpperCase(propiedad.charAt(0)) + propiedad.substring(1);
+        for (String nombre : new String[] {"get" + sufijo, "is" + sufijo, propiedad}) {
+            Method getter = metodoPublico(origen, nombre);
+            if (getter == null || getter.getReturnType() == void.class) {
+                continue;
+            }
+            if (!envolver(tipoDestino).isAssignableFrom(envolver(getter.getReturnType()))) {
+                throw new IllegalArgumentException("La propiedad " + propiedad + " de " + origen.getName()
+                        + " no es compatible con el tipo " + tipoDestino.getName());
+            }
+            return getter;
+        }
+        return null;
+    }
+
+    private static Method metodoPublico(Class<?> clase, String nombre) {
+        try {
+            Method metodo = clase.getMethod(nombre);
+            return Modifier.isStatic(metodo.getModifiers()) ? null : metodo;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Class<?> envolver(Class<?> tipo) {
+        return tipo.isPrimitive() ? MethodType.methodType(tipo).wrap().returnType() : tipo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> lector(Method getter) {
+        try {
+            MethodHandles.Lookup lookup = lookup(getter.getDeclaringClass());
+            MethodHandle handle = lookup.unreflect(getter);
+            CallSite sitio = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle, handle.type().wrap());
+            return (Function<Object, Object>) sitio.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("No se puede compilar el getter " + getter, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> escritor(Method setter) {
+        try {
+            MethodHandles.Lookup lookup = lookup(setter.getDeclaringClass());
+            MethodHandle handle = lookup.unreflect(setter);
+            CallSite sitio = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle, handle.type().wrap().changeReturnType(void.class));
+            return (BiConsumer<Object, Object>) sitio.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("No se puede compilar el setter " + setter, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructorSinArgumentos(Class<?> destino) {
+        try {
+            MethodHandles.Lookup lookup = lookup(destino);
+            MethodHandle handle = lookup.unreflectConstructor(destino.getConstructor());
+            CallSite sitio = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    handle, handle.type());
+            return (Supplier<Object>) sitio.getTarget().invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(
+                    "El tipo " + destino.getName() + " debe ser un record o tener un constructor público sin argumentos", e);
+        }
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> clase) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(clase, MethodHandles.lookup());
+    }
+
+    private record ParDeTipos(Class<?> origen, Class<?> destino) {
+    }
+}
@@ -10,23 +10,48 @@ import reactor.core.publisher.Mono;
 import java.lang.reflect.ParameterizedType;
 import java.util.function.Function;
 
+/**
+ * Operaciones base de un adaptador reactivo sobre un repositorio de Spring Data.
+ *
+ * La conversión de la entidad al modelo de datos es una estrategia intercambiable: una función
+ * escrita a mano (por ejemplo un mapper de infraestructura), un {@link MapeadorCompilado} o,
+ * por compatibilidad, el ObjectMapper de reactive-commons, que copia por reflexión en cada llamada.
+ */
 public abstract class ReactiveAdapterOperations<E, D, I, R extends ReactiveCrudRepository<D, I> & ReactiveQueryByExampleExecutor<D>> {
     protected R repository;
     protected ObjectMapper mapper;
-    private final Class<D> dataClass;
+    private final Function<E, D> toDataFn;
     private final Function<D, E> toEntityFn;
 
+    /**
+     * Crea las operaciones con el ObjectMapper de reactive-commons. El tipo del modelo de datos
+     * se obtiene una sola vez de los parámetros genéricos de la subclase.
+     */
     @SuppressWarnings("unchecked")
     protected ReactiveAdapterOperations(R repository, ObjectMapper mapper, Function<D, E> toEntityFn) {
         this.repository = repository;
         this.mapper = mapper;
         ParameterizedType genericSuperclass = (ParameterizedType) this.getClass().getGenericSuperclass();
-        this.dataClass = (Class<D>) genericSuperclass.getActualTypeArguments()[1];
+        Class<D> dataClass = (Class<D>) genericSuperclass.getActualTypeArguments()[1];
+        this.toDataFn = entity -> mapper.map(entity, dataClass);
+        this.toEntityFn = toEntityFn;
+    }
+
+    /**
+     * Crea las operaciones con funciones de conversión explícitas, sin reflexión en cada llamada.
+     *
+     * @param repository repositorio de Spring Data
+     * @param toDataFn conversión de la entidad al modelo de datos, por ejemplo {@link MapeadorCompilado#de}
+     * @param toEntityFn conversión del modelo de datos a la entidad
+     */
+    protected ReactiveAdapterOperations(R repository, Function<E, D> toDataFn, Function<D, E> toEntityFn) {
+        this.repository = repository;
+        this.toDataFn = toDataFn;
         this.toEntityFn = toEntityFn;
     }
 
     protected D toData(E entity) {
-        return mapper.map(entity, dataClass);
+        return toDataFn.apply(entity);
     }
 
     protected E toEntity(D data) {
@@ -0,0 +1,102 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Consulta SQL dinámica para la búsqueda de solicitudes por criterios múltiples.
+ *
+ * Construye la cláusula WHERE únicamente con los criterios no nulos, de modo que
+ * el filtrado se resuelve en PostgreSQL y no en memoria.
+ *
+ * Esta consulta sigue las reglas de adaptadores secundarios:
+ * - Valores siempre enviados como parámetros enlazados (sin concatenar valores)
+ * - Orden fijo de predicados: cada combinación de criterios produce siempre
+ *   el mismo texto SQL y reutiliza la misma sentencia preparada
+ * - Sin lógica de negocio
+ */
+public final class SolicitudCriteriosQuery {
+
+    private static final String SELECT_BASE = """
+        SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante,
+               id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
+        FROM solicitudes
+        WHERE activo = true""";
+
+    private static final String ORDER_BY = "\nORDER BY fecha_creacion DESC";
+
+    private final String sql;
+    private final Map<String, Object> parametros;
+
+    private SolicitudCriteriosQuery(String sql, Map<String, Object> parametros) {
+        this.sql = sql;
+        this.parametros = Collections.unmodifiableMap(parametros);
+    }
+
+    /**
+     * Construye la consulta a partir de los criterios recibidos.
+     * Los criterios nulos se omiten de la cláusula WHERE.
+     *
+     * @param email email del solicitante (comparación sin distinguir mayúsculas)
+     * @param idEstado identificador del estado
+     * @param idTipoPrestamo identificador del tipo de préstamo
+     * @param montoMinimo monto mínimo (inclusive)
+     * @param montoMaximo monto máximo (inclusive)
+     * @param fechaInicio fecha de creación inicial (inclusive)
+     * @param fechaFin fecha de creación final (inclusive)
+     * @return consulta lista para ejecutar
+     */
+    public static SolicitudCriteriosQuery of(String email, UUID idEstado, UUID idTipoPrestamo,
+                                             BigDecimal montoMinimo, BigDecimal montoMaximo,
+                                             LocalDateTime fechaInicio, LocalDateTime fechaFin) {
+        StringBuilder sql = new StringBuilder(SELECT_BASE);
+        Map<String, Object> parametros = new LinkedHashMap<>();
+
+        agregar(sql, parametros, "LOWER(email_solicitante) = LOWER(:email)", "email", email);
+        agregar(sql, parametros, "id_estado = :idEstado", "idEstado", idEstado);
+        agregar(sql, parametros, "id_tipo_prestamo = :idTipoPrestamo", "idTipoPrestamo", idTipoPrestamo);
+        agregar(sql, parametros, "monto_solicitado >= :montoMinimo", "montoMinimo", montoMinimo);
+        agregar(sql, parametros, "monto_solicitado <= :montoMaximo", "montoMaximo", montoMaximo);
+        agregar(sql, parametros, "fecha_creacion >= :fechaInicio", "fechaInicio", fechaInicio);
+        agregar(sql, parametros, "fecha_creacion <= :fechaFin", "fechaFin", fechaFin);
+
+        sql.append(ORDER_BY);
+        return new SolicitudCriteriosQuery(sql.toString(), parametros);
+    }
+
+    private static void agregar(StringBuilder sql, Map<String, Object> parametros,
+                                String predicado, String nombre, Object valor) {
+        if (valor != null) {
+            sql.append("\nAND ").append(predicado);
+            parametros.put(nombre, valor);
+        }
+    }
+
+    /**
+     * Prepara la sentencia en el cliente de base de datos enlazando los parámetros.
+     *
+     * @param databaseClient cliente R2DBC
+     * @return especificación de ejecución con los parámetros enlazados
+     */
+    public DatabaseClient.GenericExecuteSpec bind(DatabaseClient databaseClient) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            spec = spec.bind(parametro.getKey(), parametro.getValue());
+        }
+        return spec;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public Map<String, Object> parametros() {
+        return parametros;
+    }
+}
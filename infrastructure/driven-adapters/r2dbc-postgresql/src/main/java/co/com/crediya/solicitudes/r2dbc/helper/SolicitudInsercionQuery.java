@@ -0,0 +1,120 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudRowMapper;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+
+/**
+ * Sentencia INSERT de varias filas para persistir un lote de solicitudes.
+ *
+ * Un único INSERT ... VALUES (...), (...) RETURNING se ejecuta como una sola
+ * transacción en PostgreSQL: se insertan todas las filas del lote o ninguna.
+ *
+ * Esta consulta sigue las reglas de adaptadores secundarios:
+ * - Valores siempre enviados como parámetros enlazados (sin concatenar valores)
+ * - Cada tamaño de lote produce siempre el mismo texto SQL
+ * - Sin lógica de negocio
+ */
+public final class SolicitudInsercionQuery {
+
+    /**
+     * Máximo de filas por sentencia; mantiene el número de parámetros muy por debajo
+     * del límite del protocolo de PostgreSQL (65535).
+     */
+    public static final int MAXIMO_FILAS = 1000;
+
+    /**
+     * Los valores de cada fila se enlazan en el orden de {@link SolicitudRowMapper#COLUMNAS}.
+     */
+    private static final String INSERT_BASE =
+            "INSERT INTO solicitudes (" + SolicitudRowMapper.COLUMNAS + ")\nVALUES ";
+
+    private static final String RETURNING = "\nRETURNING " + SolicitudRowMapper.COLUMNAS;
+
+    private final String sql;
+    private final Map<String, Object> parametros;
+
+    private SolicitudInsercionQuery(String sql, Map<String, Object> parametros) {
+        this.sql = sql;
+        this.parametros = Collections.unmodifiableMap(parametros);
+    }
+
+    /**
+     * Construye la sentencia para las solicitudes recibidas, en el mismo orden.
+     *
+     * @param solicitudes filas a insertar
+     * @return sentencia lista para ejecutar
+     * @throws IllegalArgumentException si el lote está vacío o supera el máximo de filas
+     */
+    public static SolicitudInsercionQuery of(List<SolicitudData> solicitudes) {
+        if (solicitudes == null || solicitudes.isEmpty()) {
+            throw new IllegalArgumentException("El lote de inserción no puede estar vacío");
+        }
+        if (solicitudes.size() > MAXIMO_FILAS) {
+            throw new IllegalArgumentException(
+                    "El lote de inserción no puede superar " + MAXIMO_FILAS + " filas");
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_BASE);
+        Map<String, Object> parametros = new LinkedHashMap<>();
+
+        for (int i = 0; i < solicitudes.size(); i++) {
+            SolicitudData solicitud = solicitudes.get(i);
+            sql.append(i == 0 ? "(" : ",\n       (");
+            agregar(sql, parametros, "idSolicitud", i, solicitud.getIdSolicitud());
+            agregar(sql, parametros, "montoSolicitado", i, solicitud.getMontoSolicitado());
+            agregar(sql, parametros, "plazoMeses", i, solicitud.getPlazoMeses());
+            agregar(sql, parametros, "emailSolicitante", i, solicitud.getEmailSolicitante());
+            agregar(sql, parametros, "idEstado", i, solicitud.getIdEstado());
+            agregar(sql, parametros, "idTipoPrestamo", i, solicitud.getIdTipoPrestamo());
+            agregar(sql, parametros, "version", i, solicitud.getVersion());
+            agregar(sql, parametros, "fechaCreacion", i, solicitud.getFechaCreacion());
+            agregar(sql, parametros, "fechaActualizacion", i, solicitud.getFechaActualizacion());
+            agregar(sql, parametros, "activo", i, solicitud.getActivo());
+            sql.setLength(sql.length() - 2);
+            sql.append(')');
+        }
+
+        sql.append(RETURNING);
+        return new SolicitudInsercionQuery(sql.toString(), parametros);
+    }
+
+    private static void agregar(StringBuilder sql, Map<String, Object> parametros,
+                                String nombre, int fila, Object valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException(
+                    "El campo " + nombre + " de la fila " + fila + " no puede ser null");
+        }
+        String parametro = nombre + fila;
+        sql.append(':').append(parametro).append(", ");
+        parametros.put(parametro, valor);
+    }
+
+    /**
+     * Prepara la sentencia en el cliente de base de datos enlazando los parámetros.
+     *
+     * @param databaseClient cliente R2DBC
+     * @return especificación de ejecución con los parámetros enlazados
+     */
+    public DatabaseClient.GenericExecuteSpec bind(DatabaseClient databaseClient) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            spec = spec.bind(parametro.getKey(), parametro.getValue());
+        }
+        return spec;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public Map<String, Object> parametros() {
+        return parametros;
+    }
+}
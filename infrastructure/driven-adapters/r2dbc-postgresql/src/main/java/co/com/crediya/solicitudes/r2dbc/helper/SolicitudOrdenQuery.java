@@ -0,0 +1,160 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import co.com.crediya.solicitudes.r2dbc.mapper.SolicitudRowMapper;
+
+/**
+ * Consulta SQL del listado de solicitudes ordenado por un criterio, resuelto en PostgreSQL.
+ *
+ * Los criterios se traducen a columnas mediante una lista blanca, de modo que el texto del
+ * ORDER BY nunca proviene del cliente. El criterio "estado" ordena por el nombre del estado,
+ * tomado de la tabla estados. El identificador de la solicitud desempata el orden, lo que
+ * permite continuar el listado por clave (keyset): el siguiente tramo empieza después de la
+ * última solicitud entregada, comparando (columna, id_solicitud) con los valores de esa
+ * solicitud. El valor de la columna se consulta antes con {@link #valorDeOrden(String, UUID)}:
+ * si la solicitud ya no existe, el llamador puede informarlo en lugar de entregar un tramo
+ * vacío. Si la última solicitud cambió el valor de la columna entre un tramo y otro, el
+ * siguiente tramo continúa desde su valor actual.
+ *
+ * Esta consulta sigue las reglas de adaptadores secundarios:
+ * - Valores siempre enviados como parámetros enlazados (sin concatenar valores)
+ * - Columnas de orden tomadas solo de la lista blanca
+ * - Sin lógica de negocio
+ */
+public final class SolicitudOrdenQuery {
+
+    /**
+     * Criterios de orden admitidos y la columna por la que ordena cada uno.
+     */
+    private static final Map<String, String> COLUMNAS_ORDEN = Map.of(
+            "fechaCreacion", "fecha_creacion",
+            "monto", "monto_solicitado",
+            "email", "email_solicitante",
+            "estado", "nombre_estado");
+
+    private static final String FROM_SOLICITUDES = "\nFROM solicitudes";
+
+    /**
+     * Agrega el nombre del estado sin repetir las columnas de auditoría que estados comparte
+     * con solicitudes.
+     */
+    private static final String FROM_SOLICITUDES_CON_ESTADO = FROM_SOLICITUDES
+            + "\nJOIN (SELECT id_estado, nombre AS nombre_estado FROM estados) estado USING (id_estado)";
+
+    private final String sql;
+    private final Map<String, Object> parametros;
+
+    private SolicitudOrdenQuery(String sql, Map<String, Object> parametros) {
+        this.sql = sql;
+        this.parametros = Collections.unmodifiableMap(parametros);
+    }
+
+    /**
+     * Construye la consulta para un criterio de orden.
+     *
+     * @param ordenCriterio criterio de orden ("fechaCreacion", "monto", "email", "estado")
+     * @param ascendente true para orden ascendente, false para descendente
+     * @param despuesDe identificador de la última solicitud del tramo anterior, null para empezar desde el inicio
+     * @param valorDespuesDe valor de la columna de orden de esa solicitud, obtenido con
+     *                       {@link #valorDeOrden(String, UUID)}; null si despuesDe es null
+     * @param limite máximo de solicitudes, null para no limitar
+     * @return consulta lista para ejecutar
+     * @throws IllegalArgumentException si el criterio no está admitido, el límite no es positivo o
+     *                                  solo se indicó uno de despuesDe y valorDespuesDe
+     */
+    public static SolicitudOrdenQuery of(String ordenCriterio, boolean ascendente, UUID despuesDe,
+                                         Object valorDespuesDe, Integer limite) {
+        String columna = columna(ordenCriterio);
+        if (limite != null && limite < 1) {
+            throw new IllegalArgumentException("El límite debe ser mayor a cero");
+        }
+        if ((despuesDe == null) != (valorDespuesDe == null)) {
+            throw new IllegalArgumentException(
+                    "La continuación del listado requiere la solicitud y su valor de orden");
+        }
+
+        String direccion = ascendente ? "ASC" : "DESC";
+        StringBuilder sql = new StringBuilder("SELECT ").append(SolicitudRowMapper.COLUMNAS)
+                .append(from(ordenCriterio)).append("\nWHERE activo = true");
+        Map<String, Object> parametros = new LinkedHashMap<>();
+
+        if (despuesDe != null) {
+            sql.append("\nAND (").append(columna).append(", id_solicitud) ").append(ascendente ? '>' : '<')
+                    .append(" (:valorDespuesDe, :despuesDe)");
+            parametros.put("valorDespuesDe", valorDespuesDe);
+            parametros.put("despuesDe", despuesDe);
+        }
+
+        sql.append("\nORDER BY ").append(columna).append(' ').append(direccion)
+                .append(", id_solicitud ").append(direccion);
+
+        if (limite != null) {
+            sql.append("\nLIMIT :limite");
+            parametros.put("limite", limite);
+        }
+        return new SolicitudOrdenQuery(sql.toString(), parametros);
+    }
+
+    /**
+     * Construye la consulta del valor de la columna de orden de una solicitud, desde la que
+     * continúa el siguiente tramo. No filtra por activo: una solicitud desactivada entre un
+     * tramo y otro conserva su posición. No retorna filas si la solicitud no existe. La
+     * fecha_creacion de la solicitud se toma de solicitud_ids, de modo que solo se lee la
+     * partición que la contiene.
+     *
+     * @param ordenCriterio criterio de orden ("fechaCreacion", "monto", "email", "estado")
+     * @param idSolicitud identificador de la última solicitud del tramo anterior
+     * @return consulta lista para ejecutar, con el valor en la primera columna
+     * @throws IllegalArgumentException si el criterio no está admitido o el identificador es nulo
+     */
+    public static SolicitudOrdenQuery valorDeOrden(String ordenCriterio, UUID idSolicitud) {
+        String columna = columna(ordenCriterio);
+        if (idSolicitud == null) {
+            throw new IllegalArgumentException("El identificador de la solicitud no puede ser nulo");
+        }
+        String sql = "SELECT " + columna + from(ordenCriterio) + "\nWHERE id_solicitud = :despuesDe"
+                + "\nAND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :despuesDe)";
+        return new SolicitudOrdenQuery(sql, Map.of("despuesDe", idSolicitud));
+    }
+
+    private static String columna(String ordenCriterio) {
+        String columna = ordenCriterio != null ? COLUMNAS_ORDEN.get(ordenCriterio) : null;
+        if (columna == null) {
+            throw new IllegalArgumentException("Criterio de orden inválido: " + ordenCriterio
+                    + ". Valores permitidos: fechaCreacion, monto, email, estado");
+        }
+        return columna;
+    }
+
+    private static String from(String ordenCriterio) {
+        return "estado".equals(ordenCriterio) ? FROM_SOLICITUDES_CON_ESTADO : FROM_SOLICITUDES;
+    }
+
+    /**
+     * Prepara la sentencia en el cliente de base de datos enlazando los parámetros.
+     *
+     * @param databaseClient cliente R2DBC
+     * @return especificación de ejecución con los parámetros enlazados
+     */
+    public DatabaseClient.GenericExecuteSpec bind(DatabaseClient databaseClient) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            spec = spec.bind(parametro.getKey(), parametro.getValue());
+        }
+        return spec;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public Map<String, Object> parametros() {
+        return parametros;
+    }
+}
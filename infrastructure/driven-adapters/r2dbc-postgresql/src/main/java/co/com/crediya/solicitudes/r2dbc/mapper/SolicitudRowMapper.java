@@ -0,0 +1,78 @@
+package co.com.crediya.solicitudes.r2dbc.mapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Lector de filas de la tabla solicitudes que construye la entidad del dominio directamente
+ * desde el Row de R2DBC, sin pasar por SolicitudData ni por el mapeo reflexivo de Spring Data.
+ *
+ * Las columnas se leen por posición, por lo que las consultas deben seleccionar las columnas
+ * en el orden de {@link #COLUMNAS}. Los valores se reconstruyen sin volver a validarlos porque
+ * ya se validaron al persistirse.
+ *
+ * Este mapper sigue las reglas de adaptadores secundarios:
+ * - Conversión de infraestructura a dominio
+ * - Sin lógica de negocio
+ * - Métodos estáticos para evitar instanciación
+ */
+@UtilityClass
+public class SolicitudRowMapper {
+
+    /**
+     * Columnas de la tabla solicitudes en el orden en que se leen.
+     */
+    public static final String COLUMNAS = """
+        id_solicitud, monto_solicitado, plazo_meses, email_solicitante,
+               id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo""";
+
+    private static final int ID_SOLICITUD = 0;
+    private static final int MONTO_SOLICITADO = 1;
+    private static final int PLAZO_MESES = 2;
+    private static final int EMAIL_SOLICITANTE = 3;
+    private static final int ID_ESTADO = 4;
+    private static final int ID_TIPO_PRESTAMO = 5;
+    private static final int VERSION = 6;
+    private static final int FECHA_CREACION = 7;
+
+    /**
+     * Convierte una fila de la tabla solicitudes a una entidad del dominio.
+     * Su firma permite usarlo como {@code BiFunction<Row, RowMetadata, Solicitud>} en DatabaseClient.
+     *
+     * @param row fila con las columnas en el orden de {@link #COLUMNAS}
+     * @param metadata metadatos de la fila (no se usan: las columnas se leen por posición)
+     * @return entidad del dominio
+     */
+    public static Solicitud toDomain(Row row, RowMetadata metadata) {
+        return Solicitud.from(
+                new SolicitudId(row.get(ID_SOLICITUD, UUID.class)),
+                Monto.reconstruir(row.get(MONTO_SOLICITADO, BigDecimal.class)),
+                Plazo.of(row.get(PLAZO_MESES, Integer.class)),
+                Email.reconstruir(row.get(EMAIL_SOLICITANTE, String.class)),
+                new EstadoId(row.get(ID_ESTADO, UUID.class)),
+                new TipoPrestamoId(row.get(ID_TIPO_PRESTAMO, UUID.class)),
+                row.get(VERSION, Long.class));
+    }
+
+    /**
+     * Obtiene la fecha de creación de una fila, usada como cursor de paginación.
+     *
+     * @param row fila con las columnas en el orden de {@link #COLUMNAS}
+     * @return fecha de creación de la solicitud
+     */
+    public static LocalDateTime fechaCreacion(Row row) {
+        return row.get(FECHA_CREACION, LocalDateTime.class);
+    }
+}
@@ -0,0 +1,23 @@
+package co.com.crediya.solicitudes.r2dbc.model;
+
+import java.util.UUID;
+
+import org.springframework.data.relational.core.mapping.Column;
+
+/**
+ * Proyección con el identificador y la versión de una solicitud.
+ * Se usa como resultado de las sentencias UPDATE ... RETURNING de cambios de estado en lote.
+ * 
+ * Este modelo sigue las reglas de adaptadores secundarios:
+ * - Solo contiene datos de persistencia
+ * - No contiene lógica de negocio
+ * - Usa anotaciones de Spring Data R2DBC
+ */
+public record SolicitudVersionData(
+    @Column("id_solicitud")
+    UUID idSolicitud,
+    
+    @Column("version")
+    Long version
+) {
+}
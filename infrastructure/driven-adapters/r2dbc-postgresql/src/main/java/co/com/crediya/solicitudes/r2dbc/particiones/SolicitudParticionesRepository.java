@@ -0,0 +1,144 @@
+package co.com.crediya.solicitudes.r2dbc.particiones;
+
+import java.time.YearMonth;
+import java.util.regex.Pattern;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mantenimiento de las particiones mensuales de la tabla solicitudes (V3__particionar_solicitudes.sql).
+ *
+ * Cada partición cubre un mes de fecha_creacion y se llama solicitudes_AAAA_MM:
+ * - Las particiones de los meses siguientes se crean por adelantado con la función
+ *   crear_particion_solicitudes, ya que la tabla no tiene partición DEFAULT y una inserción
+ *   sin partición para su mes falla
+ * - Las particiones anteriores al período de retención se separan con
+ *   DETACH PARTITION CONCURRENTLY, sin bloquear lecturas ni escrituras sobre solicitudes, y
+ *   luego la función archivar_particion_solicitudes las descuenta de solicitud_contadores,
+ *   libera sus identificadores en solicitud_ids (separar una partición no ejecuta los
+ *   triggers de borrado) y las mueve al esquema archivo_solicitudes, donde se conservan fuera
+ *   de las consultas
+ *
+ * DETACH PARTITION CONCURRENTLY no puede ejecutarse dentro de una transacción, por lo que se
+ * envía por separado en modo autocommit; el descuento y el movimiento al archivo ocurren en una
+ * sola transacción. Cada ejecución retoma los archivos interrumpidos:
+ * - Una separación que quedó a medias se completa con DETACH PARTITION ... FINALIZE
+ * - Una partición ya separada que sigue junto a solicitudes, sin tabla padre, no se descontó
+ *   todavía: se descuenta y se mueve al archivo sin volver a separarla
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class SolicitudParticionesRepository {
+
+    static final String CREAR_PARTICION_SQL = """
+        SELECT particion
+        FROM crear_particion_solicitudes(:mes) AS particion
+        WHERE particion IS NOT NULL
+        """;
+
+    static final String ARCHIVAR_PARTICION_SQL = "SELECT archivar_particion_solicitudes(:particion)";
+
+    /**
+     * Particiones anteriores al límite, junto con las tablas del mes que ya se separaron de
+     * solicitudes pero no llegaron al archivo (sin fila en pg_inherits).
+     */
+    static final String PARTICIONES_ANTERIORES_SQL = """
+        SELECT tabla.relname::text AS particion,
+               herencia.inhrelid IS NULL AS separada,
+               COALESCE(herencia.inhdetachpending, false) AS pendiente
+        FROM pg_class tabla
+        LEFT JOIN pg_inherits herencia ON herencia.inhrelid = tabla.oid
+        WHERE tabla.relnamespace = (SELECT relnamespace FROM pg_class WHERE oid = 'solicitudes'::regclass)
+        AND tabla.relkind = 'r'
+        AND tabla.relname ~ '^solicitudes_[0-9]{4}_[0-9]{2}$'
+        AND tabla.relname::text < :limite
+        AND (herencia.inhparent IS NULL OR herencia.inhparent = 'solicitudes'::regclass)
+        ORDER BY tabla.relname
+        """;
+
+    private static final Pattern NOMBRE_PARTICION = Pattern.compile("solicitudes_\\d{4}_\\d{2}");
+
+    private final R2dbcEntityTemplate template;
+
+    /**
+     * Crea, si no existen, las particiones del mes indicado y de los meses siguientes.
+     *
+     * @param desde primer mes a crear
+     * @param mesesAdelante número de meses siguientes a crear además del primero
+     * @return nombres de las particiones creadas; las que ya existían no se incluyen
+     */
+    public Flux<String> crearParticiones(YearMonth desde, int mesesAdelante) {
+        if (desde == null || mesesAdelante < 0) {
+            return Flux.error(new IllegalArgumentException(
+                    "El mes inicial no puede ser null y los meses adelante no pueden ser negativos"));
+        }
+
+        DatabaseClient databaseClient = template.getDatabaseClient();
+        return Flux.range(0, mesesAdelante + 1)
+                .map(desde::plusMonths)
+                .concatMap(mes -> databaseClient.sql(CREAR_PARTICION_SQL)
+                        .bind("mes", mes.atDay(1))
+                        .map((row, metadata) -> row.get("particion", String.class))
+                        .all())
+                .doOnNext(particion -> log.info("Partición de solicitudes creada: {}", particion));
+    }
+
+    /**
+     * Separa de la tabla solicitudes las particiones de los meses anteriores al indicado y las
+     * mueve al esquema de archivo.
+     *
+     * @param mes primer mes que se conserva en la tabla
+     * @return nombres de las particiones archivadas
+     */
+    public Flux<String> archivarParticionesAnteriores(YearMonth mes) {
+        if (mes == null) {
+            return Flux.error(new IllegalArgumentException("El mes no puede ser null"));
+        }
+
+        DatabaseClient databaseClient = template.getDatabaseClient();
+        return databaseClient.sql(PARTICIONES_ANTERIORES_SQL)
+                .bind("limite", nombreParticion(mes))
+                .map((row, metadata) -> new Particion(
+                        row.get("particion", String.class),
+                        Boolean.TRUE.equals(row.get("separada", Boolean.class)),
+                        Boolean.TRUE.equals(row.get("pendiente", Boolean.class))))
+                .all()
+                .collectList()
+                .flatMapMany(Flux::fromIterable)
+                .concatMap(particion -> archivar(databaseClient, particion))
+                .doOnNext(particion -> log.info("Partición de solicitudes archivada: {}", particion));
+    }
+
+    /**
+     * Nombre de la partición de un mes, igual al que genera crear_particion_solicitudes.
+     */
+    static String nombreParticion(YearMonth mes) {
+        return "solicitudes_%04d_%02d".formatted(mes.getYear(), mes.getMonthValue());
+    }
+
+    private Mono<String> archivar(DatabaseClient databaseClient, Particion particion) {
+        // Los nombres se concatenan en DDL, que no admite parámetros: solo se aceptan los generados
+        if (!NOMBRE_PARTICION.matcher(particion.nombre()).matches()) {
+            return Mono.error(new IllegalStateException("Nombre de partición inesperado: " + particion.nombre()));
+        }
+
+        Mono<Void> separar = particion.separada()
+                ? Mono.empty()
+                : databaseClient.sql("ALTER TABLE solicitudes DETACH PARTITION " + particion.nombre()
+                        + (particion.separacionPendiente() ? " FINALIZE" : " CONCURRENTLY")).then();
+        return separar
+                .then(databaseClient.sql(ARCHIVAR_PARTICION_SQL).bind("particion", particion.nombre()).then())
+                .thenReturn(particion.nombre());
+    }
+
+    private record Particion(String nombre, boolean separada, boolean separacionPendiente) {
+    }
+}
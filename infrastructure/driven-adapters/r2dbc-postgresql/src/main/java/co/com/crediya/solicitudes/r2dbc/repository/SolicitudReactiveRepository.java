@@ -1,10 +1,10 @@
 package co.com.crediya.solicitudes.r2dbc.repository;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -12,6 +12,7 @@ import org.springframework.data.repository.reactive.ReactiveSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudVersionData;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -29,7 +30,12 @@ import reactor.core.publisher.Mono;
 public interface SolicitudReactiveRepository extends ReactiveCrudRepository<SolicitudData, UUID>, 
                                                    ReactiveSortingRepository<SolicitudData, UUID> {
     
-    // Queries nativas optimizadas
+    // Queries nativas optimizadas. Las consultas de lectura de solicitudes se ejecutan con
+    // DatabaseClient en SolicitudRepositoryAdapter y se convierten con SolicitudRowMapper,
+    // por lo que deben seleccionar las columnas en el orden de SolicitudRowMapper.COLUMNAS.
+    // La tabla está particionada por mes de fecha_creacion: los filtros por fecha comparan la
+    // columna directamente con un valor (sin funciones sobre la columna ni comparaciones de
+    // filas) para que PostgreSQL descarte las particiones que no los cumplen.
     static final String FIND_BY_EMAIL_SQL = """
         SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
                id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
@@ -113,6 +119,38 @@ public interface SolicitudReactiveRepository extends ReactiveCrudRepository<Soli
         ORDER BY fecha_creacion DESC
         """;
     
+    /**
+     * Recorrido completo para la exportación: el orden coincide con idx_solicitudes_fecha_activas
+     * leído hacia atrás y con el de las particiones, así que las filas salen sin ordenar en memoria.
+     */
+    static final String EXPORTAR_SQL = """
+        SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
+               id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
+        FROM solicitudes 
+        WHERE activo = true
+        ORDER BY fecha_creacion, id_solicitud
+        """;
+    
+    static final String FIND_PRIMERA_PAGINA_SQL = """
+        SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
+               id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
+        FROM solicitudes 
+        WHERE activo = true
+        ORDER BY fecha_creacion DESC, id_solicitud DESC
+        LIMIT :limite
+        """;
+    
+    static final String FIND_PAGINA_DESDE_CURSOR_SQL = """
+        SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
+               id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
+        FROM solicitudes 
+        WHERE activo = true
+        AND fecha_creacion <= :fechaCreacion
+        AND (fecha_creacion, id_solicitud) < (:fechaCreacion, :idSolicitud)
+        ORDER BY fecha_creacion DESC, id_solicitud DESC
+        LIMIT :limite
+        """;
+    
     static final String FIND_BY_EMAIL_AND_ESTADO_SQL = """
         SELECT s.id_solicitud, s.monto_solicitado, s.plazo_meses, s.email_solicitante, 
                s.id_estado, s.id_tipo_prestamo, s.version, s.fecha_creacion, s.fecha_actualizacion, s.activo
@@ -136,100 +174,163 @@ public interface SolicitudReactiveRepository extends ReactiveCrudRepository<Soli
         SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
                id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
         FROM solicitudes 
-        WHERE fecha_creacion < (CURRENT_TIMESTAMP - INTERVAL ':diasLimite days')
+        WHERE fecha_creacion < LOCALTIMESTAMP - make_interval(days => :diasLimite)
         AND activo = true
         ORDER BY fecha_creacion ASC
         """;
     
-    static final String COUNT_BY_ESTADO_SQL = """
-        SELECT COUNT(*)
+    // Las sentencias por identificador toman la fecha_creacion de la solicitud de solicitud_ids
+    // (V5__identificadores_solicitudes.sql) y la comparan con la columna de partición: PostgreSQL
+    // descarta durante la ejecución las particiones que no contienen la solicitud.
+    static final String FIND_BY_ID_SQL = """
+        SELECT id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
+               id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
         FROM solicitudes 
+        WHERE id_solicitud = :idSolicitud 
+        AND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :idSolicitud)
+        """;
+    
+    static final String EXISTS_ACTIVA_BY_ID_SQL = """
+        SELECT EXISTS (
+            SELECT 1
+            FROM solicitudes 
+            WHERE id_solicitud = :idSolicitud 
+            AND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :idSolicitud)
+            AND activo = true
+        )
+        """;
+    
+    static final String DESACTIVAR_SQL = """
+        UPDATE solicitudes 
+        SET activo = false, fecha_actualizacion = CURRENT_TIMESTAMP
+        WHERE id_solicitud = :idSolicitud 
+        AND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :idSolicitud)
+        """;
+    
+    static final String UPDATE_CON_VERSION_SQL = """
+        UPDATE solicitudes 
+        SET monto_solicitado = :montoSolicitado, plazo_meses = :plazoMeses, 
+            email_solicitante = :emailSolicitante, id_estado = :idEstado, 
+            id_tipo_prestamo = :idTipoPrestamo, version = version + 1, 
+            fecha_actualizacion = CURRENT_TIMESTAMP
+        WHERE id_solicitud = :idSolicitud 
+        AND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :idSolicitud)
+        AND version = :versionEsperada
+        AND activo = true
+        RETURNING id_solicitud, monto_solicitado, plazo_meses, email_solicitante, 
+                  id_estado, id_tipo_prestamo, version, fecha_creacion, fecha_actualizacion, activo
+        """;
+    
+    static final String CAMBIAR_ESTADO_EN_LOTE_SQL = """
+        UPDATE solicitudes s
+        SET id_estado = :estadoDestino, version = s.version + 1, 
+            fecha_actualizacion = CURRENT_TIMESTAMP
+        FROM solicitud_ids ids
+        WHERE ids.id_solicitud = ANY(:idsSolicitudes) 
+        AND s.id_solicitud = ids.id_solicitud
+        AND s.fecha_creacion = ids.fecha_creacion
+        AND s.id_estado = :estadoOrigen
+        AND s.activo = true
+        RETURNING s.id_solicitud, s.version
+        """;
+    
+    // Los conteos y las estadísticas leen solicitud_contadores (V4__contadores_solicitudes.sql),
+    // que los triggers de solicitudes mantienen al día; cada combinación se reparte en ranuras
+    // que se suman al consultar.
+    static final String COUNT_TOTAL_SQL = """
+        SELECT COALESCE(SUM(cantidad), 0)::bigint
+        FROM solicitud_contadores
+        """;
+    
+    static final String COUNT_BY_ESTADO_SQL = """
+        SELECT COALESCE(SUM(cantidad), 0)::bigint
+        FROM solicitud_contadores 
         WHERE id_estado = :idEstado 
         AND activo = true
         """;
     
     static final String COUNT_BY_TIPO_PRESTAMO_SQL = """
-        SELECT COUNT(*)
-        FROM solicitudes 
+        SELECT COALESCE(SUM(cantidad), 0)::bigint
+        FROM solicitud_contadores 
         WHERE id_tipo_prestamo = :idTipoPrestamo 
         AND activo = true
         """;
     
     static final String FIND_ESTADISTICAS_POR_ESTADO_SQL = """
-        SELECT e.nombre as estado, COUNT(s.id_solicitud) as cantidad
-        FROM solicitudes s
-        INNER JOIN estados e ON s.id_estado = e.id_estado
-        WHERE s.activo = true
+        SELECT e.nombre as estado, SUM(c.cantidad)::bigint as cantidad
+        FROM solicitud_contadores c
+        INNER JOIN estados e ON c.id_estado = e.id_estado
+        WHERE c.activo = true
         GROUP BY e.id_estado, e.nombre
+        HAVING SUM(c.cantidad) > 0
         ORDER BY cantidad DESC
         """;
     
     static final String FIND_ESTADISTICAS_POR_TIPO_PRESTAMO_SQL = """
-        SELECT tp.nombre as tipo_prestamo, COUNT(s.id_solicitud) as cantidad
-        FROM solicitudes s
-        INNER JOIN tipos_prestamo tp ON s.id_tipo_prestamo = tp.id_tipo_prestamo
-        WHERE s.activo = true
+        SELECT tp.nombre as tipo_prestamo, SUM(c.cantidad)::bigint as cantidad
+        FROM solicitud_contadores c
+        INNER JOIN tipos_prestamo tp ON c.id_tipo_prestamo = tp.id_tipo_prestamo
+        WHERE c.activo = true
         GROUP BY tp.id_tipo_prestamo, tp.nombre
+        HAVING SUM(c.cantidad) > 0
         ORDER BY cantidad DESC
         """;
     
     // Métodos de consulta básicos
-    @Query(FIND_BY_EMAIL_SQL)
-    Flux<SolicitudData> findByEmailSolicitante(@Param("email") String email);
-    
-    @Query(FIND_BY_ESTADO_SQL)
-    Flux<SolicitudData> findByIdEstado(@Param("idEstado") UUID idEstado);
-    
-    @Query(FIND_BY_TIPO_PRESTAMO_SQL)
-    Flux<SolicitudData> findByIdTipoPrestamo(@Param("idTipoPrestamo") UUID idTipoPrestamo);
-    
-    @Query(FIND_BY_RANGO_MONTO_SQL)
-    Flux<SolicitudData> findByRangoMonto(@Param("montoMinimo") BigDecimal montoMinimo, 
-                                        @Param("montoMaximo") BigDecimal montoMaximo);
-    
-    @Query(FIND_BY_RANGO_FECHAS_SQL)
-    Flux<SolicitudData> findByRangoFechas(@Param("fechaInicio") LocalDateTime fechaInicio, 
-                                         @Param("fechaFin") LocalDateTime fechaFin);
-    
-    @Query(FIND_PENDIENTES_REVISION_SQL)
-    Flux<SolicitudData> findPendientesRevision();
-    
-    @Query(FIND_APROBADAS_SQL)
-    Flux<SolicitudData> findAprobadas();
-    
-    @Query(FIND_RECHAZADAS_SQL)
-    Flux<SolicitudData> findRechazadas();
-    
-    @Query(FIND_ALL_ACTIVOS_SQL)
-    Flux<SolicitudData> findAllActivos();
-    
-    @Query(FIND_BY_EMAIL_AND_ESTADO_SQL)
-    Flux<SolicitudData> findByEmailSolicitanteAndIdEstado(@Param("email") String email, 
-                                                         @Param("idEstado") UUID idEstado);
-    
-    @Query(FIND_MAS_RECIENTES_SQL)
-    Flux<SolicitudData> findMasRecientes(@Param("limite") int limite);
-    
     @Query(FIND_REQUIEREN_SEGUIMIENTO_SQL)
     Flux<SolicitudData> findRequierenSeguimiento(@Param("diasLimite") int diasLimite);
     
+    /**
+     * Actualiza la solicitud solo si la versión persistida coincide con la esperada.
+     * Retorna vacío si no se actualizó ninguna fila (conflicto de versión o solicitud inexistente).
+     */
+    @Query(UPDATE_CON_VERSION_SQL)
+    Mono<SolicitudData> updateConVersion(@Param("idSolicitud") UUID idSolicitud,
+                                         @Param("montoSolicitado") BigDecimal montoSolicitado,
+                                         @Param("plazoMeses") Integer plazoMeses,
+                                         @Param("emailSolicitante") String emailSolicitante,
+                                         @Param("idEstado") UUID idEstado,
+                                         @Param("idTipoPrestamo") UUID idTipoPrestamo,
+                                         @Param("versionEsperada") Long versionEsperada);
+    
+    /**
+     * Cambia de estado en una sola sentencia las solicitudes activas que se encuentran en el estado de origen.
+     * Retorna solo las solicitudes actualizadas con su nueva versión.
+     */
+    @Query(CAMBIAR_ESTADO_EN_LOTE_SQL)
+    Flux<SolicitudVersionData> cambiarEstadoEnLote(@Param("idsSolicitudes") UUID[] idsSolicitudes,
+                                                   @Param("estadoOrigen") UUID estadoOrigen,
+                                                   @Param("estadoDestino") UUID estadoDestino);
+    
+    /**
+     * Indica si existe una solicitud activa con el identificador dado.
+     */
+    @Query(EXISTS_ACTIVA_BY_ID_SQL)
+    Mono<Boolean> existsActivaById(@Param("idSolicitud") UUID idSolicitud);
+    
+    /**
+     * Da de baja lógica la solicitud, esté activa o no.
+     * Retorna false si la solicitud no existe.
+     */
+    @Modifying
+    @Query(DESACTIVAR_SQL)
+    Mono<Boolean> desactivar(@Param("idSolicitud") UUID idSolicitud);
+    
+    /**
+     * Cuenta todas las solicitudes, activas y dadas de baja.
+     */
+    @Query(COUNT_TOTAL_SQL)
+    Mono<Long> countTotal();
+    
     @Query(COUNT_BY_ESTADO_SQL)
     Mono<Long> countByIdEstado(@Param("idEstado") UUID idEstado);
     
     @Query(COUNT_BY_TIPO_PRESTAMO_SQL)
     Mono<Long> countByIdTipoPrestamo(@Param("idTipoPrestamo") UUID idTipoPrestamo);
     
-    @Query(FIND_ESTADISTICAS_POR_ESTADO_SQL)
-    Flux<Object[]> findEstadisticasPorEstado();
-    
-    @Query(FIND_ESTADISTICAS_POR_TIPO_PRESTAMO_SQL)
-    Flux<Object[]> findEstadisticasPorTipoPrestamo();
-    
     // Métodos con paginación
     Flux<SolicitudData> findAllByActivoTrue(Pageable pageable);
     
     // Métodos de existencia
     Mono<Boolean> existsByEmailSolicitanteAndActivoTrue(String emailSolicitante);
-    
-    Mono<Boolean> existsByIdSolicitudAndActivoTrue(UUID idSolicitud);
 }
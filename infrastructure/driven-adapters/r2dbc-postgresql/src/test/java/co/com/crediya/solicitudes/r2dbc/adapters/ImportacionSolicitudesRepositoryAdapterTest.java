@@ -0,0 +1,266 @@
+package co.com.crediya.solicitudes.r2dbc.adapters;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudHistorica;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.r2dbc.particiones.SolicitudParticionesRepository;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.Wrapped;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.BadSqlGrammarException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportacionSolicitudesRepositoryAdapter Tests")
+class ImportacionSolicitudesRepositoryAdapterTest {
+
+    private static final UUID ID_SOLICITUD = UUID.fromString("0190f5c2-3b4a-7d2e-8f10-123456789abc");
+    private static final UUID ID_ESTADO = UUID.fromString("123e4567-e89b-12d3-a456-426614174002");
+    private static final UUID ID_TIPO_PRESTAMO = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private SolicitudParticionesRepository particiones;
+
+    @Mock
+    private PostgresqlConnection conexion;
+
+    private ImportacionSolicitudesRepositoryAdapter adapter;
+
+    private final List<String> enviado = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        adapter = new ImportacionSolicitudesRepositoryAdapter(template, particiones);
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+        lenient().when(particiones.crearParticiones(any(), anyInt())).thenReturn(Flux.empty());
+        lenient().when(databaseClient.inConnection(any())).thenAnswer(invocation ->
+            ((Function<Connection, Mono<Long>>) invocation.getArgument(0)).apply(conexion));
+        lenient().when(conexion.copyIn(eq(ImportacionSolicitudesRepositoryAdapter.COPY_SQL), any()))
+            .thenAnswer(invocation -> Flux.from(invocation.<Publisher<ByteBuf>>getArgument(1))
+                .map(buffer -> {
+                    try {
+                        return buffer.toString(StandardCharsets.UTF_8);
+                    } finally {
+                        buffer.release();
+                    }
+                })
+                .doOnNext(enviado::add)
+                .map(mensaje -> mensaje.chars().filter(caracter -> caracter == '\n').count())
+                .reduce(0L, Long::sum));
+    }
+
+    @Test
+    @DisplayName("Debería codificar cada solicitud como una línea de texto de COPY")
+    void shouldEncodeCopyTextRow() {
+        // When
+        ByteBuf buffer = ImportacionSolicitudesRepositoryAdapter.codificar(
+            List.of(historica("1500000.5", "cliente@crediya.com", LocalDateTime.of(2019, 3, 15, 10, 30))),
+            ByteBufAllocator.DEFAULT);
+
+        // Then
+        try {
+            assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo(String.join("\t",
+                ID_SOLICITUD.toString(), "1500000.50", "24", "cliente@crediya.com", ID_ESTADO.toString(),
+                ID_TIPO_PRESTAMO.toString(), "0", "2019-03-15T10:30", "2019-03-15T10:30", "t") + "\n");
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería escapar la barra invertida, el tabulador y los saltos de línea")
+    void shouldEscapeCopyTextSpecialCharacters() {
+        // Given
+        StringBuilder texto = new StringBuilder();
+
+        // When
+        ImportacionSolicitudesRepositoryAdapter.escapar("a\\b\tc\nd\re", texto);
+
+        // Then
+        assertThat(texto).hasToString("a\\\\b\\tc\\nd\\re");
+    }
+
+    @Test
+    @DisplayName("Debería enviar el lote con un único COPY en mensajes de tamaño acotado")
+    void shouldSendBatchWithSingleCopy() {
+        // Given
+        List<SolicitudHistorica> lote = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            lote.add(historica("1000000", "cliente@crediya.com", LocalDateTime.of(2019, 3, 15, 10, 30)));
+        }
+
+        // When & Then
+        StepVerifier.create(adapter.cargar(lote))
+            .expectNext(600L)
+            .verifyComplete();
+
+        verify(conexion, times(1)).copyIn(eq(ImportacionSolicitudesRepositoryAdapter.COPY_SQL), any());
+        assertThat(enviado).hasSize(3);
+        assertThat(enviado.get(0).lines()).hasSize(ImportacionSolicitudesRepositoryAdapter.FILAS_POR_MENSAJE);
+    }
+
+    @Test
+    @DisplayName("Debería crear una sola vez las particiones de los meses del lote")
+    void shouldCreateMonthPartitionsOnce() {
+        // Given
+        List<SolicitudHistorica> lote = List.of(
+            historica("1000000", "a@crediya.com", LocalDateTime.of(2019, 4, 2, 0, 0)),
+            historica("1000000", "b@crediya.com", LocalDateTime.of(2019, 3, 15, 10, 30)),
+            historica("1000000", "c@crediya.com", LocalDateTime.of(2019, 4, 30, 23, 59)));
+
+        // When
+        StepVerifier.create(adapter.cargar(lote).then(adapter.cargar(lote)))
+            .expectNext(3L)
+            .verifyComplete();
+
+        // Then
+        verify(particiones, times(1)).crearParticiones(YearMonth.of(2019, 3), 0);
+        verify(particiones, times(1)).crearParticiones(YearMonth.of(2019, 4), 0);
+    }
+
+    @Test
+    @DisplayName("Debería reportar los errores de datos de PostgreSQL como IllegalArgumentException")
+    void shouldMapDataErrorsToIllegalArgument() {
+        // Given
+        when(conexion.copyIn(eq(ImportacionSolicitudesRepositoryAdapter.COPY_SQL), any()))
+            .thenReturn(Mono.error(new BadSqlGrammarException("execute", "",
+                new R2dbcDataIntegrityViolationException("numeric field overflow", "22003"))));
+
+        // When & Then
+        StepVerifier.create(adapter.cargar(List.of(historica("1000000", "a@crediya.com", LocalDateTime.now()))))
+            .expectErrorSatisfies(error -> assertThat(error)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("numeric field overflow"))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Debería propagar sin cambios los errores que no son de datos")
+    void shouldPropagateOtherErrors() {
+        // Given
+        when(conexion.copyIn(eq(ImportacionSolicitudesRepositoryAdapter.COPY_SQL), any()))
+            .thenReturn(Mono.error(new R2dbcNonTransientResourceException("connection closed", "08006")));
+
+        // When & Then
+        StepVerifier.create(adapter.cargar(List.of(historica("1000000", "a@crediya.com", LocalDateTime.now()))))
+            .expectError(R2dbcNonTransientResourceException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Debería liberar los mensajes que el driver descarta sin enviar")
+    void shouldReleaseDiscardedMessages() {
+        // Given
+        List<SolicitudHistorica> lote = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            lote.add(historica("1000000", "cliente@crediya.com", LocalDateTime.of(2019, 3, 15, 10, 30)));
+        }
+        List<ByteBuf> recibidos = new ArrayList<>();
+        Sinks.Empty<Void> conexionCerrada = Sinks.empty();
+        when(conexion.copyIn(eq(ImportacionSolicitudesRepositoryAdapter.COPY_SQL), any()))
+            .thenAnswer(invocation -> Flux.from(invocation.<Publisher<ByteBuf>>getArgument(1))
+                .doOnNext(recibidos::add)
+                .doOnComplete(() -> conexionCerrada.tryEmitError(
+                    new R2dbcNonTransientResourceException("connection closed", "08006")))
+                // Un driver que adelanta mensajes: el primero queda en vuelo y el resto en cola
+                .concatMap(buffer -> {
+                    buffer.release();
+                    return conexionCerrada.asMono();
+                }, 4)
+                .then(Mono.just(0L)));
+
+        // When
+        StepVerifier.create(adapter.cargar(lote))
+            .expectError(R2dbcNonTransientResourceException.class)
+            .verify();
+
+        // Then
+        assertThat(recibidos).hasSize(3);
+        assertThat(recibidos).allSatisfy(buffer -> assertThat(buffer.refCnt()).isZero());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un lote nulo y no consultar la base de datos con un lote vacío")
+    void shouldRejectNullAndSkipEmptyBatch() {
+        // When & Then
+        StepVerifier.create(adapter.cargar(null))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        StepVerifier.create(adapter.cargar(List.of()))
+            .expectNext(0L)
+            .verifyComplete();
+
+        verifyNoInteractions(databaseClient, particiones);
+    }
+
+    @Test
+    @DisplayName("Debería obtener la conexión de PostgreSQL detrás de las envolturas")
+    @SuppressWarnings("unchecked")
+    void shouldUnwrapPostgresqlConnection() {
+        // Given
+        Connection envuelta = mock(Connection.class, withSettings().extraInterfaces(Wrapped.class));
+        when(((Wrapped<Connection>) envuelta).unwrap()).thenReturn(conexion);
+
+        // When & Then
+        assertThat(ImportacionSolicitudesRepositoryAdapter.postgresql(envuelta)).isSameAs(conexion);
+        assertThatThrownBy(() -> ImportacionSolicitudesRepositoryAdapter.postgresql(mock(Connection.class)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static SolicitudHistorica historica(String monto, String email, LocalDateTime fechaCreacion) {
+        Solicitud solicitud = Solicitud.create(SolicitudId.newId(() -> ID_SOLICITUD), Monto.of(new BigDecimal(monto)),
+            Plazo.of(24), Email.of(email), EstadoId.newId(() -> ID_ESTADO),
+            TipoPrestamoId.newId(() -> ID_TIPO_PRESTAMO));
+        return new SolicitudHistorica(solicitud, fechaCreacion);
+    }
+}
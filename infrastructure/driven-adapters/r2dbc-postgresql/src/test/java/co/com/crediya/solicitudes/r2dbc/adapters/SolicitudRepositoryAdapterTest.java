@@ -0,0 +1,561 @@
+package co.com.crediya.solicitudes.r2dbc.adapters;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.ConflictoConcurrenciaException;
+import co.com.crediya.solicitudes.model.solicitud.ConteoSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.r2dbc.batch.SolicitudInsertBatcher;
+import co.com.crediya.solicitudes.r2dbc.config.SolicitudExportacionProperties;
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudInsercionQuery;
+import co.com.crediya.solicitudes.r2dbc.helper.SolicitudOrdenQuery;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudVersionData;
+import co.com.crediya.solicitudes.r2dbc.repository.SolicitudReactiveRepository;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para SolicitudRepositoryAdapter.
+ * 
+ * Estos tests siguen las reglas de testing de adaptadores secundarios:
+ * - Mock de dependencias externas
+ * - Testing de flujos reactivos
+ * - Cobertura de casos de éxito y error
+ * - Validación de mapeo correcto
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitudRepositoryAdapter Tests")
+class SolicitudRepositoryAdapterTest {
+    
+    @Mock
+    private SolicitudReactiveRepository repository;
+    
+    @Mock
+    private R2dbcEntityTemplate template;
+    
+    @Mock
+    private SolicitudInsertBatcher insertBatcher;
+    
+    @Spy
+    private SolicitudExportacionProperties exportacionProperties = new SolicitudExportacionProperties(200);
+    
+    @InjectMocks
+    private SolicitudRepositoryAdapter adapter;
+    
+    private Solicitud solicitud;
+    
+    @BeforeEach
+    void setUp() {
+        solicitud = Solicitud.from(
+            SolicitudId.random(),
+            Monto.of(new BigDecimal("5000000.00")),
+            Plazo.of(24),
+            Email.of("cliente@test.com"),
+            EstadoId.random(),
+            TipoPrestamoId.random(),
+            4L
+        );
+    }
+    
+    @Test
+    @DisplayName("Debería guardar la solicitud nueva a través del escritor de inserciones")
+    void shouldSaveWithSingleInsert() {
+        // Given
+        when(insertBatcher.insertar(any(SolicitudData.class)))
+            .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        
+        // When & Then
+        StepVerifier.create(adapter.save(solicitud))
+            .assertNext(guardada -> {
+                assertThat(guardada.id()).isEqualTo(solicitud.id());
+                assertThat(guardada.version()).isEqualTo(4L);
+            })
+            .verifyComplete();
+        
+        verify(insertBatcher).insertar(any(SolicitudData.class));
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería guardar un lote de solicitudes con un único INSERT")
+    void shouldSaveAllWithSingleBatchInsert() {
+        // Given
+        Solicitud otra = Solicitud.from(
+            SolicitudId.random(),
+            Monto.of(new BigDecimal("2000000.00")),
+            Plazo.of(12),
+            Email.of("otro@test.com"),
+            EstadoId.random(),
+            TipoPrestamoId.random(),
+            0L
+        );
+        when(insertBatcher.insertarLote(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<SolicitudData>>getArgument(0)));
+        
+        // When & Then
+        StepVerifier.create(adapter.saveAll(List.of(solicitud, otra)))
+            .assertNext(guardada -> assertThat(guardada.id()).isEqualTo(solicitud.id()))
+            .assertNext(guardada -> assertThat(guardada.id()).isEqualTo(otra.id()))
+            .verifyComplete();
+        
+        verify(insertBatcher).insertarLote(anyList());
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería guardar en tramos de a lo sumo MAXIMO_FILAS una lista más grande que un INSERT")
+    void shouldSaveLargeListInChunks() {
+        // Given
+        List<Solicitud> solicitudes = IntStream.range(0, 2 * SolicitudInsercionQuery.MAXIMO_FILAS + 500)
+            .mapToObj(i -> Solicitud.from(
+                SolicitudId.random(),
+                Monto.of(new BigDecimal("1000000.00")),
+                Plazo.of(12),
+                Email.of("cliente" + i + "@test.com"),
+                EstadoId.random(),
+                TipoPrestamoId.random(),
+                0L))
+            .toList();
+        List<Integer> tamanos = new ArrayList<>();
+        when(insertBatcher.insertarLote(anyList())).thenAnswer(invocation -> {
+            List<SolicitudData> lote = invocation.getArgument(0);
+            tamanos.add(lote.size());
+            return Flux.fromIterable(lote);
+        });
+        
+        // When & Then
+        StepVerifier.create(adapter.saveAll(solicitudes).map(Solicitud::id))
+            .expectNextSequence(solicitudes.stream().map(Solicitud::id).toList())
+            .verifyComplete();
+        
+        assertThat(tamanos).containsExactly(SolicitudInsercionQuery.MAXIMO_FILAS, SolicitudInsercionQuery.MAXIMO_FILAS, 500);
+    }
+    
+    @Test
+    @DisplayName("Debería informar como argumento inválido el rechazo del lote por sus datos")
+    void shouldMapDataErrorOnSaveAllToIllegalArgument() {
+        // Given
+        when(insertBatcher.insertarLote(anyList())).thenReturn(Flux.error(
+            new R2dbcDataIntegrityViolationException("new row violates check constraint", "23514")));
+        
+        // When & Then
+        StepVerifier.create(adapter.saveAll(List.of(solicitud)))
+            .expectErrorSatisfies(error -> assertThat(error)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("new row violates check constraint"))
+            .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un lote null sin consultar la base de datos")
+    void shouldRejectNullBatchOnSaveAll() {
+        // When & Then
+        StepVerifier.create(adapter.saveAll(null))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        
+        verifyNoMoreInteractions(insertBatcher);
+    }
+    
+    @Test
+    @DisplayName("Debería actualizar la solicitud en una sola sentencia condicionada por versión")
+    void shouldUpdateWithSingleConditionalStatement() {
+        // Given
+        SolicitudData actualizada = SolicitudData.builder()
+            .idSolicitud(solicitud.id().value())
+            .montoSolicitado(solicitud.monto().valor())
+            .plazoMeses(solicitud.plazo().meses())
+            .emailSolicitante(solicitud.email().value())
+            .idEstado(solicitud.idEstado().value())
+            .idTipoPrestamo(solicitud.idTipoPrestamo().value())
+            .version(5L)
+            .fechaCreacion(LocalDateTime.now().minusDays(1))
+            .fechaActualizacion(LocalDateTime.now())
+            .activo(true)
+            .build();
+        when(repository.updateConVersion(
+            solicitud.id().value(),
+            solicitud.monto().valor(),
+            24,
+            "cliente@test.com",
+            solicitud.idEstado().value(),
+            solicitud.idTipoPrestamo().value(),
+            4L
+        )).thenReturn(Mono.just(actualizada));
+        
+        // When & Then
+        StepVerifier.create(adapter.update(solicitud))
+            .assertNext(resultado -> {
+                assertThat(resultado.id()).isEqualTo(solicitud.id());
+                assertThat(resultado.version()).isEqualTo(5L);
+            })
+            .verifyComplete();
+        
+        verify(repository).updateConVersion(
+            solicitud.id().value(),
+            solicitud.monto().valor(),
+            24,
+            "cliente@test.com",
+            solicitud.idEstado().value(),
+            solicitud.idTipoPrestamo().value(),
+            4L
+        );
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería lanzar conflicto de concurrencia cuando no se actualiza ninguna fila")
+    void shouldFailWithConflictWhenNoRowUpdated() {
+        // Given
+        when(repository.updateConVersion(
+            solicitud.id().value(),
+            solicitud.monto().valor(),
+            24,
+            "cliente@test.com",
+            solicitud.idEstado().value(),
+            solicitud.idTipoPrestamo().value(),
+            4L
+        )).thenReturn(Mono.empty());
+        
+        // When & Then
+        StepVerifier.create(adapter.update(solicitud))
+            .expectErrorSatisfies(error -> {
+                assertThat(error).isInstanceOf(ConflictoConcurrenciaException.class);
+                ConflictoConcurrenciaException conflicto = (ConflictoConcurrenciaException) error;
+                assertThat(conflicto.idSolicitud()).isEqualTo(solicitud.id());
+                assertThat(conflicto.versionEsperada()).isEqualTo(4L);
+            })
+            .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar actualizar una solicitud null")
+    void shouldRejectNullSolicitudOnUpdate() {
+        // When & Then
+        StepVerifier.create(adapter.update(null))
+            .expectErrorMatches(error -> error instanceof IllegalArgumentException &&
+                error.getMessage().equals("La solicitud no puede ser null"))
+            .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería cambiar de estado un lote en una sola sentencia")
+    void shouldChangeStateInBatchWithSingleStatement() {
+        // Given
+        SolicitudId primera = SolicitudId.random();
+        SolicitudId segunda = SolicitudId.random();
+        Set<SolicitudId> ids = new LinkedHashSet<>(List.of(primera, segunda));
+        EstadoId origen = EstadoId.random();
+        EstadoId destino = EstadoId.random();
+        when(repository.cambiarEstadoEnLote(any(UUID[].class), eq(origen.value()), eq(destino.value())))
+            .thenReturn(Flux.just(new SolicitudVersionData(segunda.value(), 3L)));
+        
+        // When & Then
+        StepVerifier.create(adapter.cambiarEstadoEnLote(ids, origen, destino))
+            .expectNext(ResultadoCambioEstado.exitoso(segunda, 3L))
+            .verifyComplete();
+        
+        verify(repository).cambiarEstadoEnLote(
+            new UUID[] {primera.value(), segunda.value()}, origen.value(), destino.value());
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un cambio de estado en lote con estados null")
+    void shouldRejectBatchWithNullStates() {
+        // When & Then
+        StepVerifier.create(adapter.cambiarEstadoEnLote(Set.of(SolicitudId.random()), null, EstadoId.random()))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería leer la página directamente de las filas y construir el cursor con la última")
+    @SuppressWarnings("unchecked")
+    void shouldReadPageFromRowsAndBuildCursor() {
+        // Given
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Object> filas = mock(RowsFetchSpec.class);
+        LocalDateTime fechaBase = LocalDateTime.of(2025, 3, 1, 10, 0);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Object> lector = invocation.getArgument(0);
+            when(filas.all()).thenReturn(Flux.range(0, ids.size())
+                .map(i -> lector.apply(fila(ids.get(i), fechaBase.minusMinutes(i)), mock(RowMetadata.class))));
+            return filas;
+        });
+        
+        // When & Then
+        StepVerifier.create(adapter.findPagina(null, 2))
+            .assertNext(pagina -> {
+                assertThat(pagina.solicitudes()).extracting(s -> s.id().value()).containsExactly(ids.get(0), ids.get(1));
+                assertThat(pagina.siguienteCursor().idSolicitud().value()).isEqualTo(ids.get(1));
+                assertThat(pagina.siguienteCursor().fechaCreacion()).isEqualTo(fechaBase.minusMinutes(1));
+            })
+            .verifyComplete();
+        
+        verify(spec).bind("limite", 3);
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería buscar la solicitud por identificador en la partición registrada en solicitud_ids")
+    @SuppressWarnings("unchecked")
+    void shouldFindByIdInRegisteredPartition() {
+        // Given
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Object> filas = mock(RowsFetchSpec.class);
+        UUID id = solicitud.id().value();
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(SolicitudReactiveRepository.FIND_BY_ID_SQL)).thenReturn(spec);
+        when(spec.bind("idSolicitud", id)).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Object> lector = invocation.getArgument(0);
+            when(filas.all()).thenReturn(Flux.defer(() ->
+                Flux.just(lector.apply(fila(id), mock(RowMetadata.class)))));
+            return filas;
+        });
+        
+        // When & Then
+        StepVerifier.create(adapter.findById(solicitud.id()))
+            .assertNext(encontrada -> assertThat(encontrada.id()).isEqualTo(solicitud.id()))
+            .verifyComplete();
+        
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería dar de baja la solicitud en una sola sentencia sin leerla antes")
+    void shouldDeactivateWithSingleStatement() {
+        // Given
+        when(repository.desactivar(solicitud.id().value())).thenReturn(Mono.just(true));
+        
+        // When & Then
+        StepVerifier.create(adapter.deleteById(solicitud.id()))
+            .expectNext(true)
+            .verifyComplete();
+        
+        verify(repository).desactivar(solicitud.id().value());
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería indicar que no dio de baja una solicitud inexistente")
+    void shouldReturnFalseWhenDeactivatingMissingSolicitud() {
+        // Given
+        when(repository.desactivar(solicitud.id().value())).thenReturn(Mono.just(false));
+        
+        // When & Then
+        StepVerifier.create(adapter.deleteById(solicitud.id()))
+            .expectNext(false)
+            .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería contar todas las solicitudes desde la tabla de contadores")
+    void shouldCountFromCounters() {
+        // Given
+        when(repository.countTotal()).thenReturn(Mono.just(42L));
+        
+        // When & Then
+        StepVerifier.create(adapter.count())
+            .expectNext(42L)
+            .verifyComplete();
+        
+        verify(repository).countTotal();
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería leer las estadísticas por estado como conteos tipados")
+    @SuppressWarnings("unchecked")
+    void shouldReadStatisticsByStateAsTypedCounts() {
+        // Given
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Object> filas = mock(RowsFetchSpec.class);
+        Row aprobadas = conteo("estado", "Aprobada", 7L);
+        Row rechazadas = conteo("estado", "Rechazada", 3L);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(SolicitudReactiveRepository.FIND_ESTADISTICAS_POR_ESTADO_SQL)).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Object> lector = invocation.getArgument(0);
+            when(filas.all()).thenReturn(Flux.just(aprobadas, rechazadas)
+                .map(fila -> lector.apply(fila, mock(RowMetadata.class))));
+            return filas;
+        });
+        
+        // When & Then
+        StepVerifier.create(adapter.findEstadisticasPorEstado())
+            .expectNext(new ConteoSolicitudes("Aprobada", 7), new ConteoSolicitudes("Rechazada", 3))
+            .verifyComplete();
+        
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería exportar las solicitudes leyendo el cursor por tramos del tamaño configurado")
+    @SuppressWarnings("unchecked")
+    void shouldExportWithConfiguredFetchSize() {
+        // Given
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Solicitud> filas = mock(RowsFetchSpec.class);
+        Statement statement = mock(Statement.class);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(SolicitudReactiveRepository.EXPORTAR_SQL)).thenReturn(spec);
+        when(spec.filter(any(Function.class))).thenAnswer(invocation -> {
+            Function<Statement, Statement> filtro = invocation.getArgument(0);
+            filtro.apply(statement);
+            return spec;
+        });
+        when(spec.<Solicitud>map(any(BiFunction.class))).thenReturn(filas);
+        when(filas.all()).thenReturn(Flux.just(solicitud));
+        
+        // When & Then
+        StepVerifier.create(adapter.exportar())
+            .expectNext(solicitud)
+            .verifyComplete();
+        
+        verify(statement).fetchSize(200);
+        verifyNoMoreInteractions(repository);
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un criterio de orden desconocido sin consultar la base de datos")
+    void shouldRejectUnknownOrderCriteria() {
+        // When & Then
+        StepVerifier.create(adapter.findAllOrderedBy("nombre", true, null, 10))
+            .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                && error.getMessage().startsWith("Criterio de orden inválido: nombre"))
+            .verify();
+        
+        verifyNoMoreInteractions(template, repository);
+    }
+    
+    @Test
+    @DisplayName("Debería ordenar en la base de datos y continuar después de la última solicitud")
+    @SuppressWarnings("unchecked")
+    void shouldOrderInDatabaseAfterLastSolicitud() {
+        // Given
+        BigDecimal montoUltima = new BigDecimal("5000000.00");
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Object> valorDeOrden = mock(RowsFetchSpec.class);
+        RowsFetchSpec<Solicitud> filas = mock(RowsFetchSpec.class);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(valorDeOrden, filas);
+        when(valorDeOrden.one()).thenReturn(Mono.just(montoUltima));
+        when(filas.all()).thenReturn(Flux.just(solicitud));
+        
+        // When & Then
+        StepVerifier.create(adapter.findAllOrderedBy("monto", false, solicitud.id(), 20))
+            .expectNext(solicitud)
+            .verifyComplete();
+        
+        verify(databaseClient).sql(SolicitudOrdenQuery.valorDeOrden("monto", solicitud.id().value()).sql());
+        verify(databaseClient).sql(contains("ORDER BY monto_solicitado DESC, id_solicitud DESC"));
+        verify(spec, times(2)).bind("despuesDe", solicitud.id().value());
+        verify(spec).bind("valorDespuesDe", montoUltima);
+        verify(spec).bind("limite", 20);
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar continuar después de una solicitud que no existe")
+    @SuppressWarnings("unchecked")
+    void shouldRejectMissingLastSolicitud() {
+        // Given
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Object> valorDeOrden = mock(RowsFetchSpec.class);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(valorDeOrden);
+        when(valorDeOrden.one()).thenReturn(Mono.empty());
+        
+        // When & Then
+        StepVerifier.create(adapter.findAllOrderedBy("monto", true, solicitud.id(), 20))
+            .expectErrorMatches(error -> error instanceof IllegalArgumentException
+                && error.getMessage().contains(solicitud.id().value().toString()))
+            .verify();
+        
+        verify(databaseClient, times(1)).sql(anyString());
+    }
+    
+    private static Row conteo(String columnaNombre, String nombre, long cantidad) {
+        Row row = mock(Row.class);
+        when(row.get(columnaNombre, String.class)).thenReturn(nombre);
+        when(row.get("cantidad", Long.class)).thenReturn(cantidad);
+        return row;
+    }
+    
+    private static Row fila(UUID idSolicitud, LocalDateTime fechaCreacion) {
+        Row row = fila(idSolicitud);
+        when(row.get(7, LocalDateTime.class)).thenReturn(fechaCreacion);
+        return row;
+    }
+    
+    private static Row fila(UUID idSolicitud) {
+        Row row = mock(Row.class);
+        when(row.get(0, UUID.class)).thenReturn(idSolicitud);
+        when(row.get(1, BigDecimal.class)).thenReturn(new BigDecimal("5000000.00"));
+        when(row.get(2, Integer.class)).thenReturn(24);
+        when(row.get(3, String.class)).thenReturn("cliente@test.com");
+        when(row.get(4, UUID.class)).thenReturn(UUID.randomUUID());
+        when(row.get(5, UUID.class)).thenReturn(UUID.randomUUID());
+        when(row.get(6, Long.class)).thenReturn(0L);
+        return row;
+    }
+}
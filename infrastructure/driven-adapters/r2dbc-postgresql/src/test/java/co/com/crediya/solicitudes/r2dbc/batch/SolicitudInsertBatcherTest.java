@@ -0,0 +1,267 @@
+package co.com.crediya.solicitudes.r2dbc.batch;
+
+import co.com.crediya.solicitudes.r2dbc.config.SolicitudInsertBatchProperties;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para SolicitudInsertBatcher.
+ *
+ * Estos tests verifican:
+ * - Inserción inmediata cuando la agrupación está deshabilitada
+ * - Agrupación de inserciones concurrentes por tamaño y por tiempo de espera
+ * - Que cada llamador reciba su propia fila persistida
+ * - Propagación de errores a todas las solicitudes del lote
+ * - Reintento fila por fila cuando el lote falla por un error de datos
+ * - Rechazo inmediato de las inserciones con la cola llena
+ * - Inserciones concurrentes desde varios hilos y rechazo después de detener el escritor
+ * - Registro de métricas de tamaño de lote
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitudInsertBatcher Tests")
+class SolicitudInsertBatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<SolicitudData>> lotesEscritos;
+    private Function<List<SolicitudData>, Flux<SolicitudData>> escritorLote;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lotesEscritos = new CopyOnWriteArrayList<>();
+        escritorLote = lote -> {
+            lotesEscritos.add(lote);
+            return Flux.fromIterable(lote);
+        };
+    }
+
+    @Test
+    @DisplayName("Debería insertar de inmediato cuando la agrupación está deshabilitada")
+    void shouldInsertImmediatelyWhenDisabled() {
+        // Given
+        SolicitudData solicitud = solicitud();
+        when(template.insert(solicitud)).thenReturn(Mono.just(solicitud));
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, escritorLote,
+            new SolicitudInsertBatchProperties(false, null, null, null, null), meterRegistry);
+
+        // When & Then
+        StepVerifier.create(batcher.insertar(solicitud))
+            .expectNext(solicitud)
+            .verifyComplete();
+
+        verify(template).insert(solicitud);
+        assertThat(lotesEscritos).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería escribir las inserciones concurrentes en un solo lote al completar el tamaño máximo")
+    void shouldFlushWhenBatchIsFull() {
+        // Given
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, escritorLote,
+            new SolicitudInsertBatchProperties(true, 3, Duration.ofSeconds(30), 1, null), meterRegistry);
+        SolicitudData primera = solicitud();
+        SolicitudData segunda = solicitud();
+        SolicitudData tercera = solicitud();
+
+        // When & Then
+        StepVerifier.create(Mono.zip(batcher.insertar(primera), batcher.insertar(segunda), batcher.insertar(tercera)))
+            .assertNext(resultado -> {
+                assertThat(resultado.getT1().getIdSolicitud()).isEqualTo(primera.getIdSolicitud());
+                assertThat(resultado.getT2().getIdSolicitud()).isEqualTo(segunda.getIdSolicitud());
+                assertThat(resultado.getT3().getIdSolicitud()).isEqualTo(tercera.getIdSolicitud());
+            })
+            .expectComplete()
+            .verify(TIMEOUT);
+
+        assertThat(lotesEscritos).containsExactly(List.of(primera, segunda, tercera));
+        DistributionSummary tamanoLote = meterRegistry.get(SolicitudInsertBatcher.METRICA_TAMANO_LOTE).summary();
+        assertThat(tamanoLote.count()).isEqualTo(1);
+        assertThat(tamanoLote.totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get(SolicitudInsertBatcher.METRICA_ESPERA_LOTE).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debería escribir un lote incompleto al vencer el tiempo de espera")
+    void shouldFlushWhenLingerExpires() {
+        // Given
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, escritorLote,
+            new SolicitudInsertBatchProperties(true, 50, Duration.ofMillis(20), 1, null), meterRegistry);
+        SolicitudData solicitud = solicitud();
+
+        // When & Then
+        StepVerifier.create(batcher.insertar(solicitud))
+            .expectNext(solicitud)
+            .expectComplete()
+            .verify(TIMEOUT);
+
+        assertThat(lotesEscritos).containsExactly(List.of(solicitud));
+    }
+
+    @Test
+    @DisplayName("Debería propagar el error del INSERT a todas las solicitudes del lote")
+    void shouldFailEveryCallerWhenBatchFails() {
+        // Given
+        RuntimeException error = new RuntimeException("duplicate key value violates unique constraint");
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, lote -> Flux.error(error),
+            new SolicitudInsertBatchProperties(true, 2, Duration.ofSeconds(30), 1, null), meterRegistry);
+
+        // When
+        Mono<SolicitudData> primera = batcher.insertar(solicitud()).cache();
+        Mono<SolicitudData> segunda = batcher.insertar(solicitud()).cache();
+        primera.subscribe(valor -> { }, e -> { });
+        segunda.subscribe(valor -> { }, e -> { });
+
+        // Then
+        StepVerifier.create(primera).expectErrorMessage(error.getMessage()).verify(TIMEOUT);
+        StepVerifier.create(segunda).expectErrorMessage(error.getMessage()).verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Debería reintentar fila por fila un lote con un error de datos para aislar la solicitud inválida")
+    void shouldRetryRowByRowOnDataError() {
+        // Given
+        SolicitudData valida = solicitud();
+        SolicitudData invalida = solicitud();
+        R2dbcDataIntegrityViolationException error =
+            new R2dbcDataIntegrityViolationException("value violates check constraint", "23514");
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, lote -> {
+            lotesEscritos.add(lote);
+            return lote.contains(invalida) ? Flux.error(error) : Flux.fromIterable(lote);
+        }, new SolicitudInsertBatchProperties(true, 2, Duration.ofSeconds(30), 1, null), meterRegistry);
+
+        // When
+        Mono<SolicitudData> primera = batcher.insertar(valida).cache();
+        Mono<SolicitudData> segunda = batcher.insertar(invalida).cache();
+        primera.subscribe(valor -> { }, e -> { });
+        segunda.subscribe(valor -> { }, e -> { });
+
+        // Then
+        StepVerifier.create(primera).expectNext(valida).verifyComplete();
+        StepVerifier.create(segunda).expectErrorMessage(error.getMessage()).verify(TIMEOUT);
+        assertThat(lotesEscritos).containsExactly(List.of(valida, invalida), List.of(valida), List.of(invalida));
+    }
+
+    @Test
+    @DisplayName("Debería fallar la solicitud que no aparece en el resultado del INSERT")
+    void shouldFailCallerMissingFromResult() {
+        // Given
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, lote -> Flux.empty(),
+            new SolicitudInsertBatchProperties(true, 1, Duration.ofSeconds(30), 1, null), meterRegistry);
+        SolicitudData solicitud = solicitud();
+
+        // When & Then
+        StepVerifier.create(batcher.insertar(solicitud))
+            .expectErrorMatches(error -> error instanceof IllegalStateException &&
+                error.getMessage().equals("La solicitud con ID " + solicitud.getIdSolicitud() + " no fue insertada"))
+            .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar de inmediato las inserciones cuando la cola está llena")
+    void shouldRejectWhenQueueIsFull() {
+        // Given
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, lote -> Flux.never(),
+            new SolicitudInsertBatchProperties(true, 1, Duration.ofSeconds(30), 1, 2), meterRegistry);
+        List<Throwable> errores = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            batcher.insertar(solicitud()).subscribe(valor -> { }, errores::add);
+        }
+
+        // Then
+        assertThat(errores).isNotEmpty().hasSizeLessThan(20)
+            .allSatisfy(error -> assertThat(error)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("está llena"));
+    }
+
+    @Test
+    @DisplayName("Debería aceptar inserciones concurrentes desde varios hilos sin perder solicitudes")
+    void shouldAcceptConcurrentProducers() {
+        // Given
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, escritorLote,
+            new SolicitudInsertBatchProperties(true, 10, Duration.ofMillis(5), 4, 1024), meterRegistry);
+        List<SolicitudData> solicitudes = Stream.generate(SolicitudInsertBatcherTest::solicitud).limit(400).toList();
+
+        // When & Then
+        StepVerifier.create(Flux.fromIterable(solicitudes)
+                .parallel(8)
+                .runOn(Schedulers.parallel())
+                .flatMap(batcher::insertar)
+                .sequential()
+                .count())
+            .expectNext(400L)
+            .expectComplete()
+            .verify(TIMEOUT);
+
+        assertThat(lotesEscritos).allSatisfy(lote -> assertThat(lote).hasSizeLessThanOrEqualTo(10));
+        assertThat(lotesEscritos.stream().mapToInt(List::size).sum()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar las inserciones después de detener el escritor")
+    void shouldRejectAfterDestroy() {
+        // Given
+        SolicitudInsertBatcher batcher = new SolicitudInsertBatcher(template, escritorLote,
+            new SolicitudInsertBatchProperties(true, 10, Duration.ofMillis(5), 1, 16), meterRegistry);
+
+        // When
+        batcher.destroy();
+
+        // Then
+        StepVerifier.create(batcher.insertar(solicitud()))
+            .expectErrorSatisfies(error -> assertThat(error)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("detenido"))
+            .verify(TIMEOUT);
+        assertThat(lotesEscritos).isEmpty();
+    }
+
+    private static SolicitudData solicitud() {
+        LocalDateTime ahora = LocalDateTime.now();
+        return SolicitudData.builder()
+            .idSolicitud(UUID.randomUUID())
+            .montoSolicitado(new BigDecimal("5000000.00"))
+            .plazoMeses(24)
+            .emailSolicitante("cliente@test.com")
+            .idEstado(UUID.randomUUID())
+            .idTipoPrestamo(UUID.randomUUID())
+            .version(0L)
+            .fechaCreacion(ahora)
+            .fechaActualizacion(ahora)
+            .activo(true)
+            .build();
+    }
+}
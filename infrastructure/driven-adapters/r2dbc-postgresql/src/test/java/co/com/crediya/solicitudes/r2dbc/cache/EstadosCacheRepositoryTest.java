@@ -0,0 +1,95 @@
+package co.com.crediya.solicitudes.r2dbc.cache;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.estados.Estados;
+import co.com.crediya.solicitudes.model.estados.gateways.EstadosRepository;
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para EstadosCacheRepository.
+ *
+ * Estos tests verifican:
+ * - Lectura a través de la caché del estado inicial por nombre
+ * - Invalidación de la caché en las operaciones de escritura
+ * - Que los argumentos inválidos conserven los errores del adaptador
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EstadosCacheRepository Tests")
+class EstadosCacheRepositoryTest {
+
+    private static final String PENDIENTE = "Pendiente de revisión";
+
+    @Mock
+    private EstadosRepository delegate;
+
+    private EstadosCacheRepository cacheRepository;
+    private Estados estado;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new EstadosCacheRepository(delegate, new CatalogoCacheProperties(null, null));
+        estado = Estados.create(EstadoId.random(), PENDIENTE, "Solicitud pendiente de revisión");
+    }
+
+    @Test
+    @DisplayName("Debería consultar el estado por nombre una sola vez")
+    void shouldLoadByNameOnlyOnce() {
+        // Given
+        when(delegate.findByNombre(PENDIENTE)).thenReturn(Mono.just(estado));
+
+        // When & Then
+        StepVerifier.create(cacheRepository.findByNombre(PENDIENTE))
+            .expectNext(estado)
+            .verifyComplete();
+        StepVerifier.create(cacheRepository.findByNombreIgnoreCase("pendiente de revisión"))
+            .expectNext(estado)
+            .verifyComplete();
+
+        verify(delegate, times(1)).findByNombre(PENDIENTE);
+        verify(delegate, never()).findByNombreIgnoreCase("pendiente de revisión");
+    }
+
+    @Test
+    @DisplayName("Debería invalidar la caché al eliminar un estado")
+    void shouldInvalidateOnDelete() {
+        // Given
+        when(delegate.findById(estado.idEstado())).thenReturn(Mono.just(estado));
+        when(delegate.deleteById(estado.idEstado())).thenReturn(Mono.just(true));
+
+        // When
+        StepVerifier.create(cacheRepository.findById(estado.idEstado())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cacheRepository.deleteById(estado.idEstado())).expectNext(true).verifyComplete();
+        StepVerifier.create(cacheRepository.findById(estado.idEstado())).expectNextCount(1).verifyComplete();
+
+        // Then
+        verify(delegate, times(2)).findById(estado.idEstado());
+    }
+
+    @Test
+    @DisplayName("Debería delegar los nombres vacíos para conservar el error del adaptador")
+    void shouldDelegateBlankNames() {
+        // Given
+        when(delegate.findByNombre(" "))
+            .thenReturn(Mono.error(new IllegalArgumentException("Nombre no puede ser null o vacío")));
+
+        // When & Then
+        StepVerifier.create(cacheRepository.findByNombre(" "))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        verify(delegate, times(1)).findByNombre(" ");
+    }
+}
@@ -0,0 +1,138 @@
+package co.com.crediya.solicitudes.r2dbc.cache;
+
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamo;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.tipoprestamo.gateways.TipoPrestamoRepository;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Nombre;
+import co.com.crediya.solicitudes.model.valueobjects.TasaInteres;
+import co.com.crediya.solicitudes.r2dbc.config.CatalogoCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para TipoPrestamoCacheRepository.
+ *
+ * Estos tests verifican:
+ * - Lectura a través de la caché por identificador y por nombre
+ * - Que los resultados vacíos no se almacenen
+ * - Invalidación de la caché en las operaciones de escritura
+ * - Registro de métricas de aciertos y fallos
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TipoPrestamoCacheRepository Tests")
+class TipoPrestamoCacheRepositoryTest {
+
+    @Mock
+    private TipoPrestamoRepository delegate;
+
+    private TipoPrestamoCacheRepository cacheRepository;
+    private TipoPrestamo tipoPrestamo;
+
+    @BeforeEach
+    void setUp() {
+        cacheRepository = new TipoPrestamoCacheRepository(delegate, new CatalogoCacheProperties(null, null));
+        tipoPrestamo = TipoPrestamo.crear(
+            TipoPrestamoId.random(),
+            Nombre.of("Préstamo Personal"),
+            Monto.of("1000000"),
+            Monto.of("50000000"),
+            TasaInteres.of("15.5"),
+            true);
+    }
+
+    @Test
+    @DisplayName("Debería consultar el tipo de préstamo una sola vez por identificador")
+    void shouldLoadByIdOnlyOnce() {
+        // Given
+        when(delegate.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+
+        // When & Then
+        StepVerifier.create(cacheRepository.findById(tipoPrestamo.id()))
+            .expectNext(tipoPrestamo)
+            .verifyComplete();
+        StepVerifier.create(cacheRepository.findById(tipoPrestamo.id()))
+            .expectNext(tipoPrestamo)
+            .verifyComplete();
+
+        verify(delegate, times(1)).findById(tipoPrestamo.id());
+    }
+
+    @Test
+    @DisplayName("Debería compartir la entrada por nombre sin distinguir mayúsculas")
+    void shouldShareNameEntryIgnoringCase() {
+        // Given
+        when(delegate.findByNombre("Préstamo Personal")).thenReturn(Mono.just(tipoPrestamo));
+
+        // When & Then
+        StepVerifier.create(cacheRepository.findByNombre("Préstamo Personal"))
+            .expectNext(tipoPrestamo)
+            .verifyComplete();
+        StepVerifier.create(cacheRepository.findByNombre("PRÉSTAMO PERSONAL"))
+            .expectNext(tipoPrestamo)
+            .verifyComplete();
+
+        verify(delegate, times(1)).findByNombre("Préstamo Personal");
+    }
+
+    @Test
+    @DisplayName("No debería almacenar resultados vacíos")
+    void shouldNotCacheEmptyResults() {
+        // Given
+        TipoPrestamoId inexistente = TipoPrestamoId.random();
+        when(delegate.findById(inexistente)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(cacheRepository.findById(inexistente)).verifyComplete();
+        StepVerifier.create(cacheRepository.findById(inexistente)).verifyComplete();
+
+        verify(delegate, times(2)).findById(inexistente);
+    }
+
+    @Test
+    @DisplayName("Debería invalidar la caché al actualizar un tipo de préstamo")
+    void shouldInvalidateOnUpdate() {
+        // Given
+        when(delegate.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+        when(delegate.update(tipoPrestamo)).thenReturn(Mono.just(tipoPrestamo));
+
+        // When
+        StepVerifier.create(cacheRepository.findById(tipoPrestamo.id())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cacheRepository.update(tipoPrestamo)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cacheRepository.findById(tipoPrestamo.id())).expectNextCount(1).verifyComplete();
+
+        // Then
+        verify(delegate, times(2)).findById(tipoPrestamo.id());
+    }
+
+    @Test
+    @DisplayName("Debería registrar aciertos y fallos de la caché como métricas")
+    void shouldExposeHitAndMissMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cacheRepository.bindTo(registry);
+        when(delegate.findById(tipoPrestamo.id())).thenReturn(Mono.just(tipoPrestamo));
+
+        // When
+        StepVerifier.create(cacheRepository.findById(tipoPrestamo.id())).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cacheRepository.findById(tipoPrestamo.id())).expectNextCount(1).verifyComplete();
+
+        // Then
+        assertThat(registry.get("cache.gets").tag("cache", TipoPrestamoCacheRepository.CACHE_POR_ID)
+            .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", TipoPrestamoCacheRepository.CACHE_POR_ID)
+            .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,61 @@
+package co.com.crediya.solicitudes.r2dbc.contadores;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.function.BiFunction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitudContadoresRepository Tests")
+class SolicitudContadoresRepositoryTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @InjectMocks
+    private SolicitudContadoresRepository repository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Debería recalcular los contadores y retornar cuántos estaban desfasados")
+    void shouldRecalculateAndReturnOutOfSyncCounters() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        Row row = mock(Row.class);
+        when(row.get("desfasados", Long.class)).thenReturn(3L);
+        when(template.getDatabaseClient()).thenReturn(databaseClient);
+        when(databaseClient.sql(SolicitudContadoresRepository.RECALCULAR_SQL)).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Long> lector = invocation.getArgument(0);
+            RowsFetchSpec<Long> resultado = mock(RowsFetchSpec.class);
+            when(resultado.one()).thenReturn(Mono.fromSupplier(() -> lector.apply(row, mock(RowMetadata.class))));
+            return resultado;
+        });
+
+        // When & Then
+        StepVerifier.create(repository.recalcular())
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(databaseClient).sql(SolicitudContadoresRepository.RECALCULAR_SQL);
+    }
+}
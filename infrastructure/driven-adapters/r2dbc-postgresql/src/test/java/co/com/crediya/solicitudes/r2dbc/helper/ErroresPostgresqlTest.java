@@ -0,0 +1,42 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.BadSqlGrammarException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErroresPostgresql Tests")
+class ErroresPostgresqlTest {
+
+    @Test
+    @DisplayName("Debería reconocer los errores de datos también detrás de la traducción de Spring")
+    void shouldDetectDataErrorsInCauseChain() {
+        // Given
+        R2dbcDataIntegrityViolationException desborde =
+            new R2dbcDataIntegrityViolationException("numeric field overflow", "22003");
+        BadSqlGrammarException traducido = new BadSqlGrammarException("execute", "", desborde);
+
+        // When & Then
+        assertThat(ErroresPostgresql.esErrorDeDatos(desborde)).isTrue();
+        assertThat(ErroresPostgresql.esErrorDeDatos(traducido)).isTrue();
+        assertThat(ErroresPostgresql.esErrorDeDatos(
+            new R2dbcDataIntegrityViolationException("duplicate key value", "23505"))).isTrue();
+        assertThat(ErroresPostgresql.mensaje(traducido)).isEqualTo("numeric field overflow");
+    }
+
+    @Test
+    @DisplayName("No debería tratar como errores de datos los de conexión, sintaxis o sin SQLSTATE")
+    void shouldIgnoreOtherErrors() {
+        // When & Then
+        assertThat(ErroresPostgresql.esErrorDeDatos(
+            new R2dbcNonTransientResourceException("connection closed", "08006"))).isFalse();
+        assertThat(ErroresPostgresql.esErrorDeDatos(
+            new R2dbcBadGrammarException("syntax error", "42601"))).isFalse();
+        assertThat(ErroresPostgresql.esErrorDeDatos(new IllegalStateException("sin SQLSTATE"))).isFalse();
+        assertThat(ErroresPostgresql.mensaje(new IllegalStateException("sin SQLSTATE"))).isEqualTo("sin SQLSTATE");
+    }
+}
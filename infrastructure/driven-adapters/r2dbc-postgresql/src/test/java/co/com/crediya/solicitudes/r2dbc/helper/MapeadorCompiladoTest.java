@@ -0,0 +1,261 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MapeadorCompilado Tests")
+class MapeadorCompiladoTest {
+
+    @Test
+    @DisplayName("Debería copiar las propiedades con el mismo nombre entre beans")
+    void shouldCopyMatchingPropertiesBetweenBeans() {
+        // Given
+        Origen origen = new Origen("1", true, new BigDecimal("1500.00"), "Libre inversión", null);
+
+        // When
+        Destino destino = MapeadorCompilado.de(Origen.class, Destino.class).apply(origen);
+
+        // Then
+        assertThat(destino.getId()).isEqualTo("1");
+        assertThat(destino.getActivo()).isTrue();
+        assertThat(destino.getMonto()).isEqualTo(new BigDecimal("1500.00"));
+        assertThat(destino.getNombre()).isEqualTo("Libre inversión");
+        assertThat(destino.getContador()).isEqualTo(Destino.CONTADOR_INICIAL);
+    }
+
+    @Test
+    @DisplayName("Debería construir un record destino con su constructor canónico")
+    void shouldBuildRecordDestination() {
+        // Given
+        Origen origen = new Origen("2", false, new BigDecimal("10.50"), "Vivienda", null);
+
+        // When
+        DestinoRecord destino = MapeadorCompilado.de(Origen.class, DestinoRecord.class).apply(origen);
+
+        // Then
+        assertThat(destino).isEqualTo(new DestinoRecord("2", new BigDecimal("10.50"), false, 0));
+    }
+
+    @Test
+    @DisplayName("Debería copiar SolicitudData igual que el ObjectMapper de reactive-commons")
+    void shouldMatchReactiveCommonsObjectMapper() {
+        // Given
+        SolicitudData data = SolicitudData.builder()
+                .idSolicitud(UUID.randomUUID())
+                .montoSolicitado(new BigDecimal("5000000.00"))
+                .plazoMeses(24)
+                .emailSolicitante("cliente@crediya.com")
+                .idEstado(UUID.randomUUID())
+                .idTipoPrestamo(UUID.randomUUID())
+                .version(3L)
+                .fechaCreacion(LocalDateTime.of(2025, 3, 1, 10, 0))
+                .fechaActualizacion(LocalDateTime.of(2025, 3, 2, 11, 0))
+                .activo(true)
+                .build();
+
+        // When
+        SolicitudData compilado = MapeadorCompilado.de(SolicitudData.class, SolicitudData.class).apply(data);
+        SolicitudData reflexivo = new ObjectMapperImp().map(data, SolicitudData.class);
+
+        // Then
+        assertThat(compilado).isNotSameAs(data).isEqualTo(reflexivo).isEqualTo(data);
+    }
+
+    @Test
+    @DisplayName("Debería compilar un solo mapeador por par de tipos")
+    void shouldReuseMapperPerTypePair() {
+        // When & Then
+        assertThat(MapeadorCompilado.de(Origen.class, Destino.class))
+                .isSameAs(MapeadorCompilado.de(Origen.class, Destino.class));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar propiedades con tipos incompatibles al crear el mapeador")
+    void shouldRejectIncompatibleProperty() {
+        // When & Then
+        assertThatThrownBy(() -> MapeadorCompilado.de(Origen.class, DestinoIncompatible.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("La propiedad monto");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar al crear el mapeador una propiedad del destino que no existe en el origen")
+    void shouldRejectDestinationPropertyWithoutSource() {
+        // When & Then
+        assertThatThrownBy(() -> MapeadorCompilado.de(Origen.class, DestinoSinOrigen.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("La propiedad sinOrigen de " + DestinoSinOrigen.class.getName()
+                        + " no existe en " + Origen.class.getName());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar al crear el mapeador un componente del record destino que no existe en el origen")
+    void shouldRejectRecordComponentWithoutSource() {
+        // When & Then
+        assertThatThrownBy(() -> MapeadorCompilado.de(Origen.class, DestinoRecordSinOrigen.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("La propiedad sinOrigen");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar el mapeo de Solicitud a SolicitudData, cuyas propiedades tienen otros nombres y tipos")
+    void shouldRejectSolicitudToSolicitudData() {
+        // When & Then
+        assertThatThrownBy(() -> MapeadorCompilado.de(Solicitud.class, SolicitudData.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("La propiedad ");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un destino sin constructor público sin argumentos")
+    void shouldRejectDestinationWithoutNoArgsConstructor() {
+        // When & Then
+        assertThatThrownBy(() -> MapeadorCompilado.de(Origen.class, Origen.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("constructor público sin argumentos");
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un objeto de origen null")
+    void shouldRejectNullSource() {
+        // When & Then
+        assertThatThrownBy(() -> MapeadorCompilado.de(Origen.class, Destino.class).apply(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El objeto a mapear no puede ser null");
+    }
+
+    public static class Origen {
+        private final String id;
+        private final boolean activo;
+        private final BigDecimal monto;
+        private final String nombre;
+        private final Integer contador;
+
+        public Origen(String id, boolean activo, BigDecimal monto, String nombre, Integer contador) {
+            this.id = id;
+            this.activo = activo;
+            this.monto = monto;
+            this.nombre = nombre;
+            this.contador = contador;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public boolean isActivo() {
+            return activo;
+        }
+
+        public BigDecimal getMonto() {
+            return monto;
+        }
+
+        public String nombre() {
+            return nombre;
+        }
+
+        public Integer getContador() {
+            return contador;
+        }
+    }
+
+    public static class Destino {
+        static final int CONTADOR_INICIAL = 7;
+
+        private String id;
+        private Boolean activo;
+        private BigDecimal monto;
+        private String nombre;
+        private int contador = CONTADOR_INICIAL;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public Boolean getActivo() {
+            return activo;
+        }
+
+        public void setActivo(Boolean activo) {
+            this.activo = activo;
+        }
+
+        public BigDecimal getMonto() {
+            return monto;
+        }
+
+        public void setMonto(BigDecimal monto) {
+            this.monto = monto;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        public void setNombre(String nombre) {
+            this.nombre = nombre;
+        }
+
+        public int getContador() {
+            return contador;
+        }
+
+        public void setContador(int contador) {
+            this.contador = contador;
+        }
+    }
+
+    public record DestinoRecord(String id, BigDecimal monto, boolean activo, int contador) {
+    }
+
+    public record DestinoRecordSinOrigen(String id, String sinOrigen) {
+    }
+
+    public static class DestinoSinOrigen {
+        private String id;
+        private String sinOrigen;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getSinOrigen() {
+            return sinOrigen;
+        }
+
+        public void setSinOrigen(String sinOrigen) {
+            this.sinOrigen = sinOrigen;
+        }
+    }
+
+    public static class DestinoIncompatible {
+        private String monto;
+
+        public void setMonto(String monto) {
+            this.monto = monto;
+        }
+
+        public String getMonto() {
+            return monto;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import reactor.test.StepVerifier;
 import java.util.Objects;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class ReactiveAdapterOperationsTest {
@@ -59,6 +60,23 @@ class ReactiveAdapterOperationsTest {
                 .verifyComplete();
     }
 
+    @Test
+    void saveWithMappingFunction() {
+        DummyEntity entity = new DummyEntity("1", "test");
+        DummyData data = new DummyData("1", "test");
+        ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository> withFunction =
+                new ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository>(
+                        repository, e -> new DummyData(e.getId(), e.getName()), DummyEntity::toEntity) {};
+
+        when(repository.save(data)).thenReturn(Mono.just(data));
+
+        StepVerifier.create(withFunction.save(entity))
+                .expectNext(entity)
+                .verifyComplete();
+
+        verifyNoInteractions(mapper);
+    }
+
     @Test
     void findById() {
         DummyData data = new DummyData("1", "test");
@@ -0,0 +1,113 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para SolicitudCriteriosQuery.
+ *
+ * Estos tests validan:
+ * - Que solo los criterios no nulos forman parte de la cláusula WHERE
+ * - Que todos los criterios se envían como parámetros enlazados
+ * - Que una misma combinación de criterios produce siempre el mismo SQL
+ */
+@DisplayName("SolicitudCriteriosQuery Tests")
+class SolicitudCriteriosQueryTest {
+
+    @Test
+    @DisplayName("Debería filtrar solo por activas cuando no hay criterios")
+    void shouldFilterOnlyActiveWhenNoCriteria() {
+        // When
+        SolicitudCriteriosQuery query = SolicitudCriteriosQuery.of(null, null, null, null, null, null, null);
+
+        // Then
+        assertThat(query.sql()).contains("WHERE activo = true");
+        assertThat(query.sql()).doesNotContain("AND ");
+        assertThat(query.sql()).endsWith("ORDER BY fecha_creacion DESC");
+        assertThat(query.parametros()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debería incluir todos los criterios cuando todos están presentes")
+    void shouldIncludeAllCriteria() {
+        // Given
+        UUID idEstado = UUID.randomUUID();
+        UUID idTipoPrestamo = UUID.randomUUID();
+        LocalDateTime fechaInicio = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime fechaFin = LocalDateTime.of(2025, 12, 31, 23, 59);
+
+        // When
+        SolicitudCriteriosQuery query = SolicitudCriteriosQuery.of("test@example.com", idEstado, idTipoPrestamo,
+                new BigDecimal("1000.00"), new BigDecimal("5000.00"), fechaInicio, fechaFin);
+
+        // Then
+        assertThat(query.sql())
+                .contains("AND LOWER(email_solicitante) = LOWER(:email)")
+                .contains("AND id_estado = :idEstado")
+                .contains("AND id_tipo_prestamo = :idTipoPrestamo")
+                .contains("AND monto_solicitado >= :montoMinimo")
+                .contains("AND monto_solicitado <= :montoMaximo")
+                .contains("AND fecha_creacion >= :fechaInicio")
+                .contains("AND fecha_creacion <= :fechaFin");
+        assertThat(query.parametros())
+                .containsEntry("email", "test@example.com")
+                .containsEntry("idEstado", idEstado)
+                .containsEntry("idTipoPrestamo", idTipoPrestamo)
+                .containsEntry("montoMinimo", new BigDecimal("1000.00"))
+                .containsEntry("montoMaximo", new BigDecimal("5000.00"))
+                .containsEntry("fechaInicio", fechaInicio)
+                .containsEntry("fechaFin", fechaFin);
+    }
+
+    @Test
+    @DisplayName("Debería omitir los criterios nulos")
+    void shouldSkipNullCriteria() {
+        // Given
+        UUID idEstado = UUID.randomUUID();
+        LocalDateTime fechaInicio = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        // When
+        SolicitudCriteriosQuery query = SolicitudCriteriosQuery.of(null, idEstado, null, null, null, fechaInicio, null);
+
+        // Then
+        assertThat(query.sql())
+                .contains("AND id_estado = :idEstado")
+                .contains("AND fecha_creacion >= :fechaInicio")
+                .doesNotContain(":email")
+                .doesNotContain(":idTipoPrestamo")
+                .doesNotContain(":montoMinimo")
+                .doesNotContain(":montoMaximo")
+                .doesNotContain(":fechaFin");
+        assertThat(query.parametros()).containsOnlyKeys("idEstado", "fechaInicio");
+    }
+
+    @Test
+    @DisplayName("Debería generar el mismo SQL para la misma combinación de criterios")
+    void shouldGenerateSameSqlForSameCombination() {
+        // When
+        SolicitudCriteriosQuery primera = SolicitudCriteriosQuery.of("a@example.com", UUID.randomUUID(), null,
+                new BigDecimal("10.00"), null, null, null);
+        SolicitudCriteriosQuery segunda = SolicitudCriteriosQuery.of("b@example.com", UUID.randomUUID(), null,
+                new BigDecimal("99.00"), null, null, null);
+
+        // Then
+        assertThat(primera.sql()).isEqualTo(segunda.sql());
+    }
+
+    @Test
+    @DisplayName("Debería no concatenar valores en el SQL")
+    void shouldNotConcatenateValues() {
+        // When
+        SolicitudCriteriosQuery query = SolicitudCriteriosQuery.of("x'; DROP TABLE solicitudes; --@example.com",
+                null, null, null, null, null, null);
+
+        // Then
+        assertThat(query.sql()).doesNotContain("DROP TABLE");
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import co.com.crediya.solicitudes.r2dbc.model.SolicitudData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para SolicitudInsercionQuery.
+ *
+ * Estos tests validan:
+ * - Que el lote se escribe como un único INSERT de varias filas con RETURNING
+ * - Que todos los valores se envían como parámetros enlazados
+ * - Los límites de tamaño del lote
+ */
+@DisplayName("SolicitudInsercionQuery Tests")
+class SolicitudInsercionQueryTest {
+
+    @Test
+    @DisplayName("Debería generar una fila VALUES por solicitud con RETURNING")
+    void shouldBuildMultiRowInsert() {
+        // Given
+        SolicitudData primera = solicitud();
+        SolicitudData segunda = solicitud();
+
+        // When
+        SolicitudInsercionQuery query = SolicitudInsercionQuery.of(List.of(primera, segunda));
+
+        // Then
+        assertThat(query.sql())
+                .startsWith("INSERT INTO solicitudes (id_solicitud, monto_solicitado")
+                .contains("VALUES (:idSolicitud0, :montoSolicitado0, :plazoMeses0, :emailSolicitante0, "
+                        + ":idEstado0, :idTipoPrestamo0, :version0, :fechaCreacion0, :fechaActualizacion0, :activo0),")
+                .contains("(:idSolicitud1, :montoSolicitado1,")
+                .contains("RETURNING id_solicitud, monto_solicitado");
+        assertThat(query.parametros())
+                .hasSize(20)
+                .containsEntry("idSolicitud0", primera.getIdSolicitud())
+                .containsEntry("idSolicitud1", segunda.getIdSolicitud())
+                .containsEntry("emailSolicitante1", "cliente@test.com");
+    }
+
+    @Test
+    @DisplayName("Debería producir el mismo SQL para lotes del mismo tamaño")
+    void shouldProduceSameSqlForSameBatchSize() {
+        // When
+        SolicitudInsercionQuery primera = SolicitudInsercionQuery.of(List.of(solicitud(), solicitud()));
+        SolicitudInsercionQuery segunda = SolicitudInsercionQuery.of(List.of(solicitud(), solicitud()));
+
+        // Then
+        assertThat(primera.sql()).isEqualTo(segunda.sql());
+    }
+
+    @Test
+    @DisplayName("Debería rechazar lotes vacíos o demasiado grandes")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> SolicitudInsercionQuery.of(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El lote de inserción no puede estar vacío");
+
+        List<SolicitudData> demasiadas = Collections.nCopies(SolicitudInsercionQuery.MAXIMO_FILAS + 1, solicitud());
+        assertThatThrownBy(() -> SolicitudInsercionQuery.of(demasiadas))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar filas con campos nulos")
+    void shouldRejectNullFields() {
+        // Given
+        SolicitudData incompleta = solicitud();
+        incompleta.setEmailSolicitante(null);
+
+        // When & Then
+        assertThatThrownBy(() -> SolicitudInsercionQuery.of(List.of(incompleta)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El campo emailSolicitante de la fila 0 no puede ser null");
+    }
+
+    private static SolicitudData solicitud() {
+        LocalDateTime ahora = LocalDateTime.of(2025, 3, 1, 10, 0);
+        return SolicitudData.builder()
+                .idSolicitud(UUID.randomUUID())
+                .montoSolicitado(new BigDecimal("5000000.00"))
+                .plazoMeses(24)
+                .emailSolicitante("cliente@test.com")
+                .idEstado(UUID.randomUUID())
+                .idTipoPrestamo(UUID.randomUUID())
+                .version(0L)
+                .fechaCreacion(ahora)
+                .fechaActualizacion(ahora)
+                .activo(true)
+                .build();
+    }
+}
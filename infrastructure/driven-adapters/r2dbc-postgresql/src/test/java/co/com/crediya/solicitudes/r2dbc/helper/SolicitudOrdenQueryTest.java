@@ -0,0 +1,138 @@
+package co.com.crediya.solicitudes.r2dbc.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitarios para SolicitudOrdenQuery.
+ *
+ * Estos tests validan:
+ * - Que cada criterio admitido se traduce a su columna de la lista blanca
+ * - Que los criterios desconocidos se rechazan sin construir SQL
+ * - Que la continuación por clave y el límite se envían como parámetros enlazados
+ * - Que el valor de orden de la última solicitud se consulta por separado
+ */
+@DisplayName("SolicitudOrdenQuery Tests")
+class SolicitudOrdenQueryTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "fechaCreacion, fecha_creacion",
+        "monto, monto_solicitado",
+        "email, email_solicitante",
+        "estado, nombre_estado"
+    })
+    @DisplayName("Debería ordenar por la columna de cada criterio admitido, desempatando por identificador")
+    void shouldOrderByWhitelistedColumn(String criterio, String columna) {
+        // When
+        SolicitudOrdenQuery ascendente = SolicitudOrdenQuery.of(criterio, true, null, null, null);
+        SolicitudOrdenQuery descendente = SolicitudOrdenQuery.of(criterio, false, null, null, null);
+
+        // Then
+        assertThat(ascendente.sql())
+                .contains("WHERE activo = true")
+                .endsWith("ORDER BY " + columna + " ASC, id_solicitud ASC");
+        assertThat(descendente.sql()).endsWith("ORDER BY " + columna + " DESC, id_solicitud DESC");
+        assertThat(ascendente.parametros()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"nombre", "FECHACREACION", "monto; DROP TABLE solicitudes", "fecha_creacion"})
+    @DisplayName("Debería rechazar criterios que no están en la lista blanca")
+    void shouldRejectUnknownCriteria(String criterio) {
+        // When & Then
+        assertThatThrownBy(() -> SolicitudOrdenQuery.of(criterio, true, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Criterio de orden inválido: " + criterio);
+        assertThatThrownBy(() -> SolicitudOrdenQuery.valorDeOrden(criterio, UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Criterio de orden inválido: " + criterio);
+    }
+
+    @Test
+    @DisplayName("Debería continuar después de la última solicitud con comparación de filas y límite")
+    void shouldContinueAfterLastSolicitudWithLimit() {
+        // Given
+        UUID ultima = UUID.randomUUID();
+        BigDecimal monto = new BigDecimal("5000000.00");
+
+        // When
+        SolicitudOrdenQuery ascendente = SolicitudOrdenQuery.of("monto", true, ultima, monto, 50);
+        SolicitudOrdenQuery descendente = SolicitudOrdenQuery.of("monto", false, ultima, monto, 50);
+
+        // Then
+        assertThat(ascendente.sql())
+                .contains("AND (monto_solicitado, id_solicitud) > (:valorDespuesDe, :despuesDe)")
+                .endsWith("ORDER BY monto_solicitado ASC, id_solicitud ASC\nLIMIT :limite");
+        assertThat(descendente.sql()).contains("AND (monto_solicitado, id_solicitud) < ");
+        assertThat(ascendente.parametros())
+                .containsEntry("valorDespuesDe", monto)
+                .containsEntry("despuesDe", ultima)
+                .containsEntry("limite", 50)
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Debería exigir el valor de orden junto con la última solicitud")
+    void shouldRequireSortValueWithLastSolicitud() {
+        // When & Then
+        assertThatThrownBy(() -> SolicitudOrdenQuery.of("monto", true, UUID.randomUUID(), null, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SolicitudOrdenQuery.of("monto", true, null, BigDecimal.ONE, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Debería consultar el valor de orden de la última solicitud, con el nombre del estado para estado")
+    void shouldQuerySortValueOfLastSolicitud() {
+        // Given
+        UUID ultima = UUID.randomUUID();
+
+        // When
+        SolicitudOrdenQuery monto = SolicitudOrdenQuery.valorDeOrden("monto", ultima);
+        SolicitudOrdenQuery estado = SolicitudOrdenQuery.valorDeOrden("estado", ultima);
+
+        // Then
+        assertThat(monto.sql()).isEqualTo("SELECT monto_solicitado\nFROM solicitudes\nWHERE id_solicitud = :despuesDe"
+                + "\nAND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :despuesDe)");
+        assertThat(monto.parametros()).containsExactly(Map.entry("despuesDe", ultima));
+        assertThat(estado.sql())
+                .startsWith("SELECT nombre_estado\nFROM solicitudes\nJOIN (SELECT id_estado, nombre AS nombre_estado FROM estados)")
+                .endsWith("WHERE id_solicitud = :despuesDe"
+                        + "\nAND fecha_creacion = (SELECT fecha_creacion FROM solicitud_ids WHERE id_solicitud = :despuesDe)");
+    }
+
+    @Test
+    @DisplayName("Debería ordenar por estado uniendo estados para usar su nombre")
+    void shouldOrderByEstadoName() {
+        // When
+        SolicitudOrdenQuery query = SolicitudOrdenQuery.of("estado", true, null, null, null);
+
+        // Then
+        assertThat(query.sql())
+                .contains("JOIN (SELECT id_estado, nombre AS nombre_estado FROM estados) estado USING (id_estado)")
+                .endsWith("ORDER BY nombre_estado ASC, id_solicitud ASC");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    @DisplayName("Debería rechazar un límite que no es positivo")
+    void shouldRejectNonPositiveLimit(int limite) {
+        // When & Then
+        assertThatThrownBy(() -> SolicitudOrdenQuery.of("email", true, null, null, limite))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El límite debe ser mayor a cero");
+    }
+}
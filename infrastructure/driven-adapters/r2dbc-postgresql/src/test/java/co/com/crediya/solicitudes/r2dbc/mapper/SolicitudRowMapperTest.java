@@ -0,0 +1,118 @@
+package co.com.crediya.solicitudes.r2dbc.mapper;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitarios para SolicitudRowMapper.
+ *
+ * Estos tests siguen las reglas de testing de mappers:
+ * - Validación de la conversión de la fila al dominio
+ * - Lectura de columnas por posición
+ * - Testing de casos límite
+ */
+@DisplayName("SolicitudRowMapper Tests")
+class SolicitudRowMapperTest {
+
+    private static final UUID ID_SOLICITUD = UUID.randomUUID();
+    private static final UUID ID_ESTADO = UUID.randomUUID();
+    private static final UUID ID_TIPO_PRESTAMO = UUID.randomUUID();
+    private static final LocalDateTime FECHA_CREACION = LocalDateTime.of(2025, 3, 1, 10, 30);
+
+    @Test
+    @DisplayName("Debería convertir una fila a Solicitud leyendo las columnas por posición")
+    void shouldConvertRowToSolicitud() {
+        // Given
+        Row row = fila(new BigDecimal("5000000.00"), "cliente@crediya.com");
+        RowMetadata metadata = mock(RowMetadata.class);
+
+        // When
+        Solicitud solicitud = SolicitudRowMapper.toDomain(row, metadata);
+
+        // Then
+        assertThat(solicitud.id().value()).isEqualTo(ID_SOLICITUD);
+        assertThat(solicitud.monto()).isEqualTo(Monto.of("5000000.00"));
+        assertThat(solicitud.plazo().meses()).isEqualTo(24);
+        assertThat(solicitud.email()).isEqualTo(Email.of("cliente@crediya.com"));
+        assertThat(solicitud.email().domain()).isEqualTo("crediya.com");
+        assertThat(solicitud.idEstado().value()).isEqualTo(ID_ESTADO);
+        assertThat(solicitud.idTipoPrestamo().value()).isEqualTo(ID_TIPO_PRESTAMO);
+        assertThat(solicitud.version()).isEqualTo(3L);
+        verifyNoInteractions(metadata);
+    }
+
+    @Test
+    @DisplayName("Debería normalizar a dos decimales un monto leído sin escala")
+    void shouldNormalizeMontoScale() {
+        // Given
+        Row row = fila(new BigDecimal("1500"), "cliente@crediya.com");
+
+        // When
+        Solicitud solicitud = SolicitudRowMapper.toDomain(row, mock(RowMetadata.class));
+
+        // Then
+        assertThat(solicitud.monto().valor()).isEqualTo(new BigDecimal("1500.00"));
+    }
+
+    @Test
+    @DisplayName("Debería obtener la fecha de creación de la fila")
+    void shouldReadFechaCreacion() {
+        // Given
+        Row row = fila(new BigDecimal("5000000.00"), "cliente@crediya.com");
+
+        // When & Then
+        assertThat(SolicitudRowMapper.fechaCreacion(row)).isEqualTo(FECHA_CREACION);
+    }
+
+    @Test
+    @DisplayName("Debería rechazar una fila con el email null")
+    void shouldRejectRowWithNullEmail() {
+        // Given
+        Row row = fila(new BigDecimal("5000000.00"), null);
+
+        // When & Then
+        assertThatThrownBy(() -> SolicitudRowMapper.toDomain(row, mock(RowMetadata.class)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("El email no puede ser nulo o vacío");
+    }
+
+    @Test
+    @DisplayName("Debería listar las columnas en el orden en que se leen")
+    void shouldListColumnsInReadOrder() {
+        // When
+        String[] columnas = SolicitudRowMapper.COLUMNAS.split(",");
+
+        // Then
+        assertThat(columnas).extracting(String::trim).containsExactly(
+            "id_solicitud", "monto_solicitado", "plazo_meses", "email_solicitante",
+            "id_estado", "id_tipo_prestamo", "version", "fecha_creacion", "fecha_actualizacion", "activo");
+    }
+
+    private static Row fila(BigDecimal monto, String email) {
+        Row row = mock(Row.class);
+        when(row.get(0, UUID.class)).thenReturn(ID_SOLICITUD);
+        when(row.get(1, BigDecimal.class)).thenReturn(monto);
+        when(row.get(2, Integer.class)).thenReturn(24);
+        when(row.get(3, String.class)).thenReturn(email);
+        when(row.get(4, UUID.class)).thenReturn(ID_ESTADO);
+        when(row.get(5, UUID.class)).thenReturn(ID_TIPO_PRESTAMO);
+        when(row.get(6, Long.class)).thenReturn(3L);
+        when(row.get(7, LocalDateTime.class)).thenReturn(FECHA_CREACION);
+        return row;
+    }
+}
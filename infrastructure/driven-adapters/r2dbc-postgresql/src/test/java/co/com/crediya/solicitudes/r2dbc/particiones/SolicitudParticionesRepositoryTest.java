@@ -0,0 +1,187 @@
+package co.com.crediya.solicitudes.r2dbc.particiones;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SolicitudParticionesRepository Tests")
+class SolicitudParticionesRepositoryTest {
+
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @InjectMocks
+    private SolicitudParticionesRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(template.getDatabaseClient()).thenReturn(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Debería crear la partición del primer mes y de los meses siguientes")
+    void shouldCreatePartitionForEachMonth() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = consulta(SolicitudParticionesRepository.CREAR_PARTICION_SQL);
+        when(spec.bind(anyString(), any())).thenAnswer(invocation -> {
+            LocalDate mes = invocation.getArgument(1);
+            // La partición de diciembre ya existe: la función no retorna filas
+            return filas(mes.getMonthValue() == 12
+                    ? List.of()
+                    : List.of(fila("particion", SolicitudParticionesRepository.nombreParticion(YearMonth.from(mes)))));
+        });
+
+        // When & Then
+        StepVerifier.create(repository.crearParticiones(YearMonth.of(2026, 11), 2))
+                .expectNext("solicitudes_2026_11", "solicitudes_2027_01")
+                .verifyComplete();
+
+        verify(spec).bind("mes", LocalDate.of(2026, 11, 1));
+        verify(spec).bind("mes", LocalDate.of(2026, 12, 1));
+        verify(spec).bind("mes", LocalDate.of(2027, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Debería separar concurrentemente las particiones anteriores y archivarlas descontándolas")
+    void shouldDetachConcurrentlyAndArchiveOlderPartitions() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = consulta(SolicitudParticionesRepository.PARTICIONES_ANTERIORES_SQL);
+        DatabaseClient.GenericExecuteSpec anteriores = filas(List.of(
+                particion("solicitudes_2024_10", true, false),
+                particion("solicitudes_2024_11", false, false),
+                particion("solicitudes_2024_12", false, true)));
+        when(spec.bind("limite", "solicitudes_2025_01")).thenReturn(anteriores);
+        DatabaseClient.GenericExecuteSpec ddl = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(startsWith("ALTER TABLE"))).thenReturn(ddl);
+        when(ddl.then()).thenReturn(Mono.empty());
+        DatabaseClient.GenericExecuteSpec archivar = consulta(SolicitudParticionesRepository.ARCHIVAR_PARTICION_SQL);
+        when(archivar.bind(anyString(), any())).thenReturn(ddl);
+
+        // When & Then
+        StepVerifier.create(repository.archivarParticionesAnteriores(YearMonth.of(2025, 1)))
+                .expectNext("solicitudes_2024_10", "solicitudes_2024_11", "solicitudes_2024_12")
+                .verifyComplete();
+
+        // La partición ya separada por una ejecución interrumpida solo se archiva
+        InOrder orden = inOrder(databaseClient, archivar);
+        orden.verify(archivar).bind("particion", "solicitudes_2024_10");
+        orden.verify(databaseClient).sql("ALTER TABLE solicitudes DETACH PARTITION solicitudes_2024_11 CONCURRENTLY");
+        orden.verify(archivar).bind("particion", "solicitudes_2024_11");
+        orden.verify(databaseClient).sql("ALTER TABLE solicitudes DETACH PARTITION solicitudes_2024_12 FINALIZE");
+        orden.verify(archivar).bind("particion", "solicitudes_2024_12");
+        verify(databaseClient, never()).sql(contains("solicitudes_2024_10 "));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar un nombre de partición que no generó el mantenimiento")
+    void shouldRejectUnexpectedPartitionName() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = consulta(SolicitudParticionesRepository.PARTICIONES_ANTERIORES_SQL);
+        DatabaseClient.GenericExecuteSpec anteriores = filas(List.of(
+                particion("solicitudes_2024_11; DROP TABLE solicitudes", false, false)));
+        when(spec.bind(anyString(), any())).thenReturn(anteriores);
+
+        // When & Then
+        StepVerifier.create(repository.archivarParticionesAnteriores(YearMonth.of(2025, 1)))
+                .expectErrorMatches(error -> error instanceof IllegalStateException
+                        && error.getMessage().startsWith("Nombre de partición inesperado"))
+                .verify();
+
+        verify(databaseClient, never()).sql(startsWith("ALTER TABLE"));
+    }
+
+    @Test
+    @DisplayName("Debería rechazar argumentos inválidos sin consultar la base de datos")
+    void shouldRejectInvalidArguments() {
+        // When & Then
+        StepVerifier.create(repository.crearParticiones(null, 3))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(repository.crearParticiones(YearMonth.of(2026, 10), -1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(repository.archivarParticionesAnteriores(null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Debería nombrar la partición con el año y el mes de dos dígitos")
+    void shouldNamePartitionByYearAndMonth() {
+        // When & Then
+        assertThat(SolicitudParticionesRepository.nombreParticion(YearMonth.of(2026, 3)))
+                .isEqualTo("solicitudes_2026_03");
+    }
+
+    private DatabaseClient.GenericExecuteSpec consulta(String sql) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(sql)).thenReturn(spec);
+        return spec;
+    }
+
+    /**
+     * Configura la lectura de la consulta para que el mapeo del repositorio se aplique a las filas dadas.
+     */
+    @SuppressWarnings("unchecked")
+    private static DatabaseClient.GenericExecuteSpec filas(List<Row> filas) {
+        DatabaseClient.GenericExecuteSpec enlazada = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(enlazada.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            BiFunction<Row, RowMetadata, Object> lector = invocation.getArgument(0);
+            RowsFetchSpec<Object> resultado = mock(RowsFetchSpec.class);
+            when(resultado.all()).thenReturn(Flux.fromIterable(filas)
+                    .map(fila -> lector.apply(fila, mock(RowMetadata.class))));
+            return resultado;
+        });
+        return enlazada;
+    }
+
+    private static Row fila(String columna, String valor) {
+        Row row = mock(Row.class);
+        when(row.get(columna, String.class)).thenReturn(valor);
+        return row;
+    }
+
+    private static Row particion(String nombre, boolean separada, boolean pendiente) {
+        Row row = fila("particion", nombre);
+        when(row.get("separada", Boolean.class)).thenReturn(separada);
+        when(row.get("pendiente", Boolean.class)).thenReturn(pendiente);
+        return row;
+    }
+}
@@ -1,24 +1,59 @@
 package co.com.crediya.solicitudes.api;
 
+import co.com.crediya.solicitudes.api.dto.CambioEstadoLoteRequest;
 import co.com.crediya.solicitudes.api.dto.CrearSolicitudRequest;
+import co.com.crediya.solicitudes.api.dto.CuotaAmortizacionResponse;
+import co.com.crediya.solicitudes.api.dto.ErroresValidacionResponse;
+import co.com.crediya.solicitudes.api.dto.ResultadoCargaMasivaResponse;
+import co.com.crediya.solicitudes.api.dto.SimulacionRequest;
 import co.com.crediya.solicitudes.api.dto.SolicitudResponse;
 import co.com.crediya.solicitudes.api.mapper.SolicitudEntryMapper;
+import co.com.crediya.solicitudes.api.mapper.SolicitudExportacionEncoder;
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.CursorSolicitud;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.usecase.simulacion.SimularCuotasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.CambiarEstadoLoteUseCase;
 import co.com.crediya.solicitudes.usecase.solicitud.CrearSolicitudUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ExportarSolicitudesUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerEstadisticasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerSolicitudesPaginadasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerTablaAmortizacionUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 /**
  * Handler para los endpoints de solicitudes de préstamo.
  * 
  * Este handler implementa los endpoints funcionales de WebFlux para:
  * - Crear nuevas solicitudes de préstamo
+ * - Crear solicitudes de forma masiva a partir de un cuerpo NDJSON
+ * - Consultar la tabla de amortización de una solicitud
+ * - Simular cuotas mensuales para una grilla de montos y plazos
+ * - Consultar las estadísticas de solicitudes por estado y tipo de préstamo
+ * - Exportar todas las solicitudes activas como CSV o NDJSON
  * - Listar solicitudes existentes
- * - Actualizar estados de solicitudes
+ * - Actualizar estados de solicitudes en lote
  * 
  * Sigue los principios de Arquitectura Hexagonal:
  * - Orquesta casos de uso sin lógica de negocio
@@ -30,12 +65,32 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class Handler {
     
+    /**
+     * Número de líneas de una carga masiva que se validan al mismo tiempo.
+     */
+    static final int CONCURRENCIA_CARGA_MASIVA = 16;
+    
+    /**
+     * Tiempo máximo que una línea válida espera a que se complete su lote de inserción.
+     */
+    static final Duration ESPERA_LOTE_CARGA_MASIVA = Duration.ofMillis(100);
+    
     private final CrearSolicitudUseCase crearSolicitudUseCase;
+    private final ObtenerSolicitudesPaginadasUseCase obtenerSolicitudesPaginadasUseCase;
+    private final CambiarEstadoLoteUseCase cambiarEstadoLoteUseCase;
+    private final ObtenerTablaAmortizacionUseCase obtenerTablaAmortizacionUseCase;
+    private final SimularCuotasUseCase simularCuotasUseCase;
+    private final ObtenerEstadisticasUseCase obtenerEstadisticasUseCase;
+    private final ExportarSolicitudesUseCase exportarSolicitudesUseCase;
     private final SolicitudEntryMapper solicitudEntryMapper;
+    private final SolicitudExportacionEncoder solicitudExportacionEncoder;
+    private final ObjectMapper objectMapper;
 
     /**
      * Endpoint para crear una nueva solicitud de préstamo.
      * 
+     * Los datos inválidos se rechazan con 400 y el error de cada campo, sin lanzar excepciones.
+     * 
      * @param serverRequest request HTTP con los datos de la solicitud
      * @return response con la solicitud creada
      */
@@ -43,18 +98,301 @@ public class Handler {
         return serverRequest.bodyToMono(CrearSolicitudRequest.class)
                 .doOnNext(request -> System.out.println("Creando solicitud de préstamo para email: " + 
                         request.emailSolicitante()))
-                .map(solicitudEntryMapper::toDomain)
-                .flatMap(creationData -> crearSolicitudUseCase.crearSolicitud(
+                .map(solicitudEntryMapper::validar)
+                .flatMap(validacion -> validacion.esValida()
+                        ? crearSolicitudValidada(validacion.datos())
+                        : ServerResponse.badRequest()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(ErroresValidacionResponse.de(validacion.errores())))
+                .doOnError(error -> System.err.println("Error al crear solicitud: " + error.getMessage()));
+    }
+    
+    private Mono<ServerResponse> crearSolicitudValidada(SolicitudEntryMapper.SolicitudCreationData creationData) {
+        return crearSolicitudUseCase.crearSolicitud(
                         creationData.montoSolicitado(),
                         creationData.plazoMeses(),
                         creationData.emailSolicitante(),
-                        creationData.idTipoPrestamo()))
+                        creationData.idTipoPrestamo())
                 .map(solicitudEntryMapper::toResponse)
                 .flatMap(response -> ServerResponse.status(HttpStatus.CREATED)
                         .contentType(MediaType.APPLICATION_JSON)
                         .bodyValue(response))
-                .doOnSuccess(response -> System.out.println("Solicitud creada exitosamente"))
-                .doOnError(error -> System.err.println("Error al crear solicitud: " + error.getMessage()));
+                .doOnSuccess(response -> System.out.println("Solicitud creada exitosamente"));
+    }
+
+    /**
+     * Endpoint para crear solicitudes de forma masiva a partir de un cuerpo NDJSON
+     * (una CrearSolicitudRequest por línea).
+     * 
+     * Las líneas se leen con backpressure, se validan de forma individual y las válidas se
+     * guardan en lotes de inserción. Por cada línea se responde una línea NDJSON con el ID
+     * creado o el error, a medida que se procesa; la memoria usada no depende del tamaño
+     * de la carga. Si la base de datos rechaza un lote por los datos de alguna solicitud, sus
+     * solicitudes se guardan de a una y cada línea informa su propio resultado.
+     * 
+     * @param serverRequest request HTTP con las solicitudes en formato NDJSON
+     * @return response NDJSON con el resultado de cada línea
+     */
+    public Mono<ServerResponse> crearSolicitudesMasivo(ServerRequest serverRequest) {
+        Flux<ResultadoCargaMasivaResponse> resultados = serverRequest.bodyToFlux(String.class)
+                .index()
+                .filter(linea -> !linea.getT2().isBlank())
+                .flatMapSequential(linea -> prepararLinea(linea.getT1() + 1, linea.getT2()),
+                        CONCURRENCIA_CARGA_MASIVA)
+                .bufferTimeout(CrearSolicitudUseCase.TAMANO_LOTE_INSERCION, ESPERA_LOTE_CARGA_MASIVA, true)
+                .concatMap(this::guardarLote)
+                .doOnError(error -> System.err.println("Error en carga masiva de solicitudes: " + error.getMessage()));
+        
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(resultados, ResultadoCargaMasivaResponse.class);
+    }
+    
+    private Mono<LineaCargaMasiva> prepararLinea(long linea, String json) {
+        return Mono.fromCallable(() -> solicitudEntryMapper.validar(
+                        objectMapper.readValue(json, CrearSolicitudRequest.class)))
+                .flatMap(validacion -> validacion.esValida()
+                        ? prepararSolicitud(linea, validacion.datos())
+                        : Mono.just(new LineaCargaMasiva(linea, null, validacion.mensaje())))
+                .onErrorResume(error -> Mono.just(new LineaCargaMasiva(linea, null, mensajeDeError(error))));
+    }
+    
+    private Mono<LineaCargaMasiva> prepararSolicitud(long linea, SolicitudEntryMapper.SolicitudCreationData creationData) {
+        return crearSolicitudUseCase.prepararSolicitud(
+                        creationData.montoSolicitado(),
+                        creationData.plazoMeses(),
+                        creationData.emailSolicitante(),
+                        creationData.idTipoPrestamo())
+                .map(solicitud -> new LineaCargaMasiva(linea, solicitud, null));
+    }
+    
+    private Flux<ResultadoCargaMasivaResponse> guardarLote(List<LineaCargaMasiva> lote) {
+        List<Solicitud> validas = lote.stream()
+                .filter(LineaCargaMasiva::valida)
+                .map(LineaCargaMasiva::solicitud)
+                .toList();
+        
+        return guardar(validas)
+                .map(guardadas -> lote.stream()
+                        .map(linea -> linea.toResponse(guardadas))
+                        .toList())
+                .onErrorResume(error -> error instanceof IllegalArgumentException && validas.size() > 1,
+                        error -> guardarPorLinea(lote))
+                .onErrorResume(error -> Mono.just(lote.stream()
+                        .map(linea -> linea.valida()
+                                ? ResultadoCargaMasivaResponse.fallida(linea.linea(), mensajeDeError(error))
+                                : linea.toResponse(Set.of()))
+                        .toList()))
+                .flatMapIterable(resultados -> resultados);
+    }
+    
+    /**
+     * Guarda de a una las solicitudes de un lote rechazado por los datos de alguna de ellas, para
+     * que cada línea informe su propio resultado en lugar del error de otra.
+     */
+    private Mono<List<ResultadoCargaMasivaResponse>> guardarPorLinea(List<LineaCargaMasiva> lote) {
+        return Flux.fromIterable(lote)
+                .concatMap(linea -> !linea.valida()
+                        ? Mono.just(linea.toResponse(Set.of()))
+                        : guardar(List.of(linea.solicitud()))
+                                .map(linea::toResponse)
+                                .onErrorResume(error -> Mono.just(
+                                        ResultadoCargaMasivaResponse.fallida(linea.linea(), mensajeDeError(error)))))
+                .collectList();
+    }
+    
+    private Mono<Set<UUID>> guardar(List<Solicitud> solicitudes) {
+        return crearSolicitudUseCase.guardarSolicitudes(solicitudes)
+                .map(solicitud -> solicitud.id().value())
+                .collect(Collectors.toSet());
+    }
+    
+    private static String mensajeDeError(Throwable error) {
+        Throwable causa = error;
+        while (causa.getCause() != null && causa.getCause() != causa) {
+            causa = causa.getCause();
+        }
+        return causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+    }
+    
+    /**
+     * Línea de una carga masiva ya validada: contiene la solicitud preparada o el error.
+     */
+    private record LineaCargaMasiva(long linea, Solicitud solicitud, String error) {
+        
+        boolean valida() {
+            return solicitud != null;
+        }
+        
+        ResultadoCargaMasivaResponse toResponse(Set<UUID> guardadas) {
+            if (!valida()) {
+                return ResultadoCargaMasivaResponse.fallida(linea, error);
+            }
+            if (!guardadas.contains(solicitud.id().value())) {
+                return ResultadoCargaMasivaResponse.fallida(linea, "La solicitud no fue guardada");
+            }
+            return ResultadoCargaMasivaResponse.creada(linea, solicitud.id().value());
+        }
+    }
+
+    /**
+     * Endpoint para listar solicitudes con paginación por cursor.
+     * 
+     * @param serverRequest request HTTP con los parámetros opcionales cursor y size
+     * @return response con la página de solicitudes y el cursor de la siguiente página
+     */
+    public Mono<ServerResponse> listarSolicitudes(ServerRequest serverRequest) {
+        return Mono.fromCallable(() -> serverRequest.queryParam("cursor")
+                        .filter(cursor -> !cursor.isBlank())
+                        .map(CursorSolicitud::decodificar))
+                .flatMap(cursor -> obtenerSolicitudesPaginadasUseCase.obtenerPagina(
+                        cursor.orElse(null),
+                        obtenerTamanoPagina(serverRequest)))
+                .map(solicitudEntryMapper::toResponse)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response))
+                .doOnError(error -> System.err.println("Error al listar solicitudes: " + error.getMessage()));
+    }
+    
+    private int obtenerTamanoPagina(ServerRequest serverRequest) {
+        return serverRequest.queryParam("size")
+                .map(size -> {
+                    try {
+                        return Integer.parseInt(size);
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("El tamaño de página debe ser un número entero: " + size);
+                    }
+                })
+                .orElse(ObtenerSolicitudesPaginadasUseCase.TAMANO_PAGINA_POR_DEFECTO);
+    }
+
+    /**
+     * Endpoint para cambiar de estado un lote de solicitudes.
+     * 
+     * @param serverRequest request HTTP con los IDs de las solicitudes y los estados de origen y destino
+     * @return response con el resultado del cambio por cada solicitud
+     */
+    public Mono<ServerResponse> cambiarEstadoLote(ServerRequest serverRequest) {
+        return serverRequest.bodyToMono(CambioEstadoLoteRequest.class)
+                .doOnNext(request -> System.out.println("Cambiando estado de " + 
+                        request.idsSolicitudes().size() + " solicitudes"))
+                .flatMap(request -> cambiarEstadoLoteUseCase.cambiarEstado(
+                                request.idsSolicitudes().stream().map(SolicitudId::new).toList(),
+                                new EstadoId(request.idEstadoOrigen()),
+                                new EstadoId(request.idEstadoDestino()))
+                        .collectList())
+                .map(solicitudEntryMapper::toResponse)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response))
+                .doOnError(error -> System.err.println("Error al cambiar estado en lote: " + error.getMessage()));
+    }
+
+    /**
+     * Endpoint para consultar la tabla de amortización de una solicitud.
+     * 
+     * Las cuotas se escriben a medida que se calculan, como arreglo JSON o, si el cliente
+     * acepta application/x-ndjson, como una línea NDJSON por cuota.
+     * 
+     * @param serverRequest request HTTP con el ID de la solicitud en la ruta
+     * @return response con las cuotas de la tabla de amortización
+     */
+    public Mono<ServerResponse> obtenerTablaAmortizacion(ServerRequest serverRequest) {
+        MediaType tipoContenido = negociarFormato(serverRequest, MediaType.APPLICATION_JSON);
+        Flux<CuotaAmortizacionResponse> cuotas = Mono.fromCallable(
+                        () -> SolicitudId.fromString(serverRequest.pathVariable("id")))
+                .flatMapMany(obtenerTablaAmortizacionUseCase::obtenerTabla)
+                .map(solicitudEntryMapper::toResponse)
+                .doOnError(error -> System.err.println("Error al obtener tabla de amortización: " + error.getMessage()));
+        
+        return ServerResponse.ok()
+                .contentType(tipoContenido)
+                .body(cuotas, CuotaAmortizacionResponse.class);
+    }
+
+    /**
+     * Endpoint para simular las cuotas mensuales de un tipo de préstamo sobre una grilla
+     * de montos y plazos en una sola llamada.
+     * 
+     * @param serverRequest request HTTP con el ID del tipo de préstamo, los montos y los plazos
+     * @return response con la matriz de cuotas, una fila por monto y una columna por plazo
+     */
+    public Mono<ServerResponse> simularCuotas(ServerRequest serverRequest) {
+        return serverRequest.bodyToMono(SimulacionRequest.class)
+                .flatMap(request -> simularCuotasUseCase.simular(
+                        new TipoPrestamoId(request.idTipoPrestamo()),
+                        request.montos().stream().map(Monto::of).toList(),
+                        request.plazos().stream().map(Plazo::of).toList()))
+                .map(solicitudEntryMapper::toResponse)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response))
+                .doOnError(error -> System.err.println("Error al simular cuotas: " + error.getMessage()));
+    }
+
+    /**
+     * Endpoint para consultar las estadísticas de solicitudes por estado y por tipo de préstamo.
+     * 
+     * Responde con la última instantánea calculada, sin esperar a la base de datos; el campo
+     * calculadasEn indica su antigüedad.
+     * 
+     * @param serverRequest request HTTP sin parámetros
+     * @return response con el total y los conteos por estado y por tipo de préstamo
+     */
+    public Mono<ServerResponse> obtenerEstadisticas(ServerRequest serverRequest) {
+        return obtenerEstadisticasUseCase.obtener()
+                .map(solicitudEntryMapper::toResponse)
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response))
+                .doOnError(error -> System.err.println("Error al obtener estadísticas: " + error.getMessage()));
+    }
+
+    /**
+     * Endpoint para exportar todas las solicitudes activas.
+     * 
+     * Responde CSV con cabecera o, si el cliente acepta application/x-ndjson, una línea NDJSON
+     * por solicitud. Las filas se leen de la base de datos por tramos y se escriben a medida
+     * que la conexión las acepta, por lo que la memoria usada no depende del tamaño de la
+     * exportación.
+     * 
+     * @param serverRequest request HTTP sin parámetros
+     * @return response con las solicitudes exportadas como archivo adjunto
+     */
+    public Mono<ServerResponse> exportarSolicitudes(ServerRequest serverRequest) {
+        MediaType formato = negociarFormato(serverRequest, SolicitudExportacionEncoder.TEXT_CSV);
+        boolean ndjson = MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(formato);
+        Flux<Solicitud> solicitudes = exportarSolicitudesUseCase.exportar()
+                .doOnError(error -> System.err.println("Error al exportar solicitudes: " + error.getMessage()));
+        
+        return ServerResponse.ok()
+                .contentType(formato)
+                .headers(headers -> headers.setContentDisposition(ContentDisposition.attachment()
+                        .filename(ndjson ? "solicitudes.ndjson" : "solicitudes.csv")
+                        .build()))
+                .body((mensaje, contexto) -> mensaje.writeWith(
+                        solicitudExportacionEncoder.codificar(solicitudes, formato, mensaje.bufferFactory())));
+    }
+
+    /**
+     * Elige NDJSON o el formato por defecto según el primero de los tipos del header Accept,
+     * ordenados por calidad y especificidad, que sea compatible con alguno de los dos. Un tipo con
+     * comodín no elige NDJSON.
+     */
+    private static MediaType negociarFormato(ServerRequest serverRequest, MediaType porDefecto) {
+        List<MediaType> aceptados = new ArrayList<>(serverRequest.headers().accept());
+        MimeTypeUtils.sortBySpecificity(aceptados);
+        for (MediaType aceptado : aceptados) {
+            if (!aceptado.isWildcardType() && !aceptado.isWildcardSubtype()
+                    && MediaType.APPLICATION_NDJSON.isCompatibleWith(aceptado)) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+            if (porDefecto.isCompatibleWith(aceptado)) {
+                return porDefecto;
+            }
+        }
+        return porDefecto;
     }
 
     public Mono<ServerResponse> listenGETUseCase(ServerRequest serverRequest) {
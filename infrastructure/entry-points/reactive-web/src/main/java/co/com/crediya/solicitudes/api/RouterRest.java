@@ -2,8 +2,10 @@ package co.com.crediya.solicitudes.api;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
 import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -13,7 +15,13 @@ import org.springframework.web.reactive.function.server.ServerResponse;
  * 
  * Este router define las rutas funcionales de WebFlux para:
  * - POST /api/v1/solicitud - Crear nueva solicitud de préstamo
- * - GET /api/v1/solicitud - Listar solicitudes (pendiente)
+ * - GET /api/v1/solicitud?cursor=&size= - Listar solicitudes con paginación por cursor
+ * - GET /api/v1/solicitud/estadisticas - Estadísticas de solicitudes por estado y tipo de préstamo
+ * - GET /api/v1/solicitud/export - Exportar las solicitudes activas (CSV o NDJSON)
+ * - POST /api/v1/solicitud/estado:batch - Cambiar de estado un lote de solicitudes
+ * - POST /api/v1/solicitud:bulk - Crear solicitudes de forma masiva (application/x-ndjson)
+ * - GET /api/v1/solicitud/{id}/amortizacion - Tabla de amortización (JSON o NDJSON)
+ * - POST /api/v1/simulacion - Simular cuotas mensuales para una grilla de montos y plazos
  * - PUT /api/v1/solicitud/{id} - Actualizar estado de solicitud (pendiente)
  */
 @Configuration
@@ -22,6 +30,14 @@ public class RouterRest {
     @Bean
     public RouterFunction<ServerResponse> routerFunction(Handler handler) {
         return route(POST("/api/v1/solicitud"), handler::crearSolicitud)
+                .andRoute(GET("/api/v1/solicitud"), handler::listarSolicitudes)
+                .andRoute(GET("/api/v1/solicitud/estadisticas"), handler::obtenerEstadisticas)
+                .andRoute(GET("/api/v1/solicitud/export"), handler::exportarSolicitudes)
+                .andRoute(POST("/api/v1/solicitud/estado:batch"), handler::cambiarEstadoLote)
+                .andRoute(POST("/api/v1/solicitud:bulk").and(contentType(MediaType.APPLICATION_NDJSON)),
+                        handler::crearSolicitudesMasivo)
+                .andRoute(GET("/api/v1/solicitud/{id}/amortizacion"), handler::obtenerTablaAmortizacion)
+                .andRoute(POST("/api/v1/simulacion"), handler::simularCuotas)
                 .andRoute(GET("/api/usecase/path"), handler::listenGETUseCase) //TODO: eliminar endpiont no usados
                 .andRoute(POST("/api/usecase/otherpath"), handler::listenPOSTUseCase)
                 .and(route(GET("/api/otherusercase/path"), handler::listenGETOtherUseCase));
@@ -0,0 +1,40 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * DTO para el cambio de estado en lote de solicitudes de préstamo.
+ * 
+ * Este DTO contiene los datos necesarios para la transición:
+ * - IDs de las solicitudes a cambiar (validado para no ser vacío)
+ * - ID del estado de origen (validado para no ser nulo)
+ * - ID del estado de destino (validado para no ser nulo)
+ */
+@Builder
+public record CambioEstadoLoteRequest(
+    
+    List<UUID> idsSolicitudes,
+    
+    UUID idEstadoOrigen,
+    
+    UUID idEstadoDestino
+) {
+    
+    /**
+     * Constructor que valida que los datos no sean nulos.
+     */
+    public CambioEstadoLoteRequest {
+        if (idsSolicitudes == null || idsSolicitudes.isEmpty()) {
+            throw new IllegalArgumentException("La lista de solicitudes no puede ser nula o vacía");
+        }
+        if (idEstadoOrigen == null) {
+            throw new IllegalArgumentException("El ID del estado de origen no puede ser nulo");
+        }
+        if (idEstadoDestino == null) {
+            throw new IllegalArgumentException("El ID del estado de destino no puede ser nulo");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta para el cambio de estado en lote de solicitudes de préstamo.
+ * 
+ * Este DTO contiene:
+ * - Número de solicitudes actualizadas
+ * - Número de solicitudes en conflicto
+ * - Resultado individual por cada solicitud
+ */
+@Builder
+public record CambioEstadoLoteResponse(
+    
+    int actualizadas,
+    
+    int conflictos,
+    
+    List<Resultado> resultados
+) {
+    
+    public static final String ACTUALIZADA = "ACTUALIZADA";
+    public static final String CONFLICTO = "CONFLICTO";
+    
+    /**
+     * Resultado del cambio de estado de una solicitud.
+     * 
+     * @param idSolicitud ID de la solicitud
+     * @param resultado ACTUALIZADA o CONFLICTO
+     * @param version nueva versión de la solicitud, null si hubo conflicto
+     */
+    @Builder
+    public record Resultado(
+        
+        UUID idSolicitud,
+        
+        String resultado,
+        
+        Long version
+    ) {
+    }
+}
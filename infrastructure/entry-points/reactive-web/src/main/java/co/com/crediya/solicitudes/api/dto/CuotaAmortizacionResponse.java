@@ -0,0 +1,29 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta para una fila de la tabla de amortización de una solicitud.
+ * 
+ * Este DTO contiene:
+ * - Número de la cuota
+ * - Valor de la cuota
+ * - Intereses y capital que componen la cuota
+ * - Saldo pendiente después del pago
+ */
+@Builder
+public record CuotaAmortizacionResponse(
+    
+    int numero,
+    
+    BigDecimal cuota,
+    
+    BigDecimal interes,
+    
+    BigDecimal capital,
+    
+    BigDecimal saldo
+) {
+}
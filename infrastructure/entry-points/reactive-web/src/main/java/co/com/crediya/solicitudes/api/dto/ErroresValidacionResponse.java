@@ -0,0 +1,46 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta para una petición rechazada por datos inválidos (400).
+ * 
+ * Este DTO contiene:
+ * - Código y descripción del estado HTTP
+ * - Mensaje general del rechazo
+ * - Error de cada campo inválido, para corregirlos todos en un solo intento
+ */
+@Builder
+public record ErroresValidacionResponse(
+    
+    int status,
+    
+    String error,
+    
+    String message,
+    
+    List<ErrorCampo> errores
+) {
+    
+    public static ErroresValidacionResponse de(List<ErrorCampo> errores) {
+        return new ErroresValidacionResponse(400, "Bad Request",
+            "La solicitud tiene " + errores.size() + " campo(s) inválido(s)", errores);
+    }
+    
+    /**
+     * Error de validación de un campo de la petición.
+     * 
+     * @param campo nombre del campo en el JSON de la petición
+     * @param mensaje descripción del error
+     */
+    @Builder
+    public record ErrorCampo(
+        
+        String campo,
+        
+        String mensaje
+    ) {
+    }
+}
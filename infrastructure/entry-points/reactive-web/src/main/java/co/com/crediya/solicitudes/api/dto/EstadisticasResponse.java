@@ -0,0 +1,42 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta para las estadísticas de solicitudes activas.
+ * 
+ * Este DTO contiene:
+ * - El total de solicitudes activas
+ * - El número de solicitudes por estado y por tipo de préstamo, de mayor a menor
+ * - El instante en que se calcularon; la respuesta puede tener hasta la vigencia configurada
+ */
+@Builder
+public record EstadisticasResponse(
+    
+    long total,
+    
+    List<Conteo> porEstado,
+    
+    List<Conteo> porTipoPrestamo,
+    
+    Instant calculadasEn
+) {
+    
+    /**
+     * Número de solicitudes de un estado o de un tipo de préstamo.
+     * 
+     * @param nombre nombre del estado o del tipo de préstamo
+     * @param cantidad número de solicitudes activas
+     */
+    @Builder
+    public record Conteo(
+        
+        String nombre,
+        
+        long cantidad
+    ) {
+    }
+}
@@ -0,0 +1,30 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta para una página de solicitudes de préstamo.
+ * 
+ * Este DTO contiene:
+ * - Las solicitudes de la página actual
+ * - El cursor opaco para solicitar la siguiente página (null si es la última)
+ */
+@Builder
+public record PaginaSolicitudesResponse(
+    
+    List<SolicitudResponse> solicitudes,
+    
+    String siguienteCursor
+) {
+    
+    /**
+     * Constructor que valida que la lista de solicitudes no sea nula.
+     */
+    public PaginaSolicitudesResponse {
+        if (solicitudes == null) {
+            throw new IllegalArgumentException("La lista de solicitudes no puede ser nula");
+        }
+    }
+}
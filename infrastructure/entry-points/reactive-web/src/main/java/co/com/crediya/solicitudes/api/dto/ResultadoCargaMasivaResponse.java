@@ -0,0 +1,32 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta para cada línea de una carga masiva de solicitudes (NDJSON).
+ * 
+ * Este DTO contiene:
+ * - Número de línea de la solicitud en el cuerpo recibido
+ * - ID de la solicitud creada, null si la línea falló
+ * - Mensaje de error, null si la solicitud se creó
+ */
+@Builder
+public record ResultadoCargaMasivaResponse(
+    
+    long linea,
+    
+    UUID idSolicitud,
+    
+    String error
+) {
+    
+    public static ResultadoCargaMasivaResponse creada(long linea, UUID idSolicitud) {
+        return new ResultadoCargaMasivaResponse(linea, idSolicitud, null);
+    }
+    
+    public static ResultadoCargaMasivaResponse fallida(long linea, String error) {
+        return new ResultadoCargaMasivaResponse(linea, null, error);
+    }
+}
@@ -0,0 +1,41 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * DTO para simular las cuotas mensuales de un tipo de préstamo sobre una grilla de montos y plazos.
+ * 
+ * Este DTO contiene:
+ * - ID del tipo de préstamo cuya tasa se usa en la simulación
+ * - Montos a simular (filas de la grilla)
+ * - Plazos en meses a simular (columnas de la grilla)
+ */
+@Builder
+public record SimulacionRequest(
+    
+    UUID idTipoPrestamo,
+    
+    List<BigDecimal> montos,
+    
+    List<Integer> plazos
+) {
+    
+    /**
+     * Constructor que valida que los datos no sean nulos.
+     */
+    public SimulacionRequest {
+        if (idTipoPrestamo == null) {
+            throw new IllegalArgumentException("El ID del tipo de préstamo no puede ser nulo");
+        }
+        if (montos == null || montos.isEmpty()) {
+            throw new IllegalArgumentException("Los montos a simular no pueden ser nulos o vacíos");
+        }
+        if (plazos == null || plazos.isEmpty()) {
+            throw new IllegalArgumentException("Los plazos a simular no pueden ser nulos o vacíos");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package co.com.crediya.solicitudes.api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * DTO de respuesta de una simulación de cuotas como matriz compacta.
+ * 
+ * Los montos y plazos se envían una sola vez; cuotas[i][j] es la cuota mensual
+ * de montos[i] a plazos[j] meses.
+ */
+@Builder
+public record SimulacionResponse(
+    
+    UUID idTipoPrestamo,
+    
+    List<BigDecimal> montos,
+    
+    List<Integer> plazos,
+    
+    List<List<BigDecimal>> cuotas
+) {
+}
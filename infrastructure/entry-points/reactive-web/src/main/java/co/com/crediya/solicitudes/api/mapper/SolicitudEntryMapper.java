@@ -1,23 +1,45 @@
 package co.com.crediya.solicitudes.api.mapper;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import co.com.crediya.solicitudes.api.dto.CambioEstadoLoteResponse;
 import co.com.crediya.solicitudes.api.dto.CrearSolicitudRequest;
+import co.com.crediya.solicitudes.api.dto.CuotaAmortizacionResponse;
+import co.com.crediya.solicitudes.api.dto.ErroresValidacionResponse;
+import co.com.crediya.solicitudes.api.dto.EstadisticasResponse;
+import co.com.crediya.solicitudes.api.dto.PaginaSolicitudesResponse;
+import co.com.crediya.solicitudes.api.dto.SimulacionResponse;
 import co.com.crediya.solicitudes.api.dto.SolicitudResponse;
+import co.com.crediya.solicitudes.model.solicitud.ConteoSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.EstadisticasSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.PaginaSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
 import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.tipoprestamo.CuotaAmortizacion;
+import co.com.crediya.solicitudes.model.tipoprestamo.SimulacionCuotas;
 import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
 import co.com.crediya.solicitudes.model.valueobjects.Email;
 import co.com.crediya.solicitudes.model.valueobjects.Monto;
 import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.model.valueobjects.Validacion;
 
 /**
  * Mapper para convertir entre DTOs de entrada/salida y objetos del dominio.
  * 
  * Este mapper se encarga de:
  * - Convertir CrearSolicitudRequest a objetos del dominio (Monto, Plazo, Email, TipoPrestamoId)
+ * - Validar CrearSolicitudRequest reportando todos los campos inválidos sin lanzar excepciones
  * - Convertir objetos del dominio (Solicitud) a SolicitudResponse
+ * - Convertir páginas de solicitudes (PaginaSolicitudes) a PaginaSolicitudesResponse
+ * - Convertir resultados de cambio de estado en lote a CambioEstadoLoteResponse
+ * - Convertir cuotas de la tabla de amortización a CuotaAmortizacionResponse
+ * - Convertir simulaciones de cuotas (SimulacionCuotas) a SimulacionResponse
+ * - Convertir estadísticas de solicitudes (EstadisticasSolicitudes) a EstadisticasResponse
  * 
  * Sigue los principios de Arquitectura Hexagonal:
  * - No contiene lógica de negocio
@@ -32,14 +54,55 @@ public class SolicitudEntryMapper {
      * 
      * @param request DTO de entrada con los datos de la solicitud
      * @return objeto con los value objects del dominio
+     * @throws IllegalArgumentException con el primer error si algún campo es inválido
      */
     public SolicitudCreationData toDomain(CrearSolicitudRequest request) {
-        return new SolicitudCreationData(
-            Monto.of(request.montoSolicitado()),
-            Plazo.of(request.plazoMeses()),
-            Email.of(request.emailSolicitante()),
-            new TipoPrestamoId(request.idTipoPrestamo())
-        );
+        ValidacionSolicitud validacion = validar(request);
+        if (!validacion.esValida()) {
+            throw new IllegalArgumentException(validacion.errores().get(0).mensaje());
+        }
+        return validacion.datos();
+    }
+    
+    /**
+     * Valida un CrearSolicitudRequest sin lanzar excepciones, reportando el error de cada
+     * campo inválido.
+     * 
+     * @param request DTO de entrada con los datos de la solicitud
+     * @return los value objects del dominio, o los errores de todos los campos inválidos
+     */
+    public ValidacionSolicitud validar(CrearSolicitudRequest request) {
+        List<ErroresValidacionResponse.ErrorCampo> errores = new ArrayList<>(4);
+        Validacion<Monto> monto = request.montoSolicitado() == null
+            ? Validacion.invalida("El monto solicitado no puede ser nulo")
+            : Monto.parse(request.montoSolicitado());
+        Validacion<Plazo> plazo = request.plazoMeses() == null
+            ? Validacion.invalida("El plazo en meses no puede ser nulo")
+            : Plazo.parse(request.plazoMeses());
+        Validacion<Email> email = request.emailSolicitante() == null || request.emailSolicitante().trim().isEmpty()
+            ? Validacion.invalida("El email del solicitante no puede ser nulo o vacío")
+            : Email.parse(request.emailSolicitante());
+        Validacion<TipoPrestamoId> idTipoPrestamo = request.idTipoPrestamo() == null
+            ? Validacion.invalida("El ID del tipo de préstamo no puede ser nulo")
+            : Validacion.valida(new TipoPrestamoId(request.idTipoPrestamo()));
+        
+        agregarError(errores, "montoSolicitado", monto);
+        agregarError(errores, "plazoMeses", plazo);
+        agregarError(errores, "emailSolicitante", email);
+        agregarError(errores, "idTipoPrestamo", idTipoPrestamo);
+        if (!errores.isEmpty()) {
+            return new ValidacionSolicitud(null, errores);
+        }
+        return new ValidacionSolicitud(
+            new SolicitudCreationData(monto.valor(), plazo.valor(), email.valor(), idTipoPrestamo.valor()),
+            List.of());
+    }
+    
+    private static void agregarError(List<ErroresValidacionResponse.ErrorCampo> errores, String campo,
+                                     Validacion<?> validacion) {
+        if (!validacion.esValida()) {
+            errores.add(new ErroresValidacionResponse.ErrorCampo(campo, validacion.error()));
+        }
     }
     
     /**
@@ -60,6 +123,110 @@ public class SolicitudEntryMapper {
         );
     }
     
+    /**
+     * Convierte una página de solicitudes del dominio a un DTO de respuesta.
+     * El cursor de la siguiente página se expone como token opaco.
+     * 
+     * @param pagina página de solicitudes del dominio
+     * @return DTO de respuesta con las solicitudes y el cursor siguiente
+     */
+    public PaginaSolicitudesResponse toResponse(PaginaSolicitudes pagina) {
+        return new PaginaSolicitudesResponse(
+            pagina.solicitudes().stream().map(this::toResponse).toList(),
+            pagina.tieneSiguiente() ? pagina.siguienteCursor().codificar() : null
+        );
+    }
+    
+    /**
+     * Convierte los resultados de un cambio de estado en lote a un DTO de respuesta.
+     * 
+     * @param resultados resultados por solicitud del dominio
+     * @return DTO de respuesta con los totales y el resultado de cada solicitud
+     */
+    public CambioEstadoLoteResponse toResponse(List<ResultadoCambioEstado> resultados) {
+        List<CambioEstadoLoteResponse.Resultado> items = resultados.stream()
+            .map(resultado -> new CambioEstadoLoteResponse.Resultado(
+                resultado.idSolicitud().value(),
+                resultado.exitoso() ? CambioEstadoLoteResponse.ACTUALIZADA : CambioEstadoLoteResponse.CONFLICTO,
+                resultado.nuevaVersion()))
+            .toList();
+        int actualizadas = (int) resultados.stream().filter(ResultadoCambioEstado::exitoso).count();
+        return new CambioEstadoLoteResponse(actualizadas, resultados.size() - actualizadas, items);
+    }
+    
+    /**
+     * Convierte una cuota de la tabla de amortización a un DTO de respuesta.
+     * 
+     * @param cuota cuota de la tabla de amortización del dominio
+     * @return DTO de respuesta
+     */
+    public CuotaAmortizacionResponse toResponse(CuotaAmortizacion cuota) {
+        return new CuotaAmortizacionResponse(
+            cuota.numero(),
+            cuota.cuota(),
+            cuota.interes(),
+            cuota.capital(),
+            cuota.saldo()
+        );
+    }
+    
+    /**
+     * Convierte una simulación de cuotas del dominio a un DTO de respuesta.
+     * 
+     * @param simulacion matriz de cuotas del dominio
+     * @return DTO de respuesta con los montos, plazos y cuotas
+     */
+    public SimulacionResponse toResponse(SimulacionCuotas simulacion) {
+        return new SimulacionResponse(
+            simulacion.idTipoPrestamo().value(),
+            simulacion.montos().stream().map(Monto::valor).toList(),
+            simulacion.plazos().stream().map(Plazo::meses).toList(),
+            simulacion.cuotas()
+        );
+    }
+    
+    /**
+     * Convierte las estadísticas de solicitudes del dominio a un DTO de respuesta.
+     * 
+     * @param estadisticas instantánea de estadísticas del dominio
+     * @return DTO de respuesta con el total y los conteos por estado y por tipo de préstamo
+     */
+    public EstadisticasResponse toResponse(EstadisticasSolicitudes estadisticas) {
+        return new EstadisticasResponse(
+            estadisticas.total(),
+            estadisticas.porEstado().stream().map(this::toResponse).toList(),
+            estadisticas.porTipoPrestamo().stream().map(this::toResponse).toList(),
+            estadisticas.calculadasEn()
+        );
+    }
+    
+    private EstadisticasResponse.Conteo toResponse(ConteoSolicitudes conteo) {
+        return new EstadisticasResponse.Conteo(conteo.nombre(), conteo.cantidad());
+    }
+    
+    /**
+     * Resultado de validar un CrearSolicitudRequest: los datos del dominio si todos los campos
+     * son válidos, o el error de cada campo inválido.
+     * 
+     * @param datos value objects del dominio, null si hay errores
+     * @param errores errores por campo, vacío si la petición es válida
+     */
+    public record ValidacionSolicitud(SolicitudCreationData datos, List<ErroresValidacionResponse.ErrorCampo> errores) {
+        
+        public boolean esValida() {
+            return errores.isEmpty();
+        }
+        
+        /**
+         * Describe los errores en una sola línea, como "campo: mensaje; campo: mensaje".
+         */
+        public String mensaje() {
+            return errores.stream()
+                .map(error -> error.campo() + ": " + error.mensaje())
+                .collect(Collectors.joining("; "));
+        }
+    }
+    
     /**
      * Clase interna que encapsula los datos del dominio necesarios para crear una solicitud.
      * Esta clase actúa como un DTO interno para pasar los datos entre el mapper y el caso de uso.
@@ -0,0 +1,139 @@
+package co.com.crediya.solicitudes.api.mapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Codifica la exportación de solicitudes como CSV o NDJSON.
+ *
+ * Cada solicitud se escribe directamente en su propio DataBuffer, reservado en la fábrica de
+ * la respuesta (en Netty, un buffer del pool), sin pasar por un DTO ni por un String con el
+ * documento completo. El Flux resultante conserva la demanda del consumidor: solo se codifican
+ * las solicitudes que la conexión pidió, y cada buffer se libera al escribirse en el socket.
+ *
+ * Las columnas son las de SolicitudResponse salvo la fecha de creación, que la entidad
+ * Solicitud aún no expone.
+ */
+@Component
+public class SolicitudExportacionEncoder {
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    static final String CABECERA_CSV =
+            "id,montoSolicitado,plazoMeses,emailSolicitante,estadoSolicitud,idTipoPrestamo\n";
+
+    /**
+     * Capacidad inicial del buffer de una fila; el buffer crece si la fila no cabe.
+     */
+    private static final int CAPACIDAD_FILA = 256;
+
+    private static final Charset UTF_8 = StandardCharsets.UTF_8;
+
+    private final JsonFactory jsonFactory;
+
+    public SolicitudExportacionEncoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Codifica las solicitudes en el formato indicado.
+     *
+     * @param solicitudes solicitudes a exportar
+     * @param formato application/x-ndjson para NDJSON; cualquier otro valor produce CSV con cabecera
+     * @param bufferFactory fábrica de buffers de la respuesta
+     * @return un DataBuffer por solicitud, precedido por la cabecera en CSV
+     */
+    public Flux<DataBuffer> codificar(Flux<Solicitud> solicitudes, MediaType formato, DataBufferFactory bufferFactory) {
+        Flux<DataBuffer> filas;
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(formato)) {
+            filas = solicitudes.map(solicitud -> escribir(bufferFactory, buffer -> json(buffer, solicitud)));
+        } else {
+            filas = Flux.concat(
+                    Mono.fromCallable(() -> bufferFactory.allocateBuffer(CABECERA_CSV.length())
+                            .write(CABECERA_CSV, UTF_8)),
+                    solicitudes.map(solicitud -> escribir(bufferFactory, buffer -> csv(buffer, solicitud))));
+        }
+        return filas.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Escribe la línea CSV de una solicitud, terminada en salto de línea, campo por campo en el
+     * buffer.
+     */
+    private static void csv(DataBuffer buffer, Solicitud solicitud) {
+        buffer.write(solicitud.id().value().toString(), UTF_8).write((byte) ',');
+        buffer.write(solicitud.monto().valor().toPlainString(), UTF_8).write((byte) ',');
+        buffer.write(Integer.toString(solicitud.plazo().meses()), UTF_8).write((byte) ',');
+        campoCsv(buffer, solicitud.email().value()).write((byte) ',');
+        buffer.write(solicitud.idEstado().value().toString(), UTF_8).write((byte) ',');
+        buffer.write(solicitud.idTipoPrestamo().value().toString(), UTF_8).write((byte) '\n');
+    }
+
+    /**
+     * Escribe un campo de texto escapado según RFC 4180: si contiene comas, comillas o saltos de
+     * línea se encierra entre comillas y las comillas internas se duplican.
+     */
+    static DataBuffer campoCsv(DataBuffer buffer, String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return buffer.write(valor, UTF_8);
+        }
+        buffer.write((byte) '"');
+        int desde = 0;
+        for (int comilla = valor.indexOf('"'); comilla >= 0; comilla = valor.indexOf('"', desde)) {
+            buffer.write(valor.subSequence(desde, comilla + 1), UTF_8).write((byte) '"');
+            desde = comilla + 1;
+        }
+        return buffer.write(valor.subSequence(desde, valor.length()), UTF_8).write((byte) '"');
+    }
+
+    private void json(DataBuffer buffer, Solicitud solicitud) throws IOException {
+        try (JsonGenerator json = jsonFactory.createGenerator(buffer.asOutputStream())) {
+            json.writeStartObject();
+            json.writeStringField("id", solicitud.id().value().toString());
+            json.writeNumberField("montoSolicitado", solicitud.monto().valor());
+            json.writeNumberField("plazoMeses", solicitud.plazo().meses());
+            json.writeStringField("emailSolicitante", solicitud.email().value());
+            json.writeStringField("estadoSolicitud", solicitud.idEstado().value().toString());
+            json.writeStringField("idTipoPrestamo", solicitud.idTipoPrestamo().value().toString());
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+    }
+
+    private static DataBuffer escribir(DataBufferFactory bufferFactory, Escritura escritura) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(CAPACIDAD_FILA);
+        boolean escrita = false;
+        try {
+            escritura.escribir(buffer);
+            escrita = true;
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo codificar la solicitud exportada", e);
+        } finally {
+            if (!escrita) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Escritura {
+        void escribir(DataBuffer buffer) throws IOException;
+    }
+}
@@ -1,16 +1,38 @@
 package co.com.crediya.solicitudes.api;
 
+import co.com.crediya.solicitudes.api.dto.CambioEstadoLoteRequest;
+import co.com.crediya.solicitudes.api.dto.CambioEstadoLoteResponse;
 import co.com.crediya.solicitudes.api.dto.CrearSolicitudRequest;
+import co.com.crediya.solicitudes.api.dto.CuotaAmortizacionResponse;
+import co.com.crediya.solicitudes.api.dto.ErroresValidacionResponse;
+import co.com.crediya.solicitudes.api.dto.PaginaSolicitudesResponse;
+import co.com.crediya.solicitudes.api.dto.ResultadoCargaMasivaResponse;
+import co.com.crediya.solicitudes.api.dto.SimulacionRequest;
 import co.com.crediya.solicitudes.api.dto.SolicitudResponse;
 import co.com.crediya.solicitudes.api.mapper.SolicitudEntryMapper;
+import co.com.crediya.solicitudes.api.mapper.SolicitudExportacionEncoder;
 import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.ConteoSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.CursorSolicitud;
+import co.com.crediya.solicitudes.model.solicitud.EstadisticasSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.PaginaSolicitudes;
+import co.com.crediya.solicitudes.model.solicitud.ResultadoCambioEstado;
 import co.com.crediya.solicitudes.model.solicitud.Solicitud;
 import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.CuotaAmortizacion;
+import co.com.crediya.solicitudes.model.tipoprestamo.SimulacionCuotas;
 import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
 import co.com.crediya.solicitudes.model.valueobjects.Email;
 import co.com.crediya.solicitudes.model.valueobjects.Monto;
 import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import co.com.crediya.solicitudes.usecase.simulacion.SimularCuotasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.CambiarEstadoLoteUseCase;
 import co.com.crediya.solicitudes.usecase.solicitud.CrearSolicitudUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ExportarSolicitudesUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerEstadisticasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerSolicitudesPaginadasUseCase;
+import co.com.crediya.solicitudes.usecase.solicitud.ObtenerTablaAmortizacionUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,14 +43,23 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -46,6 +77,24 @@ class RouterRestTest {
     @Mock
     private CrearSolicitudUseCase crearSolicitudUseCase;
 
+    @Mock
+    private ObtenerSolicitudesPaginadasUseCase obtenerSolicitudesPaginadasUseCase;
+
+    @Mock
+    private CambiarEstadoLoteUseCase cambiarEstadoLoteUseCase;
+
+    @Mock
+    private ObtenerTablaAmortizacionUseCase obtenerTablaAmortizacionUseCase;
+
+    @Mock
+    private SimularCuotasUseCase simularCuotasUseCase;
+
+    @Mock
+    private ObtenerEstadisticasUseCase obtenerEstadisticasUseCase;
+
+    @Mock
+    private ExportarSolicitudesUseCase exportarSolicitudesUseCase;
+
     private WebTestClient webTestClient;
     private UUID tipoPrestamoId;
     private Solicitud solicitudMock;
@@ -60,7 +109,10 @@ class RouterRestTest {
         solicitudEntryMapper = new SolicitudEntryMapper();
         
         // Crear handler con mocks
-        Handler handler = new Handler(crearSolicitudUseCase, solicitudEntryMapper);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        Handler handler = new Handler(crearSolicitudUseCase, obtenerSolicitudesPaginadasUseCase,
+            cambiarEstadoLoteUseCase, obtenerTablaAmortizacionUseCase, simularCuotasUseCase, obtenerEstadisticasUseCase,
+            exportarSolicitudesUseCase, solicitudEntryMapper, new SolicitudExportacionEncoder(objectMapper), objectMapper);
         
         // Crear router
         RouterRest routerRest = new RouterRest();
@@ -120,4 +172,419 @@ class RouterRestTest {
                 assertThat(response.fechaCreacion()).isNotNull();
             });
     }
+
+    @Test
+    void deberiaRechazarSolicitudInvalidaReportandoTodosLosCampos() {
+        // Given
+        String cuerpo = "{\"montoSolicitado\":-10,\"plazoMeses\":0,\"emailSolicitante\":\"correo-invalido\"}";
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/solicitud")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(cuerpo)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody(ErroresValidacionResponse.class)
+            .value(response -> {
+                assertThat(response.status()).isEqualTo(400);
+                assertThat(response.errores()).containsExactly(
+                    new ErroresValidacionResponse.ErrorCampo("montoSolicitado", "El monto no puede ser negativo"),
+                    new ErroresValidacionResponse.ErrorCampo("plazoMeses", "El plazo debe ser al menos 1 mes"),
+                    new ErroresValidacionResponse.ErrorCampo("emailSolicitante", "Formato de email inválido: correo-invalido"),
+                    new ErroresValidacionResponse.ErrorCampo("idTipoPrestamo", "El ID del tipo de préstamo no puede ser nulo"));
+            });
+
+        verifyNoInteractions(crearSolicitudUseCase);
+    }
+
+    @Test
+    void deberiaListarPrimeraPaginaConCursorSiguiente() {
+        // Given
+        CursorSolicitud siguiente = new CursorSolicitud(LocalDateTime.of(2025, 1, 15, 10, 30), solicitudMock.id());
+        when(obtenerSolicitudesPaginadasUseCase.obtenerPagina(isNull(), eq(1)))
+            .thenReturn(Mono.just(new PaginaSolicitudes(List.of(solicitudMock), siguiente)));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud?size=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody(PaginaSolicitudesResponse.class)
+            .value(response -> {
+                assertThat(response.solicitudes()).hasSize(1);
+                assertThat(response.solicitudes().get(0).id()).isEqualTo(solicitudMock.id().value());
+                assertThat(response.siguienteCursor()).isEqualTo(siguiente.codificar());
+            });
+    }
+
+    @Test
+    void deberiaListarPaginaSiguienteDesdeCursor() {
+        // Given
+        CursorSolicitud cursor = new CursorSolicitud(LocalDateTime.of(2025, 1, 15, 10, 30), SolicitudId.random());
+        when(obtenerSolicitudesPaginadasUseCase.obtenerPagina(eq(cursor), eq(ObtenerSolicitudesPaginadasUseCase.TAMANO_PAGINA_POR_DEFECTO)))
+            .thenReturn(Mono.just(new PaginaSolicitudes(List.of(solicitudMock), null)));
+
+        // When & Then
+        webTestClient.get()
+            .uri(uriBuilder -> uriBuilder.path("/api/v1/solicitud")
+                .queryParam("cursor", cursor.codificar())
+                .build())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(PaginaSolicitudesResponse.class)
+            .value(response -> {
+                assertThat(response.solicitudes()).hasSize(1);
+                assertThat(response.siguienteCursor()).isNull();
+            });
+    }
+
+    @Test
+    void deberiaCambiarEstadoEnLoteReportandoConflictos() {
+        // Given
+        SolicitudId actualizada = SolicitudId.random();
+        SolicitudId enConflicto = SolicitudId.random();
+        EstadoId origen = EstadoId.random();
+        EstadoId destino = EstadoId.random();
+        CambioEstadoLoteRequest request = CambioEstadoLoteRequest.builder()
+            .idsSolicitudes(List.of(actualizada.value(), enConflicto.value()))
+            .idEstadoOrigen(origen.value())
+            .idEstadoDestino(destino.value())
+            .build();
+        when(cambiarEstadoLoteUseCase.cambiarEstado(List.of(actualizada, enConflicto), origen, destino))
+            .thenReturn(Flux.just(
+                ResultadoCambioEstado.exitoso(actualizada, 2L),
+                ResultadoCambioEstado.conflicto(enConflicto)));
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/solicitud/estado:batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(CambioEstadoLoteResponse.class)
+            .value(response -> {
+                assertThat(response.actualizadas()).isEqualTo(1);
+                assertThat(response.conflictos()).isEqualTo(1);
+                assertThat(response.resultados()).containsExactly(
+                    new CambioEstadoLoteResponse.Resultado(actualizada.value(), CambioEstadoLoteResponse.ACTUALIZADA, 2L),
+                    new CambioEstadoLoteResponse.Resultado(enConflicto.value(), CambioEstadoLoteResponse.CONFLICTO, null));
+            });
+    }
+
+    @Test
+    void deberiaCrearSolicitudesMasivasReportandoCadaLinea() {
+        // Given
+        Solicitud otraSolicitud = Solicitud.create(
+            SolicitudId.random(),
+            Monto.of(BigDecimal.valueOf(2000000.00)),
+            Plazo.of(12),
+            Email.of("otro@ejemplo.com"),
+            EstadoId.random(),
+            new TipoPrestamoId(tipoPrestamoId)
+        );
+        when(crearSolicitudUseCase.prepararSolicitud(any(Monto.class), any(Plazo.class),
+                eq(Email.of("cliente@ejemplo.com")), any(TipoPrestamoId.class)))
+            .thenReturn(Mono.just(solicitudMock));
+        when(crearSolicitudUseCase.prepararSolicitud(any(Monto.class), any(Plazo.class),
+                eq(Email.of("otro@ejemplo.com")), any(TipoPrestamoId.class)))
+            .thenReturn(Mono.just(otraSolicitud));
+        when(crearSolicitudUseCase.guardarSolicitudes(anyList()))
+            .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<Solicitud>>getArgument(0)));
+        String cuerpo = String.join("\n",
+            "{\"montoSolicitado\":5000000.00,\"plazoMeses\":24,\"emailSolicitante\":\"cliente@ejemplo.com\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}",
+            "{\"montoSolicitado\":2000000.00,\"plazoMeses\":12,\"emailSolicitante\":\"correo-invalido\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}",
+            "",
+            "{\"montoSolicitado\":2000000.00,\"plazoMeses\":12,\"emailSolicitante\":\"otro@ejemplo.com\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}");
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/solicitud:bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(cuerpo)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(ResultadoCargaMasivaResponse.class)
+            .value(resultados -> {
+                assertThat(resultados).hasSize(3);
+                assertThat(resultados.get(0)).isEqualTo(ResultadoCargaMasivaResponse.creada(1, solicitudMock.id().value()));
+                assertThat(resultados.get(1).linea()).isEqualTo(2);
+                assertThat(resultados.get(1).idSolicitud()).isNull();
+                assertThat(resultados.get(1).error()).isEqualTo("emailSolicitante: Formato de email inválido: correo-invalido");
+                assertThat(resultados.get(2)).isEqualTo(ResultadoCargaMasivaResponse.creada(4, otraSolicitud.id().value()));
+            });
+
+        verify(crearSolicitudUseCase).guardarSolicitudes(List.of(solicitudMock, otraSolicitud));
+    }
+
+    @Test
+    void deberiaReintentarPorLineaUnLoteRechazadoPorLosDatosDeUnaSolicitud() {
+        // Given
+        Solicitud rechazada = Solicitud.create(
+            SolicitudId.random(),
+            Monto.of(BigDecimal.valueOf(2000000.00)),
+            Plazo.of(12),
+            Email.of("otro@ejemplo.com"),
+            EstadoId.random(),
+            new TipoPrestamoId(tipoPrestamoId)
+        );
+        Solicitud tercera = Solicitud.create(
+            SolicitudId.random(),
+            Monto.of(BigDecimal.valueOf(3000000.00)),
+            Plazo.of(36),
+            Email.of("tercero@ejemplo.com"),
+            EstadoId.random(),
+            new TipoPrestamoId(tipoPrestamoId)
+        );
+        when(crearSolicitudUseCase.prepararSolicitud(any(Monto.class), any(Plazo.class),
+                eq(Email.of("cliente@ejemplo.com")), any(TipoPrestamoId.class)))
+            .thenReturn(Mono.just(solicitudMock));
+        when(crearSolicitudUseCase.prepararSolicitud(any(Monto.class), any(Plazo.class),
+                eq(Email.of("otro@ejemplo.com")), any(TipoPrestamoId.class)))
+            .thenReturn(Mono.just(rechazada));
+        when(crearSolicitudUseCase.prepararSolicitud(any(Monto.class), any(Plazo.class),
+                eq(Email.of("tercero@ejemplo.com")), any(TipoPrestamoId.class)))
+            .thenReturn(Mono.just(tercera));
+        when(crearSolicitudUseCase.guardarSolicitudes(anyList())).thenAnswer(invocation -> {
+            List<Solicitud> lote = invocation.getArgument(0);
+            return lote.contains(rechazada)
+                ? Flux.error(new IllegalArgumentException("new row violates check constraint"))
+                : Flux.fromIterable(lote);
+        });
+        String cuerpo = String.join("\n",
+            "{\"montoSolicitado\":5000000.00,\"plazoMeses\":24,\"emailSolicitante\":\"cliente@ejemplo.com\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}",
+            "{\"montoSolicitado\":2000000.00,\"plazoMeses\":12,\"emailSolicitante\":\"otro@ejemplo.com\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}",
+            "{\"montoSolicitado\":2000000.00,\"plazoMeses\":12,\"emailSolicitante\":\"correo-invalido\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}",
+            "{\"montoSolicitado\":3000000.00,\"plazoMeses\":36,\"emailSolicitante\":\"tercero@ejemplo.com\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}");
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/solicitud:bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(cuerpo)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(ResultadoCargaMasivaResponse.class)
+            .isEqualTo(List.of(
+                ResultadoCargaMasivaResponse.creada(1, solicitudMock.id().value()),
+                ResultadoCargaMasivaResponse.fallida(2, "new row violates check constraint"),
+                ResultadoCargaMasivaResponse.fallida(3, "emailSolicitante: Formato de email inválido: correo-invalido"),
+                ResultadoCargaMasivaResponse.creada(4, tercera.id().value())));
+
+        verify(crearSolicitudUseCase).guardarSolicitudes(List.of(solicitudMock, rechazada, tercera));
+        verify(crearSolicitudUseCase).guardarSolicitudes(List.of(solicitudMock));
+        verify(crearSolicitudUseCase).guardarSolicitudes(List.of(rechazada));
+        verify(crearSolicitudUseCase).guardarSolicitudes(List.of(tercera));
+    }
+
+    @Test
+    void deberiaReportarFallidasLasLineasDeUnLoteQueNoSePudoGuardar() {
+        // Given
+        when(crearSolicitudUseCase.prepararSolicitud(any(Monto.class), any(Plazo.class),
+                any(Email.class), any(TipoPrestamoId.class)))
+            .thenReturn(Mono.just(solicitudMock));
+        when(crearSolicitudUseCase.guardarSolicitudes(anyList()))
+            .thenReturn(Flux.error(new IllegalStateException("Error de conexión")));
+        String cuerpo = "{\"montoSolicitado\":5000000.00,\"plazoMeses\":24,\"emailSolicitante\":\"cliente@ejemplo.com\",\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}\n";
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/solicitud:bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(cuerpo)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(ResultadoCargaMasivaResponse.class)
+            .contains(ResultadoCargaMasivaResponse.fallida(1, "Error de conexión"))
+            .hasSize(1);
+    }
+
+    @Test
+    void deberiaObtenerTablaAmortizacionComoArregloJson() {
+        // Given
+        when(obtenerTablaAmortizacionUseCase.obtenerTabla(solicitudMock.id()))
+            .thenReturn(Flux.just(
+                new CuotaAmortizacion(1, new BigDecimal("2550.00"), new BigDecimal("50.00"), new BigDecimal("2500.00"), new BigDecimal("2500.00")),
+                new CuotaAmortizacion(2, new BigDecimal("2525.00"), new BigDecimal("25.00"), new BigDecimal("2500.00"), new BigDecimal("0.00"))));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/{id}/amortizacion", solicitudMock.id().value())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[0].numero").isEqualTo(1)
+            .jsonPath("$[1].saldo").isEqualTo(0.00);
+    }
+
+    @Test
+    void deberiaObtenerTablaAmortizacionComoNdjson() {
+        // Given
+        CuotaAmortizacion primera = new CuotaAmortizacion(1, new BigDecimal("2550.00"), new BigDecimal("50.00"), new BigDecimal("2500.00"), new BigDecimal("2500.00"));
+        CuotaAmortizacion segunda = new CuotaAmortizacion(2, new BigDecimal("2525.00"), new BigDecimal("25.00"), new BigDecimal("2500.00"), new BigDecimal("0.00"));
+        when(obtenerTablaAmortizacionUseCase.obtenerTabla(solicitudMock.id()))
+            .thenReturn(Flux.just(primera, segunda));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/{id}/amortizacion", solicitudMock.id().value())
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(CuotaAmortizacionResponse.class)
+            .value(cuotas -> assertThat(cuotas).containsExactly(
+                solicitudEntryMapper.toResponse(primera),
+                solicitudEntryMapper.toResponse(segunda)));
+    }
+
+    @Test
+    void deberiaObtenerTablaAmortizacionComoNdjsonConCharsetEnAccept() {
+        // Given
+        when(obtenerTablaAmortizacionUseCase.obtenerTabla(solicitudMock.id()))
+            .thenReturn(Flux.just(
+                new CuotaAmortizacion(1, new BigDecimal("2550.00"), new BigDecimal("50.00"), new BigDecimal("2500.00"), new BigDecimal("2500.00"))));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/{id}/amortizacion", solicitudMock.id().value())
+            .header("Accept", "application/x-ndjson;charset=UTF-8")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON);
+    }
+
+    @Test
+    void deberiaSimularCuotasComoMatriz() {
+        // Given
+        TipoPrestamoId idTipoPrestamo = new TipoPrestamoId(tipoPrestamoId);
+        List<Monto> montos = List.of(Monto.of("1000000"), Monto.of("2000000"));
+        List<Plazo> plazos = List.of(Plazo.of(12), Plazo.of(24));
+        when(simularCuotasUseCase.simular(idTipoPrestamo, montos, plazos))
+            .thenReturn(Mono.just(new SimulacionCuotas(idTipoPrestamo, montos, plazos, List.of(
+                List.of(new BigDecimal("92000.00"), new BigDecimal("50000.00")),
+                List.of(new BigDecimal("184000.00"), new BigDecimal("100000.00"))))));
+
+        // When & Then
+        webTestClient.post()
+            .uri("/api/v1/simulacion")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new SimulacionRequest(tipoPrestamoId,
+                List.of(new BigDecimal("1000000"), new BigDecimal("2000000")), List.of(12, 24)))
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.idTipoPrestamo").isEqualTo(tipoPrestamoId.toString())
+            .jsonPath("$.plazos[1]").isEqualTo(24)
+            .jsonPath("$.cuotas.length()").isEqualTo(2)
+            .jsonPath("$.cuotas[1][0]").isEqualTo(184000.00)
+            .jsonPath("$.cuotas[0][1]").isEqualTo(50000.00);
+    }
+
+    @Test
+    void deberiaExportarSolicitudesComoCsv() {
+        // Given
+        when(exportarSolicitudesUseCase.exportar()).thenReturn(Flux.just(solicitudMock));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/export")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(SolicitudExportacionEncoder.TEXT_CSV)
+            .expectHeader().valueEquals("Content-Disposition", "attachment; filename=\"solicitudes.csv\"")
+            .expectBody(String.class)
+            .isEqualTo("id,montoSolicitado,plazoMeses,emailSolicitante,estadoSolicitud,idTipoPrestamo\n"
+                + solicitudMock.id().value() + "," + solicitudMock.monto().valor().toPlainString() + ",24,"
+                + "cliente@ejemplo.com," + solicitudMock.idEstado().value() + "," + tipoPrestamoId + "\n");
+    }
+
+    @Test
+    void deberiaExportarSolicitudesComoNdjson() {
+        // Given
+        Solicitud otraSolicitud = Solicitud.create(
+            SolicitudId.random(),
+            Monto.of(new BigDecimal("1500000.00")),
+            Plazo.of(12),
+            Email.of("otro@ejemplo.com"),
+            EstadoId.random(),
+            new TipoPrestamoId(tipoPrestamoId));
+        when(exportarSolicitudesUseCase.exportar()).thenReturn(Flux.just(solicitudMock, otraSolicitud));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/export")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBody(String.class)
+            .value(cuerpo -> assertThat(cuerpo.split("\n"))
+                .containsExactly(
+                    "{\"id\":\"" + solicitudMock.id().value() + "\",\"montoSolicitado\":"
+                        + solicitudMock.monto().valor() + ",\"plazoMeses\":24,\"emailSolicitante\":\"cliente@ejemplo.com\","
+                        + "\"estadoSolicitud\":\"" + solicitudMock.idEstado().value() + "\","
+                        + "\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}",
+                    "{\"id\":\"" + otraSolicitud.id().value() + "\",\"montoSolicitado\":1500000.00,\"plazoMeses\":12,"
+                        + "\"emailSolicitante\":\"otro@ejemplo.com\",\"estadoSolicitud\":\"" + otraSolicitud.idEstado().value() + "\","
+                        + "\"idTipoPrestamo\":\"" + tipoPrestamoId + "\"}"));
+    }
+
+    @Test
+    void deberiaExportarComoNdjsonConParametrosEnAccept() {
+        // Given
+        when(exportarSolicitudesUseCase.exportar()).thenReturn(Flux.just(solicitudMock));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/export")
+            .header("Accept", "text/csv;q=0.5, application/x-ndjson;charset=UTF-8")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectHeader().valueEquals("Content-Disposition", "attachment; filename=\"solicitudes.ndjson\"");
+    }
+
+    @Test
+    void deberiaExportarComoCsvSiLoPrefiereElAccept() {
+        // Given
+        when(exportarSolicitudesUseCase.exportar()).thenReturn(Flux.just(solicitudMock));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/export")
+            .header("Accept", "application/x-ndjson;q=0.2, text/csv, */*;q=0.1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(SolicitudExportacionEncoder.TEXT_CSV);
+    }
+
+    @Test
+    void deberiaObtenerEstadisticasConTotalYConteos() {
+        // Given
+        when(obtenerEstadisticasUseCase.obtener()).thenReturn(Mono.just(new EstadisticasSolicitudes(
+            List.of(new ConteoSolicitudes("Aprobada", 7), new ConteoSolicitudes("Rechazada", 3)),
+            List.of(new ConteoSolicitudes("Préstamo Personal", 10)),
+            Instant.parse("2026-10-17T12:00:00Z"))));
+
+        // When & Then
+        webTestClient.get()
+            .uri("/api/v1/solicitud/estadisticas")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentType(MediaType.APPLICATION_JSON)
+            .expectBody()
+            .jsonPath("$.total").isEqualTo(10)
+            .jsonPath("$.porEstado[0].nombre").isEqualTo("Aprobada")
+            .jsonPath("$.porEstado[1].cantidad").isEqualTo(3)
+            .jsonPath("$.porTipoPrestamo[0].nombre").isEqualTo("Préstamo Personal")
+            .jsonPath("$.calculadasEn").exists();
+    }
 }
@@ -0,0 +1,226 @@
+package co.com.crediya.solicitudes.api.mapper;
+
+import co.com.crediya.solicitudes.model.estados.EstadoId;
+import co.com.crediya.solicitudes.model.solicitud.Solicitud;
+import co.com.crediya.solicitudes.model.solicitud.SolicitudId;
+import co.com.crediya.solicitudes.model.tipoprestamo.TipoPrestamoId;
+import co.com.crediya.solicitudes.model.valueobjects.Email;
+import co.com.crediya.solicitudes.model.valueobjects.Monto;
+import co.com.crediya.solicitudes.model.valueobjects.Plazo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitarios para SolicitudExportacionEncoder.
+ *
+ * Verifican el contenido de cada formato y que la exportación de un volumen grande de
+ * solicitudes no acumula filas ni buffers: solo se codifica lo que el consumidor pide y cada
+ * buffer reservado del pool se libera al consumirse.
+ */
+@DisplayName("SolicitudExportacionEncoder Tests")
+class SolicitudExportacionEncoderTest {
+
+    private static final int SOLICITUDES_VOLUMEN = 1_000_000;
+    private static final int DEMANDA_POR_TRAMO = 64;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SolicitudExportacionEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new SolicitudExportacionEncoder(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Debería codificar CSV con cabecera y una línea por solicitud")
+    void shouldEncodeCsvWithHeader() {
+        // Given
+        Solicitud solicitud = solicitud(1);
+
+        // When
+        List<String> partes = texto(Flux.just(solicitud), SolicitudExportacionEncoder.TEXT_CSV);
+
+        // Then
+        assertThat(partes).containsExactly(
+            SolicitudExportacionEncoder.CABECERA_CSV,
+            solicitud.id().value() + ",1000001.00,13,cliente1@crediya.com,"
+                + solicitud.idEstado().value() + "," + solicitud.idTipoPrestamo().value() + "\n");
+    }
+
+    @Test
+    @DisplayName("Debería codificar NDJSON con un objeto JSON por línea")
+    void shouldEncodeNdjsonOneObjectPerLine() throws Exception {
+        // Given
+        Solicitud solicitud = solicitud(2);
+
+        // When
+        List<String> partes = texto(Flux.just(solicitud), MediaType.APPLICATION_NDJSON);
+
+        // Then
+        assertThat(partes).hasSize(1);
+        assertThat(partes.get(0)).endsWith("}\n");
+        JsonNode json = objectMapper.readTree(partes.get(0));
+        assertThat(json.get("id").asText()).isEqualTo(solicitud.id().value().toString());
+        assertThat(json.get("montoSolicitado").decimalValue()).isEqualByComparingTo("1000002.00");
+        assertThat(json.get("plazoMeses").asInt()).isEqualTo(14);
+        assertThat(json.get("emailSolicitante").asText()).isEqualTo("cliente2@crediya.com");
+        assertThat(json.get("idTipoPrestamo").asText()).isEqualTo(solicitud.idTipoPrestamo().value().toString());
+    }
+
+    @Test
+    @DisplayName("Debería escapar comas, comillas y saltos de línea en los campos CSV")
+    void shouldEscapeCsvFields() {
+        // When & Then
+        assertThat(campoCsv("cliente@crediya.com")).isEqualTo("cliente@crediya.com");
+        assertThat(campoCsv("a,\"b\"")).isEqualTo("\"a,\"\"b\"\"\"");
+        assertThat(campoCsv("\"b\"c")).isEqualTo("\"\"\"b\"\"c\"");
+        assertThat(campoCsv("a\nb")).isEqualTo("\"a\nb\"");
+    }
+
+    @Test
+    @DisplayName("Debería exportar un millón de solicitudes con memoria acotada y liberar cada buffer")
+    void shouldExportLargeVolumeWithBoundedMemory() {
+        // Given
+        PooledByteBufAllocator allocator = new PooledByteBufAllocator(false);
+        BuffersContados bufferFactory = new BuffersContados(allocator);
+        AtomicLong generadas = new AtomicLong();
+        Flux<Solicitud> solicitudes = Flux.range(0, SOLICITUDES_VOLUMEN)
+            .map(SolicitudExportacionEncoderTest::solicitud)
+            .doOnNext(solicitud -> generadas.incrementAndGet());
+        ConsumidorPorTramos consumidor = new ConsumidorPorTramos(generadas, bufferFactory);
+
+        // When
+        encoder.codificar(solicitudes, MediaType.APPLICATION_NDJSON, bufferFactory).subscribe(consumidor);
+
+        // Then
+        assertThat(consumidor.consumidos).isEqualTo(SOLICITUDES_VOLUMEN);
+        assertThat(consumidor.error).isNull();
+        assertThat(consumidor.maximoGeneradasSinConsumir).isLessThanOrEqualTo(DEMANDA_POR_TRAMO);
+        assertThat(consumidor.maximoBuffersVivos).isLessThanOrEqualTo(DEMANDA_POR_TRAMO);
+        assertThat(bufferFactory.vivos()).isZero();
+        // Sin acumulación, el pool no pasa de los chunks iniciales aunque se codificaron cientos de MB
+        assertThat(allocator.metric().usedHeapMemory()).isLessThan(16L * 1024 * 1024);
+    }
+
+    private List<String> texto(Flux<Solicitud> solicitudes, MediaType formato) {
+        return encoder.codificar(solicitudes, formato, DefaultDataBufferFactory.sharedInstance)
+            .map(buffer -> {
+                String parte = buffer.toString(StandardCharsets.UTF_8);
+                DataBufferUtils.release(buffer);
+                return parte;
+            })
+            .collectList()
+            .block();
+    }
+
+    private static String campoCsv(String valor) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(16);
+        String campo = SolicitudExportacionEncoder.campoCsv(buffer, valor).toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return campo;
+    }
+
+    private static Solicitud solicitud(int i) {
+        return Solicitud.from(
+            new SolicitudId(new UUID(0, i)),
+            Monto.of(new BigDecimal("1000000.00").add(BigDecimal.valueOf(i))),
+            Plazo.of(12 + i % 48),
+            Email.of("cliente" + i + "@crediya.com"),
+            new EstadoId(new UUID(1, i % 4)),
+            new TipoPrestamoId(new UUID(2, i % 3)),
+            1L);
+    }
+
+    /**
+     * Fábrica de buffers del pool de Netty que cuenta los buffers reservados y aún no liberados.
+     */
+    private static final class BuffersContados extends NettyDataBufferFactory {
+
+        private final AtomicLong reservados = new AtomicLong();
+        private final AtomicLong liberados = new AtomicLong();
+
+        BuffersContados(PooledByteBufAllocator allocator) {
+            super(allocator);
+        }
+
+        @Override
+        public NettyDataBuffer allocateBuffer(int initialCapacity) {
+            reservados.incrementAndGet();
+            return super.allocateBuffer(initialCapacity);
+        }
+
+        void liberar(DataBuffer buffer) {
+            if (DataBufferUtils.release(buffer)) {
+                liberados.incrementAndGet();
+            }
+        }
+
+        long vivos() {
+            return reservados.get() - liberados.get();
+        }
+    }
+
+    /**
+     * Consumidor que pide las filas por tramos, como lo hace la conexión HTTP, y registra
+     * cuántas solicitudes y buffers llegan a estar pendientes al mismo tiempo.
+     */
+    private static final class ConsumidorPorTramos extends BaseSubscriber<DataBuffer> {
+
+        private final AtomicLong generadas;
+        private final BuffersContados bufferFactory;
+        private long consumidos;
+        private long pendientesDelTramo;
+        private long maximoGeneradasSinConsumir;
+        private long maximoBuffersVivos;
+        private Throwable error;
+
+        ConsumidorPorTramos(AtomicLong generadas, BuffersContados bufferFactory) {
+            this.generadas = generadas;
+            this.bufferFactory = bufferFactory;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            pendientesDelTramo = DEMANDA_POR_TRAMO;
+            request(DEMANDA_POR_TRAMO);
+        }
+
+        @Override
+        protected void hookOnNext(DataBuffer buffer) {
+            maximoGeneradasSinConsumir = Math.max(maximoGeneradasSinConsumir, generadas.get() - consumidos);
+            maximoBuffersVivos = Math.max(maximoBuffersVivos, bufferFactory.vivos());
+            bufferFactory.liberar(buffer);
+            consumidos++;
+            if (--pendientesDelTramo == 0) {
+                pendientesDelTramo = DEMANDA_POR_TRAMO;
+                request(DEMANDA_POR_TRAMO);
+            }
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+}